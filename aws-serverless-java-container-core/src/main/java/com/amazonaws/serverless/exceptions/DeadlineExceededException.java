@@ -0,0 +1,29 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.exceptions;
+
+
+import com.amazonaws.serverless.proxy.InvocationDeadline;
+
+
+/**
+ * This exception is thrown when the container did not produce a response before the deadline of the invocation. The
+ * default exception handler maps it to a <code>504</code> response.
+ *
+ * @see InvocationDeadline
+ */
+public class DeadlineExceededException extends Exception {
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
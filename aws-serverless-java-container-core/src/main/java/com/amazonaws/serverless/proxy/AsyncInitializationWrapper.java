@@ -13,9 +13,12 @@
 package com.amazonaws.serverless.proxy;
 
 import com.amazonaws.serverless.exceptions.ContainerInitializationException;
+import com.amazonaws.serverless.proxy.internal.ClassPreloader;
 import com.amazonaws.serverless.proxy.internal.InitializableLambdaContainerHandler;
 import com.amazonaws.services.lambda.runtime.Context;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.crac.Core;
+import org.crac.Resource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,7 +49,9 @@ public class AsyncInitializationWrapper extends InitializationWrapper {
     private static final int LAMBDA_MAX_INIT_TIME_MS = 10_000;
 
     private CountDownLatch initializationLatch;
-    private final long actualStartTime;
+    private volatile long actualStartTime;
+    // org.crac contexts only keep weak references to their resources
+    private final Resource restoreResource = new RestoreResource();
     private final Logger log = LoggerFactory.getLogger(AsyncInitializationWrapper.class);
 
 
@@ -57,14 +62,16 @@ public class AsyncInitializationWrapper extends InitializationWrapper {
      */
     public AsyncInitializationWrapper(long startTime) {
         actualStartTime = startTime;
+        Core.getGlobalContext().register(restoreResource);
     }
 
     /**
      * Creates a new instance of the async initializer using the actual JVM start time as the starting point to measure
-     * the 10 seconds timeout.
+     * the 10 seconds timeout. The JVM start time is meaningless in a process restored from a SnapStart or CRaC
+     * snapshot, the start time is moved to the time of the restore instead.
      */
     public AsyncInitializationWrapper() {
-        actualStartTime = ManagementFactory.getRuntimeMXBean().getStartTime();
+        this(ManagementFactory.getRuntimeMXBean().getStartTime());
     }
 
     @Override
@@ -74,14 +81,13 @@ public class AsyncInitializationWrapper extends InitializationWrapper {
             super.start(handler);
             return;
         }
+        ClassPreloader.preloadInBackground(handler.getClass().getClassLoader());
         initializationLatch = new CountDownLatch(1);
         AsyncInitializer initializer = new AsyncInitializer(initializationLatch, handler);
         Thread initThread = new Thread(initializer);
         initThread.start();
         try {
-            long curTime = Instant.now().toEpochMilli();
-            // account for the time it took to call the various constructors with the actual start time + a grace time
-            long awaitTime = (actualStartTime + LAMBDA_MAX_INIT_TIME_MS) - curTime - INIT_GRACE_TIME_MS;
+            long awaitTime = getRemainingInitTimeMs();
             log.info("Async initialization will wait for {}ms (init grace time is configured to {})",
                     awaitTime, INIT_GRACE_TIME_MS);
             if (!initializationLatch.await(awaitTime, TimeUnit.MILLISECONDS)) {
@@ -97,10 +103,25 @@ public class AsyncInitializationWrapper extends InitializationWrapper {
         }
     }
 
+    /**
+     * Returns the epoch ms time the function started at. After a restore from a checkpoint, this is the time of the
+     * restore.
+     * @return The start time of the function
+     */
     public long getActualStartTimeMs() {
         return actualStartTime;
     }
 
+    /**
+     * Returns the time left before the end of the 10 seconds Lambda initialization, minus the init grace time. Work
+     * scheduled within this time runs before the first event is received.
+     * @return The remaining initialization time in milliseconds, negative once the initialization time is exhausted
+     */
+    public long getRemainingInitTimeMs() {
+        // account for the time it took to call the various constructors with the actual start time + a grace time
+        return (actualStartTime + LAMBDA_MAX_INIT_TIME_MS) - Instant.now().toEpochMilli() - INIT_GRACE_TIME_MS;
+    }
+
     @Override
     public CountDownLatch getInitializationLatch() {
         if (InitializationTypeHelper.isAsyncInitializationDisabled()){
@@ -109,6 +130,18 @@ public class AsyncInitializationWrapper extends InitializationWrapper {
         return initializationLatch;
     }
 
+    private final class RestoreResource implements Resource {
+        @Override
+        public void beforeCheckpoint(org.crac.Context<? extends Resource> context) {
+            // nothing to release
+        }
+
+        @Override
+        public void afterRestore(org.crac.Context<? extends Resource> context) {
+            actualStartTime = Instant.now().toEpochMilli();
+        }
+    }
+
     private static class AsyncInitializer implements Runnable {
         private final InitializableLambdaContainerHandler handler;
         private CountDownLatch initLatch;
@@ -127,8 +160,10 @@ public class AsyncInitializationWrapper extends InitializationWrapper {
         @SuppressFBWarnings("DM_EXIT")
         public void run() {
             log.info("Starting async initializer");
+            StartupReport.Phase phase = StartupReport.start(StartupReport.INITIALIZE);
             try {
                 handler.initialize();
+                phase.end();
             } catch (ContainerInitializationException e) {
                 log.error("Failed to initialize container handler", e);
                 // we cannot return the exception so we crash the whole kaboodle here
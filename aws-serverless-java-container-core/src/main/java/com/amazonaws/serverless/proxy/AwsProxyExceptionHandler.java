@@ -12,6 +12,7 @@
  */
 package com.amazonaws.serverless.proxy;
 
+import com.amazonaws.serverless.exceptions.DeadlineExceededException;
 import com.amazonaws.serverless.exceptions.InvalidRequestEventException;
 import com.amazonaws.serverless.proxy.internal.LambdaContainerHandler;
 import com.amazonaws.serverless.proxy.model.AwsProxyResponse;
@@ -35,6 +36,7 @@ import java.io.OutputStream;
  *
  * Returns application/json messages with a status code of 500 when the RequestReader failed to read the incoming event
  *  or if InternalServerErrorException is thrown.
+ * Returns a 504 when the container did not produce a response before the invocation deadline.
  * For all other exceptions returns a 502. Responses are populated with a JSON object containing a message property.
  *
  * @see ExceptionHandler
@@ -81,6 +83,8 @@ public class AwsProxyExceptionHandler
         ex.printStackTrace();
         if (ex instanceof InvalidRequestEventException || ex instanceof InternalServerErrorException) {
             return new AwsProxyResponse(500, HEADERS, getErrorJson(INTERNAL_SERVER_ERROR));
+        } else if (ex instanceof DeadlineExceededException) {
+            return new AwsProxyResponse(504, HEADERS, getErrorJson(GATEWAY_TIMEOUT_ERROR));
         } else {
             return new AwsProxyResponse(502, HEADERS, getErrorJson(GATEWAY_TIMEOUT_ERROR));
         }
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy;
+
+import com.amazonaws.serverless.proxy.internal.LambdaContainerHandler;
+import com.amazonaws.serverless.proxy.internal.VirtualThreads;
+import com.amazonaws.services.lambda.runtime.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Handles a batch of events in a single invocation. The events are dispatched concurrently through the same container
+ * handler, and the responses are returned in the order of the events. For example, to receive a JSON array of API
+ * Gateway proxy events and return an array of proxy responses:
+ * <pre>
+ * BatchLambdaContainerHandler&lt;AwsProxyRequest, AwsProxyResponse&gt; batchHandler = new BatchLambdaContainerHandler&lt;&gt;(
+ *         handler, AwsProxyRequest.class, AwsProxyResponse.class, 16);
+ * batchHandler.proxyStream(inputStream, outputStream, context);
+ * </pre>
+ * The events run on virtual threads when the JVM supports them, at most <code>parallelism</code> at a time. The
+ * wrapped handler maps the errors of each event to an error response with its <code>ExceptionHandler</code>, so a failed
+ * event does not fail the batch. When the exception mapper is disabled in the <code>ContainerConfig</code>, the first
+ * failure is thrown once all the events completed.
+ *
+ * The container handlers wire up the framework on their first request, without synchronization. The first event
+ * handled by a batch handler is therefore dispatched alone on the calling thread, the other events of the batch are
+ * dispatched concurrently once it completed.
+ *
+ * @param <RequestType> The event type, for example <code>AwsProxyRequest</code>
+ * @param <ResponseType> The response type, for example <code>AwsProxyResponse</code>
+ */
+public class BatchLambdaContainerHandler<RequestType, ResponseType> {
+
+    //-------------------------------------------------------------
+    // Constants
+    //-------------------------------------------------------------
+
+    public static final int DEFAULT_PARALLELISM = 16;
+    static final String THREAD_NAME_PREFIX = "batch-handler-";
+
+    //-------------------------------------------------------------
+    // Variables - Private
+    //-------------------------------------------------------------
+
+    private final LambdaContainerHandler<RequestType, ResponseType, ?, ?> handler;
+    private final ObjectReader requestReader;
+    private final ObjectWriter responseWriter;
+    private final ExecutorService executor;
+    private final int parallelism;
+    private volatile boolean handlerInitialized;
+
+    private Logger log = LoggerFactory.getLogger(BatchLambdaContainerHandler.class);
+
+    //-------------------------------------------------------------
+    // Constructors
+    //-------------------------------------------------------------
+
+    /**
+     * Creates a batch handler that dispatches up to {@link #DEFAULT_PARALLELISM} events at a time
+     * @param handler The initialized container handler that processes each event
+     * @param requestClass The event type, used to read the JSON array of events
+     * @param responseClass The response type, used to write the JSON array of responses
+     */
+    public BatchLambdaContainerHandler(LambdaContainerHandler<RequestType, ResponseType, ?, ?> handler,
+                                       Class<RequestType> requestClass, Class<ResponseType> responseClass) {
+        this(handler, requestClass, responseClass, DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Creates a batch handler
+     * @param handler The initialized container handler that processes each event
+     * @param requestClass The event type, used to read the JSON array of events
+     * @param responseClass The response type, used to write the JSON array of responses
+     * @param parallelism The maximum number of events dispatched at the same time
+     */
+    public BatchLambdaContainerHandler(LambdaContainerHandler<RequestType, ResponseType, ?, ?> handler,
+                                       Class<RequestType> requestClass, Class<ResponseType> responseClass,
+                                       int parallelism) {
+        this.handler = handler;
+        this.parallelism = Math.max(1, parallelism);
+        requestReader = LambdaContainerHandler.getObjectMapper().readerForListOf(requestClass);
+        responseWriter = LambdaContainerHandler.getObjectMapper().writerFor(LambdaContainerHandler.getObjectMapper()
+                .getTypeFactory().constructCollectionType(List.class, responseClass));
+        // the threads are kept between invocations, the function is frozen while it does not handle events
+        executor = Executors.newFixedThreadPool(this.parallelism, VirtualThreads.factory(THREAD_NAME_PREFIX));
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Public
+    //-------------------------------------------------------------
+
+    /**
+     * Dispatches the events concurrently and waits for all the responses
+     * @param requests The events of the batch
+     * @param context The Lambda context of the invocation, shared by all the events
+     * @return The responses, in the order of the events
+     */
+    public List<ResponseType> proxy(List<RequestType> requests, Context context) {
+        List<Future<ResponseType>> futures = new ArrayList<>(requests.size());
+        int first = 0;
+        if (!handlerInitialized && !requests.isEmpty()) {
+            futures.add(initializeHandler(requests.get(0), context));
+            first = 1;
+        }
+        for (RequestType request : requests.subList(first, requests.size())) {
+            futures.add(executor.submit(() -> handler.proxy(request, context)));
+        }
+
+        List<ResponseType> responses = new ArrayList<>(requests.size());
+        RuntimeException failure = null;
+        for (Future<ResponseType> future : futures) {
+            try {
+                responses.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                for (Future<ResponseType> f : futures) {
+                    f.cancel(true);
+                }
+                throw new IllegalStateException("Interrupted while handling batch", e);
+            } catch (ExecutionException e) {
+                // only thrown when the exception mapper is disabled, the other events still complete
+                responses.add(null);
+                RuntimeException error = e.getCause() instanceof RuntimeException
+                        ? (RuntimeException) e.getCause() : new IllegalStateException(e.getCause());
+                if (failure == null) {
+                    failure = error;
+                } else {
+                    failure.addSuppressed(error);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return responses;
+    }
+
+    /**
+     * Reads a JSON array of events from the input stream, dispatches them with {@link #proxy(List, Context)}, and
+     * writes the JSON array of responses to the output stream
+     * @param input Lambda's incoming input stream
+     * @param output Lambda's response output stream
+     * @param context Lambda's context object
+     * @throws IOException If the stream cannot be read or does not contain a JSON array of events
+     */
+    public void proxyStream(InputStream input, OutputStream output, Context context) throws IOException {
+        try {
+            List<RequestType> requests = requestReader.readValue(input);
+            long start = System.currentTimeMillis();
+            List<ResponseType> responses = proxy(requests, context);
+            log.debug("Handled batch of {} events in {}ms", requests.size(), System.currentTimeMillis() - start);
+            responseWriter.writeValue(output, responses);
+        } catch (JacksonException e) {
+            throw new IOException("Could not process batch of events", e);
+        } finally {
+            output.flush();
+            output.close();
+        }
+    }
+
+    /**
+     * @return The maximum number of events dispatched at the same time
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Private
+    //-------------------------------------------------------------
+
+    /**
+     * Dispatches an event on the calling thread so that the lazy initialization of the container handler completes
+     * before events are dispatched concurrently. Errors are reported through the returned future like the other events.
+     */
+    private synchronized Future<ResponseType> initializeHandler(RequestType request, Context context) {
+        FutureTask<ResponseType> task = new FutureTask<>(() -> handler.proxy(request, context));
+        task.run();
+        handlerInitialized = true;
+        return task;
+    }
+}
@@ -0,0 +1,463 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy;
+
+
+import com.amazonaws.serverless.proxy.internal.LambdaContainerHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.UnaryOperator;
+
+
+/**
+ * Records a sample of the events received by a container handler as JSON lines, for example to replay production
+ * shaped traffic in benchmarks. Each line is the event as the handler deserializes it, with the configured headers,
+ * cookies, query string parameters and body fields redacted, plus a {@link #RECORDING_PROPERTY} object that holds the
+ * time the event was received, the handling duration, the status code and the size of the response. The handlers ignore
+ * unknown properties, so the lines can be passed back to the handler as they are.
+ *
+ * Credentials are redacted by default: the credential and session headers listed in the constructor, the values of
+ * all cookies, the caller fields of the API Gateway identity, the string values of the authorizer context, including
+ * JWT claims, and base64 encoded bodies, which cannot be inspected for sensitive fields. The synthetic requests used
+ * to prime the handler before a checkpoint are not recorded.
+ *
+ * The recorder is opt-in, it is set with <code>LambdaContainerHandler.setEventRecorder</code>. The events that are not
+ * sampled only cost a random number. The sampled events are serialized before they are handled, on the thread that
+ * handles them, and written to the sink once the response is produced.
+ * <pre>
+ * EventRecorder recorder = new EventRecorder(0.01, new EventRecorder.FileSink(Paths.get("/tmp/events.jsonl")));
+ * recorder.addRedactedHeaders("X-Session-Id");
+ * recorder.addRedactedBodyFields("password", "cardNumber");
+ * handler.setEventRecorder(recorder);
+ * </pre>
+ */
+public class EventRecorder {
+
+    //-------------------------------------------------------------
+    // Constants
+    //-------------------------------------------------------------
+
+    /**
+     * The property added to the recorded events that holds the timing and response information
+     */
+    public static final String RECORDING_PROPERTY = "x-recording";
+    public static final String REDACTED = "REDACTED";
+    public static final Path DEFAULT_FILE = Paths.get("/tmp", "recorded-events.jsonl");
+    private static final String[] DEFAULT_REDACTED_HEADERS = { "Authorization", "Proxy-Authorization", "X-Amz-Security-Token",
+            "X-Api-Key", "Set-Cookie", "X-Amzn-Oidc-Accesstoken", "X-Amzn-Oidc-Data", "X-Amzn-Oidc-Identity" };
+    private static final Set<String> REDACTED_IDENTITY_FIELDS = new HashSet<>(Arrays.asList("apiKey", "apiKeyId",
+            "accessKey", "accountId", "caller", "user", "userArn", "cognitoIdentityId", "cognitoIdentityPoolId",
+            "cognitoAuthenticationProvider", "principalOrgId"));
+    private static final String COOKIE_HEADER = "cookie";
+
+    //-------------------------------------------------------------
+    // Variables - Private
+    //-------------------------------------------------------------
+
+    private final double sampleRate;
+    private final Sink sink;
+    private final Set<String> redactedHeaders = new CopyOnWriteArraySet<>();
+    private final Set<String> redactedCookies = new CopyOnWriteArraySet<>();
+    private final Set<String> redactedQueryParameters = new CopyOnWriteArraySet<>();
+    private final Set<String> redactedBodyFields = new CopyOnWriteArraySet<>();
+    private volatile boolean redactAllCookies = true;
+
+    private static Logger log = LoggerFactory.getLogger(EventRecorder.class);
+
+    //-------------------------------------------------------------
+    // Constructors
+    //-------------------------------------------------------------
+
+    /**
+     * Creates a recorder that appends the events to {@link #DEFAULT_FILE}
+     * @param sampleRate The fraction of the events that are recorded, between <code>0</code> and <code>1</code>
+     */
+    public EventRecorder(double sampleRate) {
+        this(sampleRate, new FileSink(DEFAULT_FILE));
+    }
+
+    /**
+     * Creates a recorder. The <code>Authorization</code>, <code>Proxy-Authorization</code>,
+     * <code>X-Amz-Security-Token</code>, <code>X-Api-Key</code>, <code>Set-Cookie</code> and ALB OIDC headers are
+     * redacted by default, as well as the value of every cookie.
+     * @param sampleRate The fraction of the events that are recorded, between <code>0</code> and <code>1</code>
+     * @param sink The sink that receives the recorded lines
+     */
+    public EventRecorder(double sampleRate, Sink sink) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("The sample rate must be between 0 and 1");
+        }
+        this.sampleRate = sampleRate;
+        this.sink = sink;
+        addRedactedHeaders(DEFAULT_REDACTED_HEADERS);
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Public
+    //-------------------------------------------------------------
+
+    /**
+     * Redacts the value of headers, the names are case insensitive
+     * @param names The header names
+     */
+    public void addRedactedHeaders(String... names) {
+        for (String name : names) {
+            redactedHeaders.add(name.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * Redacts the value of cookies. Only takes effect when {@link #setRedactAllCookies(boolean)} is disabled.
+     * @param names The cookie names
+     */
+    public void addRedactedCookies(String... names) {
+        redactedCookies.addAll(Arrays.asList(names));
+    }
+
+    /**
+     * Sets whether the value of every cookie is redacted, the default. When disabled, only the cookies added with
+     * {@link #addRedactedCookies(String...)} are redacted and the <code>Cookie</code> header is recorded otherwise.
+     * @param redactAll <code>false</code> to only redact the configured cookies
+     */
+    public void setRedactAllCookies(boolean redactAll) {
+        redactAllCookies = redactAll;
+    }
+
+    /**
+     * Redacts the value of query string parameters
+     * @param names The parameter names
+     */
+    public void addRedactedQueryParameters(String... names) {
+        redactedQueryParameters.addAll(Arrays.asList(names));
+    }
+
+    /**
+     * Redacts fields of JSON bodies, at any depth. Bodies that are not JSON are recorded as they are.
+     * @param names The field names
+     */
+    public void addRedactedBodyFields(String... names) {
+        redactedBodyFields.addAll(Arrays.asList(names));
+    }
+
+    /**
+     * @return The fraction of the events that are recorded
+     */
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Decides whether the current event is recorded
+     * @return <code>true</code> if the event is part of the sample
+     */
+    public boolean sample() {
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    /**
+     * Starts the recording of a sampled event, before the handler reads it
+     * @param event The event received by the handler
+     * @return The recording, <code>null</code> if the event cannot be serialized
+     */
+    public Recording start(Object event) {
+        try {
+            JsonNode node = LambdaContainerHandler.getObjectMapper().valueToTree(event);
+            if (!node.isObject()) {
+                return null;
+            }
+            redact((ObjectNode) node);
+            return new Recording((ObjectNode) node);
+        } catch (JacksonException e) {
+            log.warn("Could not record event", e);
+            return null;
+        }
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Private
+    //-------------------------------------------------------------
+
+    private void redact(ObjectNode event) {
+        redactHeaders(event.get("headers"));
+        redactHeaders(event.get("multiValueHeaders"));
+        redactQueryParameters(event.get("queryStringParameters"));
+        redactQueryParameters(event.get("multiValueQueryStringParameters"));
+
+        JsonNode cookies = event.get("cookies");
+        if (cookies instanceof ArrayNode && redactsCookies()) {
+            ArrayNode array = (ArrayNode) cookies;
+            for (int i = 0; i < array.size(); i++) {
+                array.set(i, redactCookies(array.get(i).asString()));
+            }
+        }
+        JsonNode rawQueryString = event.get("rawQueryString");
+        if (rawQueryString != null && rawQueryString.isString() && !redactedQueryParameters.isEmpty()) {
+            event.put("rawQueryString", redactQueryString(rawQueryString.asString()));
+        }
+        JsonNode body = event.get("body");
+        if (body != null && body.isString()) {
+            if (event.path("isBase64Encoded").asBoolean(false)) {
+                event.put("body", REDACTED);
+            } else if (!redactedBodyFields.isEmpty()) {
+                event.put("body", redactBody(body.asString()));
+            }
+        }
+
+        JsonNode requestContext = event.get("requestContext");
+        if (requestContext instanceof ObjectNode) {
+            JsonNode identity = requestContext.get("identity");
+            if (identity instanceof ObjectNode) {
+                for (String field : REDACTED_IDENTITY_FIELDS) {
+                    if (identity.path(field).isString()) {
+                        ((ObjectNode) identity).put(field, REDACTED);
+                    }
+                }
+            }
+            // principal ids, claims and JWT scopes of REST and HTTP API authorizers, the structure is kept for replays
+            redactStrings(requestContext.get("authorizer"));
+        }
+    }
+
+    private boolean redactsCookies() {
+        return redactAllCookies || !redactedCookies.isEmpty();
+    }
+
+    private void redactHeaders(JsonNode headers) {
+        if (!(headers instanceof ObjectNode)) {
+            return;
+        }
+        ObjectNode object = (ObjectNode) headers;
+        for (Map.Entry<String, JsonNode> header : new ArrayList<>(object.properties())) {
+            String name = header.getKey().toLowerCase(Locale.ROOT);
+            if (redactedHeaders.contains(name)) {
+                object.set(header.getKey(), redactedValue(header.getValue()));
+            } else if (name.equals(COOKIE_HEADER) && redactsCookies()) {
+                object.set(header.getKey(), mapStrings(header.getValue(), this::redactCookies));
+            }
+        }
+    }
+
+    private void redactQueryParameters(JsonNode parameters) {
+        if (!(parameters instanceof ObjectNode)) {
+            return;
+        }
+        ObjectNode object = (ObjectNode) parameters;
+        for (Map.Entry<String, JsonNode> parameter : new ArrayList<>(object.properties())) {
+            if (redactedQueryParameters.contains(parameter.getKey())) {
+                object.set(parameter.getKey(), redactedValue(parameter.getValue()));
+            }
+        }
+    }
+
+    private String redactCookies(String header) {
+        StringBuilder redacted = new StringBuilder(header.length());
+        for (String cookie : header.split(";")) {
+            if (redacted.length() > 0) {
+                redacted.append(';');
+            }
+            int separator = cookie.indexOf('=');
+            if (separator > 0 && (redactAllCookies || redactedCookies.contains(cookie.substring(0, separator).trim()))) {
+                redacted.append(cookie, 0, separator + 1).append(REDACTED);
+            } else {
+                redacted.append(cookie);
+            }
+        }
+        return redacted.toString();
+    }
+
+    private String redactQueryString(String queryString) {
+        StringBuilder redacted = new StringBuilder(queryString.length());
+        for (String parameter : queryString.split("&")) {
+            if (redacted.length() > 0) {
+                redacted.append('&');
+            }
+            int separator = parameter.indexOf('=');
+            if (separator > 0 && redactedQueryParameters.contains(parameter.substring(0, separator))) {
+                redacted.append(parameter, 0, separator + 1).append(REDACTED);
+            } else {
+                redacted.append(parameter);
+            }
+        }
+        return redacted.toString();
+    }
+
+    private String redactBody(String body) {
+        ObjectMapper mapper = LambdaContainerHandler.getObjectMapper();
+        String trimmed = body.trim();
+        if (!trimmed.startsWith("{") && !trimmed.startsWith("[")) {
+            return body;
+        }
+        try {
+            JsonNode node = mapper.readTree(body);
+            return redactFields(node) ? mapper.writeValueAsString(node) : body;
+        } catch (JacksonException e) {
+            return body;
+        }
+    }
+
+    private boolean redactFields(JsonNode node) {
+        boolean redacted = false;
+        if (node instanceof ObjectNode) {
+            ObjectNode object = (ObjectNode) node;
+            for (Map.Entry<String, JsonNode> field : new ArrayList<>(object.properties())) {
+                if (redactedBodyFields.contains(field.getKey())) {
+                    object.put(field.getKey(), REDACTED);
+                    redacted = true;
+                } else {
+                    redacted |= redactFields(field.getValue());
+                }
+            }
+        } else if (node instanceof ArrayNode) {
+            for (JsonNode element : node) {
+                redacted |= redactFields(element);
+            }
+        }
+        return redacted;
+    }
+
+    private static void redactStrings(JsonNode node) {
+        if (node instanceof ObjectNode) {
+            ObjectNode object = (ObjectNode) node;
+            for (Map.Entry<String, JsonNode> field : new ArrayList<>(object.properties())) {
+                if (field.getValue().isString()) {
+                    object.put(field.getKey(), REDACTED);
+                } else {
+                    redactStrings(field.getValue());
+                }
+            }
+        } else if (node instanceof ArrayNode) {
+            ArrayNode array = (ArrayNode) node;
+            for (int i = 0; i < array.size(); i++) {
+                if (array.get(i).isString()) {
+                    array.set(i, REDACTED);
+                } else {
+                    redactStrings(array.get(i));
+                }
+            }
+        }
+    }
+
+    private static JsonNode redactedValue(JsonNode value) {
+        return mapStrings(value, v -> REDACTED);
+    }
+
+    private static JsonNode mapStrings(JsonNode value, UnaryOperator<String> mapper) {
+        ObjectMapper objectMapper = LambdaContainerHandler.getObjectMapper();
+        if (value instanceof ArrayNode) {
+            ArrayNode array = objectMapper.createArrayNode();
+            for (JsonNode element : value) {
+                array.add(element.isString() ? objectMapper.getNodeFactory().stringNode(mapper.apply(element.asString())) : element);
+            }
+            return array;
+        }
+        return value.isString() ? objectMapper.getNodeFactory().stringNode(mapper.apply(value.asString())) : value;
+    }
+
+    //-------------------------------------------------------------
+    // Inner Class -
+    //-------------------------------------------------------------
+
+    /**
+     * A sampled event being handled
+     */
+    public final class Recording {
+        private final ObjectNode event;
+        private final long receivedAt = System.currentTimeMillis();
+        private final long startNanos = System.nanoTime();
+
+        private Recording(ObjectNode event) {
+            this.event = event;
+        }
+
+        /**
+         * Completes the recording and writes the event to the sink
+         * @param response The response returned by the handler, <code>null</code> if the handler threw
+         */
+        public void end(Object response) {
+            long durationMicros = (System.nanoTime() - startNanos) / 1000;
+            try {
+                ObjectNode recording = event.putObject(RECORDING_PROPERTY);
+                recording.put("receivedAt", receivedAt);
+                recording.put("durationMillis", durationMicros / 1000.0);
+                if (response != null) {
+                    JsonNode responseNode = LambdaContainerHandler.getObjectMapper().valueToTree(response);
+                    if (responseNode.has("statusCode")) {
+                        recording.put("statusCode", responseNode.get("statusCode").asInt());
+                    }
+                    recording.put("responseBytes", LambdaContainerHandler.getObjectMapper().writeValueAsBytes(responseNode).length);
+                }
+                sink.write(LambdaContainerHandler.getObjectMapper().writeValueAsString(event));
+            } catch (IOException | JacksonException e) {
+                log.warn("Could not record event", e);
+            }
+        }
+    }
+
+    /**
+     * Receives the recorded events, one JSON line at a time. Implementations must be thread safe, the events of
+     * concurrent requests are written from their own thread.
+     */
+    public interface Sink {
+        /**
+         * Writes a recorded event
+         * @param line The JSON event, without line terminator
+         * @throws IOException If the event cannot be written
+         */
+        void write(String line) throws IOException;
+    }
+
+    /**
+     * Appends the recorded events to a file, each line is flushed so that the events survive the end of the
+     * execution environment
+     */
+    public static class FileSink implements Sink {
+        private final Path file;
+        private Writer writer;
+
+        public FileSink(Path file) {
+            this.file = file;
+        }
+
+        @Override
+        public synchronized void write(String line) throws IOException {
+            if (writer == null) {
+                writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                        StandardOpenOption.APPEND);
+            }
+            writer.write(line);
+            writer.write('\n');
+            writer.flush();
+        }
+    }
+}
@@ -13,6 +13,7 @@
 package com.amazonaws.serverless.proxy;
 
 import com.amazonaws.serverless.exceptions.ContainerInitializationException;
+import com.amazonaws.serverless.proxy.internal.ClassPreloader;
 import com.amazonaws.serverless.proxy.internal.InitializableLambdaContainerHandler;
 
 import java.util.concurrent.CountDownLatch;
@@ -27,12 +28,17 @@ import java.util.concurrent.CountDownLatch;
 public class InitializationWrapper {
     /**
      * This is the main entry point. Container handler builder and the static <code>getAwsProxyHandler()</code> methods
-     * of the various implementations will call this to initialize the underlying framework
+     * of the various implementations will call this to initialize the underlying framework. If the function includes a
+     * class list, the listed classes are loaded in the background while the framework initializes, see
+     * {@link ClassPreloader}.
      * @param handler The container handler to be initializer
      * @throws ContainerInitializationException If anything goes wrong during container initialization.
      */
     public void start(InitializableLambdaContainerHandler handler) throws ContainerInitializationException {
+        ClassPreloader.preloadInBackground(handler.getClass().getClassLoader());
+        StartupReport.Phase phase = StartupReport.start(StartupReport.INITIALIZE);
         handler.initialize();
+        phase.end();
     }
 
     /**
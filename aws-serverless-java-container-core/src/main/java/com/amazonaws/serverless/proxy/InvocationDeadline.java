@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy;
+
+import com.amazonaws.services.lambda.runtime.Context;
+
+/**
+ * The point in time by which the current invocation has to produce its response. The deadline is the remaining time of
+ * the Lambda invocation minus the safety margin from the <code>ContainerConfig</code>, so that the handler still has
+ * time to return a <code>504</code> response before the runtime kills the invocation.
+ *
+ * The container handlers bound their waits with the deadline. Applications can read it to bound their own work, for
+ * example to set the timeout of an HTTP client call, from the {@link RequestReader#DEADLINE_PROPERTY} request attribute
+ * or with {@link #current()} on the thread that handles the request and on the threads started with
+ * <code>AsyncContext.start</code>.
+ */
+public final class InvocationDeadline {
+
+    //-------------------------------------------------------------
+    // Variables - Private - Static
+    //-------------------------------------------------------------
+
+    private static final ThreadLocal<InvocationDeadline> CURRENT = new ThreadLocal<>();
+
+    //-------------------------------------------------------------
+    // Variables - Private
+    //-------------------------------------------------------------
+
+    private final long deadlineMillis;
+
+    //-------------------------------------------------------------
+    // Constructors
+    //-------------------------------------------------------------
+
+    /**
+     * Creates a deadline
+     * @param deadlineMillis The deadline in milliseconds since the epoch
+     */
+    public InvocationDeadline(long deadlineMillis) {
+        this.deadlineMillis = deadlineMillis;
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Public - Static
+    //-------------------------------------------------------------
+
+    /**
+     * Computes the deadline of an invocation
+     * @param context The Lambda context of the invocation
+     * @param safetyMarginMillis The time kept to return the response, a negative value disables the deadline
+     * @return The deadline, or <code>null</code> if the context does not report a remaining time, for example outside
+     *         of Lambda, or if the deadline is disabled
+     */
+    public static InvocationDeadline fromContext(Context context, long safetyMarginMillis) {
+        int remainingMillis = context != null ? context.getRemainingTimeInMillis() : 0;
+        if (remainingMillis <= 0 || safetyMarginMillis < 0) {
+            return null;
+        }
+        return new InvocationDeadline(System.currentTimeMillis() + remainingMillis - safetyMarginMillis);
+    }
+
+    /**
+     * Computes the deadline of an invocation and makes it the current deadline of the calling thread. The container
+     * handlers call this method when they receive an event.
+     * @param context The Lambda context of the invocation
+     * @param safetyMarginMillis The time kept to return the response, a negative value disables the deadline
+     * @return The deadline, or <code>null</code> if the invocation has no deadline
+     */
+    public static InvocationDeadline start(Context context, long safetyMarginMillis) {
+        InvocationDeadline deadline = fromContext(context, safetyMarginMillis);
+        set(deadline);
+        return deadline;
+    }
+
+    /**
+     * Returns the deadline of the invocation handled by the calling thread
+     * @return The current deadline, or <code>null</code> if the thread is not handling an invocation with a deadline
+     */
+    public static InvocationDeadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Sets the deadline of the calling thread, used to carry the deadline over to the threads that work on behalf of
+     * the invocation
+     * @param deadline The deadline, <code>null</code> to clear it
+     */
+    public static void set(InvocationDeadline deadline) {
+        if (deadline == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(deadline);
+        }
+    }
+
+    /**
+     * Clears the deadline of the calling thread once the invocation is handled
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Public
+    //-------------------------------------------------------------
+
+    /**
+     * @return The deadline in milliseconds since the epoch
+     */
+    public long getDeadlineMillis() {
+        return deadlineMillis;
+    }
+
+    /**
+     * @return The time left until the deadline in milliseconds, <code>0</code> once the deadline passed
+     */
+    public long getRemainingMillis() {
+        return Math.max(0, deadlineMillis - System.currentTimeMillis());
+    }
+
+    /**
+     * @return <code>true</code> if the deadline passed
+     */
+    public boolean isExpired() {
+        return getRemainingMillis() == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "InvocationDeadline{remainingMillis=" + getRemainingMillis() + "}";
+    }
+}
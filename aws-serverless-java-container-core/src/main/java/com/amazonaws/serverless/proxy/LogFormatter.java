@@ -28,7 +28,16 @@ public interface LogFormatter<ContainerRequestType, ContainerResponseType> {
      * @param req The incoming request
      * @param res The completed response
      * @param ctx The security context produced based on the request
-     * @return The log line
+     * @return The log line, or <code>null</code> to not log the request, for example when the formatter samples requests
      */
     String format(ContainerRequestType req, ContainerResponseType res, SecurityContext ctx);
+
+    /**
+     * Whether the lines produced by this formatter never contain CR or LF characters. The container handler strips the
+     * line breaks of the other formatters' lines before logging them, to prevent log injection.
+     * @return <code>true</code> if the formatter escapes line breaks itself, <code>false</code> by default
+     */
+    default boolean escapesLineBreaks() {
+        return false;
+    }
 }
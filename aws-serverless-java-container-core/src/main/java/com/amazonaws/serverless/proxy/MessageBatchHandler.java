@@ -0,0 +1,275 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy;
+
+import com.amazonaws.serverless.proxy.internal.LambdaContainerHandler;
+import com.amazonaws.serverless.proxy.internal.SecurityUtils;
+import com.amazonaws.serverless.proxy.internal.VirtualThreads;
+import com.amazonaws.serverless.proxy.model.AwsProxyRequest;
+import com.amazonaws.serverless.proxy.model.AwsProxyResponse;
+import com.amazonaws.serverless.proxy.model.BatchItemFailuresResponse;
+import com.amazonaws.services.lambda.runtime.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Handles messaging events, such as SQS batches, with an application that serves HTTP requests. A
+ * {@link MessageRequestReader} maps each record to a synthetic API Gateway proxy request, the requests go through the
+ * filter chain of the container like HTTP requests and run concurrently, at most <code>parallelism</code> at a time. The
+ * records that share a group are handled one at a time in their order, once a record of a group fails the following
+ * records of the group are not handled and are reported as failed. For example, for an SQS queue:
+ * <pre>
+ * MessageBatchHandler&lt;SqsEvent&gt; sqsHandler = new MessageBatchHandler&lt;&gt;(
+ *         handler, new SqsMessageRequestReader(), SqsEvent.class);
+ * sqsHandler.proxyStream(inputStream, outputStream, context);
+ * </pre>
+ * A record fails when its response status code is <code>400</code> or above, or when the container throws. When the
+ * reader {@link MessageRequestReader#supportsPartialBatchResponse() supports partial batch responses}, the failed
+ * records are returned as <code>batchItemFailures</code>, the event source mapping must enable
+ * <code>ReportBatchItemFailures</code> for SQS to retry only those records. Otherwise, for example for SNS and
+ * EventBridge, the invocation fails once all the records are handled so that the source retries the event.
+ *
+ * The container handlers wire up the framework on their first request, without synchronization. The first group of
+ * records handled by a message batch handler is therefore handled alone on the calling thread, the other groups of
+ * the event are handled concurrently once it completed.
+ *
+ * @param <EventType> The type of the messaging event
+ */
+public class MessageBatchHandler<EventType> {
+
+    //-------------------------------------------------------------
+    // Constants
+    //-------------------------------------------------------------
+
+    static final String THREAD_NAME_PREFIX = "message-handler-";
+
+    //-------------------------------------------------------------
+    // Variables - Private
+    //-------------------------------------------------------------
+
+    private final LambdaContainerHandler<AwsProxyRequest, AwsProxyResponse, ?, ?> handler;
+    private final MessageRequestReader<EventType> requestReader;
+    private final ObjectReader eventReader;
+    private final ObjectWriter responseWriter;
+    private final ExecutorService executor;
+    private final int parallelism;
+    private volatile boolean handlerInitialized;
+
+    private Logger log = LoggerFactory.getLogger(MessageBatchHandler.class);
+
+    //-------------------------------------------------------------
+    // Constructors
+    //-------------------------------------------------------------
+
+    /**
+     * Creates a handler that dispatches up to {@link BatchLambdaContainerHandler#DEFAULT_PARALLELISM} records at a time
+     * @param handler The initialized container handler that processes the requests
+     * @param requestReader The reader that maps the records of the event to requests
+     * @param eventClass The event type, used to read the event from the input stream
+     */
+    public MessageBatchHandler(LambdaContainerHandler<AwsProxyRequest, AwsProxyResponse, ?, ?> handler,
+                               MessageRequestReader<EventType> requestReader, Class<EventType> eventClass) {
+        this(handler, requestReader, eventClass, BatchLambdaContainerHandler.DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Creates a handler
+     * @param handler The initialized container handler that processes the requests
+     * @param requestReader The reader that maps the records of the event to requests
+     * @param eventClass The event type, used to read the event from the input stream
+     * @param parallelism The maximum number of records handled at the same time
+     */
+    public MessageBatchHandler(LambdaContainerHandler<AwsProxyRequest, AwsProxyResponse, ?, ?> handler,
+                               MessageRequestReader<EventType> requestReader, Class<EventType> eventClass,
+                               int parallelism) {
+        this.handler = handler;
+        this.requestReader = requestReader;
+        this.parallelism = Math.max(1, parallelism);
+        eventReader = LambdaContainerHandler.getObjectMapper().readerFor(eventClass);
+        responseWriter = LambdaContainerHandler.getObjectMapper().writerFor(BatchItemFailuresResponse.class);
+        executor = Executors.newFixedThreadPool(this.parallelism, VirtualThreads.factory(THREAD_NAME_PREFIX));
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Public
+    //-------------------------------------------------------------
+
+    /**
+     * Handles the records of an event and waits for all of them
+     * @param event The messaging event
+     * @param context The Lambda context of the invocation, shared by all the records
+     * @return The records that failed, in the order of the event
+     * @throws IllegalStateException If a record failed and the event source does not support partial batch responses
+     */
+    public BatchItemFailuresResponse proxy(EventType event, Context context) {
+        List<MessageRequest> requests = requestReader.readRequests(event);
+        boolean[] failed = new boolean[requests.size()];
+
+        List<List<Integer>> groups = groups(requests);
+        List<Future<?>> futures = new ArrayList<>(groups.size());
+        int first = 0;
+        if (!handlerInitialized && !groups.isEmpty()) {
+            futures.add(initializeHandler(requests, groups.get(0), failed, context));
+            first = 1;
+        }
+        for (List<Integer> group : groups.subList(first, groups.size())) {
+            futures.add(executor.submit(() -> handleGroup(requests, group, failed, context)));
+        }
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                futures.get(i).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                for (Future<?> f : futures) {
+                    f.cancel(true);
+                }
+                throw new IllegalStateException("Interrupted while handling messages", e);
+            } catch (ExecutionException e) {
+                // only errors escape handleGroup, the whole group is retried
+                log.error("Could not handle message group", e.getCause());
+                for (int index : groups.get(i)) {
+                    failed[index] = true;
+                }
+            }
+        }
+
+        BatchItemFailuresResponse response = new BatchItemFailuresResponse();
+        for (int i = 0; i < failed.length; i++) {
+            if (failed[i]) {
+                response.getBatchItemFailures().add(new BatchItemFailuresResponse.ItemFailure(requests.get(i).getMessageId()));
+            }
+        }
+        if (!response.getBatchItemFailures().isEmpty() && !requestReader.supportsPartialBatchResponse()) {
+            // the source ignores the response, failing the invocation is the only way to have the event retried
+            throw new IllegalStateException(response.getBatchItemFailures().size() + " of " + requests.size()
+                    + " messages failed, the event source does not support partial batch responses");
+        }
+        return response;
+    }
+
+    /**
+     * Reads an event from the input stream, handles it with {@link #proxy(Object, Context)}, and writes the batch item
+     * failures to the output stream
+     * @param input Lambda's incoming input stream
+     * @param output Lambda's response output stream
+     * @param context Lambda's context object
+     * @throws IOException If the stream cannot be read or does not contain an event of the expected type
+     */
+    public void proxyStream(InputStream input, OutputStream output, Context context) throws IOException {
+        try {
+            EventType event = eventReader.readValue(input);
+            BatchItemFailuresResponse response = proxy(event, context);
+            responseWriter.writeValue(output, response);
+        } catch (JacksonException e) {
+            throw new IOException("Could not process messaging event", e);
+        } finally {
+            output.flush();
+            output.close();
+        }
+    }
+
+    /**
+     * @return The maximum number of records handled at the same time
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Protected
+    //-------------------------------------------------------------
+
+    /**
+     * Decides whether a record failed from the response of its request. Override this method to, for example, not
+     * retry the records rejected with a <code>4xx</code> status.
+     * @param response The response of the container
+     * @return <code>true</code> if the record should be reported as failed
+     */
+    protected boolean isFailure(AwsProxyResponse response) {
+        return response == null || response.getStatusCode() >= 400;
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Private
+    //-------------------------------------------------------------
+
+    /**
+     * Splits the records in groups handled sequentially, the records without group are alone in their group
+     */
+    private static List<List<Integer>> groups(List<MessageRequest> requests) {
+        List<List<Integer>> groups = new ArrayList<>();
+        Map<String, List<Integer>> groupsById = new HashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            String groupId = requests.get(i).getGroupId();
+            if (groupId == null) {
+                groups.add(Collections.singletonList(i));
+                continue;
+            }
+            List<Integer> group = groupsById.get(groupId);
+            if (group == null) {
+                group = new ArrayList<>();
+                groupsById.put(groupId, group);
+                groups.add(group);
+            }
+            group.add(i);
+        }
+        return groups;
+    }
+
+    /**
+     * Handles a group on the calling thread so that the lazy initialization of the container handler completes before
+     * groups are handled concurrently. Errors are reported through the returned future like the other groups.
+     */
+    private synchronized Future<?> initializeHandler(List<MessageRequest> requests, List<Integer> group,
+                                                     boolean[] failed, Context context) {
+        FutureTask<Void> task = new FutureTask<>(() -> handleGroup(requests, group, failed, context), null);
+        task.run();
+        handlerInitialized = true;
+        return task;
+    }
+
+    private void handleGroup(List<MessageRequest> requests, List<Integer> group, boolean[] failed, Context context) {
+        boolean groupFailed = false;
+        for (int index : group) {
+            if (groupFailed) {
+                failed[index] = true;
+                continue;
+            }
+            MessageRequest request = requests.get(index);
+            try {
+                failed[index] = isFailure(handler.proxy(request.getRequest(), context));
+            } catch (RuntimeException e) {
+                log.error("Could not handle message " + SecurityUtils.crlf(request.getMessageId()), e);
+                failed[index] = true;
+            }
+            groupFailed = failed[index];
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy;
+
+import com.amazonaws.serverless.proxy.model.AwsProxyRequest;
+
+/**
+ * A record of a messaging event mapped to a synthetic HTTP request by a {@link MessageRequestReader}
+ */
+public final class MessageRequest {
+
+    //-------------------------------------------------------------
+    // Variables - Private
+    //-------------------------------------------------------------
+
+    private final String messageId;
+    private final String groupId;
+    private final AwsProxyRequest request;
+
+    //-------------------------------------------------------------
+    // Constructors
+    //-------------------------------------------------------------
+
+    /**
+     * Creates a message request
+     * @param messageId The id of the record, reported in the batch item failures when the request fails
+     * @param groupId The group of the record, the requests of a group are handled one at a time in their order.
+     *                <code>null</code> if the record can be handled concurrently with all the others
+     * @param request The synthetic HTTP request
+     */
+    public MessageRequest(String messageId, String groupId, AwsProxyRequest request) {
+        this.messageId = messageId;
+        this.groupId = groupId;
+        this.request = request;
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Getter/Setter
+    //-------------------------------------------------------------
+
+    public String getMessageId() {
+        return messageId;
+    }
+
+    public String getGroupId() {
+        return groupId;
+    }
+
+    public AwsProxyRequest getRequest() {
+        return request;
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy;
+
+import com.amazonaws.serverless.proxy.model.AwsProxyRequest;
+import com.amazonaws.serverless.proxy.model.AwsProxyRequestContext;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps the records of a messaging event, such as an SQS batch, to synthetic HTTP requests that the container handles
+ * like API Gateway proxy events. This lets the same application serve HTTP traffic and consume messages.
+ *
+ * The method and path of each request are read from the <code>HttpMethod</code> and <code>HttpPath</code> attributes
+ * of the message when the event type supports attributes, the path may contain a query string. The other string
+ * attributes are passed as request headers. Records without routing attributes are sent to the default method and path,
+ * <code>POST /</code> unless configured otherwise. The id of the message is the request id of the synthetic request
+ * context.
+ *
+ * @param <EventType> The type of the messaging event
+ */
+public abstract class MessageRequestReader<EventType> {
+
+    //-------------------------------------------------------------
+    // Constants
+    //-------------------------------------------------------------
+
+    public static final String DEFAULT_METHOD_ATTRIBUTE = "HttpMethod";
+    public static final String DEFAULT_PATH_ATTRIBUTE = "HttpPath";
+    public static final String DEFAULT_HTTP_METHOD = "POST";
+    public static final String DEFAULT_PATH = "/";
+
+    //-------------------------------------------------------------
+    // Variables - Private
+    //-------------------------------------------------------------
+
+    private String methodAttribute = DEFAULT_METHOD_ATTRIBUTE;
+    private String pathAttribute = DEFAULT_PATH_ATTRIBUTE;
+    private String defaultMethod = DEFAULT_HTTP_METHOD;
+    private String defaultPath = DEFAULT_PATH;
+    private String defaultContentType = MediaType.APPLICATION_JSON;
+
+    //-------------------------------------------------------------
+    // Methods - Abstract
+    //-------------------------------------------------------------
+
+    /**
+     * Maps the records of an event to requests
+     * @param event The event received by the function
+     * @return The requests, in the order of the records
+     */
+    public abstract List<MessageRequest> readRequests(EventType event);
+
+    /**
+     * Whether the event source reads the <code>batchItemFailures</code> returned by the function to retry only the
+     * failed records. Sources that invoke the function asynchronously ignore the response, a failed record is only
+     * retried when the whole invocation fails.
+     * @return <code>true</code> if the source supports partial batch responses
+     */
+    public abstract boolean supportsPartialBatchResponse();
+
+    //-------------------------------------------------------------
+    // Methods - Getter/Setter
+    //-------------------------------------------------------------
+
+    public String getMethodAttribute() {
+        return methodAttribute;
+    }
+
+    /**
+     * Sets the name of the message attribute that contains the HTTP method
+     * @param methodAttribute The attribute name
+     */
+    public void setMethodAttribute(String methodAttribute) {
+        this.methodAttribute = methodAttribute;
+    }
+
+    public String getPathAttribute() {
+        return pathAttribute;
+    }
+
+    /**
+     * Sets the name of the message attribute that contains the request path
+     * @param pathAttribute The attribute name
+     */
+    public void setPathAttribute(String pathAttribute) {
+        this.pathAttribute = pathAttribute;
+    }
+
+    public String getDefaultMethod() {
+        return defaultMethod;
+    }
+
+    /**
+     * Sets the HTTP method used when the message does not specify one
+     * @param defaultMethod The HTTP method
+     */
+    public void setDefaultMethod(String defaultMethod) {
+        this.defaultMethod = defaultMethod;
+    }
+
+    public String getDefaultPath() {
+        return defaultPath;
+    }
+
+    /**
+     * Sets the path used when the message does not specify one
+     * @param defaultPath The request path
+     */
+    public void setDefaultPath(String defaultPath) {
+        this.defaultPath = defaultPath;
+    }
+
+    public String getDefaultContentType() {
+        return defaultContentType;
+    }
+
+    /**
+     * Sets the content type of the requests that do not receive a <code>Content-Type</code> attribute
+     * @param defaultContentType The content type, <code>null</code> to not set the header
+     */
+    public void setDefaultContentType(String defaultContentType) {
+        this.defaultContentType = defaultContentType;
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Protected
+    //-------------------------------------------------------------
+
+    /**
+     * Builds the synthetic request of a record
+     * @param messageId The id of the record
+     * @param groupId The ordering group of the record, <code>null</code> if the record is not ordered
+     * @param attributes The string attributes of the message, can be <code>null</code>
+     * @param body The body of the message
+     * @param isBase64Encoded Whether the body is base64 encoded
+     * @return The request
+     */
+    protected MessageRequest buildRequest(String messageId, String groupId, Map<String, String> attributes, String body,
+                                          boolean isBase64Encoded) {
+        AwsProxyRequest request = new AwsProxyRequest();
+        String method = defaultMethod;
+        String path = defaultPath;
+        if (attributes != null) {
+            for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+                if (attribute.getValue() == null) {
+                    continue;
+                }
+                if (attribute.getKey().equals(methodAttribute)) {
+                    method = attribute.getValue();
+                } else if (attribute.getKey().equals(pathAttribute)) {
+                    path = attribute.getValue();
+                } else {
+                    request.getMultiValueHeaders().add(attribute.getKey(), attribute.getValue());
+                }
+            }
+        }
+        if (defaultContentType != null && !request.getMultiValueHeaders().containsKey(HttpHeaders.CONTENT_TYPE)) {
+            request.getMultiValueHeaders().putSingle(HttpHeaders.CONTENT_TYPE, defaultContentType);
+        }
+
+        int queryStart = path.indexOf('?');
+        if (queryStart >= 0) {
+            readQueryString(path.substring(queryStart + 1), request);
+            path = path.substring(0, queryStart);
+        }
+        request.setHttpMethod(method.toUpperCase());
+        request.setPath(path.startsWith("/") ? path : "/" + path);
+        request.setBody(body);
+        request.setIsBase64Encoded(isBase64Encoded);
+
+        AwsProxyRequestContext context = new AwsProxyRequestContext();
+        context.setRequestId(messageId);
+        context.setHttpMethod(request.getHttpMethod());
+        context.setPath(request.getPath());
+        context.setProtocol("HTTP/1.1");
+        context.setRequestTimeEpoch(System.currentTimeMillis());
+        request.setRequestContext(context);
+        return new MessageRequest(messageId, groupId, request);
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Private
+    //-------------------------------------------------------------
+
+    private static void readQueryString(String queryString, AwsProxyRequest request) {
+        for (String parameter : queryString.split("&")) {
+            if (parameter.isEmpty()) {
+                continue;
+            }
+            int separator = parameter.indexOf('=');
+            if (separator < 0) {
+                request.getMultiValueQueryStringParameters().add(parameter, "");
+            } else {
+                request.getMultiValueQueryStringParameters().add(parameter.substring(0, separator),
+                        parameter.substring(separator + 1));
+            }
+        }
+    }
+}
@@ -0,0 +1,413 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy;
+
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * In-process cache of Lambda responses, used by the container handler to answer repeated requests across warm
+ * invocations without dispatching them to the underlying framework. Implementations decide which requests can be
+ * served from the cache, by computing a cache key, and how long a response stays fresh, usually by reading its
+ * <code>Cache-Control</code> header.
+ *
+ * Entries are kept in least-recently-used order and evicted when either the configured number of entries or the byte
+ * budget is exceeded. Responses that declare a <code>stale-while-revalidate</code> window keep being served once they
+ * expire while a single invocation refreshes them.
+ *
+ * @param <ContainerRequestType> The request type for the wrapped Java container
+ * @param <ResponseType> The type for the Lambda function return value
+ */
+public abstract class ResponseCache<ContainerRequestType, ResponseType> {
+
+    //-------------------------------------------------------------
+    // Variables - Private
+    //-------------------------------------------------------------
+
+    private final long maxBytes;
+    private final int maxEntries;
+    private final LinkedHashMap<String, Entry<ResponseType>> entries;
+    private long currentBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+
+    private static Logger log = LoggerFactory.getLogger(ResponseCache.class);
+
+    //-------------------------------------------------------------
+    // Constructors
+    //-------------------------------------------------------------
+
+    /**
+     * Creates a new, empty cache
+     * @param maxBytes The maximum estimated size, in bytes, of all the cached responses
+     * @param maxEntries The maximum number of cached responses
+     */
+    protected ResponseCache(long maxBytes, int maxEntries) {
+        if (maxBytes <= 0 || maxEntries <= 0) {
+            throw new IllegalArgumentException("The cache size limits must be greater than 0");
+        }
+        this.maxBytes = maxBytes;
+        this.maxEntries = maxEntries;
+        entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Abstract
+    //-------------------------------------------------------------
+
+    /**
+     * Computes the cache key for a request.
+     * @param request The container request
+     * @return The key for the request, or <code>null</code> if the request must be dispatched to the framework
+     */
+    public abstract String getCacheKey(ContainerRequestType request);
+
+    /**
+     * Reads how long a response can be served from the cache.
+     * @param response The Lambda response produced by the framework
+     * @return The freshness of the response, or <code>null</code> if it must not be stored
+     */
+    protected abstract Freshness getFreshness(ResponseType response);
+
+    /**
+     * Estimates the memory used by a response. The estimate is used to enforce the byte budget of the cache.
+     * @param response The response to measure
+     * @return The estimated size in bytes
+     */
+    protected abstract long estimateSize(ResponseType response);
+
+    /**
+     * Creates the copy of a cached response that is returned to the Lambda runtime, so that the cached object itself is
+     * never modified by the caller.
+     * @param response The cached response
+     * @param ageSeconds The number of seconds since the response was stored
+     * @return A copy of the response
+     */
+    protected abstract ResponseType copyForHit(ResponseType response, long ageSeconds);
+
+    //-------------------------------------------------------------
+    // Methods - Public
+    //-------------------------------------------------------------
+
+    /**
+     * Looks up a response in the cache. Expired responses are served only within their stale-while-revalidate window,
+     * in which case {@link Lookup#isRevalidationRequired()} is set for exactly one of the callers.
+     * @param key The cache key returned by {@link #getCacheKey(Object)}
+     * @return The lookup result, or <code>null</code> if the cache does not contain a usable response
+     */
+    public Lookup<ResponseType> lookup(String key) {
+        long now = currentTimeMillis();
+        Entry<ResponseType> entry;
+        boolean revalidate = false;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (now >= entry.staleUntil) {
+                removeEntry(key, entry);
+                misses.increment();
+                return null;
+            }
+            if (now >= entry.expiresAt) {
+                staleHits.increment();
+                if (!entry.revalidating) {
+                    entry.revalidating = true;
+                    revalidate = true;
+                }
+            } else {
+                hits.increment();
+            }
+        }
+        return new Lookup<>(copyForHit(entry.response, Math.max(0L, (now - entry.storedAt) / 1000L)), revalidate);
+    }
+
+    /**
+     * Stores a response produced by the framework if its freshness allows it.
+     * @param key The cache key returned by {@link #getCacheKey(Object)}
+     * @param response The response to store
+     * @return <code>true</code> if the response was stored
+     */
+    public boolean store(String key, ResponseType response) {
+        Freshness freshness = response == null ? null : getFreshness(response);
+        if (freshness == null || freshness.getMaxAgeSeconds() <= 0) {
+            return false;
+        }
+        long size = estimateSize(response);
+        if (size > maxBytes) {
+            return false;
+        }
+        long now = currentTimeMillis();
+        long expiresAt = now + freshness.getMaxAgeSeconds() * 1000L;
+        Entry<ResponseType> entry = new Entry<>(response, size, now, expiresAt,
+                expiresAt + Math.max(0L, freshness.getStaleWhileRevalidateSeconds()) * 1000L);
+
+        synchronized (entries) {
+            Entry<ResponseType> previous = entries.put(key, entry);
+            if (previous != null) {
+                currentBytes -= previous.size;
+            }
+            currentBytes += size;
+            Iterator<Map.Entry<String, Entry<ResponseType>>> eldest = entries.entrySet().iterator();
+            while ((currentBytes > maxBytes || entries.size() > maxEntries) && eldest.hasNext()) {
+                Map.Entry<String, Entry<ResponseType>> e = eldest.next();
+                eldest.remove();
+                currentBytes -= e.getValue().size;
+                evictions.increment();
+            }
+        }
+        stores.increment();
+        return true;
+    }
+
+    /**
+     * Refreshes a stale entry on the calling thread. The container handler calls this method from the invocation that
+     * found the stale entry, so the refresh is bounded by the deadline of that invocation and completes before its
+     * response is returned, Lambda freezes the execution environment between invocations. Concurrent lookups keep
+     * being served the stale response during the refresh. If the loader fails, the stale response keeps being served
+     * until its stale-while-revalidate window ends, and the next lookup triggers another revalidation.
+     * @param key The cache key of the stale entry
+     * @param loader Dispatches the request to the framework and returns the fresh response
+     * @return The fresh response, or <code>null</code> if the loader failed and the stale response should be used
+     */
+    public ResponseType revalidate(String key, Callable<ResponseType> loader) {
+        revalidations.increment();
+        try {
+            ResponseType fresh = loader.call();
+            if (!store(key, fresh)) {
+                invalidate(key);
+            }
+            return fresh;
+        } catch (Exception e) {
+            log.warn("Could not revalidate cached response", e);
+            synchronized (entries) {
+                Entry<ResponseType> entry = entries.get(key);
+                if (entry != null) {
+                    entry.revalidating = false;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Removes a response from the cache
+     * @param key The cache key
+     */
+    public void invalidate(String key) {
+        synchronized (entries) {
+            Entry<ResponseType> entry = entries.get(key);
+            if (entry != null) {
+                removeEntry(key, entry);
+            }
+        }
+    }
+
+    /**
+     * Removes all responses from the cache. Statistics are not reset.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            currentBytes = 0;
+        }
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics
+     * @return The current statistics
+     */
+    public Statistics getStatistics() {
+        synchronized (entries) {
+            return new Statistics(hits.sum(), staleHits.sum(), misses.sum(), stores.sum(), evictions.sum(),
+                    revalidations.sum(), entries.size(), currentBytes);
+        }
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Protected
+    //-------------------------------------------------------------
+
+    /**
+     * @return The current time in milliseconds, used to compute the expiration of entries
+     */
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Private
+    //-------------------------------------------------------------
+
+    private void removeEntry(String key, Entry<ResponseType> entry) {
+        entries.remove(key);
+        currentBytes -= entry.size;
+    }
+
+    //-------------------------------------------------------------
+    // Inner Class -
+    //-------------------------------------------------------------
+
+    private static final class Entry<ResponseType> {
+        private final ResponseType response;
+        private final long size;
+        private final long storedAt;
+        private final long expiresAt;
+        private final long staleUntil;
+        private boolean revalidating;
+
+        Entry(ResponseType response, long size, long storedAt, long expiresAt, long staleUntil) {
+            this.response = response;
+            this.size = size;
+            this.storedAt = storedAt;
+            this.expiresAt = expiresAt;
+            this.staleUntil = staleUntil;
+        }
+    }
+
+    /**
+     * How long a response can be served from the cache
+     */
+    public static final class Freshness {
+        private final long maxAgeSeconds;
+        private final long staleWhileRevalidateSeconds;
+
+        public Freshness(long maxAgeSeconds, long staleWhileRevalidateSeconds) {
+            this.maxAgeSeconds = maxAgeSeconds;
+            this.staleWhileRevalidateSeconds = staleWhileRevalidateSeconds;
+        }
+
+        public long getMaxAgeSeconds() {
+            return maxAgeSeconds;
+        }
+
+        public long getStaleWhileRevalidateSeconds() {
+            return staleWhileRevalidateSeconds;
+        }
+    }
+
+    /**
+     * The result of a cache lookup
+     * @param <ResponseType> The type for the Lambda function return value
+     */
+    public static final class Lookup<ResponseType> {
+        private final ResponseType response;
+        private final boolean revalidationRequired;
+
+        Lookup(ResponseType response, boolean revalidationRequired) {
+            this.response = response;
+            this.revalidationRequired = revalidationRequired;
+        }
+
+        /**
+         * @return A copy of the cached response
+         */
+        public ResponseType getResponse() {
+            return response;
+        }
+
+        /**
+         * @return <code>true</code> if the response is stale and the caller is responsible for revalidating it
+         */
+        public boolean isRevalidationRequired() {
+            return revalidationRequired;
+        }
+    }
+
+    /**
+     * Hit and miss counters of the cache
+     */
+    public static final class Statistics {
+        private final long hits;
+        private final long staleHits;
+        private final long misses;
+        private final long stores;
+        private final long evictions;
+        private final long revalidations;
+        private final int entryCount;
+        private final long bytes;
+
+        Statistics(long hits, long staleHits, long misses, long stores, long evictions, long revalidations,
+                   int entryCount, long bytes) {
+            this.hits = hits;
+            this.staleHits = staleHits;
+            this.misses = misses;
+            this.stores = stores;
+            this.evictions = evictions;
+            this.revalidations = revalidations;
+            this.entryCount = entryCount;
+            this.bytes = bytes;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getStaleHits() {
+            return staleHits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getStores() {
+            return stores;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        public long getRevalidations() {
+            return revalidations;
+        }
+
+        public int getEntryCount() {
+            return entryCount;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * @return The ratio of lookups served from the cache, including stale responses, or 0 if there were no lookups
+         */
+        public double getHitRatio() {
+            long lookups = hits + staleHits + misses;
+            return lookups == 0 ? 0d : (double) (hits + staleHits) / lookups;
+        }
+
+        @Override
+        public String toString() {
+            return "hits=" + hits + ", staleHits=" + staleHits + ", misses=" + misses + ", stores=" + stores
+                    + ", evictions=" + evictions + ", revalidations=" + revalidations + ", entries=" + entryCount
+                    + ", bytes=" + bytes;
+        }
+    }
+}
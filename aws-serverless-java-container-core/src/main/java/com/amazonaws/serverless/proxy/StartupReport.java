@@ -0,0 +1,323 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Collects a breakdown of the cold start of the function and logs it as a single JSON line once the first request
+ * completes. The report is opt-in, it is enabled by setting the <code>AWS_SERVERLESS_JAVA_CONTAINER_STARTUP_REPORT</code>
+ * environment variable to <code>true</code> or by calling {@link #enable()} before the container handler is created.
+ *
+ * Each phase reports its duration, the number of classes loaded while it ran, and the bytes allocated by the thread
+ * that ran it. The phases recorded by the library are:
+ * <ul>
+ *     <li><code>jvm-to-handler</code> - from the JVM start to the construction of the container handler</li>
+ *     <li><code>initialize</code> - the <code>initialize()</code> call of the initialization wrapper</li>
+ *     <li><code>framework-context</code> - the construction of the framework application, where it is separate from
+ *     the servlet initialization</li>
+ *     <li><code>servlet-init</code> - the initialization of the servlets loaded on startup</li>
+ *     <li><code>first-request</code> - the complete handling of the first event, synthetic priming requests
+ *     replayed before a checkpoint are not counted</li>
+ * </ul>
+ * Framework implementations can also report the initialization time of individual components, such as Spring beans,
+ * with {@link #recordComponent(String, long)}. The slowest ones are included in the report.
+ */
+public final class StartupReport {
+
+    //-------------------------------------------------------------
+    // Constants
+    //-------------------------------------------------------------
+
+    public static final String JVM_TO_HANDLER = "jvm-to-handler";
+    public static final String INITIALIZE = "initialize";
+    public static final String FRAMEWORK_CONTEXT = "framework-context";
+    public static final String SERVLET_INIT = "servlet-init";
+    public static final String FIRST_REQUEST = "first-request";
+    static final String STARTUP_REPORT_ENVIRONMENT_VARIABLE_NAME = "AWS_SERVERLESS_JAVA_CONTAINER_STARTUP_REPORT";
+    static final int TOP_COMPONENTS = 10;
+    private static final Phase NO_OP_PHASE = new Phase(null);
+
+    //-------------------------------------------------------------
+    // Variables - Private - Static
+    //-------------------------------------------------------------
+
+    private static volatile boolean enabled = Boolean.parseBoolean(System.getenv(STARTUP_REPORT_ENVIRONMENT_VARIABLE_NAME));
+    private static volatile boolean reported;
+    private static final List<Phase> phases = new ArrayList<>();
+    private static final List<Component> components = new ArrayList<>();
+
+    private static final Logger log = LoggerFactory.getLogger(StartupReport.class);
+
+    //-------------------------------------------------------------
+    // Constructors
+    //-------------------------------------------------------------
+
+    private StartupReport() {
+        // utility class
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Public
+    //-------------------------------------------------------------
+
+    /**
+     * Enables the report, as an alternative to the <code>AWS_SERVERLESS_JAVA_CONTAINER_STARTUP_REPORT</code> environment
+     * variable. Must be called before the container handler is created for all phases to be recorded.
+     */
+    public static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Disables the report. Phases that are already recorded are kept but not logged.
+     */
+    public static void disable() {
+        enabled = false;
+    }
+
+    /**
+     * Whether phases should be recorded. Framework implementations can use this to avoid the cost of collecting
+     * component timings.
+     * @return <code>true</code> if the report is enabled and was not logged yet
+     */
+    public static boolean isEnabled() {
+        return enabled && !reported;
+    }
+
+    /**
+     * Starts measuring a phase on the current thread. The allocations are only measured if the returned phase is ended
+     * on the same thread, they are reported as <code>-1</code> otherwise.
+     * @param name The name of the phase
+     * @return The started phase, or a shared no-op phase if the report is disabled
+     */
+    public static Phase start(String name) {
+        if (!isEnabled()) {
+            return NO_OP_PHASE;
+        }
+        return new Phase(name);
+    }
+
+    /**
+     * Records the <code>jvm-to-handler</code> phase, from the JVM start to now. Only the first call is recorded.
+     */
+    public static void handlerCreated() {
+        if (!isEnabled()) {
+            return;
+        }
+        synchronized (phases) {
+            for (Phase p : phases) {
+                if (JVM_TO_HANDLER.equals(p.name)) {
+                    return;
+                }
+            }
+            Phase phase = new Phase(JVM_TO_HANDLER);
+            phase.startTime = ManagementFactory.getRuntimeMXBean().getStartTime();
+            phase.startClasses = 0;
+            phase.startAllocated = 0;
+            phase.end();
+        }
+    }
+
+    /**
+     * Records the initialization time of a framework component, for example a bean or a provider
+     * @param name The name of the component
+     * @param durationMs The time it took to initialize the component
+     */
+    public static void recordComponent(String name, long durationMs) {
+        if (!isEnabled()) {
+            return;
+        }
+        synchronized (components) {
+            components.add(new Component(name, durationMs));
+        }
+    }
+
+    /**
+     * Logs the report and stops recording. Called by the container handler when the first request completes.
+     */
+    public static void report() {
+        if (!isEnabled()) {
+            return;
+        }
+        reported = true;
+        log.info(toJson());
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Package
+    //-------------------------------------------------------------
+
+    static void reset() {
+        reported = false;
+        synchronized (phases) {
+            phases.clear();
+        }
+        synchronized (components) {
+            components.clear();
+        }
+    }
+
+    static String toJson() {
+        StringBuilder json = new StringBuilder(512);
+        json.append("{\"startupReport\":{\"phases\":[");
+        synchronized (phases) {
+            for (int i = 0; i < phases.size(); i++) {
+                Phase p = phases.get(i);
+                if (i > 0) {
+                    json.append(',');
+                }
+                json.append("{\"name\":");
+                appendString(json, p.name);
+                json.append(",\"durationMs\":").append(p.duration)
+                        .append(",\"loadedClasses\":").append(p.loadedClasses)
+                        .append(",\"allocatedBytes\":").append(p.allocatedBytes).append('}');
+            }
+        }
+        json.append("],\"slowestComponents\":[");
+        List<Component> slowest;
+        synchronized (components) {
+            slowest = new ArrayList<>(components);
+        }
+        slowest.sort(Comparator.comparingLong((Component c) -> c.duration).reversed());
+        for (int i = 0; i < Math.min(TOP_COMPONENTS, slowest.size()); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"name\":");
+            appendString(json, slowest.get(i).name);
+            json.append(",\"durationMs\":").append(slowest.get(i).duration).append('}');
+        }
+        json.append("],\"totalLoadedClasses\":").append(getLoadedClassCount()).append("}}");
+        return json.toString();
+    }
+
+    static List<Phase> getPhases() {
+        synchronized (phases) {
+            return Collections.unmodifiableList(new ArrayList<>(phases));
+        }
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Private
+    //-------------------------------------------------------------
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+
+    private static long getLoadedClassCount() {
+        ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+        return classLoading.getTotalLoadedClassCount();
+    }
+
+    private static long getAllocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1L;
+    }
+
+    //-------------------------------------------------------------
+    // Inner Class -
+    //-------------------------------------------------------------
+
+    /**
+     * A phase of the startup being measured
+     */
+    public static final class Phase {
+        private final String name;
+        private long startTime;
+        private long startClasses;
+        private long startAllocated;
+        private long startThreadId;
+        private long duration;
+        private long loadedClasses;
+        private long allocatedBytes;
+        private boolean ended;
+
+        private Phase(String name) {
+            this.name = name;
+            if (name != null) {
+                startTime = System.currentTimeMillis();
+                startClasses = getLoadedClassCount();
+                startAllocated = getAllocatedBytes();
+                startThreadId = Thread.currentThread().getId();
+            }
+        }
+
+        /**
+         * Ends the phase and adds it to the report. Calling this method more than once has no effect.
+         */
+        public void end() {
+            if (name == null || ended || !isEnabled()) {
+                return;
+            }
+            ended = true;
+            duration = System.currentTimeMillis() - startTime;
+            loadedClasses = getLoadedClassCount() - startClasses;
+            long allocated = startThreadId == Thread.currentThread().getId() ? getAllocatedBytes() : -1L;
+            allocatedBytes = allocated < 0 || startAllocated < 0 ? -1L : allocated - startAllocated;
+            synchronized (phases) {
+                phases.add(this);
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getDurationMs() {
+            return duration;
+        }
+
+        public long getLoadedClasses() {
+            return loadedClasses;
+        }
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+
+    private static final class Component {
+        private final String name;
+        private final long duration;
+
+        Component(String name, long duration) {
+            this.name = name == null ? "" : name;
+            this.duration = duration;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy.internal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.instrument.Instrumentation;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records the classes loaded while the first invocations are handled, so that {@link ClassPreloader} can load them
+ * during the function initialization instead. The JVM only exposes the list of loaded classes to agents, recording
+ * requires the core jar to be attached as a java agent, for example with
+ * <code>JAVA_TOOL_OPTIONS="-javaagent:/var/task/lib/aws-serverless-java-container-core.jar=/tmp/classes.list"</code>.
+ * The agent argument is the file the class list is written to. It can also be set with the
+ * <code>AWS_SERVERLESS_JAVA_CONTAINER_CLASS_LIST_RECORD</code> environment variable. The number of recorded
+ * invocations defaults to 10 and is read from <code>AWS_SERVERLESS_JAVA_CONTAINER_CLASS_LIST_RECORD_INVOCATIONS</code>.
+ *
+ * Only the classes that were not loaded yet when the first invocation started are written to the list. The resulting
+ * file is meant to be packaged with the function as <code>META-INF/aws-serverless-java-container/classes.list</code>.
+ */
+public final class ClassListRecorder {
+
+    //-------------------------------------------------------------
+    // Constants
+    //-------------------------------------------------------------
+
+    static final String RECORD_ENVIRONMENT_VARIABLE_NAME = "AWS_SERVERLESS_JAVA_CONTAINER_CLASS_LIST_RECORD";
+    static final String RECORD_INVOCATIONS_ENVIRONMENT_VARIABLE_NAME = "AWS_SERVERLESS_JAVA_CONTAINER_CLASS_LIST_RECORD_INVOCATIONS";
+    static final int DEFAULT_RECORD_INVOCATIONS = 10;
+
+    //-------------------------------------------------------------
+    // Variables - Private - Static
+    //-------------------------------------------------------------
+
+    private static volatile Instrumentation instrumentation;
+    private static volatile String outputFile = System.getenv(RECORD_ENVIRONMENT_VARIABLE_NAME);
+    private static final int RECORD_INVOCATIONS = Integer.parseInt(System.getenv().getOrDefault(
+            RECORD_INVOCATIONS_ENVIRONMENT_VARIABLE_NAME, Integer.toString(DEFAULT_RECORD_INVOCATIONS)));
+    private static final AtomicInteger completedInvocations = new AtomicInteger();
+    private static volatile Set<String> baseline;
+    private static volatile boolean warned;
+
+    private static final Logger log = LoggerFactory.getLogger(ClassListRecorder.class);
+
+    //-------------------------------------------------------------
+    // Constructors
+    //-------------------------------------------------------------
+
+    private ClassListRecorder() {
+        // utility class
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Public
+    //-------------------------------------------------------------
+
+    /**
+     * Entry point for the agent when attached with <code>-javaagent</code>
+     * @param args The file the class list is written to, overrides the environment variable
+     * @param inst The instrumentation instance passed by the JVM
+     */
+    public static void premain(String args, Instrumentation inst) {
+        instrumentation = inst;
+        if (args != null && !args.trim().isEmpty()) {
+            outputFile = args.trim();
+        }
+    }
+
+    /**
+     * Entry point for the agent when attached to a running JVM
+     * @param args The file the class list is written to, overrides the environment variable
+     * @param inst The instrumentation instance passed by the JVM
+     */
+    public static void agentmain(String args, Instrumentation inst) {
+        premain(args, inst);
+    }
+
+    /**
+     * Whether the classes loaded by the next invocations are being recorded
+     * @return <code>true</code> if an output file is configured and the recorded invocations are not completed yet
+     */
+    public static boolean isRecording() {
+        return outputFile != null && completedInvocations.get() < RECORD_INVOCATIONS;
+    }
+
+    /**
+     * Called by the container handler before an invocation is handled. The first call takes the snapshot of the
+     * classes loaded during the initialization.
+     */
+    public static void beforeInvocation() {
+        if (!isRecording() || baseline != null) {
+            return;
+        }
+        if (instrumentation == null) {
+            if (!warned) {
+                warned = true;
+                log.warn("Class list recording requires the core jar to be attached with -javaagent, nothing will be recorded");
+            }
+            return;
+        }
+        synchronized (ClassListRecorder.class) {
+            if (baseline == null) {
+                baseline = loadedClassNames(instrumentation.getAllLoadedClasses());
+            }
+        }
+    }
+
+    /**
+     * Called by the container handler after an invocation is handled. Once the configured number of invocations has
+     * been reached the class list is written to the output file.
+     */
+    public static void afterInvocation() {
+        if (!isRecording() || baseline == null) {
+            return;
+        }
+        if (completedInvocations.incrementAndGet() != RECORD_INVOCATIONS) {
+            return;
+        }
+        Collection<String> recorded = newClassNames(baseline, instrumentation.getAllLoadedClasses());
+        try {
+            writeClassList(Paths.get(outputFile), recorded);
+            log.info("Recorded {} classes loaded during the first {} invocations to {}", recorded.size(),
+                    RECORD_INVOCATIONS, SecurityUtils.crlf(outputFile));
+        } catch (IOException e) {
+            log.error("Could not write class list", e);
+        }
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Package
+    //-------------------------------------------------------------
+
+    static Collection<String> newClassNames(Set<String> before, Class<?>[] loaded) {
+        Set<String> names = new TreeSet<>();
+        for (Class<?> c : loaded) {
+            if (isLoadableByName(c) && !before.contains(c.getName())) {
+                names.add(c.getName());
+            }
+        }
+        return names;
+    }
+
+    static void writeClassList(Path file, Collection<String> classNames) throws IOException {
+        List<String> lines = new ArrayList<>(classNames.size() + 1);
+        lines.add("# classes loaded by the first " + RECORD_INVOCATIONS + " invocations");
+        lines.addAll(classNames);
+        Files.write(file, lines, StandardCharsets.UTF_8);
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Private
+    //-------------------------------------------------------------
+
+    private static Set<String> loadedClassNames(Class<?>[] loaded) {
+        Set<String> names = new HashSet<>(loaded.length * 2);
+        for (Class<?> c : loaded) {
+            names.add(c.getName());
+        }
+        return names;
+    }
+
+    private static boolean isLoadableByName(Class<?> c) {
+        if (c.isArray() || c.isPrimitive()) {
+            return false;
+        }
+        String name = c.getName();
+        // lambdas and other hidden classes, and generated proxies, cannot be loaded by name
+        return name.indexOf('/') < 0 && !name.contains("$$Lambda") && !name.contains("$Proxy");
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy.internal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads the classes listed in a class list file on background threads, while the framework is initialized. The list is
+ * produced by {@link ClassListRecorder} and contains the classes that are otherwise loaded on the first invocations,
+ * such as servlet wrappers, Jackson deserializers, or framework argument resolvers. By default the list is read from
+ * the <code>META-INF/aws-serverless-java-container/classes.list</code> resource, a file can be used instead with the
+ * <code>AWS_SERVERLESS_JAVA_CONTAINER_CLASS_LIST</code> environment variable. Functions without a class list are not
+ * affected.
+ *
+ * Classes are only loaded by default. Running their static initializers on a background thread, while the
+ * application is still starting, can fail for classes that depend on the application state. A class whose initializer
+ * failed cannot be used anymore, initialization is enabled only when the
+ * <code>AWS_SERVERLESS_JAVA_CONTAINER_CLASS_LIST_INITIALIZE</code> environment variable is set to <code>true</code>.
+ */
+public final class ClassPreloader {
+
+    //-------------------------------------------------------------
+    // Constants
+    //-------------------------------------------------------------
+
+    public static final String DEFAULT_CLASS_LIST_RESOURCE = "META-INF/aws-serverless-java-container/classes.list";
+    static final String CLASS_LIST_ENVIRONMENT_VARIABLE_NAME = "AWS_SERVERLESS_JAVA_CONTAINER_CLASS_LIST";
+    static final String INITIALIZE_ENVIRONMENT_VARIABLE_NAME = "AWS_SERVERLESS_JAVA_CONTAINER_CLASS_LIST_INITIALIZE";
+    private static final int MAX_THREADS = 4;
+
+    //-------------------------------------------------------------
+    // Variables - Private - Static
+    //-------------------------------------------------------------
+
+    private static final Logger log = LoggerFactory.getLogger(ClassPreloader.class);
+
+    //-------------------------------------------------------------
+    // Constructors
+    //-------------------------------------------------------------
+
+    private ClassPreloader() {
+        // utility class
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Public
+    //-------------------------------------------------------------
+
+    /**
+     * Starts loading the classes of the configured class list on background daemon threads and returns immediately.
+     * Nothing is loaded while {@link ClassListRecorder} is recording, preloaded classes would be missing from the
+     * recorded list.
+     * @param loader The class loader used to load the classes, usually the loader of the handler class
+     * @return A future completed with the number of classes loaded
+     */
+    public static CompletableFuture<Integer> preloadInBackground(ClassLoader loader) {
+        if (ClassListRecorder.isRecording()) {
+            return CompletableFuture.completedFuture(0);
+        }
+        List<String> classNames;
+        try {
+            classNames = readConfiguredClassList(loader);
+        } catch (IOException e) {
+            log.warn("Could not read class list, classes will not be preloaded", e);
+            return CompletableFuture.completedFuture(0);
+        }
+        if (classNames.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+        return preload(classNames, loader, Boolean.parseBoolean(System.getenv(INITIALIZE_ENVIRONMENT_VARIABLE_NAME)),
+                Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors()));
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Package
+    //-------------------------------------------------------------
+
+    static CompletableFuture<Integer> preload(List<String> classNames, ClassLoader loader, boolean initialize, int threads) {
+        long start = System.currentTimeMillis();
+        int threadCount = Math.max(1, Math.min(threads, classNames.size()));
+        AtomicInteger threadId = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount, r -> {
+            Thread t = new Thread(r, "class-preloader-" + threadId.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        List<CompletableFuture<Integer>> chunks = new ArrayList<>(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            // interleaved so that every thread gets a share of each package
+            List<String> chunk = new ArrayList<>(classNames.size() / threadCount + 1);
+            for (int j = i; j < classNames.size(); j += threadCount) {
+                chunk.add(classNames.get(j));
+            }
+            chunks.add(CompletableFuture.supplyAsync(() -> load(chunk, loader, initialize), executor));
+        }
+
+        return CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0]))
+                .whenComplete((v, e) -> executor.shutdown())
+                .thenApply(v -> {
+                    int loaded = 0;
+                    for (CompletableFuture<Integer> c : chunks) {
+                        loaded += c.join();
+                    }
+                    log.info("Preloaded {} of {} classes in {}ms", loaded, classNames.size(),
+                            System.currentTimeMillis() - start);
+                    return loaded;
+                });
+    }
+
+    static int load(List<String> classNames, ClassLoader loader, boolean initialize) {
+        int loaded = 0;
+        for (String name : classNames) {
+            try {
+                Class.forName(name, initialize, loader);
+                loaded++;
+            } catch (ClassNotFoundException | LinkageError e) {
+                // the list may be stale, the class will be loaded, or fail, on the request path as usual
+                log.debug("Could not preload class {}", name);
+            }
+        }
+        return loaded;
+    }
+
+    static List<String> readClassList(InputStream in) throws IOException {
+        List<String> classNames = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    classNames.add(line);
+                }
+            }
+        }
+        return classNames;
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Private
+    //-------------------------------------------------------------
+
+    private static List<String> readConfiguredClassList(ClassLoader loader) throws IOException {
+        String file = System.getenv(CLASS_LIST_ENVIRONMENT_VARIABLE_NAME);
+        if (file != null && !file.trim().isEmpty()) {
+            return readClassList(Files.newInputStream(Paths.get(file.trim())));
+        }
+        InputStream resource = loader != null ? loader.getResourceAsStream(DEFAULT_CLASS_LIST_RESOURCE)
+                : ClassLoader.getSystemResourceAsStream(DEFAULT_CLASS_LIST_RESOURCE);
+        if (resource == null) {
+            return Collections.emptyList();
+        }
+        return readClassList(resource);
+    }
+}
@@ -14,8 +14,16 @@ package com.amazonaws.serverless.proxy.internal;
 
 
 import com.amazonaws.serverless.exceptions.ContainerInitializationException;
+import com.amazonaws.serverless.exceptions.DeadlineExceededException;
+import com.amazonaws.serverless.exceptions.InvalidRequestEventException;
 import com.amazonaws.serverless.proxy.*;
+import com.amazonaws.serverless.proxy.internal.jfr.RequestReadEvent;
+import com.amazonaws.serverless.proxy.internal.jfr.ResponseWriteEvent;
+import com.amazonaws.serverless.proxy.internal.jfr.SecurityContextEvent;
+import com.amazonaws.serverless.proxy.internal.jfr.SerializationEvent;
 import com.amazonaws.serverless.proxy.internal.servlet.ApacheCombinedServletLogFormatter;
+import com.amazonaws.serverless.proxy.internal.testutils.Timer;
+import com.amazonaws.serverless.proxy.model.AwsProxyResponse;
 import com.amazonaws.serverless.proxy.model.ContainerConfig;
 import com.amazonaws.services.lambda.runtime.Context;
 
@@ -23,6 +31,8 @@ import tools.jackson.core.JacksonException;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.ObjectReader;
 import tools.jackson.databind.ObjectWriter;
+import org.crac.Core;
+import org.crac.Resource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,6 +41,12 @@ import jakarta.ws.rs.core.SecurityContext;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
@@ -64,6 +80,11 @@ public abstract class LambdaContainerHandler<RequestType, ResponseType, Containe
     private Class<RequestType> requestTypeClass;
     private Class<ResponseType> responseTypeClass;
     private InitializationWrapper initializationWrapper;
+    private ResponseCache<? super ContainerRequestType, ResponseType> responseCache;
+    private EventRecorder eventRecorder;
+    private final List<RequestType> primingRequests = new CopyOnWriteArrayList<>();
+    // org.crac contexts only keep weak references to their resources
+    private final Resource checkpointResource;
 
     protected Context lambdaContext;
     private LogFormatter<ContainerRequestType, ContainerResponseType> logFormatter;
@@ -98,6 +119,7 @@ public abstract class LambdaContainerHandler<RequestType, ResponseType, Containe
                                      SecurityContextWriter<RequestType> securityContextWriter,
                                      ExceptionHandler<ResponseType> exceptionHandler,
                                      InitializationWrapper init) {
+        StartupReport.handlerCreated();
         log.info("Starting Lambda Container Handler");
         requestTypeClass = requestClass;
         responseTypeClass = responseClass;
@@ -109,6 +131,8 @@ public abstract class LambdaContainerHandler<RequestType, ResponseType, Containe
         objectReader = getObjectMapper().readerFor(requestTypeClass);
         objectWriter = getObjectMapper().writerFor(responseTypeClass);
 
+        checkpointResource = new CheckpointResource();
+        Core.getGlobalContext().register(checkpointResource);
     }
 
     protected LambdaContainerHandler(Class<RequestType> requestClass,
@@ -188,19 +212,57 @@ public abstract class LambdaContainerHandler<RequestType, ResponseType, Containe
 
     /**
      * Proxies requests to the underlying container given the incoming Lambda request. This method returns a populated
-     * return object for the Lambda function.
+     * return object for the Lambda function. The wait for the response is bounded by the <code>InvocationDeadline</code>
+     * computed from the remaining time of the invocation, a response that is not ready by then is reported as a
+     * <code>DeadlineExceededException</code> to the exception handler.
      *
      * @param request The incoming Lambda request
      * @param context The execution context for the Lambda function
      * @return A valid response type
      */
     public ResponseType proxy(RequestType request, Context context) {
+        EventRecorder recorder = eventRecorder;
+        if (recorder == null || isPriming(context) || !recorder.sample()) {
+            return handle(request, context);
+        }
+        // serialized before the request reader modifies the event
+        EventRecorder.Recording recording = recorder.start(request);
+        ResponseType response = null;
+        try {
+            response = handle(request, context);
+            return response;
+        } finally {
+            if (recording != null) {
+                recording.end(response);
+            }
+        }
+    }
+
+    private ResponseType handle(RequestType request, Context context) {
         lambdaContext = context;
-        CountDownLatch latch = new CountDownLatch(1);
+        InvocationDeadline.start(context, config.getDeadlineSafetyMargin());
+        // priming requests run before the checkpoint, the first request phase measures real traffic
+        StartupReport.Phase firstRequest = isPriming(context) ? null : StartupReport.start(StartupReport.FIRST_REQUEST);
+        ClassListRecorder.beforeInvocation();
         try {
-            SecurityContext securityContext = securityContextWriter.writeSecurityContext(request, context);
-            ContainerRequestType containerRequest = requestReader.readRequest(request, securityContext, context, config);
-            ContainerResponseType containerResponse = getContainerResponse(containerRequest, latch);
+            SecurityContext securityContext = writeSecurityContext(request, context);
+            ContainerRequestType containerRequest = readRequest(request, securityContext, context);
+
+            String cacheKey = responseCache != null ? responseCache.getCacheKey(containerRequest) : null;
+            if (cacheKey != null) {
+                ResponseCache.Lookup<ResponseType> cached = responseCache.lookup(cacheKey);
+                if (cached != null) {
+                    if (cached.isRevalidationRequired()) {
+                        // the container request was not dispatched yet, it refreshes the entry within this invocation
+                        ResponseType fresh = responseCache.revalidate(cacheKey,
+                                () -> dispatch(containerRequest, securityContext, context));
+                        if (fresh != null) {
+                            return fresh;
+                        }
+                    }
+                    return cached.getResponse();
+                }
+            }
 
             if (initializationWrapper != null && initializationWrapper.getInitializationLatch() != null) {
                 // we let the potential InterruptedException bubble up
@@ -209,20 +271,13 @@ public abstract class LambdaContainerHandler<RequestType, ResponseType, Containe
                 }
             }
 
-            handleRequest(containerRequest, containerResponse, context);
-
-            latch.await();
-
-            if (logFormatter != null) {
-                log.info(SecurityUtils.crlf(logFormatter.format(containerRequest, containerResponse, securityContext)));
+            ResponseType response = dispatch(containerRequest, securityContext, context);
+            if (cacheKey != null) {
+                responseCache.store(cacheKey, response);
             }
-
-            return responseWriter.writeResponse(containerResponse, context);
+            return response;
         } catch (Exception e) {
             log.error("Error while handling request", e);
-            // release all waiting threads. This is safe here because if the count was already 0
-            // the latch will do nothing
-            latch.countDown();
 
             if (getContainerConfig().isDisableExceptionMapper()) {
                 if (e instanceof RuntimeException) {
@@ -233,9 +288,217 @@ public abstract class LambdaContainerHandler<RequestType, ResponseType, Containe
             } else {
                 return exceptionHandler.handle(e);
             }
+        } finally {
+            InvocationDeadline.clear();
+            ClassListRecorder.afterInvocation();
+            if (firstRequest != null) {
+                firstRequest.end();
+                StartupReport.report();
+            }
+        }
+    }
+
+
+    /**
+     * Proxies requests to the underlying container without blocking the calling thread until the response is committed.
+     * The returned future completes when the framework commits the response, for example when a WebFlux publisher or
+     * an async servlet completes, instead of parking the thread on the response latch like
+     * {@link #proxy(Object, Context)}. Frameworks that process requests synchronously commit the response before this
+     * method returns, the returned future is then already completed.
+     *
+     * Exceptions are mapped with the <code>ExceptionHandler</code>, the future only completes exceptionally when the
+     * exception mapper is disabled in the <code>ContainerConfig</code>. Cancelling the future stops waiting for the
+     * response, the framework is not interrupted. The first invocation still blocks until the asynchronous
+     * initialization completes. The <code>InvocationDeadline</code> is available while the request is dispatched, the
+     * caller is responsible for bounding the wait on the returned future.
+     *
+     * @param request The incoming Lambda request
+     * @param context The execution context for the Lambda function
+     * @return A future completed with the response
+     */
+    public CompletableFuture<ResponseType> proxyAsync(RequestType request, Context context) {
+        lambdaContext = context;
+        InvocationDeadline.start(context, config.getDeadlineSafetyMargin());
+        ResponseLatch latch = new ResponseLatch();
+        CompletableFuture<ResponseType> result = new CompletableFuture<>();
+        // priming requests run before the checkpoint, the first request phase measures real traffic
+        StartupReport.Phase firstRequest = isPriming(context) ? null : StartupReport.start(StartupReport.FIRST_REQUEST);
+        ClassListRecorder.beforeInvocation();
+        result.whenComplete((response, error) -> {
+            ClassListRecorder.afterInvocation();
+            if (firstRequest != null) {
+                firstRequest.end();
+                StartupReport.report();
+            }
+        });
+        try {
+            SecurityContext securityContext = writeSecurityContext(request, context);
+            ContainerRequestType containerRequest = readRequest(request, securityContext, context);
+
+            String cacheKey = responseCache != null ? responseCache.getCacheKey(containerRequest) : null;
+            if (cacheKey != null) {
+                ResponseCache.Lookup<ResponseType> cached = responseCache.lookup(cacheKey);
+                if (cached != null) {
+                    ResponseType fresh = null;
+                    if (cached.isRevalidationRequired()) {
+                        fresh = responseCache.revalidate(cacheKey,
+                                () -> dispatch(containerRequest, securityContext, context));
+                    }
+                    result.complete(fresh != null ? fresh : cached.getResponse());
+                    return result;
+                }
+            }
+
+            if (initializationWrapper != null && initializationWrapper.getInitializationLatch() != null) {
+                if (!initializationWrapper.getInitializationLatch().await(config.getInitializationTimeout(), TimeUnit.MILLISECONDS)) {
+                    throw new ContainerInitializationException("Could not initialize framework within the " + config.getInitializationTimeout() + "ms timeout", null);
+                }
+            }
+
+            ContainerResponseType containerResponse = getContainerResponse(containerRequest, latch);
+            handleRequest(containerRequest, containerResponse, context);
+            latch.committed.thenRun(() -> {
+                // the future was cancelled, or completed by the exception handler
+                if (result.isDone()) {
+                    return;
+                }
+                try {
+                    ResponseType response = writeResponse(containerRequest, containerResponse, securityContext, context);
+                    if (cacheKey != null) {
+                        responseCache.store(cacheKey, response);
+                    }
+                    result.complete(response);
+                } catch (Exception e) {
+                    handleAsyncException(result, e);
+                }
+            });
+        } catch (Exception e) {
+            handleAsyncException(result, e);
+            // release all waiting threads, the response is not written because the future is already completed
+            latch.countDown();
+        } finally {
+            InvocationDeadline.clear();
+        }
+        return result;
+    }
+
+
+    /**
+     * Sets the cache used to answer repeated requests without dispatching them to the underlying framework. Requests
+     * for which the cache returns a key are looked up before the framework is invoked, and their responses are stored
+     * after it returns. Cached responses are shared between invocations, callers must not modify the responses returned
+     * by {@link #proxy(Object, Context)} when a cache is set. By default no cache is used.
+     * @param cache The response cache, or <code>null</code> to disable caching
+     */
+    public void setResponseCache(ResponseCache<? super ContainerRequestType, ResponseType> cache) {
+        responseCache = cache;
+    }
+
+    /**
+     * Sets the recorder that writes a sample of the events received by {@link #proxy(Object, Context)}, for example to
+     * replay them in benchmarks. By default no event is recorded.
+     * @param recorder The event recorder, or <code>null</code> to stop recording
+     */
+    public void setEventRecorder(EventRecorder recorder) {
+        eventRecorder = recorder;
+    }
+
+    /**
+     * Returns the event recorder set on this handler
+     * @return The event recorder, or <code>null</code> if no event is recorded
+     */
+    public EventRecorder getEventRecorder() {
+        return eventRecorder;
+    }
+
+    /**
+     * Returns the response cache set on this handler
+     * @return The response cache, or <code>null</code> if caching is disabled
+     */
+    public ResponseCache<? super ContainerRequestType, ResponseType> getResponseCache() {
+        return responseCache;
+    }
+
+
+    /**
+     * Declares synthetic events used to prime the application before a SnapStart or CRaC checkpoint. The
+     * <code>org.crac</code> resource registered by each handler replays the events through {@link #proxy(Object, Context)}
+     * before the checkpoint is taken, so that class loading, JIT compilation, and the lazy caches of the framework and
+     * of this library are warm in the snapshot. On JVMs without checkpoint support the events are only replayed when
+     * {@link #prime()} is called explicitly.
+     * <p>
+     * Priming requests are dispatched like real requests, they should only target read-only endpoints.
+     * @param requests The synthetic events, for example <code>AwsProxyRequest</code> or <code>HttpApiV2ProxyRequest</code>
+     *                 objects built with the request builders
+     */
+    @SafeVarargs
+    public final void addPrimingRequests(RequestType... requests) {
+        primingRequests.addAll(Arrays.asList(requests));
+    }
+
+    /**
+     * Reads a synthetic event in the Lambda event JSON format and adds it to the priming requests.
+     * @param event The event JSON
+     * @throws IOException If the stream cannot be read or does not contain a valid event
+     * @see #addPrimingRequests(Object[])
+     */
+    public void addPrimingRequest(InputStream event) throws IOException {
+        try {
+            RequestType request = objectReader.readValue(event);
+            addPrimingRequests(request);
+        } catch (JacksonException e) {
+            throw new IOException("Could not read priming event", e);
         }
     }
 
+    /**
+     * Returns the synthetic events declared for priming
+     * @return An unmodifiable copy of the priming requests
+     */
+    public List<RequestType> getPrimingRequests() {
+        return Collections.unmodifiableList(new ArrayList<>(primingRequests));
+    }
+
+    /**
+     * Replays the priming requests through the full {@link #proxy(Object, Context)} path, discards the responses, and
+     * then resets the per-request state with {@link #resetAfterPriming()}. Priming requests are not reported as the
+     * first request of the <code>StartupReport</code>. Failures, including error responses
+     * produced by the exception handler, are logged and do not stop the remaining requests.
+     * @return The number of priming requests that were replayed without errors
+     */
+    public int prime() {
+        int primed = 0;
+        Context context = new PrimingLambdaContext();
+        for (RequestType request : primingRequests) {
+            try {
+                ResponseType response = proxy(request, context);
+                if (isPrimingFailure(response)) {
+                    log.warn("Priming request returned an error response");
+                } else {
+                    primed++;
+                }
+            } catch (RuntimeException e) {
+                log.warn("Priming request failed", e);
+            }
+        }
+        resetAfterPriming();
+        log.info("Primed container with {} of {} synthetic requests", primed, primingRequests.size());
+        return primed;
+    }
+
+    /**
+     * Whether the response to a priming request reports a failure. A request that fails, or that does not match a
+     * route, warms error handling rather than the application code it was declared for. The default implementation
+     * treats <code>AwsProxyResponse</code> objects with a 4xx or 5xx status code as failures, handlers with other
+     * response types can override it.
+     * @param response The response returned by {@link #proxy(Object, Context)}
+     * @return <code>true</code> if the priming request should not be counted as primed
+     */
+    protected boolean isPrimingFailure(ResponseType response) {
+        return response == null
+                || (response instanceof AwsProxyResponse && ((AwsProxyResponse) response).getStatusCode() >= 400);
+    }
+
 
     /**
      * Handles Lambda <code>RequestStreamHandler</code> method. The method uses an <code>ObjectMapper</code>
@@ -251,10 +514,17 @@ public abstract class LambdaContainerHandler<RequestType, ResponseType, Containe
             throws IOException {
 
         try {
-            RequestType request = objectReader.readValue(input);
+            SerializationEvent readEvent = new SerializationEvent(SerializationEvent.REQUEST);
+            readEvent.begin();
+            RequestType request = objectReader.readValue(readEvent.count(input));
+            readEvent.complete(request, null);
+
             ResponseType resp = proxy(request, context);
 
-            objectWriter.writeValue(output, resp);
+            SerializationEvent writeEvent = new SerializationEvent(SerializationEvent.RESPONSE);
+            writeEvent.begin();
+            objectWriter.writeValue(writeEvent.count(output), resp);
+            writeEvent.complete(null, resp);
         } catch (JacksonException e) {
             log.error("Error while parsing request object stream", e);
             getObjectMapper().writeValue(output, exceptionHandler.handle(e));
@@ -265,6 +535,127 @@ public abstract class LambdaContainerHandler<RequestType, ResponseType, Containe
     }
 
 
+    //-------------------------------------------------------------
+    // Methods - Protected
+    //-------------------------------------------------------------
+
+    /**
+     * Creates the response object for a request without a response latch. Containers that can tell whether a request
+     * completed synchronously override this method together with {@link #awaitResponse(Object, long)}, so that the common
+     * synchronous requests do not allocate and wait on a latch. Returns <code>null</code> by default, the handler then
+     * creates a latch and uses {@link #getContainerResponse(Object, CountDownLatch)}.
+     * @param request The container request
+     * @return The response object, or <code>null</code> if the container requires a latch
+     */
+    protected ContainerResponseType getContainerResponse(ContainerRequestType request) {
+        return null;
+    }
+
+    /**
+     * Waits for a response created by {@link #getContainerResponse(Object)} to be committed. Called after
+     * <code>handleRequest</code> returns, implementations should only block when the request is still being processed
+     * asynchronously.
+     * @param response The container response
+     * @param timeoutMillis The maximum time to wait in milliseconds, bounded by the invocation deadline
+     * @return <code>true</code> if the response was committed, <code>false</code> if the timeout elapsed
+     * @throws InterruptedException If the thread is interrupted while waiting
+     */
+    protected boolean awaitResponse(ContainerResponseType response, long timeoutMillis) throws InterruptedException {
+        // the default implementation has nothing to wait for
+        return true;
+    }
+
+    /**
+     * Clears the state left behind by priming requests, so that nothing produced by a synthetic request is visible to
+     * real ones after a restore. Caches that only depend on the application, such as the filter chain cache, are
+     * intentionally kept. Implementations holding additional per-request state should override this method and call
+     * the parent implementation.
+     */
+    protected void resetAfterPriming() {
+        lambdaContext = null;
+        if (responseCache != null) {
+            responseCache.clear();
+        }
+        Timer.getTimers().clear();
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Private
+    //-------------------------------------------------------------
+
+    private ResponseType dispatch(ContainerRequestType containerRequest, SecurityContext securityContext,
+                                  Context context) throws Exception {
+        InvocationDeadline deadline = InvocationDeadline.current();
+        ContainerResponseType containerResponse = getContainerResponse(containerRequest);
+        boolean committed;
+        if (containerResponse != null) {
+            handleRequest(containerRequest, containerResponse, context);
+            committed = awaitResponse(containerResponse, remainingMillis(deadline));
+        } else {
+            CountDownLatch latch = new CountDownLatch(1);
+            containerResponse = getContainerResponse(containerRequest, latch);
+            handleRequest(containerRequest, containerResponse, context);
+            committed = latch.await(remainingMillis(deadline), TimeUnit.MILLISECONDS);
+        }
+        if (!committed) {
+            throw new DeadlineExceededException("The response was not produced before the invocation deadline");
+        }
+
+        return writeResponse(containerRequest, containerResponse, securityContext, context);
+    }
+
+    private static boolean isPriming(Context context) {
+        return context instanceof PrimingLambdaContext;
+    }
+
+    private static long remainingMillis(InvocationDeadline deadline) {
+        return deadline != null ? deadline.getRemainingMillis() : Long.MAX_VALUE;
+    }
+
+    private ResponseType writeResponse(ContainerRequestType containerRequest, ContainerResponseType containerResponse,
+                                       SecurityContext securityContext, Context context) throws Exception {
+        if (logFormatter != null) {
+            String logLine = logFormatter.format(containerRequest, containerResponse, securityContext);
+            if (logLine != null) {
+                log.info(logFormatter.escapesLineBreaks() ? logLine : SecurityUtils.crlf(logLine));
+            }
+        }
+
+        ResponseWriteEvent event = new ResponseWriteEvent();
+        event.begin();
+        ResponseType response = responseWriter.writeResponse(containerResponse, context);
+        event.complete(containerRequest, containerResponse);
+        return response;
+    }
+
+    private SecurityContext writeSecurityContext(RequestType request, Context context) {
+        SecurityContextEvent event = new SecurityContextEvent();
+        event.begin();
+        SecurityContext securityContext = securityContextWriter.writeSecurityContext(request, context);
+        event.complete(request, null);
+        return securityContext;
+    }
+
+    private ContainerRequestType readRequest(RequestType request, SecurityContext securityContext, Context context)
+            throws InvalidRequestEventException {
+        RequestReadEvent event = new RequestReadEvent();
+        event.begin();
+        ContainerRequestType containerRequest = requestReader.readRequest(request, securityContext, context, config);
+        event.complete(containerRequest, null);
+        return containerRequest;
+    }
+
+
+    private void handleAsyncException(CompletableFuture<ResponseType> result, Exception e) {
+        log.error("Error while handling request", e);
+        if (getContainerConfig().isDisableExceptionMapper()) {
+            result.completeExceptionally(e);
+        } else {
+            result.complete(exceptionHandler.handle(e));
+        }
+    }
+
+
     //-------------------------------------------------------------
     // Methods - Getter/Setter
     //-------------------------------------------------------------
@@ -276,4 +667,52 @@ public abstract class LambdaContainerHandler<RequestType, ResponseType, Containe
     public static ContainerConfig getContainerConfig() {
         return config;
     }
+
+
+    //-------------------------------------------------------------
+    // Inner Class -
+    //-------------------------------------------------------------
+
+    /**
+     * Response latch that also completes a future when the response is committed, so that {@link #proxyAsync} can
+     * continue on the thread that commits the response instead of waiting for it
+     */
+    private static final class ResponseLatch extends CountDownLatch {
+        private final CompletableFuture<Void> committed = new CompletableFuture<>();
+
+        ResponseLatch() {
+            super(1);
+        }
+
+        @Override
+        public void countDown() {
+            super.countDown();
+            committed.complete(null);
+        }
+    }
+
+    /**
+     * Prepares the handler for a SnapStart or CRaC checkpoint. Before the checkpoint the container is primed with the
+     * declared synthetic requests, if any, and the per-request state is cleared so that the snapshot does not contain
+     * responses or contexts of earlier invocations. Lazily built configuration state, such as the media type
+     * classifier, is built before the checkpoint instead of on the first request after restore. The static
+     * <code>ObjectMapper</code> and the filter chain cache are kept: they only depend on the application and warming
+     * them is the point of priming.
+     */
+    private final class CheckpointResource implements Resource {
+        @Override
+        public void beforeCheckpoint(org.crac.Context<? extends Resource> context) {
+            if (primingRequests.isEmpty()) {
+                resetAfterPriming();
+            } else {
+                prime();
+            }
+            config.getMediaTypeClassifier();
+        }
+
+        @Override
+        public void afterRestore(org.crac.Context<? extends Resource> context) {
+            lambdaContext = null;
+        }
+    }
 }
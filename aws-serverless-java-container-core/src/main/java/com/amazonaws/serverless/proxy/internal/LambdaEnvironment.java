@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy.internal;
+
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+
+/**
+ * Caches values read from the Lambda execution environment that are needed on every request. A snapshot taken by
+ * SnapStart or CRaC can be restored in a different environment, so the cached values are read again after restore.
+ */
+public final class LambdaEnvironment {
+
+    //-------------------------------------------------------------
+    // Constants
+    //-------------------------------------------------------------
+
+    static final String REGION_ENVIRONMENT_VARIABLE_NAME = "AWS_REGION";
+    // this is not a critical failure, we just put a static region in the URI
+    static final String DEFAULT_REGION = "us-east-1";
+
+    //-------------------------------------------------------------
+    // Variables - Private - Static
+    //-------------------------------------------------------------
+
+    private static volatile String region = readRegion();
+    // org.crac contexts only keep weak references to their resources
+    private static final Resource RESTORE_RESOURCE = new RefreshResource();
+    static {
+        Core.getGlobalContext().register(RESTORE_RESOURCE);
+    }
+
+    //-------------------------------------------------------------
+    // Constructors
+    //-------------------------------------------------------------
+
+    private LambdaEnvironment() {
+        // utility class
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Public
+    //-------------------------------------------------------------
+
+    /**
+     * Returns the region the function runs in, as reported by the <code>AWS_REGION</code> environment variable
+     * @return The region, or <code>us-east-1</code> if the variable is not set
+     */
+    public static String getRegion() {
+        return region;
+    }
+
+    /**
+     * Reads all the cached values from the environment again
+     */
+    public static void refresh() {
+        region = readRegion();
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Private
+    //-------------------------------------------------------------
+
+    private static String readRegion() {
+        String value = System.getenv(REGION_ENVIRONMENT_VARIABLE_NAME);
+        return value == null ? DEFAULT_REGION : value;
+    }
+
+    //-------------------------------------------------------------
+    // Inner Class -
+    //-------------------------------------------------------------
+
+    private static final class RefreshResource implements Resource {
+        @Override
+        public void beforeCheckpoint(Context<? extends Resource> context) {
+            // nothing to release
+        }
+
+        @Override
+        public void afterRestore(Context<? extends Resource> context) {
+            refresh();
+        }
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy.internal;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Classifies response content types as text or binary, and as compressible or not, in a single lookup. The classifier
+ * is compiled once from the patterns configured in the {@link com.amazonaws.serverless.proxy.model.ContainerConfig}
+ * and caches the result for each distinct raw <code>Content-Type</code> value it sees.
+ *
+ * Patterns can be expressed as:
+ * <ul>
+ *     <li>An exact media type, for example <code>image/png</code></li>
+ *     <li>A wildcard sub-type, for example <code>image/*</code>, or the full wildcard <code>*&#47;*</code></li>
+ *     <li>A structured syntax suffix, for example <code>application/*+protobuf</code>. The short form <code>+protobuf</code>
+ *     matches the suffix on any top-level type</li>
+ * </ul>
+ * Media types and patterns are compared case-insensitively and parameters such as <code>charset</code> are ignored.
+ */
+public final class MediaTypeClassifier {
+
+    //-------------------------------------------------------------
+    // Constants
+    //-------------------------------------------------------------
+
+    static final String WILDCARD = "*";
+    static final char TYPE_SEPARATOR = '/';
+    static final char SUFFIX_SEPARATOR = '+';
+    static final char PARAMETER_SEPARATOR = ';';
+    // we do not want a misbehaving application that generates a unique content type per response (for example a
+    // multipart boundary) to grow the cache indefinitely
+    static final int MAX_CACHE_SIZE = 512;
+
+    //-------------------------------------------------------------
+    // Variables - Private
+    //-------------------------------------------------------------
+
+    private final PatternSet binaryPatterns;
+    private final PatternSet compressedPatterns;
+    private final Map<String, Classification> cache;
+
+    //-------------------------------------------------------------
+    // Constructors
+    //-------------------------------------------------------------
+
+    /**
+     * Compiles a new classifier
+     * @param binaryTypes The patterns for content types that should be returned as base64-encoded binary data
+     * @param compressedTypes The patterns for content types whose payload is already compressed and therefore should
+     *                        not be compressed again
+     */
+    public MediaTypeClassifier(Collection<String> binaryTypes, Collection<String> compressedTypes) {
+        binaryPatterns = new PatternSet(binaryTypes);
+        compressedPatterns = new PatternSet(compressedTypes);
+        cache = new ConcurrentHashMap<>();
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Public
+    //-------------------------------------------------------------
+
+    /**
+     * Classifies the given <code>Content-Type</code> header value. A <code>null</code> or empty value is considered
+     * compressible text.
+     * @param contentType The raw value of the content type header, including parameters
+     * @return The classification for the content type
+     */
+    public Classification classify(String contentType) {
+        if (contentType == null) {
+            return Classification.TEXT;
+        }
+        Classification cached = cache.get(contentType);
+        if (cached != null) {
+            return cached;
+        }
+
+        Classification result = compute(contentType);
+        if (cache.size() < MAX_CACHE_SIZE) {
+            cache.put(contentType, result);
+        }
+        return result;
+    }
+
+    /**
+     * Shortcut for <code>classify(contentType).isBinary()</code>
+     * @param contentType The raw value of the content type header, including parameters
+     * @return <code>true</code> if the content type matches one of the configured binary patterns
+     */
+    public boolean isBinary(String contentType) {
+        return classify(contentType).isBinary();
+    }
+
+    /**
+     * Shortcut for <code>classify(contentType).isCompressible()</code>
+     * @param contentType The raw value of the content type header, including parameters
+     * @return <code>false</code> if the content type matches one of the already-compressed patterns
+     */
+    public boolean isCompressible(String contentType) {
+        return classify(contentType).isCompressible();
+    }
+
+    /**
+     * Extracts the lowercase <code>type/subtype</code> portion of a content type header value
+     * @param contentType The raw content type value
+     * @return The media type without parameters, or an empty string if the value does not contain a media type
+     */
+    public static String stripParameters(String contentType) {
+        if (contentType == null) {
+            return "";
+        }
+        int semidx = contentType.indexOf(PARAMETER_SEPARATOR);
+        String mediaType = (semidx >= 0 ? contentType.substring(0, semidx) : contentType);
+        return mediaType.trim().toLowerCase(Locale.ENGLISH);
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Private
+    //-------------------------------------------------------------
+
+    private Classification compute(String contentType) {
+        String mediaType = stripParameters(contentType);
+        if (mediaType.isEmpty()) {
+            return Classification.TEXT;
+        }
+
+        String type = mediaType;
+        String subtype = "";
+        int slashidx = mediaType.indexOf(TYPE_SEPARATOR);
+        if (slashidx >= 0) {
+            type = mediaType.substring(0, slashidx).trim();
+            subtype = mediaType.substring(slashidx + 1).trim();
+        }
+        String suffix = null;
+        int plusidx = subtype.lastIndexOf(SUFFIX_SEPARATOR);
+        if (plusidx >= 0 && plusidx < subtype.length() - 1) {
+            suffix = subtype.substring(plusidx + 1);
+        }
+        String normalized = type + TYPE_SEPARATOR + subtype;
+
+        return Classification.of(
+                binaryPatterns.matches(normalized, type, suffix),
+                !compressedPatterns.matches(normalized, type, suffix));
+    }
+
+    //-------------------------------------------------------------
+    // Inner Class -
+    //-------------------------------------------------------------
+
+    /**
+     * The result of a classification
+     */
+    public enum Classification {
+        TEXT(false, true),
+        UNCOMPRESSIBLE_TEXT(false, false),
+        BINARY(true, false),
+        COMPRESSIBLE_BINARY(true, true);
+
+        private final boolean binary;
+        private final boolean compressible;
+
+        Classification(boolean binary, boolean compressible) {
+            this.binary = binary;
+            this.compressible = compressible;
+        }
+
+        static Classification of(boolean binary, boolean compressible) {
+            if (binary) {
+                return compressible ? COMPRESSIBLE_BINARY : BINARY;
+            }
+            return compressible ? TEXT : UNCOMPRESSIBLE_TEXT;
+        }
+
+        /**
+         * @return <code>true</code> if the body should be base64-encoded in the proxy response
+         */
+        public boolean isBinary() {
+            return binary;
+        }
+
+        /**
+         * @return <code>true</code> if compressing the body is likely to reduce its size
+         */
+        public boolean isCompressible() {
+            return compressible;
+        }
+    }
+
+    /**
+     * A compiled set of media type patterns. Each kind of pattern is stored in its own hash set so that matching a
+     * media type costs at most four hash lookups regardless of how many patterns are configured.
+     */
+    private static final class PatternSet {
+        private final Set<String> exactTypes = new HashSet<>();
+        private final Set<String> wildcardTypes = new HashSet<>();
+        private final Set<String> typedSuffixes = new HashSet<>();
+        private final Set<String> anySuffixes = new HashSet<>();
+        private boolean matchAll;
+
+        PatternSet(Collection<String> patterns) {
+            if (patterns == null) {
+                return;
+            }
+            for (String p : patterns) {
+                compile(p);
+            }
+        }
+
+        private void compile(String rawPattern) {
+            String pattern = stripParameters(rawPattern);
+            if (pattern.isEmpty()) {
+                return;
+            }
+            if (pattern.charAt(0) == SUFFIX_SEPARATOR) {
+                anySuffixes.add(pattern.substring(1));
+                return;
+            }
+            int slashidx = pattern.indexOf(TYPE_SEPARATOR);
+            if (slashidx < 0) {
+                exactTypes.add(pattern);
+                return;
+            }
+            String type = pattern.substring(0, slashidx).trim();
+            String subtype = pattern.substring(slashidx + 1).trim();
+
+            if (subtype.startsWith(WILDCARD + SUFFIX_SEPARATOR)) {
+                String suffix = subtype.substring(2);
+                if (WILDCARD.equals(type)) {
+                    anySuffixes.add(suffix);
+                } else {
+                    typedSuffixes.add(type + SUFFIX_SEPARATOR + suffix);
+                }
+            } else if (WILDCARD.equals(subtype)) {
+                if (WILDCARD.equals(type)) {
+                    matchAll = true;
+                } else {
+                    wildcardTypes.add(type);
+                }
+            } else {
+                exactTypes.add(type + TYPE_SEPARATOR + subtype);
+            }
+        }
+
+        boolean matches(String mediaType, String type, String suffix) {
+            if (matchAll || exactTypes.contains(mediaType) || wildcardTypes.contains(type)) {
+                return true;
+            }
+            if (suffix == null) {
+                return false;
+            }
+            return anySuffixes.contains(suffix) || typedSuffixes.contains(type + SUFFIX_SEPARATOR + suffix);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy.internal;
+
+import com.amazonaws.services.lambda.runtime.ClientContext;
+import com.amazonaws.services.lambda.runtime.CognitoIdentity;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.amazonaws.services.lambda.runtime.LambdaRuntime;
+
+/**
+ * Lambda context passed to the framework for synthetic priming requests. Function metadata is read from the
+ * environment variables set by the Lambda runtime, all other values are fixed.
+ */
+final class PrimingLambdaContext implements Context {
+
+    //-------------------------------------------------------------
+    // Constants
+    //-------------------------------------------------------------
+
+    static final String PRIMING_REQUEST_ID = "aws-serverless-java-container-priming";
+    // the maximum Lambda timeout, priming requests are not subject to the function timeout
+    private static final int REMAINING_TIME_MS = 15 * 60 * 1000;
+    private static final int DEFAULT_MEMORY_MB = 128;
+
+    //-------------------------------------------------------------
+    // Implementation - Context
+    //-------------------------------------------------------------
+
+    @Override
+    public String getAwsRequestId() {
+        return PRIMING_REQUEST_ID;
+    }
+
+    @Override
+    public String getLogGroupName() {
+        return System.getenv("AWS_LAMBDA_LOG_GROUP_NAME");
+    }
+
+    @Override
+    public String getLogStreamName() {
+        return System.getenv("AWS_LAMBDA_LOG_STREAM_NAME");
+    }
+
+    @Override
+    public String getFunctionName() {
+        return System.getenv("AWS_LAMBDA_FUNCTION_NAME");
+    }
+
+    @Override
+    public String getFunctionVersion() {
+        return System.getenv("AWS_LAMBDA_FUNCTION_VERSION");
+    }
+
+    @Override
+    public String getInvokedFunctionArn() {
+        return null;
+    }
+
+    @Override
+    public CognitoIdentity getIdentity() {
+        return null;
+    }
+
+    @Override
+    public ClientContext getClientContext() {
+        return null;
+    }
+
+    @Override
+    public int getRemainingTimeInMillis() {
+        return REMAINING_TIME_MS;
+    }
+
+    @Override
+    public int getMemoryLimitInMB() {
+        String memory = System.getenv("AWS_LAMBDA_FUNCTION_MEMORY_SIZE");
+        try {
+            return memory == null ? DEFAULT_MEMORY_MB : Integer.parseInt(memory);
+        } catch (NumberFormatException e) {
+            return DEFAULT_MEMORY_MB;
+        }
+    }
+
+    @Override
+    public LambdaLogger getLogger() {
+        return LambdaRuntime.getLogger();
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy.internal;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Command line entry point used to train a CDS archive or a JDK AOT cache for a function. The runner boots the
+ * function's <code>RequestStreamHandler</code> the same way the Lambda runtime does, replays a set of sample events
+ * through it in-process, and exits the JVM so that the archive is written. For example:
+ * <pre>
+ * java -XX:ArchiveClassesAtExit=app.jsa -cp function.jar \
+ *     com.amazonaws.serverless.proxy.internal.TrainingRunner --iterations 5 my.app.StreamLambdaHandler events/
+ * </pre>
+ * On Java 25 and later, <code>-XX:AOTCacheOutput=app.aot</code> produces an AOT cache instead. Event arguments can
+ * be JSON files or directories, all the <code>.json</code> files of a directory are replayed in name order. The
+ * responses are discarded, the events should only target read-only endpoints.
+ *
+ * The process exits with <code>0</code> when at least one event was replayed without errors, with <code>1</code> when
+ * the handler cannot be created or every event failed, and with <code>2</code> when the arguments are invalid. A
+ * failed training fails the build instead of silently producing an archive of the startup path only.
+ */
+public final class TrainingRunner {
+
+    //-------------------------------------------------------------
+    // Constants
+    //-------------------------------------------------------------
+
+    static final String ITERATIONS_OPTION = "--iterations";
+    static final int STATUS_OK = 0;
+    static final int STATUS_FAILED = 1;
+    static final int STATUS_USAGE = 2;
+    private static final String USAGE = "Usage: TrainingRunner [" + ITERATIONS_OPTION
+            + " <count>] <handler class> <event file or directory>...";
+
+    //-------------------------------------------------------------
+    // Variables - Private - Static
+    //-------------------------------------------------------------
+
+    private static final Logger log = LoggerFactory.getLogger(TrainingRunner.class);
+
+    //-------------------------------------------------------------
+    // Constructors
+    //-------------------------------------------------------------
+
+    private TrainingRunner() {
+        // utility class
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Public
+    //-------------------------------------------------------------
+
+    /**
+     * Runs the training and exits the JVM. The framework may have started non-daemon threads, the JVM would not
+     * terminate, and not write the archive, without an explicit exit.
+     * @param args The optional iteration count, the handler class name, and the event files or directories
+     */
+    @SuppressFBWarnings("DM_EXIT")
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Package
+    //-------------------------------------------------------------
+
+    static int run(String[] args) {
+        int iterations = 1;
+        int idx = 0;
+        if (args.length > 1 && ITERATIONS_OPTION.equals(args[0])) {
+            try {
+                iterations = Integer.parseInt(args[1]);
+            } catch (NumberFormatException e) {
+                iterations = 0;
+            }
+            idx = 2;
+        }
+        if (iterations < 1 || args.length - idx < 2) {
+            log.error(USAGE);
+            return STATUS_USAGE;
+        }
+
+        List<Path> events;
+        try {
+            events = listEvents(args, idx + 1);
+        } catch (IOException e) {
+            log.error("Could not list training events", e);
+            return STATUS_USAGE;
+        }
+        if (events.isEmpty()) {
+            log.error("No training events found");
+            return STATUS_USAGE;
+        }
+
+        RequestStreamHandler handler;
+        try {
+            long start = System.currentTimeMillis();
+            handler = createHandler(args[idx]);
+            log.info("Created handler {} in {}ms", handler.getClass().getName(), System.currentTimeMillis() - start);
+        } catch (ReflectiveOperationException | ClassCastException | LinkageError e) {
+            log.error("Could not create handler " + SecurityUtils.crlf(args[idx]), e);
+            return STATUS_FAILED;
+        }
+
+        int replayed = replay(handler, events, iterations);
+        log.info("Replayed {} of {} training events", replayed, events.size() * iterations);
+        return replayed > 0 ? STATUS_OK : STATUS_FAILED;
+    }
+
+    static int replay(RequestStreamHandler handler, List<Path> events, int iterations) {
+        Context context = new PrimingLambdaContext();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        int replayed = 0;
+        for (int i = 0; i < iterations; i++) {
+            for (Path event : events) {
+                output.reset();
+                try (InputStream input = Files.newInputStream(event)) {
+                    handler.handleRequest(input, output, context);
+                    replayed++;
+                } catch (IOException | RuntimeException e) {
+                    log.warn("Training event " + SecurityUtils.crlf(event.toString()) + " failed", e);
+                }
+            }
+        }
+        return replayed;
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Private
+    //-------------------------------------------------------------
+
+    private static RequestStreamHandler createHandler(String className) throws ReflectiveOperationException {
+        Class<?> handlerClass = Class.forName(className, true, TrainingRunner.class.getClassLoader());
+        return (RequestStreamHandler) handlerClass.getDeclaredConstructor().newInstance();
+    }
+
+    @SuppressFBWarnings(value = "PATH_TRAVERSAL_IN", justification = "Build time tool, the paths are the event files")
+    private static List<Path> listEvents(String[] args, int from) throws IOException {
+        List<Path> events = new ArrayList<>();
+        for (int i = from; i < args.length; i++) {
+            Path path = Paths.get(args[i]);
+            if (!Files.isDirectory(path)) {
+                events.add(path);
+                continue;
+            }
+            List<Path> files = new ArrayList<>();
+            try (DirectoryStream<Path> dir = Files.newDirectoryStream(path, "*.json")) {
+                for (Path file : dir) {
+                    files.add(file);
+                }
+            }
+            Collections.sort(files);
+            events.addAll(files);
+        }
+        return events;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy.internal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates virtual threads on JVMs that support them. The library runs on Java 17, the baseline of Jakarta Servlet 6 and
+ * Jackson 3, and virtual threads are only available from Java 21, so the <code>Thread.ofVirtual()</code> builder is
+ * looked up with reflection. On Java 17 to 20 the factories returned by this class create platform daemon threads
+ * instead, so callers do not need a separate code path.
+ */
+public final class VirtualThreads {
+
+    //-------------------------------------------------------------
+    // Variables - Private - Static
+    //-------------------------------------------------------------
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreads.class);
+    private static final Method OF_VIRTUAL = lookup(Thread.class, "ofVirtual");
+    // the builder implementations are not public, their methods are invoked through the public interface
+    private static final Class<?> BUILDER = OF_VIRTUAL != null ? OF_VIRTUAL.getReturnType() : null;
+
+    //-------------------------------------------------------------
+    // Constructors
+    //-------------------------------------------------------------
+
+    private VirtualThreads() {
+        // utility class
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Public
+    //-------------------------------------------------------------
+
+    /**
+     * Whether the running JVM supports virtual threads
+     * @return <code>true</code> if the factories create virtual threads
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Returns a thread factory that names its threads with the given prefix followed by a counter
+     * @param prefix The name prefix of the threads, for example <code>servlet-init-</code>
+     * @return A factory of virtual threads, or of platform daemon threads if the JVM does not support them
+     */
+    public static ThreadFactory factory(String prefix) {
+        if (OF_VIRTUAL != null) {
+            try {
+                Object builder = OF_VIRTUAL.invoke(null);
+                builder = BUILDER.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+                return (ThreadFactory) BUILDER.getMethod("factory").invoke(builder);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                log.debug("Could not create a virtual thread factory, using platform threads", e);
+            }
+        }
+        return daemonFactory(prefix);
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Package
+    //-------------------------------------------------------------
+
+    static ThreadFactory daemonFactory(String prefix) {
+        AtomicInteger threadId = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + threadId.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Private
+    //-------------------------------------------------------------
+
+    private static Method lookup(Class<?> type, String name) {
+        try {
+            return type.getMethod(name);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
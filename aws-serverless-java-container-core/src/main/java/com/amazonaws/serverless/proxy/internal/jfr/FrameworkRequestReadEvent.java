@@ -0,0 +1,30 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Converts the servlet request into the request object of a framework that runs inside the filter chain, such as
+ * Jersey. The event is nested in the {@link ServletDispatchEvent} of the container and is in its own category, so
+ * that it is not counted twice in the totals of the proxy pipeline phases.
+ */
+@Name("com.amazonaws.serverless.FrameworkRequestRead")
+@Label("Framework Request Read")
+@Description("Converts the servlet request into the request object of the framework")
+@Category({ "AWS Serverless Java Container", "Framework" })
+public final class FrameworkRequestReadEvent extends PipelineEvent {
+}
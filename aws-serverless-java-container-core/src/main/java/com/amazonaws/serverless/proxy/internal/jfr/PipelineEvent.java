@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy.internal.jfr;
+
+import com.amazonaws.serverless.proxy.internal.servlet.AwsHttpServletResponse;
+import com.amazonaws.serverless.proxy.model.AwsProxyRequest;
+import com.amazonaws.serverless.proxy.model.AwsProxyResponse;
+import com.amazonaws.serverless.proxy.model.HttpApiV2ProxyRequest;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Base class of the JFR events emitted for each phase of the proxy pipeline, from reading the Lambda event to writing
+ * the response JSON. The events are recorded when a JFR recording enables them, for example with
+ * <code>-XX:StartFlightRecording</code>, and can be filtered with the <code>AWS Serverless Java Container</code>
+ * category.
+ *
+ * Each phase is wrapped the same way:
+ * <pre>
+ * RequestReadEvent event = new RequestReadEvent();
+ * event.begin();
+ * ContainerRequestType containerRequest = requestReader.readRequest(...);
+ * event.complete(containerRequest, null);
+ * </pre>
+ * When the event is disabled <code>begin</code> and <code>complete</code> do nothing and the JIT removes the event
+ * allocation, the route, status, and size are only read from the request and response when the event is committed.
+ */
+@Category({ "AWS Serverless Java Container", "Proxy Pipeline" })
+@StackTrace(false)
+public abstract class PipelineEvent extends Event {
+
+    //-------------------------------------------------------------
+    // Variables - Package
+    //-------------------------------------------------------------
+
+    // the fields of a superclass are only recorded when they are not private
+    @Label("Route")
+    @Description("The HTTP method and path of the request")
+    String route;
+
+    @Label("Status")
+    @Description("The status code of the response, 0 if the phase completed before the status was known")
+    int status;
+
+    @Label("Size")
+    @Description("The size of the request body for the phases that read the request, of the response body for the phases that produce the response")
+    @DataAmount
+    long bytes;
+
+    //-------------------------------------------------------------
+    // Methods - Public
+    //-------------------------------------------------------------
+
+    /**
+     * Ends the event and commits it if the recording enabled it and its duration is above the threshold
+     * @param request The request of the phase, a servlet request or a proxy event, can be <code>null</code>
+     * @param response The response of the phase, a servlet response or a proxy response, can be <code>null</code>
+     */
+    public void complete(Object request, Object response) {
+        end();
+        if (shouldCommit()) {
+            describe(request, response);
+            commit();
+        }
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public void setRoute(String route) {
+        this.route = route;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Protected
+    //-------------------------------------------------------------
+
+    /**
+     * Reads the fields of the event from the request and response of the phase. Called only for events that are
+     * committed.
+     * @param request The request of the phase, can be <code>null</code>
+     * @param response The response of the phase, can be <code>null</code>
+     */
+    protected void describe(Object request, Object response) {
+        if (request instanceof HttpServletRequest) {
+            HttpServletRequest servletRequest = (HttpServletRequest) request;
+            route = servletRequest.getMethod() + " " + servletRequest.getRequestURI();
+            bytes = Math.max(0, servletRequest.getContentLengthLong());
+        } else if (request instanceof AwsProxyRequest) {
+            AwsProxyRequest proxyRequest = (AwsProxyRequest) request;
+            route = proxyRequest.getHttpMethod() + " " + proxyRequest.getPath();
+        } else if (request instanceof HttpApiV2ProxyRequest) {
+            HttpApiV2ProxyRequest httpApiRequest = (HttpApiV2ProxyRequest) request;
+            if (httpApiRequest.getRequestContext() != null && httpApiRequest.getRequestContext().getHttp() != null) {
+                route = httpApiRequest.getRequestContext().getHttp().getMethod() + " "
+                        + httpApiRequest.getRequestContext().getHttp().getPath();
+            }
+        }
+
+        if (response instanceof HttpServletResponse) {
+            status = ((HttpServletResponse) response).getStatus();
+            if (response instanceof AwsHttpServletResponse) {
+                bytes = ((AwsHttpServletResponse) response).getAwsResponseBodySize();
+            }
+        } else if (response instanceof AwsProxyResponse) {
+            status = ((AwsProxyResponse) response).getStatusCode();
+        }
+    }
+}
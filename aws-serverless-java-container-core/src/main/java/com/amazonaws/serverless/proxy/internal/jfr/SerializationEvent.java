@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy.internal.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Reads the Lambda event from the JSON input of the function, or writes the Lambda response to its JSON output. The
+ * size of the event is the number of bytes read or written, it is only counted when the event is enabled:
+ * <pre>
+ * SerializationEvent event = new SerializationEvent(SerializationEvent.RESPONSE);
+ * event.begin();
+ * objectWriter.writeValue(event.count(output), response);
+ * event.complete(null, response);
+ * </pre>
+ */
+@Name("com.amazonaws.serverless.Serialization")
+@Label("Serialization")
+@Description("Reads the Lambda event from the input stream or writes the Lambda response to the output stream")
+public final class SerializationEvent extends PipelineEvent {
+
+    //-------------------------------------------------------------
+    // Constants
+    //-------------------------------------------------------------
+
+    public static final String REQUEST = "request";
+    public static final String RESPONSE = "response";
+
+    //-------------------------------------------------------------
+    // Variables - Private
+    //-------------------------------------------------------------
+
+    @Label("Direction")
+    @Description("Whether the request event was read or the response was written")
+    private final String direction;
+
+    //-------------------------------------------------------------
+    // Constructors
+    //-------------------------------------------------------------
+
+    /**
+     * Creates the event
+     * @param direction {@link #REQUEST} or {@link #RESPONSE}
+     */
+    public SerializationEvent(String direction) {
+        this.direction = direction;
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Public
+    //-------------------------------------------------------------
+
+    /**
+     * Counts the bytes read from the input into the size of the event
+     * @param input The input of the function
+     * @return A stream that counts the bytes read from the input, or the input itself if the event is disabled
+     */
+    public InputStream count(InputStream input) {
+        if (!isEnabled()) {
+            return input;
+        }
+        return new FilterInputStream(input) {
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b >= 0) {
+                    setBytes(getBytes() + 1);
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int read = super.read(b, off, len);
+                if (read > 0) {
+                    setBytes(getBytes() + read);
+                }
+                return read;
+            }
+        };
+    }
+
+    /**
+     * Counts the bytes written to the output into the size of the event
+     * @param output The output of the function
+     * @return A stream that counts the bytes written to the output, or the output itself if the event is disabled
+     */
+    public OutputStream count(OutputStream output) {
+        if (!isEnabled()) {
+            return output;
+        }
+        return new FilterOutputStream(output) {
+            @Override
+            public void write(int b) throws IOException {
+                out.write(b);
+                setBytes(getBytes() + 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+                setBytes(getBytes() + len);
+            }
+        };
+    }
+
+    public String getDirection() {
+        return direction;
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Protected
+    //-------------------------------------------------------------
+
+    @Override
+    protected void describe(Object request, Object response) {
+        // the size is the number of bytes counted on the stream, not the size of the body
+        long counted = getBytes();
+        super.describe(request, response);
+        setBytes(counted);
+    }
+}
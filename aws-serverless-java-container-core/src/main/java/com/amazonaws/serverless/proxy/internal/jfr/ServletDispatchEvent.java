@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy.internal.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Dispatches the request to the application. The container emits the event for the whole filter chain, frameworks
+ * that run inside the chain, such as Jersey, emit a nested {@link FrameworkDispatchEvent} for their own processing.
+ */
+@Name("com.amazonaws.serverless.ServletDispatch")
+@Label("Servlet Dispatch")
+@Description("Dispatches the request through the filter chain to the servlet or framework")
+public final class ServletDispatchEvent extends PipelineEvent {
+
+    //-------------------------------------------------------------
+    // Variables - Private
+    //-------------------------------------------------------------
+
+    @Label("Target")
+    @Description("The servlet or framework the request is dispatched to")
+    private String target;
+
+    //-------------------------------------------------------------
+    // Methods - Public
+    //-------------------------------------------------------------
+
+    /**
+     * Ends the event and commits it with the given target if the recording enabled it
+     * @param target The servlet or framework the request was dispatched to
+     * @param request The dispatched request, can be <code>null</code>
+     * @param response The response produced by the application, can be <code>null</code>
+     */
+    public void complete(String target, Object request, Object response) {
+        end();
+        if (shouldCommit()) {
+            this.target = target;
+            describe(request, response);
+            commit();
+        }
+    }
+
+    public String getTarget() {
+        return target;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy.internal.messaging;
+
+import com.amazonaws.serverless.proxy.MessageRequest;
+import com.amazonaws.serverless.proxy.MessageRequestReader;
+import com.amazonaws.serverless.proxy.model.EventBridgeEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Maps an EventBridge event to a request. EventBridge events do not have attributes, the path is the default path
+ * followed by the <code>detail-type</code> of the event in lower case with the characters that are not letters or digits
+ * replaced by dashes. For example an <code>Order Placed</code> event is sent to <code>POST /order-placed</code>, or to
+ * <code>POST /events/order-placed</code> with a default path of <code>/events</code>. The body is the
+ * <code>detail</code> object. EventBridge invokes the function asynchronously, a failed event is retried only when the
+ * invocation fails.
+ */
+public class EventBridgeRequestReader extends MessageRequestReader<EventBridgeEvent> {
+
+    //-------------------------------------------------------------
+    // Methods - Implementation
+    //-------------------------------------------------------------
+
+    @Override
+    public List<MessageRequest> readRequests(EventBridgeEvent event) {
+        List<MessageRequest> requests = new ArrayList<>();
+        if (event == null) {
+            return requests;
+        }
+        String body = event.getDetail() != null ? event.getDetail().toString() : null;
+        requests.add(buildRequest(event.getId(), null, Collections.singletonMap(getPathAttribute(), getPath(event)),
+                body, false));
+        return requests;
+    }
+
+    @Override
+    public boolean supportsPartialBatchResponse() {
+        return false;
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Protected
+    //-------------------------------------------------------------
+
+    /**
+     * Computes the request path of an event
+     * @param event The event
+     * @return The path of the request
+     */
+    protected String getPath(EventBridgeEvent event) {
+        String path = getDefaultPath() == null ? "" : getDefaultPath();
+        if (!path.endsWith("/")) {
+            path += "/";
+        }
+        if (!path.startsWith("/")) {
+            path = "/" + path;
+        }
+        if (event.getDetailType() == null) {
+            return path;
+        }
+        String detailType = event.getDetailType().toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-");
+        return path + detailType.replaceAll("^-|-$", "");
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy.internal.messaging;
+
+import com.amazonaws.serverless.proxy.MessageRequest;
+import com.amazonaws.serverless.proxy.MessageRequestReader;
+import com.amazonaws.serverless.proxy.model.SnsEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps the notifications of an SNS event to requests. SNS invokes the function asynchronously, a failed notification
+ * is retried only when the invocation fails.
+ */
+public class SnsMessageRequestReader extends MessageRequestReader<SnsEvent> {
+
+    //-------------------------------------------------------------
+    // Constants
+    //-------------------------------------------------------------
+
+    private static final String STRING_TYPE = "String";
+    private static final String NUMBER_TYPE = "Number";
+
+    //-------------------------------------------------------------
+    // Methods - Implementation
+    //-------------------------------------------------------------
+
+    @Override
+    public List<MessageRequest> readRequests(SnsEvent event) {
+        List<MessageRequest> requests = new ArrayList<>();
+        if (event == null || event.getRecords() == null) {
+            return requests;
+        }
+        for (SnsEvent.SnsRecord record : event.getRecords()) {
+            SnsEvent.SnsMessage message = record.getSns();
+            if (message == null) {
+                continue;
+            }
+            requests.add(buildRequest(message.getMessageId(), null, stringAttributes(message.getMessageAttributes()),
+                    message.getMessage(), false));
+        }
+        return requests;
+    }
+
+    @Override
+    public boolean supportsPartialBatchResponse() {
+        return false;
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Private
+    //-------------------------------------------------------------
+
+    private static Map<String, String> stringAttributes(Map<String, SnsEvent.MessageAttribute> messageAttributes) {
+        Map<String, String> attributes = new HashMap<>();
+        if (messageAttributes == null) {
+            return attributes;
+        }
+        for (Map.Entry<String, SnsEvent.MessageAttribute> attribute : messageAttributes.entrySet()) {
+            String type = attribute.getValue().getType();
+            if (STRING_TYPE.equals(type) || NUMBER_TYPE.equals(type)) {
+                attributes.put(attribute.getKey(), attribute.getValue().getValue());
+            }
+        }
+        return attributes;
+    }
+}
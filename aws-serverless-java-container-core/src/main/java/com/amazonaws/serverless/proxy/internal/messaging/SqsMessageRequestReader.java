@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy.internal.messaging;
+
+import com.amazonaws.serverless.proxy.MessageRequest;
+import com.amazonaws.serverless.proxy.MessageRequestReader;
+import com.amazonaws.serverless.proxy.model.SqsEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps the messages of an SQS batch to requests. The messages of a FIFO queue are grouped by their
+ * <code>MessageGroupId</code> so that the messages of a group are handled in order, this can be disabled when the
+ * application does not depend on the order.
+ */
+public class SqsMessageRequestReader extends MessageRequestReader<SqsEvent> {
+
+    //-------------------------------------------------------------
+    // Constants
+    //-------------------------------------------------------------
+
+    static final String MESSAGE_GROUP_ID_ATTRIBUTE = "MessageGroupId";
+    private static final String STRING_DATA_TYPE = "String";
+    private static final String NUMBER_DATA_TYPE = "Number";
+
+    //-------------------------------------------------------------
+    // Variables - Private
+    //-------------------------------------------------------------
+
+    private boolean orderedByMessageGroup = true;
+
+    //-------------------------------------------------------------
+    // Methods - Implementation
+    //-------------------------------------------------------------
+
+    @Override
+    public List<MessageRequest> readRequests(SqsEvent event) {
+        List<MessageRequest> requests = new ArrayList<>();
+        if (event == null || event.getRecords() == null) {
+            return requests;
+        }
+        for (SqsEvent.SqsMessage message : event.getRecords()) {
+            String groupId = orderedByMessageGroup && message.getAttributes() != null
+                    ? message.getAttributes().get(MESSAGE_GROUP_ID_ATTRIBUTE) : null;
+            requests.add(buildRequest(message.getMessageId(), groupId, stringAttributes(message.getMessageAttributes()),
+                    message.getBody(), false));
+        }
+        return requests;
+    }
+
+    @Override
+    public boolean supportsPartialBatchResponse() {
+        return true;
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Getter/Setter
+    //-------------------------------------------------------------
+
+    public boolean isOrderedByMessageGroup() {
+        return orderedByMessageGroup;
+    }
+
+    /**
+     * Sets whether the messages that share a <code>MessageGroupId</code> are handled one at a time in their order.
+     * Defaults to <code>true</code>.
+     * @param orderedByMessageGroup <code>false</code> to handle all the messages concurrently
+     */
+    public void setOrderedByMessageGroup(boolean orderedByMessageGroup) {
+        this.orderedByMessageGroup = orderedByMessageGroup;
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Private
+    //-------------------------------------------------------------
+
+    private static Map<String, String> stringAttributes(Map<String, SqsEvent.MessageAttribute> messageAttributes) {
+        Map<String, String> attributes = new HashMap<>();
+        if (messageAttributes == null) {
+            return attributes;
+        }
+        for (Map.Entry<String, SqsEvent.MessageAttribute> attribute : messageAttributes.entrySet()) {
+            String dataType = attribute.getValue().getDataType();
+            // custom types are suffixed, for example String.json
+            if (dataType != null && (dataType.startsWith(STRING_DATA_TYPE) || dataType.startsWith(NUMBER_DATA_TYPE))) {
+                attributes.put(attribute.getKey(), attribute.getValue().getStringValue());
+            }
+        }
+        return attributes;
+    }
+}
@@ -12,31 +12,57 @@
  */
 package com.amazonaws.serverless.proxy.internal.servlet;
 
+import com.amazonaws.serverless.proxy.InvocationDeadline;
+import com.amazonaws.serverless.proxy.internal.LambdaContainerHandler;
 import com.amazonaws.serverless.proxy.internal.SecurityUtils;
+import com.amazonaws.serverless.proxy.internal.VirtualThreads;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Async context for Serverless Java Container. This is used to support reactive embedded servers for our support for
  * Spring Boot 2. Behind the scenes, the Async context still uses the <code>CountDownLatch</code> to synchronize response
  * generation.
+ *
+ * Tasks passed to <code>start(Runnable)</code> run on the executor from the <code>ContainerConfig</code>, virtual threads
+ * by default, with the context class loader, the MDC, and the <code>InvocationDeadline</code> of the calling thread. A
+ * <code>dispatch()</code> or <code>complete()</code> call from one of these threads after the servlet returned runs the
+ * dispatch, or commits the response, on that thread and releases the handler waiting for the response.
+ *
+ * The timeout is enforced with a timer wheel shared by all the async contexts. When the context expires before a
+ * dispatch or a completion, the <code>onTimeout</code> listeners are notified, and if none of them dispatched or
+ * completed the request the response is completed with a <code>503</code> status code, the container does not support
+ * error pages to dispatch to.
  */
 public class AwsAsyncContext implements AsyncContext {
+    static final String THREAD_NAME_PREFIX = "async-context-";
+    static final long DEFAULT_TIMEOUT = 30000;
+    // marks a dispatch that started before the handler could defer it, the handler then re-dispatches on its thread
+    private static final Runnable DISPATCHING = () -> { };
+
     private HttpServletRequest req;
     private HttpServletResponse res;
     private List<AsyncListenerHolder> listeners;
-    private long timeout;
+    private volatile long timeout;
     private AtomicBoolean dispatched;
     private AtomicBoolean completed;
     private AtomicBoolean dispatchStarted;
+    private final AtomicReference<Runnable> deferredDispatch = new AtomicReference<>();
+    private final AtomicReference<TimerWheel.Timeout> timeoutTask = new AtomicReference<>();
 
     private Logger log = LoggerFactory.getLogger(AwsAsyncContext.class);
 
@@ -44,11 +70,13 @@ public class AwsAsyncContext implements AsyncContext {
         log.debug("Initializing async context for request: " + SecurityUtils.crlf(request.getPathInfo()) + " - " + SecurityUtils.crlf(request.getMethod()));
         req = request;
         res = response;
-        listeners = new ArrayList<>();
-        timeout = 3000;
+        // the listeners are notified from the timeout and async task threads
+        listeners = new CopyOnWriteArrayList<>();
+        timeout = DEFAULT_TIMEOUT;
         dispatched = new AtomicBoolean(false);
         completed = new AtomicBoolean(false);
         dispatchStarted = new AtomicBoolean(false);
+        scheduleTimeout();
     }
 
     @Override
@@ -69,6 +97,7 @@ public class AwsAsyncContext implements AsyncContext {
     @Override
     public void dispatch() {
         log.debug("Dispatching request");
+        cancelTimeout();
 
         if (dispatched.get()) {
             throw new IllegalStateException("Dispatching already started");
@@ -77,6 +106,10 @@ public class AwsAsyncContext implements AsyncContext {
             dispatched.set(true);
             notifyListeners(NotificationType.START_ASYNC, null);
         }
+        Runnable deferred = deferredDispatch.getAndSet(DISPATCHING);
+        if (deferred != null && deferred != DISPATCHING) {
+            deferred.run();
+        }
     }
 
     @Override
@@ -96,6 +129,7 @@ public class AwsAsyncContext implements AsyncContext {
 
     @Override
     public void complete() {
+        cancelTimeout();
         try {
             log.debug("Completing request");
             notifyListeners(NotificationType.COMPLETE, null);
@@ -109,7 +143,29 @@ public class AwsAsyncContext implements AsyncContext {
 
     @Override
     public void start(Runnable runnable) {
-        throw new UnsupportedOperationException("Operation not supported");
+        // the request and the Lambda context travel with the async context, the thread state is copied over
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        InvocationDeadline deadline = InvocationDeadline.current();
+        executor().execute(() -> {
+            Thread thread = Thread.currentThread();
+            ClassLoader previousClassLoader = thread.getContextClassLoader();
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            InvocationDeadline previousDeadline = InvocationDeadline.current();
+            thread.setContextClassLoader(classLoader);
+            setMdc(mdc);
+            InvocationDeadline.set(deadline);
+            try {
+                runnable.run();
+            } catch (RuntimeException e) {
+                log.error("Async task failed", e);
+                onTaskError(e);
+            } finally {
+                InvocationDeadline.set(previousDeadline);
+                setMdc(previousMdc);
+                thread.setContextClassLoader(previousClassLoader);
+            }
+        });
     }
 
     @Override
@@ -137,6 +193,9 @@ public class AwsAsyncContext implements AsyncContext {
     @Override
     public void setTimeout(long l) {
         timeout = l;
+        if (!completed.get() && !dispatchStarted.get()) {
+            scheduleTimeout();
+        }
     }
 
     @Override
@@ -156,15 +215,82 @@ public class AwsAsyncContext implements AsyncContext {
         return dispatchStarted.get();
     }
 
+    /**
+     * Hands the re-dispatch of the request over to the thread that calls <code>dispatch()</code>. The handler calls this
+     * when the servlet returns with the async context still running.
+     * @param dispatch Runs the filter chain again and commits the response
+     * @return <code>false</code> if the dispatch already started, the caller has to re-dispatch the request itself
+     */
+    boolean deferDispatch(Runnable dispatch) {
+        return deferredDispatch.compareAndSet(null, dispatch);
+    }
+
+    private void scheduleTimeout() {
+        TimerWheel.Timeout scheduled = timeout > 0 ? Timeouts.WHEEL.schedule(this::onTimeout, timeout, executor()) : null;
+        TimerWheel.Timeout previous = timeoutTask.getAndSet(scheduled);
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    private void cancelTimeout() {
+        TimerWheel.Timeout scheduled = timeoutTask.getAndSet(null);
+        if (scheduled != null) {
+            scheduled.cancel();
+        }
+    }
+
+    private void onTimeout() {
+        if (completed.get() || dispatchStarted.get()) {
+            return;
+        }
+        log.debug("Async request timed out after {}ms", timeout);
+        notifyListeners(NotificationType.TIMEOUT, null);
+        // the listeners usually dispatch, Spring for example renders its own timeout response
+        if (completed.get() || dispatchStarted.get() || res == null) {
+            return;
+        }
+        if (!res.isCommitted()) {
+            res.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        }
+        complete();
+    }
+
+    private void onTaskError(RuntimeException e) {
+        notifyListeners(NotificationType.ERROR, e);
+        // nothing else would release the handler waiting for the response
+        if (!completed.get() && !dispatchStarted.get()) {
+            if (!res.isCommitted()) {
+                res.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
+            complete();
+        }
+    }
+
+    private static Executor executor() {
+        Executor executor = LambdaContainerHandler.getContainerConfig().getAsyncContextExecutor();
+        return executor != null ? executor : DefaultExecutor.INSTANCE;
+    }
+
+    private static void setMdc(Map<String, String> mdc) {
+        if (mdc == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(mdc);
+        }
+    }
+
     private void notifyListeners(NotificationType type, Throwable t) {
         listeners.forEach((h) -> {
             try {
                 switch (type) {
                     case COMPLETE:
                     case START_ASYNC:
-                    case TIMEOUT:
                         h.getListener().onComplete(h.getAsyncEvent());
                         break;
+                    case TIMEOUT:
+                        h.getListener().onTimeout(h.getAsyncEvent());
+                        break;
                     case ERROR:
                         h.getListener().onError(h.getAsyncEvent(t));
                         break;
@@ -177,6 +303,22 @@ public class AwsAsyncContext implements AsyncContext {
         });
     }
 
+    /**
+     * Lazily creates the shared executor, applications that never start async tasks do not pay for it
+     */
+    private static final class DefaultExecutor {
+        private static final ExecutorService INSTANCE =
+                Executors.newCachedThreadPool(VirtualThreads.factory(THREAD_NAME_PREFIX));
+    }
+
+    /**
+     * Lazily creates the timer wheel shared by the async contexts, 10ms ticks over 512 buckets cover about 5 seconds
+     * per rotation, longer timeouts take more rotations
+     */
+    private static final class Timeouts {
+        private static final TimerWheel WHEEL = new TimerWheel(10, 512);
+    }
+
     private enum NotificationType {
         COMPLETE,
         ERROR,
@@ -13,6 +13,7 @@
 package com.amazonaws.serverless.proxy.internal.servlet;
 
 import com.amazonaws.serverless.exceptions.InvalidRequestEventException;
+import com.amazonaws.serverless.proxy.InvocationDeadline;
 import com.amazonaws.serverless.proxy.RequestReader;
 import com.amazonaws.serverless.proxy.model.ContainerConfig;
 import com.amazonaws.serverless.proxy.model.HttpApiV2ProxyRequest;
@@ -39,6 +40,10 @@ public class AwsHttpApiV2HttpServletRequestReader extends RequestReader<HttpApiV
         servletRequest.setAttribute(HTTP_API_EVENT_PROPERTY, request);
         servletRequest.setAttribute(LAMBDA_CONTEXT_PROPERTY, lambdaContext);
         servletRequest.setAttribute(JAX_SECURITY_CONTEXT_PROPERTY, securityContext);
+        InvocationDeadline deadline = InvocationDeadline.current();
+        if (deadline != null) {
+            servletRequest.setAttribute(DEADLINE_PROPERTY, deadline);
+        }
 
         return servletRequest;
     }
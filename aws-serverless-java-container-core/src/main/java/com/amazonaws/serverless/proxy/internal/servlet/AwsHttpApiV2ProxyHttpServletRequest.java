@@ -14,6 +14,7 @@ package com.amazonaws.serverless.proxy.internal.servlet;
 
 import com.amazonaws.serverless.proxy.internal.HttpUtils;
 import com.amazonaws.serverless.proxy.internal.LambdaContainerHandler;
+import com.amazonaws.serverless.proxy.internal.LambdaEnvironment;
 import com.amazonaws.serverless.proxy.internal.SecurityUtils;
 import com.amazonaws.serverless.proxy.model.ContainerConfig;
 import com.amazonaws.serverless.proxy.model.Headers;
@@ -64,6 +65,7 @@ public class AwsHttpApiV2ProxyHttpServletRequest extends AwsHttpServletRequest {
         securityContext = sc;
         queryString = parseRawQueryString(request.getRawQueryString());
         headers = headersMapToMultiValue(request.getHeaders());
+        headers = decodeContentEncoding(headers, config);
     }
 
     public HttpApiV2ProxyRequest getRequest() {
@@ -338,11 +340,7 @@ public class AwsHttpApiV2ProxyHttpServletRequest extends AwsHttpServletRequest {
     @Override
     public String getServerName() {
         // we match the behavior of the v1 proxy request here. Should we?
-        String region = System.getenv("AWS_REGION");
-        if (region == null) {
-            // this is not a critical failure, we just put a static region in the URI
-            region = "us-east-1";
-        }
+        String region = LambdaEnvironment.getRegion();
 
         if (headers != null && headers.containsKey(HOST_HEADER_NAME)) {
             String hostHeader = headers.getFirst(HOST_HEADER_NAME);
@@ -376,6 +374,9 @@ public class AwsHttpApiV2ProxyHttpServletRequest extends AwsHttpServletRequest {
 
     @Override
     public BufferedReader getReader() throws IOException {
+        if (isContentDecoded()) {
+            return decodedContentReader();
+        }
         return new BufferedReader(new StringReader(request.getBody()));
     }
 
@@ -37,8 +37,11 @@ import jakarta.servlet.*;
 import jakarta.servlet.http.*;
 import jakarta.ws.rs.core.MediaType;
 
+import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
@@ -91,6 +94,8 @@ public abstract class AwsHttpServletRequest implements HttpServletRequest {
     private Map<String, List<Part>> multipartFormParameters;
     private Map<String, List<String>> urlEncodedFormParameters;
     private CookieProcessor cookieProcessor;
+    private RequestDecompressor.Encoding contentEncoding;
+    private long maxInflatedBodySize;
 
     protected AwsHttpServletResponse response;
     protected AwsLambdaServletContainerHandler containerHandler;
@@ -392,10 +397,51 @@ public abstract class AwsHttpServletRequest implements HttpServletRequest {
                 bodyBytes = body.getBytes(Charset.defaultCharset());
             }
         }
-        ByteArrayInputStream requestBodyStream = new ByteArrayInputStream(bodyBytes);
+        InputStream requestBodyStream = new ByteArrayInputStream(bodyBytes);
+        if (contentEncoding != null && bodyBytes.length > 0) {
+            requestBodyStream = RequestDecompressor.decompress(requestBodyStream, contentEncoding, maxInflatedBodySize);
+        }
         return new AwsServletInputStream(requestBodyStream);
     }
 
+    /**
+     * Prepares the request for transparent decompression of its body. If decompression is enabled in the configuration
+     * and the body uses a supported <code>Content-Encoding</code>, the streams returned by
+     * {@link #bodyStringToInputStream(String, boolean)} inflate the body as it is read, and the headers exposed by the
+     * request should be the returned copy, without the encoding and length headers. The headers of the event are not
+     * modified so that it can still be recorded, cached or replayed as it was received.
+     * Implementing classes should call this method from their constructor, before the headers are exposed.
+     * @param headers The request headers of the event
+     * @param config The container configuration
+     * @return The headers the request exposes, a copy if the body is decoded, the given headers otherwise
+     */
+    protected Headers decodeContentEncoding(Headers headers, ContainerConfig config) {
+        if (config == null) {
+            return headers;
+        }
+        contentEncoding = RequestDecompressor.getContentEncoding(headers, config);
+        maxInflatedBodySize = config.getMaxInflatedRequestBodySize();
+        return contentEncoding != null ? RequestDecompressor.withoutContentEncoding(headers) : headers;
+    }
+
+    /**
+     * @return <code>true</code> if the body is decompressed as it is read from the input stream
+     */
+    protected boolean isContentDecoded() {
+        return contentEncoding != null;
+    }
+
+    /**
+     * Returns a reader over the decompressed body, decoded with the request character encoding.
+     * @return A reader for the body
+     * @throws IOException If the input stream cannot be opened
+     */
+    protected BufferedReader decodedContentReader() throws IOException {
+        String encoding = getCharacterEncoding();
+        Charset charset = encoding != null ? Charset.forName(encoding) : Charset.defaultCharset();
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+
     protected String getFirstQueryParamValue(MultiValuedTreeMap<String, String> queryString, String key, boolean isCaseSensitive) {
         if (queryString != null) {
             if (isCaseSensitive) {
@@ -38,6 +38,7 @@ import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static com.amazonaws.serverless.proxy.RequestReader.API_GATEWAY_EVENT_PROPERTY;
 
@@ -68,9 +69,9 @@ public class AwsHttpServletResponse
     private String characterEncoding;
     private PrintWriter writer;
     private ByteArrayOutputStream bodyOutputStream = new ByteArrayOutputStream();
-    private CountDownLatch writersCountDownLatch;
+    private volatile CountDownLatch writersCountDownLatch;
     private HttpServletRequest request;
-    private boolean isCommitted = false;
+    private volatile boolean isCommitted = false;
     private CookieProcessor cookieProcessor;
 
     private Logger log = LoggerFactory.getLogger(AwsHttpServletResponse.class);
@@ -92,6 +93,16 @@ public class AwsHttpServletResponse
         statusCode = 0;
     }
 
+    /**
+     * Creates a response without a latch. Requests processed synchronously commit the response before the container
+     * returns and never need one, the latch is only created by {@link #awaitCommit()} when the response is still being
+     * written asynchronously.
+     * @param req The request this response belongs to
+     */
+    public AwsHttpServletResponse(HttpServletRequest req) {
+        this(req, null);
+    }
+
 
     //-------------------------------------------------------------
     // Implementation - HttpServletResponse
@@ -441,9 +452,12 @@ public class AwsHttpServletResponse
         }
 
         responseBody = new String(respBody, charset);
-        log.debug("Response buffer flushed with {} bytes, latch={}", responseBody.length(), writersCountDownLatch.getCount());
+        log.debug("Response buffer flushed with {} bytes", responseBody.length());
         isCommitted = true;
-        writersCountDownLatch.countDown();
+        CountDownLatch latch = writersCountDownLatch;
+        if (latch != null) {
+            latch.countDown();
+        }
     }
 
 
@@ -481,6 +495,45 @@ public class AwsHttpServletResponse
     }
 
 
+    //-------------------------------------------------------------
+    // Methods - Public
+    //-------------------------------------------------------------
+
+    /**
+     * Waits for the response to be committed. Returns immediately, without any synchronization, when the response was
+     * committed synchronously.
+     * @throws InterruptedException If the thread is interrupted while waiting
+     */
+    public void awaitCommit() throws InterruptedException {
+        if (isCommitted) {
+            return;
+        }
+        commitLatch().await();
+    }
+
+    /**
+     * Waits for the response to be committed for at most the given time
+     * @param timeout The maximum time to wait
+     * @param unit The unit of the timeout
+     * @return <code>true</code> if the response was committed, <code>false</code> if the timeout elapsed
+     * @throws InterruptedException If the thread is interrupted while waiting
+     */
+    public boolean awaitCommit(long timeout, TimeUnit unit) throws InterruptedException {
+        if (isCommitted) {
+            return true;
+        }
+        return commitLatch().await(timeout, unit);
+    }
+
+    /**
+     * Returns the size of the response body without copying it
+     * @return The number of bytes written to the body
+     */
+    public int getAwsResponseBodySize() {
+        return bodyOutputStream != null ? bodyOutputStream.size() : 0;
+    }
+
+
     //-------------------------------------------------------------
     // Methods - Package
     //-------------------------------------------------------------
@@ -501,6 +554,10 @@ public class AwsHttpServletResponse
         return headers;
     }
 
+    HttpServletRequest getServletRequest() {
+        return request;
+    }
+
     AwsProxyRequest getAwsProxyRequest() {
         return (AwsProxyRequest)request.getAttribute(API_GATEWAY_EVENT_PROPERTY);
     }
@@ -516,6 +573,24 @@ public class AwsHttpServletResponse
     // Methods - Private
     //-------------------------------------------------------------
 
+    private CountDownLatch commitLatch() {
+        CountDownLatch latch = writersCountDownLatch;
+        if (latch == null) {
+            synchronized (this) {
+                latch = writersCountDownLatch;
+                if (latch == null) {
+                    latch = new CountDownLatch(1);
+                    writersCountDownLatch = latch;
+                }
+            }
+            // flushBuffer sets the flag before reading the latch, it either sees the new latch or was seen here
+            if (isCommitted) {
+                latch.countDown();
+            }
+        }
+        return latch;
+    }
+
     private void setHeader(String key, String value, boolean overwrite) {
         if (!canSetHeader()) return;
         String encodedKey = SecurityUtils.crlf(key);
@@ -13,11 +13,18 @@
 package com.amazonaws.serverless.proxy.internal.servlet;
 
 import com.amazonaws.serverless.exceptions.ContainerInitializationException;
+import com.amazonaws.serverless.proxy.AsyncInitializationWrapper;
 import com.amazonaws.serverless.proxy.ExceptionHandler;
 import com.amazonaws.serverless.proxy.internal.LambdaContainerHandler;
+import com.amazonaws.serverless.proxy.internal.SecurityUtils;
+import com.amazonaws.serverless.proxy.internal.VirtualThreads;
+import com.amazonaws.serverless.proxy.internal.jfr.FilterChainEvent;
+import com.amazonaws.serverless.proxy.internal.jfr.FlushEvent;
+import com.amazonaws.serverless.proxy.internal.jfr.ServletDispatchEvent;
 import com.amazonaws.serverless.proxy.RequestReader;
 import com.amazonaws.serverless.proxy.ResponseWriter;
 import com.amazonaws.serverless.proxy.SecurityContextWriter;
+import com.amazonaws.serverless.proxy.StartupReport;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +36,9 @@ import jakarta.servlet.http.HttpServletResponseWrapper;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 
 /**
@@ -50,8 +60,10 @@ public abstract class AwsLambdaServletContainerHandler<RequestType, ResponseType
     //-------------------------------------------------------------
     // Variables - Private
     //-------------------------------------------------------------
+    private static final String LAZY_SERVLET_WARMUP_THREAD_PREFIX = "lazy-servlet-warmup-";
     private Logger log = LoggerFactory.getLogger(AwsLambdaServletContainerHandler.class);
     private FilterChainManager<AwsServletContext> filterChainManager;
+    private final AtomicReference<CompletableFuture<Integer>> lazyServletWarmup = new AtomicReference<>();
 
     //-------------------------------------------------------------
     // Variables - Protected
@@ -103,6 +115,35 @@ public abstract class AwsLambdaServletContainerHandler<RequestType, ResponseType
     }
 
 
+    /**
+     * Initializes the servlets registered with a <code>loadOnStartup</code> value of <code>-1</code>, and the registered
+     * filters, on a background thread so that no request pays for their <code>init()</code>. Servlets and filters that
+     * fail to initialize are logged and left to be initialized by the first request that hits them, as they would be
+     * without the warm-up. Only the first call starts the warm-up, the following calls return the same future.
+     *
+     * When the warm-up is enabled in the <code>ContainerConfig</code>, <code>initialize()</code> starts it only if the
+     * <code>AsyncInitializationWrapper</code> still has init time left. Lambda freezes the environment once a response is
+     * returned, a warm-up started during an invocation would mostly run during the following ones, where it competes
+     * with the requests for the same servlets.
+     * @return A future completed with the number of servlets and filters initialized by the warm-up
+     */
+    public CompletableFuture<Integer> warmUpLazyServlets() {
+        CompletableFuture<Integer> warmup = new CompletableFuture<>();
+        if (!lazyServletWarmup.compareAndSet(null, warmup)) {
+            return lazyServletWarmup.get();
+        }
+        Thread thread = VirtualThreads.factory(LAZY_SERVLET_WARMUP_THREAD_PREFIX).newThread(() -> {
+            try {
+                warmup.complete(initializeLazyServlets());
+            } catch (RuntimeException e) {
+                warmup.completeExceptionally(e);
+            }
+        });
+        thread.start();
+        return warmup;
+    }
+
+
     //-------------------------------------------------------------
     // Methods - Getter/Setter
     //-------------------------------------------------------------
@@ -137,6 +178,22 @@ public abstract class AwsLambdaServletContainerHandler<RequestType, ResponseType
     // Methods - Protected
     //-------------------------------------------------------------
 
+    /**
+     * Waits for an <code>AwsHttpServletResponse</code> to be committed. <code>doFilter</code> commits the response of
+     * synchronous requests before returning, a latch is only created for requests that started an async context.
+     * @param response The container response
+     * @param timeoutMillis The maximum time to wait in milliseconds
+     * @return <code>true</code> if the response was committed, <code>false</code> if the timeout elapsed
+     * @throws InterruptedException If the thread is interrupted while waiting
+     */
+    @Override
+    protected boolean awaitResponse(ContainerResponseType response, long timeoutMillis) throws InterruptedException {
+        if (response instanceof AwsHttpServletResponse) {
+            return ((AwsHttpServletResponse) response).awaitCommit(timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+        return true;
+    }
+
     /**
      * Applies the filter chain in the request lifecycle
      * @param request The Request object. This must be an implementation of HttpServletRequest
@@ -150,44 +207,145 @@ public abstract class AwsLambdaServletContainerHandler<RequestType, ResponseType
             ((AwsHttpServletRequest)request).setContainerHandler(this);
         }
 
-        FilterChain chain = getFilterChain(request, servlet);
-        chain.doFilter(request, response);
-        if(requiresAsyncReDispatch(request)) {
-            chain = getFilterChain(request, servlet);
-            chain.doFilter(request, response);
+        dispatch(request, response, servlet);
+        if(requiresAsyncReDispatch(request, response, servlet)) {
+            reDispatch(request, response, servlet, (AwsAsyncContext) request.getAsyncContext());
         }
         // if for some reason the response wasn't flushed yet, we force it here unless it's being processed asynchronously (WebFlux)
         if (!response.isCommitted() && request.getDispatcherType() != DispatcherType.ASYNC) {
-            response.flushBuffer();
+            flush(request, response);
         }
     }
 
-    private boolean requiresAsyncReDispatch(HttpServletRequest request) {
+    private void dispatch(HttpServletRequest request, HttpServletResponse response, Servlet servlet)
+            throws IOException, ServletException {
+        FilterChainEvent chainEvent = new FilterChainEvent();
+        chainEvent.begin();
+        FilterChain chain = getFilterChain(request, servlet);
+        chainEvent.complete(request, null);
+
+        ServletDispatchEvent dispatchEvent = new ServletDispatchEvent();
+        dispatchEvent.begin();
+        chain.doFilter(request, response);
+        dispatchEvent.complete(servlet != null ? servlet.getClass().getName() : null, request, response);
+    }
+
+    private static void flush(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        FlushEvent event = new FlushEvent();
+        event.begin();
+        response.flushBuffer();
+        event.complete(request, response);
+    }
+
+    private boolean requiresAsyncReDispatch(HttpServletRequest request, HttpServletResponse response, Servlet servlet) {
         if (request.isAsyncStarted()) {
             AsyncContext asyncContext = request.getAsyncContext();
-            return asyncContext instanceof AwsAsyncContext
-                    && ((AwsAsyncContext) asyncContext).isDispatchStarted();
+            if (!(asyncContext instanceof AwsAsyncContext)) {
+                return false;
+            }
+            // if the application dispatches later from another thread, the dispatch runs on that thread
+            AwsAsyncContext awsAsyncContext = (AwsAsyncContext) asyncContext;
+            return !awsAsyncContext.deferDispatch(() -> asyncDispatch(request, response, servlet, awsAsyncContext));
         }
         return false;
     }
 
+    private void reDispatch(HttpServletRequest request, HttpServletResponse response, Servlet servlet,
+                            AwsAsyncContext asyncContext) throws IOException, ServletException {
+        dispatch(request, response, servlet);
+        if (request.isAsyncStarted() && request.getAsyncContext() != asyncContext) {
+            // the application started a new async cycle, its dispatch or complete commits the response
+            if (requiresAsyncReDispatch(request, response, servlet)) {
+                reDispatch(request, response, servlet, (AwsAsyncContext) request.getAsyncContext());
+            }
+            return;
+        }
+        if (!response.isCommitted()) {
+            flush(request, response);
+        }
+    }
+
+    private void asyncDispatch(HttpServletRequest request, HttpServletResponse response, Servlet servlet,
+                               AwsAsyncContext asyncContext) {
+        try {
+            reDispatch(request, response, servlet, asyncContext);
+        } catch (IOException | ServletException | RuntimeException e) {
+            log.error("Could not dispatch async request", e);
+            try {
+                if (!response.isCommitted()) {
+                    response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                }
+                response.flushBuffer();
+            } catch (IOException ex) {
+                log.error("Could not flush response buffer", ex);
+            }
+        }
+    }
+
     @Override
     public void initialize() throws ContainerInitializationException {
+        StartupReport.Phase phase = StartupReport.start(StartupReport.SERVLET_INIT);
         // we expect all servlets to be wrapped in an AwsServletRegistration
         ArrayList<AwsServletRegistration> registrations = new ArrayList<>((Collection<AwsServletRegistration>)getServletContext().getServletRegistrations().values());
-        registrations.sort(AwsServletRegistration::compareTo);
-        for (AwsServletRegistration r : registrations) {
-            if (r.getLoadOnStartup() == -1) { // skip Servlets that can be lazily loaded
+        int parallelism = LambdaContainerHandler.getContainerConfig().getInitializationParallelism();
+        if (parallelism > 1) {
+            new ServletInitializationScheduler(parallelism).initialize(registrations,
+                    ((AwsServletContext) getServletContext()).getFilterHolders().values());
+        } else {
+            registrations.sort(AwsServletRegistration::compareTo);
+            for (AwsServletRegistration r : registrations) {
+                if (r.getLoadOnStartup() == -1) { // skip Servlets that can be lazily loaded
+                    continue;
+                }
+                try {
+                    r.initializeServlet();
+                } catch (ServletException e) {
+                    throw new ContainerInitializationException("Could not initialize servlet " + r.getName(), e);
+                }
+            }
+        }
+        phase.end();
+
+        // only use what is left of the Lambda init time, the servlets are otherwise initialized by the requests
+        if (getContainerConfig().isLazyServletWarmupEnabled()
+                && getInitializationWrapper() instanceof AsyncInitializationWrapper
+                && ((AsyncInitializationWrapper) getInitializationWrapper()).getRemainingInitTimeMs() > 0) {
+            warmUpLazyServlets();
+        }
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Private
+    //-------------------------------------------------------------
+
+    private int initializeLazyServlets() {
+        long start = System.currentTimeMillis();
+        int initialized = 0;
+        for (ServletRegistration registration : getServletContext().getServletRegistrations().values()) {
+            AwsServletRegistration r = (AwsServletRegistration) registration;
+            if (r.getLoadOnStartup() != -1 || r.getServlet() == null || r.isServletInitialized()) {
                 continue;
             }
             try {
-                if (r.getServlet() != null) {
-                        r.getServlet().init(r.getServletConfig());
-                }
-            } catch (ServletException e) {
-                throw new ContainerInitializationException("Could not initialize servlet " + r.getName(), e);
+                r.initializeServlet();
+                initialized++;
+            } catch (ServletException | RuntimeException e) {
+                log.warn("Could not warm up servlet " + SecurityUtils.crlf(r.getName()), e);
+            }
+        }
+        for (FilterHolder holder : ((AwsServletContext) getServletContext()).getFilterHolders().values()) {
+            if (holder.isFilterInitialized()) {
+                continue;
+            }
+            try {
+                holder.init();
+                initialized++;
+            } catch (ServletException | RuntimeException e) {
+                log.warn("Could not warm up filter " + SecurityUtils.crlf(holder.getFilterName()), e);
             }
         }
+        log.info("Warmed up {} lazy servlets and filters in {}ms", initialized, System.currentTimeMillis() - start);
+        return initialized;
     }
 
     //-------------------------------------------------------------
@@ -15,6 +15,7 @@ package com.amazonaws.serverless.proxy.internal.servlet;
 
 import com.amazonaws.serverless.proxy.internal.HttpUtils;
 import com.amazonaws.serverless.proxy.internal.LambdaContainerHandler;
+import com.amazonaws.serverless.proxy.internal.LambdaEnvironment;
 import com.amazonaws.serverless.proxy.internal.SecurityUtils;
 import com.amazonaws.serverless.proxy.model.AwsProxyRequest;
 import com.amazonaws.serverless.proxy.model.ContainerConfig;
@@ -57,6 +58,7 @@ public class AwsProxyHttpServletRequest extends AwsHttpServletRequest {
     //-------------------------------------------------------------
 
     private AwsProxyRequest request;
+    private Headers headers;
     private SecurityContext securityContext;
     private AwsAsyncContext asyncContext;
     private static Logger log = LoggerFactory.getLogger(AwsProxyHttpServletRequest.class);
@@ -77,6 +79,9 @@ public class AwsProxyHttpServletRequest extends AwsHttpServletRequest {
         this.request = awsProxyRequest;
         this.securityContext = awsSecurityContext;
         this.config = config;
+        if (awsProxyRequest != null) {
+            headers = decodeContentEncoding(awsProxyRequest.getMultiValueHeaders(), config);
+        }
     }
 
     public AwsProxyRequest getAwsProxyRequest() {
@@ -96,10 +101,10 @@ public class AwsProxyHttpServletRequest extends AwsHttpServletRequest {
 
     @Override
     public Cookie[] getCookies() {
-        if (request.getMultiValueHeaders() == null) {
+        if (headers == null) {
             return new Cookie[0];
         }
-        String cookieHeader = request.getMultiValueHeaders().getFirst(HttpHeaders.COOKIE);
+        String cookieHeader = headers.getFirst(HttpHeaders.COOKIE);
         if (cookieHeader == null) {
             return new Cookie[0];
         }
@@ -109,10 +114,10 @@ public class AwsProxyHttpServletRequest extends AwsHttpServletRequest {
 
     @Override
     public long getDateHeader(String s) {
-        if (request.getMultiValueHeaders() == null) {
+        if (headers == null) {
             return -1L;
         }
-        String dateString = request.getMultiValueHeaders().getFirst(s);
+        String dateString = headers.getFirst(s);
         if (dateString == null) {
             return -1L;
         }
@@ -137,28 +142,28 @@ public class AwsProxyHttpServletRequest extends AwsHttpServletRequest {
 
     @Override
     public Enumeration<String> getHeaders(String s) {
-        if (request.getMultiValueHeaders() == null || request.getMultiValueHeaders().get(s) == null) {
+        if (headers == null || headers.get(s) == null) {
             return Collections.emptyEnumeration();
         }
-        return Collections.enumeration(request.getMultiValueHeaders().get(s));
+        return Collections.enumeration(headers.get(s));
     }
 
 
     @Override
     public Enumeration<String> getHeaderNames() {
-        if (request.getMultiValueHeaders() == null) {
+        if (headers == null) {
             return Collections.emptyEnumeration();
         }
-        return Collections.enumeration(request.getMultiValueHeaders().keySet());
+        return Collections.enumeration(headers.keySet());
     }
 
 
     @Override
     public int getIntHeader(String s) {
-        if (request.getMultiValueHeaders() == null) {
+        if (headers == null) {
             return -1;
         }
-        String headerValue = request.getMultiValueHeaders().getFirst(s);
+        String headerValue = headers.getFirst(s);
         if (headerValue == null) {
             return -1;
         }
@@ -272,10 +277,10 @@ public class AwsProxyHttpServletRequest extends AwsHttpServletRequest {
 
     @Override
     public String getCharacterEncoding() {
-        if (request.getMultiValueHeaders() == null) {
+        if (headers == null) {
             return config.getDefaultContentCharset();
         }
-        Charset charset = HttpUtils.parseCharacterEncoding(request.getMultiValueHeaders().getFirst(HttpHeaders.CONTENT_TYPE),null);
+        Charset charset = HttpUtils.parseCharacterEncoding(headers.getFirst(HttpHeaders.CONTENT_TYPE),null);
         return charset != null ? charset.name() : null;
     }
 
@@ -283,22 +288,22 @@ public class AwsProxyHttpServletRequest extends AwsHttpServletRequest {
     @Override
     public void setCharacterEncoding(String s)
             throws UnsupportedEncodingException {
-        if (request.getMultiValueHeaders() == null) {
-            request.setMultiValueHeaders(new Headers());
+        if (headers == null) {
+            headers = new Headers();
         }
-        String currentContentType = request.getMultiValueHeaders().getFirst(HttpHeaders.CONTENT_TYPE);
+        String currentContentType = headers.getFirst(HttpHeaders.CONTENT_TYPE);
         if (currentContentType == null || currentContentType.isEmpty()) {
             log.debug("Called set character encoding to " + SecurityUtils.crlf(s) + " on a request without a content type. Character encoding will not be set");
             return;
         }
 
-        request.getMultiValueHeaders().putSingle(HttpHeaders.CONTENT_TYPE, HttpUtils.appendCharacterEncoding(currentContentType, s));
+        headers.putSingle(HttpHeaders.CONTENT_TYPE, HttpUtils.appendCharacterEncoding(currentContentType, s));
     }
 
 
     @Override
     public int getContentLength() {
-        String headerValue = request.getMultiValueHeaders().getFirst(HttpHeaders.CONTENT_LENGTH);
+        String headerValue = headers.getFirst(HttpHeaders.CONTENT_LENGTH);
         if (headerValue == null) {
             return -1;
         }
@@ -308,7 +313,7 @@ public class AwsProxyHttpServletRequest extends AwsHttpServletRequest {
 
     @Override
     public long getContentLengthLong() {
-        String headerValue = request.getMultiValueHeaders().getFirst(HttpHeaders.CONTENT_LENGTH);
+        String headerValue = headers.getFirst(HttpHeaders.CONTENT_LENGTH);
         if (headerValue == null) {
             return -1;
         }
@@ -318,7 +323,7 @@ public class AwsProxyHttpServletRequest extends AwsHttpServletRequest {
 
     @Override
     public String getContentType() {
-        String contentTypeHeader = request.getMultiValueHeaders().getFirst(HttpHeaders.CONTENT_TYPE);
+        String contentTypeHeader = headers.getFirst(HttpHeaders.CONTENT_TYPE);
         if (contentTypeHeader == null || "".equals(contentTypeHeader.trim())) {
             return null;
         }
@@ -416,19 +421,15 @@ public class AwsProxyHttpServletRequest extends AwsHttpServletRequest {
 
     @Override
     public String getScheme() {
-        return getSchemeFromHeader(request.getMultiValueHeaders());
+        return getSchemeFromHeader(headers);
     }
 
     @Override
     public String getServerName() {
-        String region = System.getenv("AWS_REGION");
-        if (region == null) {
-            // this is not a critical failure, we just put a static region in the URI
-            region = "us-east-1";
-        }
+        String region = LambdaEnvironment.getRegion();
 
-        if (request.getMultiValueHeaders() != null && request.getMultiValueHeaders().containsKey(HOST_HEADER_NAME)) {
-            String hostHeader = request.getMultiValueHeaders().getFirst(HOST_HEADER_NAME);
+        if (headers != null && headers.containsKey(HOST_HEADER_NAME)) {
+            String hostHeader = headers.getFirst(HOST_HEADER_NAME);
             if (SecurityUtils.isValidHost(hostHeader, request.getRequestContext().getApiId(), request.getRequestContext().getElb(), region)) {
                 return hostHeader;
             }
@@ -442,10 +443,10 @@ public class AwsProxyHttpServletRequest extends AwsHttpServletRequest {
 
     @Override
     public int getServerPort() {
-        if (request.getMultiValueHeaders() == null) {
+        if (headers == null) {
             return 443;
         }
-        String port = request.getMultiValueHeaders().getFirst(PORT_HEADER_NAME);
+        String port = headers.getFirst(PORT_HEADER_NAME);
         if (SecurityUtils.isValidPort(port)) {
             return Integer.parseInt(port);
         } else {
@@ -465,6 +466,9 @@ public class AwsProxyHttpServletRequest extends AwsHttpServletRequest {
     @Override
     public BufferedReader getReader()
             throws IOException {
+        if (isContentDecoded()) {
+            return decodedContentReader();
+        }
         return new BufferedReader(new StringReader(request.getBody()));
     }
 
@@ -477,7 +481,7 @@ public class AwsProxyHttpServletRequest extends AwsHttpServletRequest {
         if (request.getRequestSource().equals(RequestSource.ALB)) {
             return Objects.nonNull(request.getHeaders()) ?
                     request.getHeaders().get(CLIENT_IP_HEADER) :
-                    request.getMultiValueHeaders().getFirst(CLIENT_IP_HEADER);
+                    headers.getFirst(CLIENT_IP_HEADER);
         }
         return request.getRequestContext().getIdentity().getSourceIp();
     }
@@ -489,9 +493,9 @@ public class AwsProxyHttpServletRequest extends AwsHttpServletRequest {
         if (request.getRequestSource().equals(RequestSource.ALB)) {
             hostHeader = Objects.nonNull(request.getHeaders()) ?
                     request.getHeaders().get(HttpHeaders.HOST) :
-                    request.getMultiValueHeaders().getFirst(HttpHeaders.HOST);
+                    headers.getFirst(HttpHeaders.HOST);
         } else {
-            hostHeader = request.getMultiValueHeaders().getFirst(HttpHeaders.HOST);
+            hostHeader = headers.getFirst(HttpHeaders.HOST);
         }
         // the host header has the form host:port, so we split the string to get the host part
         return Arrays.asList(hostHeader.split(":")).get(0);
@@ -500,13 +504,13 @@ public class AwsProxyHttpServletRequest extends AwsHttpServletRequest {
 
     @Override
     public Locale getLocale() {
-        List<Locale> locales = parseAcceptLanguageHeader(request.getMultiValueHeaders().getFirst(HttpHeaders.ACCEPT_LANGUAGE));
+        List<Locale> locales = parseAcceptLanguageHeader(headers.getFirst(HttpHeaders.ACCEPT_LANGUAGE));
         return locales.size() == 0 ? Locale.getDefault() : locales.get(0);
     }
 
     @Override
     public Enumeration<Locale> getLocales() {
-        List<Locale> locales = parseAcceptLanguageHeader(request.getMultiValueHeaders().getFirst(HttpHeaders.ACCEPT_LANGUAGE));
+        List<Locale> locales = parseAcceptLanguageHeader(headers.getFirst(HttpHeaders.ACCEPT_LANGUAGE));
         return Collections.enumeration(locales);
     }
 
@@ -528,7 +532,7 @@ public class AwsProxyHttpServletRequest extends AwsHttpServletRequest {
             String portHeader;
             portHeader = Objects.nonNull(request.getHeaders()) ?
                     request.getHeaders().get(PORT_HEADER_NAME) :
-                    request.getMultiValueHeaders().getFirst(PORT_HEADER_NAME);
+                    headers.getFirst(PORT_HEADER_NAME);
             if (Objects.nonNull(portHeader)) {
                 return Integer.parseInt(portHeader);
             }
@@ -626,11 +630,11 @@ public class AwsProxyHttpServletRequest extends AwsHttpServletRequest {
             }
         }
 
-        if (request.getMultiValueHeaders() == null) {
+        if (headers == null) {
             return null;
         }
 
-        return request.getMultiValueHeaders().get(key);
+        return headers.get(key);
     }
 
 
@@ -13,6 +13,7 @@
 package com.amazonaws.serverless.proxy.internal.servlet;
 
 import com.amazonaws.serverless.exceptions.InvalidRequestEventException;
+import com.amazonaws.serverless.proxy.InvocationDeadline;
 import com.amazonaws.serverless.proxy.RequestReader;
 import com.amazonaws.serverless.proxy.model.AwsProxyRequest;
 import com.amazonaws.serverless.proxy.model.ContainerConfig;
@@ -62,6 +63,10 @@ public class AwsProxyHttpServletRequestReader extends RequestReader<AwsProxyRequ
         servletRequest.setAttribute(ALB_CONTEXT_PROPERTY, request.getRequestContext().getElb());
         servletRequest.setAttribute(LAMBDA_CONTEXT_PROPERTY, lambdaContext);
         servletRequest.setAttribute(JAX_SECURITY_CONTEXT_PROPERTY, securityContext);
+        InvocationDeadline deadline = InvocationDeadline.current();
+        if (deadline != null) {
+            servletRequest.setAttribute(DEADLINE_PROPERTY, deadline);
+        }
 
         return servletRequest;
     }
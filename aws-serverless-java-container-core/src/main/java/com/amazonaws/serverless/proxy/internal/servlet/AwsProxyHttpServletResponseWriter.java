@@ -16,12 +16,15 @@ package com.amazonaws.serverless.proxy.internal.servlet;
 import com.amazonaws.serverless.exceptions.InvalidResponseObjectException;
 import com.amazonaws.serverless.proxy.ResponseWriter;
 import com.amazonaws.serverless.proxy.internal.LambdaContainerHandler;
+import com.amazonaws.serverless.proxy.internal.MediaTypeClassifier;
 import com.amazonaws.serverless.proxy.internal.testutils.Timer;
 import com.amazonaws.serverless.proxy.model.AwsProxyResponse;
+import com.amazonaws.serverless.proxy.model.ContainerConfig;
 import com.amazonaws.serverless.proxy.model.Headers;
 import com.amazonaws.serverless.proxy.model.RequestSource;
 import com.amazonaws.services.lambda.runtime.Context;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
 
@@ -55,13 +58,31 @@ public class AwsProxyHttpServletResponseWriter extends ResponseWriter<AwsHttpSer
             throws InvalidResponseObjectException {
         Timer.start("SERVLET_RESPONSE_WRITE");
         AwsProxyResponse awsProxyResponse = new AwsProxyResponse();
+        int statusCode = containerResponse.getStatus();
         if (containerResponse.getAwsResponseBodyString() != null) {
             String responseString;
+            ContainerConfig config = LambdaContainerHandler.getContainerConfig();
+            MediaTypeClassifier.Classification classification =
+                    config.getMediaTypeClassifier().classify(containerResponse.getContentType());
+            byte[] responseBytes = containerResponse.getAwsResponseBodyBytes();
+            if (ConditionalGetEvaluator.evaluate(responseBytes, containerResponse, config)) {
+                if (config.isResponseCompressionEnabled() && classification.isCompressible()) {
+                    ResponseCompressor.addVary(containerResponse.getAwsResponseHeaders());
+                }
+                statusCode = HttpServletResponse.SC_NOT_MODIFIED;
+                responseBytes = null;
+            }
+            byte[] compressedBytes = ResponseCompressor.compress(responseBytes, classification, containerResponse, config);
 
-            if (!isBinary(containerResponse.getContentType()) && isValidUtf8(containerResponse.getAwsResponseBodyBytes())) {
+            if (responseBytes == null) {
+                responseString = null;
+            } else if (compressedBytes != null) {
+                responseString = Base64.getEncoder().encodeToString(compressedBytes);
+                awsProxyResponse.setBase64Encoded(true);
+            } else if (!classification.isBinary() && isValidUtf8(responseBytes)) {
                 responseString = containerResponse.getAwsResponseBodyString();
             } else {
-                responseString = Base64.getEncoder().encodeToString(containerResponse.getAwsResponseBodyBytes());
+                responseString = Base64.getEncoder().encodeToString(responseBytes);
                 awsProxyResponse.setBase64Encoded(true);
             }
 
@@ -72,13 +93,13 @@ public class AwsProxyHttpServletResponseWriter extends ResponseWriter<AwsHttpSer
             awsProxyResponse.setHeaders(toSingleValueHeaders(containerResponse.getAwsResponseHeaders()));
         }
 
-        awsProxyResponse.setStatusCode(containerResponse.getStatus());
+        awsProxyResponse.setStatusCode(statusCode);
 
-        Status responseStatus = Response.Status.fromStatusCode(containerResponse.getStatus());
+        Status responseStatus = Response.Status.fromStatusCode(statusCode);
 
         if (containerResponse.getAwsProxyRequest() != null && containerResponse.getAwsProxyRequest().getRequestSource() == RequestSource.ALB
                 && responseStatus != null) {
-            awsProxyResponse.setStatusDescription(containerResponse.getStatus() + " " + responseStatus.getReasonPhrase());
+            awsProxyResponse.setStatusDescription(statusCode + " " + responseStatus.getReasonPhrase());
         }
 
         Timer.stop("SERVLET_RESPONSE_WRITE");
@@ -95,17 +116,4 @@ public class AwsProxyHttpServletResponseWriter extends ResponseWriter<AwsHttpSer
         }
         return out;
     }
-
-    private boolean isBinary(String contentType) {
-        if(contentType != null) {
-            int semidx = contentType.indexOf(';');
-            if(semidx >= 0) {
-                return LambdaContainerHandler.getContainerConfig().isBinaryContentType(contentType.substring(0, semidx));
-            }
-            else {
-                return LambdaContainerHandler.getContainerConfig().isBinaryContentType(contentType);
-            }
-        }
-        return false;
-    }
 }
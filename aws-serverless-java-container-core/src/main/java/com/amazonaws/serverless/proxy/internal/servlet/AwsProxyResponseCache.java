@@ -0,0 +1,356 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy.internal.servlet;
+
+import com.amazonaws.serverless.proxy.ResponseCache;
+import com.amazonaws.serverless.proxy.internal.LambdaContainerHandler;
+import com.amazonaws.serverless.proxy.model.ApiGatewayRequestIdentity;
+import com.amazonaws.serverless.proxy.model.AwsProxyRequestContext;
+import com.amazonaws.serverless.proxy.model.AwsProxyResponse;
+import com.amazonaws.serverless.proxy.model.Headers;
+import com.amazonaws.serverless.proxy.model.HttpApiV2ProxyRequestContext;
+import tools.jackson.core.JacksonException;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.ws.rs.core.HttpHeaders;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static com.amazonaws.serverless.proxy.RequestReader.API_GATEWAY_CONTEXT_PROPERTY;
+import static com.amazonaws.serverless.proxy.RequestReader.HTTP_API_CONTEXT_PROPERTY;
+
+/**
+ * Response cache for servlet-based container handlers that return an <code>AwsProxyResponse</code>. Only
+ * <code>GET</code> and <code>HEAD</code> requests are cached. The cache key combines the method, the
+ * <code>Host</code> header, the request path, the query string with its parameters sorted, and the values of the
+ * request headers passed to the constructor.
+ *
+ * Since the cache is shared by all the callers of the function, responses are stored only when they explicitly allow
+ * it with a positive <code>s-maxage</code> or <code>max-age</code> directive and none of <code>private</code>,
+ * <code>no-store</code>, or <code>no-cache</code>. Responses that set cookies, or that declare a <code>Vary</code>
+ * header not included in the cache key, are never stored.
+ *
+ * Requests that carry an <code>Authorization</code> header, an API Gateway authorizer context, or a caller identity
+ * such as an API key or IAM user, are authenticated. Following RFC 9111 section 3.5, the responses to authenticated
+ * requests are only stored when they are marked <code>public</code> or declare an <code>s-maxage</code>, and their
+ * cache key also contains the caller identity, so a response is never served to another caller.
+ */
+public class AwsProxyResponseCache extends ResponseCache<HttpServletRequest, AwsProxyResponse> {
+
+    //-------------------------------------------------------------
+    // Constants
+    //-------------------------------------------------------------
+
+    static final String AGE_HEADER = "Age";
+    static final char KEY_SEPARATOR = '\n';
+    static final String AUTHENTICATED_KEY_PREFIX = "auth:";
+    // rough per-entry cost of the response object, the map entry, and the header map
+    private static final long ENTRY_OVERHEAD_BYTES = 256;
+
+    //-------------------------------------------------------------
+    // Variables - Private
+    //-------------------------------------------------------------
+
+    private final List<String> varyHeaders;
+    private final Set<String> varyHeaderNames;
+
+    //-------------------------------------------------------------
+    // Constructors
+    //-------------------------------------------------------------
+
+    /**
+     * Creates a new cache
+     * @param maxBytes The maximum estimated size, in bytes, of all the cached responses
+     * @param maxEntries The maximum number of cached responses
+     * @param varyHeaders The request headers whose values are part of the cache key
+     */
+    public AwsProxyResponseCache(long maxBytes, int maxEntries, String... varyHeaders) {
+        super(maxBytes, maxEntries);
+        List<String> headers = new ArrayList<>();
+        Set<String> names = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        if (varyHeaders != null) {
+            for (String h : varyHeaders) {
+                if (h != null && names.add(h.trim())) {
+                    headers.add(h.trim());
+                }
+            }
+        }
+        this.varyHeaders = Collections.unmodifiableList(headers);
+        this.varyHeaderNames = names;
+    }
+
+    //-------------------------------------------------------------
+    // Implementation - ResponseCache
+    //-------------------------------------------------------------
+
+    @Override
+    public String getCacheKey(HttpServletRequest request) {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return null;
+        }
+        String cacheControl = request.getHeader(HttpHeaders.CACHE_CONTROL);
+        if (cacheControl != null && hasDirective(cacheControl, "no-store", "no-cache")) {
+            return null;
+        }
+
+        StringBuilder key = new StringBuilder(128);
+        String identity;
+        try {
+            identity = getCallerIdentity(request);
+        } catch (JacksonException e) {
+            // without a reliable identity the request cannot be told apart from the requests of other callers
+            return null;
+        }
+        if (identity != null) {
+            // the length delimits the identity, which can contain any character
+            key.append(AUTHENTICATED_KEY_PREFIX).append(identity.length()).append(':').append(identity).append(KEY_SEPARATOR);
+        }
+        String host = request.getHeader(HttpHeaders.HOST);
+        key.append(method).append(KEY_SEPARATOR).append(host != null ? host.toLowerCase(Locale.ENGLISH) : "")
+                .append(KEY_SEPARATOR).append(request.getRequestURI()).append(KEY_SEPARATOR);
+        appendNormalizedQuery(key, request.getQueryString());
+        for (String header : varyHeaders) {
+            key.append(KEY_SEPARATOR).append(header.toLowerCase(Locale.ENGLISH)).append(':');
+            Enumeration<String> values = request.getHeaders(header);
+            boolean first = true;
+            while (values != null && values.hasMoreElements()) {
+                if (!first) {
+                    key.append(',');
+                }
+                key.append(values.nextElement());
+                first = false;
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * Stores a response, the responses to authenticated requests are only stored if they are explicitly shareable
+     * @param key The cache key returned by {@link #getCacheKey(HttpServletRequest)}
+     * @param response The response to store
+     * @return <code>true</code> if the response was stored
+     */
+    @Override
+    public boolean store(String key, AwsProxyResponse response) {
+        if (key != null && key.startsWith(AUTHENTICATED_KEY_PREFIX) && !isShareable(response)) {
+            return false;
+        }
+        return super.store(key, response);
+    }
+
+    @Override
+    protected Freshness getFreshness(AwsProxyResponse response) {
+        if (response.getStatusCode() != 200) {
+            return null;
+        }
+        Headers headers = response.getMultiValueHeaders();
+        if (headers == null || headers.containsKey(HttpHeaders.SET_COOKIE) || !isVaryCovered(headers.get(HttpHeaders.VARY))) {
+            return null;
+        }
+        String cacheControl = joinValues(headers.get(HttpHeaders.CACHE_CONTROL));
+        if (cacheControl == null || hasDirective(cacheControl, "private", "no-store", "no-cache")) {
+            return null;
+        }
+        // s-maxage applies to shared caches and takes precedence over max-age
+        long maxAge = getDirectiveSeconds(cacheControl, "s-maxage");
+        if (maxAge < 0) {
+            maxAge = getDirectiveSeconds(cacheControl, "max-age");
+        }
+        if (maxAge <= 0) {
+            return null;
+        }
+        return new Freshness(maxAge, Math.max(0L, getDirectiveSeconds(cacheControl, "stale-while-revalidate")));
+    }
+
+    @Override
+    protected long estimateSize(AwsProxyResponse response) {
+        long size = ENTRY_OVERHEAD_BYTES;
+        if (response.getBody() != null) {
+            size += 2L * response.getBody().length();
+        }
+        if (response.getMultiValueHeaders() != null) {
+            for (Map.Entry<String, List<String>> h : response.getMultiValueHeaders().entrySet()) {
+                size += 2L * h.getKey().length();
+                for (String v : h.getValue()) {
+                    size += v == null ? 0 : 2L * v.length();
+                }
+            }
+        }
+        return size;
+    }
+
+    @Override
+    protected AwsProxyResponse copyForHit(AwsProxyResponse response, long ageSeconds) {
+        Headers headers = new Headers();
+        if (response.getMultiValueHeaders() != null) {
+            for (Map.Entry<String, List<String>> h : response.getMultiValueHeaders().entrySet()) {
+                headers.put(h.getKey(), new ArrayList<>(h.getValue()));
+            }
+        }
+        headers.putSingle(AGE_HEADER, Long.toString(ageSeconds));
+
+        AwsProxyResponse copy = new AwsProxyResponse(response.getStatusCode(), headers, response.getBody());
+        copy.setBase64Encoded(response.isBase64Encoded());
+        copy.setStatusDescription(response.getStatusDescription());
+        if (response.getHeaders() != null) {
+            Map<String, String> singleValueHeaders = new HashMap<>(response.getHeaders());
+            singleValueHeaders.put(AGE_HEADER, Long.toString(ageSeconds));
+            copy.setHeaders(singleValueHeaders);
+        }
+        return copy;
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Private
+    //-------------------------------------------------------------
+
+    private static boolean isShareable(AwsProxyResponse response) {
+        if (response == null || response.getMultiValueHeaders() == null) {
+            return false;
+        }
+        String cacheControl = joinValues(response.getMultiValueHeaders().get(HttpHeaders.CACHE_CONTROL));
+        return cacheControl != null && (hasDirective(cacheControl, "public") || getDirectiveSeconds(cacheControl, "s-maxage") > 0);
+    }
+
+    /**
+     * Returns what identifies the caller of an authenticated request
+     * @param request The servlet request
+     * @return The identity, or <code>null</code> if the request is anonymous
+     */
+    private static String getCallerIdentity(HttpServletRequest request) {
+        StringBuilder identity = new StringBuilder();
+        Enumeration<String> authorization = request.getHeaders(HttpHeaders.AUTHORIZATION);
+        while (authorization != null && authorization.hasMoreElements()) {
+            identity.append("authorization=").append(authorization.nextElement()).append(KEY_SEPARATOR);
+        }
+
+        Object gatewayContext = request.getAttribute(API_GATEWAY_CONTEXT_PROPERTY);
+        if (gatewayContext instanceof AwsProxyRequestContext) {
+            AwsProxyRequestContext context = (AwsProxyRequestContext) gatewayContext;
+            ApiGatewayRequestIdentity callerIdentity = context.getIdentity();
+            if (callerIdentity != null) {
+                appendIdentity(identity, "apiKey", callerIdentity.getApiKey());
+                appendIdentity(identity, "apiKeyId", callerIdentity.getApiKeyId());
+                appendIdentity(identity, "accessKey", callerIdentity.getAccessKey());
+                appendIdentity(identity, "accountId", callerIdentity.getAccountId());
+                appendIdentity(identity, "caller", callerIdentity.getCaller());
+                appendIdentity(identity, "user", callerIdentity.getUser());
+                appendIdentity(identity, "userArn", callerIdentity.getUserArn());
+                appendIdentity(identity, "cognitoIdentityId", callerIdentity.getCognitoIdentityId());
+            }
+            if (context.getAuthorizer() != null) {
+                appendIdentity(identity, "authorizer", writeJson(context.getAuthorizer()));
+            }
+        }
+        Object httpApiContext = request.getAttribute(HTTP_API_CONTEXT_PROPERTY);
+        if (httpApiContext instanceof HttpApiV2ProxyRequestContext
+                && ((HttpApiV2ProxyRequestContext) httpApiContext).getAuthorizer() != null) {
+            appendIdentity(identity, "authorizer", writeJson(((HttpApiV2ProxyRequestContext) httpApiContext).getAuthorizer()));
+        }
+        return identity.length() > 0 ? identity.toString() : null;
+    }
+
+    private static void appendIdentity(StringBuilder identity, String name, String value) {
+        if (value != null && !value.isEmpty()) {
+            identity.append(name).append('=').append(value).append(KEY_SEPARATOR);
+        }
+    }
+
+    private static String writeJson(Object value) {
+        return LambdaContainerHandler.getObjectMapper().writeValueAsString(value);
+    }
+
+    private boolean isVaryCovered(List<String> vary) {
+        if (vary == null) {
+            return true;
+        }
+        for (String value : vary) {
+            for (String field : value.split(",")) {
+                String name = field.trim();
+                if (name.isEmpty()) {
+                    continue;
+                }
+                if ("*".equals(name) || !varyHeaderNames.contains(name)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static void appendNormalizedQuery(StringBuilder key, String queryString) {
+        if (queryString == null || queryString.isEmpty()) {
+            return;
+        }
+        String[] params = queryString.split("&");
+        Arrays.sort(params);
+        boolean first = true;
+        for (String param : params) {
+            if (param.isEmpty()) {
+                continue;
+            }
+            if (!first) {
+                key.append('&');
+            }
+            key.append(param);
+            first = false;
+        }
+    }
+
+    private static String joinValues(List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        return String.join(",", values);
+    }
+
+    private static boolean hasDirective(String cacheControl, String... names) {
+        for (String directive : cacheControl.split(",")) {
+            String name = directive.trim();
+            int eqidx = name.indexOf('=');
+            if (eqidx >= 0) {
+                name = name.substring(0, eqidx).trim();
+            }
+            for (String n : names) {
+                if (n.equalsIgnoreCase(name)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static long getDirectiveSeconds(String cacheControl, String name) {
+        for (String directive : cacheControl.split(",")) {
+            String[] kv = directive.split("=", 2);
+            if (kv.length == 2 && name.equalsIgnoreCase(kv[0].trim())) {
+                try {
+                    return Long.parseLong(kv[1].trim().replace("\"", ""));
+                } catch (NumberFormatException e) {
+                    return -1L;
+                }
+            }
+        }
+        return -1L;
+    }
+}
@@ -75,6 +75,21 @@ public class AwsServletInputStream extends ServletInputStream {
         return readByte;
     }
 
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (bodyStream == null || bodyStream instanceof NullInputStream) {
+            return -1;
+        }
+        if (len == 0) {
+            return 0;
+        }
+        int bytesRead = bodyStream.read(b, off, len);
+        if (bytesRead == -1) {
+            finished = true;
+        }
+        return bytesRead;
+    }
+
     @Override
     public int read(ByteBuffer b) throws IOException {
         if (bodyStream == null || bodyStream instanceof NullInputStream) {
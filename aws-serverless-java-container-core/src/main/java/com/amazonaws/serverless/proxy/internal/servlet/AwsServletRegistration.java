@@ -29,6 +29,7 @@ public class AwsServletRegistration implements ServletRegistration, ServletRegis
     private String runAsRole;
     private boolean asyncSupported;
     private Map<String, AwsServletRegistration> servletPathMappings;
+    private volatile boolean servletInitialized;
 
 
     public AwsServletRegistration(String name, Servlet s, AwsServletContext context) {
@@ -156,6 +157,27 @@ public class AwsServletRegistration implements ServletRegistration, ServletRegis
         return asyncSupported;
     }
 
+    /**
+     * Initializes the servlet with the configuration of this registration. The servlet is only initialized once, calls
+     * made while another thread is initializing it wait for the initialization to complete.
+     * @throws ServletException Propagates the exception thrown by the servlet initialization
+     */
+    public synchronized void initializeServlet() throws ServletException {
+        if (servletInitialized || servlet == null) {
+            return;
+        }
+        servlet.init(getServletConfig());
+        servletInitialized = true;
+    }
+
+    /**
+     * Whether the servlet was initialized through {@link #initializeServlet()}
+     * @return <code>true</code> if the servlet was initialized
+     */
+    public boolean isServletInitialized() {
+        return servletInitialized;
+    }
+
     public ServletConfig getServletConfig() {
         return new ServletConfig() {
             @Override
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy.internal.servlet;
+
+import com.amazonaws.serverless.proxy.internal.SecurityUtils;
+import com.amazonaws.serverless.proxy.model.ContainerConfig;
+import com.amazonaws.serverless.proxy.model.Headers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.ws.rs.core.HttpHeaders;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+
+/**
+ * Generates strong entity tags for buffered <code>GET</code> responses and evaluates the <code>If-None-Match</code> and
+ * <code>If-Modified-Since</code> request preconditions against them. When a precondition matches, the response is
+ * turned into an empty <code>304 Not Modified</code> so that the body is neither encoded nor returned to API Gateway.
+ *
+ * The entity tag is computed from the uncompressed body, before the {@link ResponseCompressor} runs. When the body is
+ * later compressed the tag is suffixed with the content coding, as each encoding is a different representation, and
+ * the suffix is ignored when comparing the tags sent back by clients.
+ */
+final class ConditionalGetEvaluator {
+
+    //-------------------------------------------------------------
+    // Constants
+    //-------------------------------------------------------------
+
+    static final String ETAG_HEADER = "ETag";
+    static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+    static final String IF_MODIFIED_SINCE_HEADER = "If-Modified-Since";
+    static final String LAST_MODIFIED_HEADER = "Last-Modified";
+    static final String WEAK_PREFIX = "W/";
+
+    private static final Logger log = LoggerFactory.getLogger(ConditionalGetEvaluator.class);
+
+    //-------------------------------------------------------------
+    // Constructors
+    //-------------------------------------------------------------
+
+    private ConditionalGetEvaluator() {
+        // utility class
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Package
+    //-------------------------------------------------------------
+
+    /**
+     * Adds an <code>ETag</code> header to cacheable responses that do not have one and evaluates the request
+     * preconditions. If the client already holds the current representation, the headers of the response are trimmed
+     * to the ones allowed in a 304 response.
+     * @param body The uncompressed response body
+     * @param response The servlet response the body belongs to
+     * @param config The container configuration
+     * @return <code>true</code> if the response should be returned as a <code>304 Not Modified</code> without a body
+     */
+    static boolean evaluate(byte[] body, AwsHttpServletResponse response, ContainerConfig config) {
+        if (!config.isAutomaticEtagEnabled() || body == null || !isCacheable(response)) {
+            return false;
+        }
+        HttpServletRequest request = response.getServletRequest();
+        Headers headers = response.getAwsResponseHeaders();
+        String etag = headers.getFirst(ETAG_HEADER);
+        if (etag == null) {
+            etag = generateEtag(body);
+            headers.putSingle(ETAG_HEADER, etag);
+        }
+
+        if (!isNotModified(request, etag, headers.getFirst(LAST_MODIFIED_HEADER))) {
+            return false;
+        }
+        // a 304 carries the validators and caching headers of the 200 response it replaces, but no representation
+        headers.remove(HttpHeaders.CONTENT_LENGTH);
+        headers.remove(HttpHeaders.CONTENT_TYPE);
+        headers.remove(ResponseCompressor.CONTENT_ENCODING_HEADER);
+        return true;
+    }
+
+    /**
+     * Computes a strong entity tag for the given body. The tag combines the body length with a CRC32 and an Adler32
+     * checksum, both of which are intrinsified by the JVM and are much faster than a cryptographic digest. Entity tags
+     * only need to change when the content changes, not to resist collisions crafted on purpose.
+     * @param body The response body
+     * @return The quoted entity tag
+     */
+    static String generateEtag(byte[] body) {
+        CRC32 crc = new CRC32();
+        crc.update(body, 0, body.length);
+        Adler32 adler = new Adler32();
+        adler.update(body, 0, body.length);
+        return "\"" + Integer.toHexString(body.length) + "-" + Long.toHexString((crc.getValue() << 32) | adler.getValue()) + "\"";
+    }
+
+    /**
+     * Suffixes a strong <code>ETag</code> with the content coding applied to the body. Weak tags are left as they are,
+     * since they are semantically equivalent across encodings.
+     * @param headers The response headers
+     * @param coding The content coding token, for example <code>gzip</code>
+     */
+    static void suffixEtag(Headers headers, String coding) {
+        String etag = headers.getFirst(ETAG_HEADER);
+        if (etag == null || etag.startsWith(WEAK_PREFIX) || etag.length() < 2 || !etag.endsWith("\"")) {
+            return;
+        }
+        headers.putSingle(ETAG_HEADER, etag.substring(0, etag.length() - 1) + "-" + coding + "\"");
+    }
+
+    /**
+     * Evaluates the request preconditions as described in RFC 9110 section 13.2.2. <code>If-Modified-Since</code> is
+     * only considered when the request does not contain <code>If-None-Match</code>.
+     * @param request The servlet request
+     * @param etag The entity tag of the response
+     * @param lastModified The value of the <code>Last-Modified</code> response header, can be null
+     * @return <code>true</code> if the client representation is current
+     */
+    static boolean isNotModified(HttpServletRequest request, String etag, String lastModified) {
+        String ifNoneMatch = request.getHeader(IF_NONE_MATCH_HEADER);
+        if (ifNoneMatch != null) {
+            return matchesAny(ifNoneMatch, etag);
+        }
+        String ifModifiedSince = request.getHeader(IF_MODIFIED_SINCE_HEADER);
+        if (ifModifiedSince == null || lastModified == null) {
+            return false;
+        }
+        long since = parseDate(ifModifiedSince);
+        long modified = parseDate(lastModified);
+        return since >= 0 && modified >= 0 && modified <= since;
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Private
+    //-------------------------------------------------------------
+
+    private static boolean isCacheable(AwsHttpServletResponse response) {
+        HttpServletRequest request = response.getServletRequest();
+        if (request == null || !"GET".equals(request.getMethod()) || response.getStatus() != HttpServletResponse.SC_OK) {
+            return false;
+        }
+        String cacheControl = response.getAwsResponseHeaders().getFirst(HttpHeaders.CACHE_CONTROL);
+        return cacheControl == null || !cacheControl.toLowerCase(Locale.ENGLISH).contains("no-store");
+    }
+
+    private static boolean matchesAny(String ifNoneMatch, String etag) {
+        String opaqueTag = opaqueTag(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if ("*".equals(tag)) {
+                return true;
+            }
+            // If-None-Match uses the weak comparison function
+            String clientTag = opaqueTag(tag);
+            if (clientTag.equals(opaqueTag) || stripCodingSuffix(clientTag).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaqueTag(String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+
+    private static String stripCodingSuffix(String tag) {
+        for (ResponseCompressor.Encoding encoding : ResponseCompressor.Encoding.values()) {
+            String suffix = "-" + encoding.getToken() + "\"";
+            if (tag.endsWith(suffix)) {
+                return tag.substring(0, tag.length() - suffix.length()) + "\"";
+            }
+        }
+        return tag;
+    }
+
+    private static long parseDate(String value) {
+        try {
+            return Instant.from(ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME)).toEpochMilli();
+        } catch (DateTimeParseException e) {
+            // fall back to the format used by AwsHttpServletResponse.setDateHeader
+            try {
+                return new SimpleDateFormat(AwsHttpServletResponse.HEADER_DATE_PATTERN, Locale.ENGLISH).parse(value.trim()).getTime();
+            } catch (ParseException pe) {
+                log.debug("Could not parse date header value: " + SecurityUtils.crlf(value));
+                return -1L;
+            }
+        }
+    }
+}
@@ -353,7 +353,7 @@ public abstract class FilterChainManager<ServletContextType extends ServletConte
 
         public ServletExecutionFilter(AwsServletRegistration servletReg) {
             handlerServlet = servletReg;
-            initialized = handlerServlet.getServlet().getServletInfo() != null;
+            initialized = handlerServlet.isServletInitialized() || handlerServlet.getServlet().getServletInfo() != null;
         }
 
         @Override
@@ -363,7 +363,7 @@ public abstract class FilterChainManager<ServletContextType extends ServletConte
                 return;
             }
             config = filterConfig;
-            handlerServlet.getServlet().init(handlerServlet.getServletConfig());
+            handlerServlet.initializeServlet();
             initialized = true;
         }
 
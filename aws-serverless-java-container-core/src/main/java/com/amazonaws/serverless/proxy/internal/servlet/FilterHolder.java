@@ -37,7 +37,7 @@ public class FilterHolder {
     private Map<String, String> initParameters;
 
     private ServletContext servletContext;
-    private boolean filterInitialized;
+    private volatile boolean filterInitialized;
 
 
     //-------------------------------------------------------------
@@ -79,10 +79,11 @@ public class FilterHolder {
 
     /**
      * Initializes the wrapped filter and sets the <code>isFilterInitialized</code> property to true. This should be called
-     * before invoking a filter if the result of the <code>isFilterInitialized()</code> method is false.
+     * before invoking a filter if the result of the <code>isFilterInitialized()</code> method is false. The filter is
+     * initialized only once, even when this method is called concurrently by the initialization scheduler and a request.
      * @throws ServletException Propagates any servlet exception thrown by the filter initialization
      */
-    public void init() throws ServletException {
+    public synchronized void init() throws ServletException {
         if (this.filterInitialized) {
             return;
         }
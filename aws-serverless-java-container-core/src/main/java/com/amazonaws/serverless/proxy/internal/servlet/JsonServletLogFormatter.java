@@ -0,0 +1,302 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy.internal.servlet;
+
+import com.amazonaws.serverless.proxy.LogFormatter;
+import com.amazonaws.serverless.proxy.model.AwsProxyRequestContext;
+import com.amazonaws.serverless.proxy.model.HttpApiV2ProxyRequestContext;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.ws.rs.core.SecurityContext;
+
+import java.security.Principal;
+import java.time.Clock;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.amazonaws.serverless.proxy.RequestReader.API_GATEWAY_CONTEXT_PROPERTY;
+import static com.amazonaws.serverless.proxy.RequestReader.HTTP_API_CONTEXT_PROPERTY;
+
+/**
+ * Log formatter that produces one JSON object per request, for example:
+ * <pre>
+ * {"time":1563023494000,"requestId":"abc","remoteAddr":"127.0.0.1","method":"GET","path":"/pets","protocol":"HTTP/1.1","status":200,"bytes":42}
+ * </pre>
+ * The line is appended into a builder reused by the thread, the values are escaped while they are appended so the line
+ * never contains raw CR or LF characters, and the size of the response body is read without copying the body.
+ *
+ * The formatter can be limited to a subset of the {@link Field}s and can sample the successful requests: the requests
+ * that produce a status code of <code>400</code> or above are always logged, the other requests are logged with the
+ * given probability. For example, to log every error and 1% of the other requests:
+ * <pre>
+ * handler.setLogFormatter(new JsonServletLogFormatter&lt;&gt;(EnumSet.allOf(JsonServletLogFormatter.Field.class), 0.01));
+ * </pre>
+ * @param <ContainerRequestType> An implementation of <code>HttpServletRequest</code>
+ * @param <ContainerResponseType> An implementation of <code>HttpServletResponse</code>
+ */
+public class JsonServletLogFormatter<ContainerRequestType extends HttpServletRequest, ContainerResponseType extends HttpServletResponse>
+        implements LogFormatter<ContainerRequestType, ContainerResponseType> {
+
+    //-------------------------------------------------------------
+    // Constants
+    //-------------------------------------------------------------
+
+    private static final int INITIAL_CAPACITY = 256;
+    // a builder that grew for an unusually long line is not kept by the thread
+    private static final int MAX_RETAINED_CAPACITY = 4096;
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_CAPACITY));
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    //-------------------------------------------------------------
+    // Variables - Private
+    //-------------------------------------------------------------
+
+    private final Set<Field> fields;
+    private final double successSampleRate;
+    private final Clock clock;
+
+    //-------------------------------------------------------------
+    // Constructors
+    //-------------------------------------------------------------
+
+    /**
+     * Creates a formatter that logs all the fields of every request
+     */
+    public JsonServletLogFormatter() {
+        this(EnumSet.allOf(Field.class), 1.0);
+    }
+
+    /**
+     * Creates a formatter
+     * @param fields The fields included in the log lines, in the order of the {@link Field} constants
+     * @param successSampleRate The fraction of the requests with a status code below <code>400</code> that are logged,
+     *                          between <code>0</code> and <code>1</code>
+     */
+    public JsonServletLogFormatter(Set<Field> fields, double successSampleRate) {
+        this(fields, successSampleRate, Clock.systemUTC());
+    }
+
+    JsonServletLogFormatter(Set<Field> fields, double successSampleRate, Clock clock) {
+        if (successSampleRate < 0 || successSampleRate > 1) {
+            throw new IllegalArgumentException("Sample rate must be between 0 and 1: " + successSampleRate);
+        }
+        this.fields = fields.isEmpty() ? Collections.emptySet() : EnumSet.copyOf(fields);
+        this.successSampleRate = successSampleRate;
+        this.clock = clock;
+    }
+
+    //-------------------------------------------------------------
+    // Implementation - LogFormatter
+    //-------------------------------------------------------------
+
+    @Override
+    @SuppressFBWarnings({ "SERVLET_HEADER_REFERER", "SERVLET_HEADER_USER_AGENT" })
+    public String format(ContainerRequestType servletRequest, ContainerResponseType servletResponse, SecurityContext ctx) {
+        int status = servletResponse.getStatus();
+        if (!isSampled(status)) {
+            return null;
+        }
+
+        AwsProxyRequestContext gatewayContext = null;
+        HttpApiV2ProxyRequestContext httpApiContext = null;
+        if (fields.contains(Field.TIME) || fields.contains(Field.REQUEST_ID)) {
+            gatewayContext = (AwsProxyRequestContext) servletRequest.getAttribute(API_GATEWAY_CONTEXT_PROPERTY);
+            httpApiContext = (HttpApiV2ProxyRequestContext) servletRequest.getAttribute(HTTP_API_CONTEXT_PROPERTY);
+        }
+
+        StringBuilder line = BUILDER.get();
+        line.setLength(0);
+        line.append('{');
+        for (Field field : fields) {
+            switch (field) {
+                case TIME:
+                    long timeMillis = 0;
+                    if (gatewayContext != null) {
+                        timeMillis = gatewayContext.getRequestTimeEpoch();
+                    } else if (httpApiContext != null) {
+                        timeMillis = httpApiContext.getTimeEpoch();
+                    }
+                    appendNumber(line, field, timeMillis > 0 ? timeMillis : clock.millis());
+                    break;
+                case REQUEST_ID:
+                    String requestId = null;
+                    if (gatewayContext != null) {
+                        requestId = gatewayContext.getRequestId();
+                    } else if (httpApiContext != null) {
+                        requestId = httpApiContext.getRequestId();
+                    }
+                    appendString(line, field, requestId);
+                    break;
+                case REMOTE_ADDR:
+                    appendString(line, field, servletRequest.getRemoteAddr());
+                    break;
+                case USER:
+                    Principal principal = servletRequest.getUserPrincipal();
+                    appendString(line, field, principal != null ? principal.getName() : null);
+                    break;
+                case METHOD:
+                    appendString(line, field, servletRequest.getMethod());
+                    break;
+                case PATH:
+                    appendString(line, field, servletRequest.getRequestURI());
+                    break;
+                case PROTOCOL:
+                    appendString(line, field, servletRequest.getProtocol());
+                    break;
+                case STATUS:
+                    appendNumber(line, field, status);
+                    break;
+                case BYTES:
+                    if (servletResponse instanceof AwsHttpServletResponse) {
+                        appendNumber(line, field, ((AwsHttpServletResponse) servletResponse).getAwsResponseBodySize());
+                    }
+                    break;
+                case REFERER:
+                    appendString(line, field, servletRequest.getHeader("referer"));
+                    break;
+                case USER_AGENT:
+                    appendString(line, field, servletRequest.getHeader("user-agent"));
+                    break;
+                default:
+                    break;
+            }
+        }
+        line.append('}');
+
+        String logLine = line.toString();
+        if (line.capacity() > MAX_RETAINED_CAPACITY) {
+            BUILDER.remove();
+        }
+        return logLine;
+    }
+
+    @Override
+    public boolean escapesLineBreaks() {
+        return true;
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Getter/Setter
+    //-------------------------------------------------------------
+
+    public Set<Field> getFields() {
+        return Collections.unmodifiableSet(fields);
+    }
+
+    public double getSuccessSampleRate() {
+        return successSampleRate;
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Private
+    //-------------------------------------------------------------
+
+    private boolean isSampled(int status) {
+        if (status >= 400 || successSampleRate >= 1) {
+            return true;
+        }
+        return successSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < successSampleRate;
+    }
+
+    private static void appendName(StringBuilder line, Field field) {
+        if (line.length() > 1) {
+            line.append(',');
+        }
+        line.append('"').append(field.getName()).append("\":");
+    }
+
+    private static void appendNumber(StringBuilder line, Field field, long value) {
+        appendName(line, field);
+        line.append(value);
+    }
+
+    private static void appendString(StringBuilder line, Field field, String value) {
+        if (value == null) {
+            return;
+        }
+        appendName(line, field);
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    line.append("\\\"");
+                    break;
+                case '\\':
+                    line.append("\\\\");
+                    break;
+                case '\n':
+                    line.append("\\n");
+                    break;
+                case '\r':
+                    line.append("\\r");
+                    break;
+                case '\t':
+                    line.append("\\t");
+                    break;
+                default:
+                    // the other control characters, and the unicode line separators some log viewers break lines on
+                    if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+                        line.append("\\u").append(HEX[c >> 12 & 0xF]).append(HEX[c >> 8 & 0xF])
+                                .append(HEX[c >> 4 & 0xF]).append(HEX[c & 0xF]);
+                    } else {
+                        line.append(c);
+                    }
+            }
+        }
+        line.append('"');
+    }
+
+    //-------------------------------------------------------------
+    // Inner Class -
+    //-------------------------------------------------------------
+
+    /**
+     * The fields of the log lines. Fields without a value for a request, for example the user of an anonymous request,
+     * are omitted from its line.
+     */
+    public enum Field {
+        /** The request time in milliseconds since the epoch, from the request context or the current time */
+        TIME("time"),
+        /** The request id of the API Gateway or HTTP API request context */
+        REQUEST_ID("requestId"),
+        REMOTE_ADDR("remoteAddr"),
+        /** The name of the user principal */
+        USER("user"),
+        METHOD("method"),
+        PATH("path"),
+        PROTOCOL("protocol"),
+        STATUS("status"),
+        /** The size of the response body in bytes */
+        BYTES("bytes"),
+        REFERER("referer"),
+        USER_AGENT("userAgent");
+
+        private final String name;
+
+        Field(String name) {
+            this.name = name;
+        }
+
+        /**
+         * @return The name of the field in the JSON object
+         */
+        public String getName() {
+            return name;
+        }
+    }
+}
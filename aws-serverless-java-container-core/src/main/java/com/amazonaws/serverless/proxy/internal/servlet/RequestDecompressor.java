@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy.internal.servlet;
+
+import com.amazonaws.serverless.proxy.model.ContainerConfig;
+import com.amazonaws.serverless.proxy.model.Headers;
+
+import jakarta.ws.rs.core.HttpHeaders;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Decompresses request bodies sent with a <code>Content-Encoding</code> of gzip or deflate. The request headers are
+ * rewritten when the servlet request is created so that the application sees the body as it will be read: the
+ * <code>Content-Encoding</code> header is removed and, since the inflated size is not known upfront, so is the
+ * <code>Content-Length</code>. The body itself is inflated lazily, as the application reads the input stream, and
+ * reading fails once the inflated body exceeds {@link ContainerConfig#getMaxInflatedRequestBodySize()}.
+ */
+final class RequestDecompressor {
+
+    //-------------------------------------------------------------
+    // Constants
+    //-------------------------------------------------------------
+
+    static final String CONTENT_ENCODING_HEADER = "Content-Encoding";
+    private static final int INFLATE_BUFFER_SIZE = 8192;
+
+    //-------------------------------------------------------------
+    // Constructors
+    //-------------------------------------------------------------
+
+    private RequestDecompressor() {
+        // utility class
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Package
+    //-------------------------------------------------------------
+
+    /**
+     * Returns the encoding of the body if request decompression is enabled and the body is encoded with exactly one
+     * supported coding. Bodies with stacked or unsupported codings are read as they are.
+     * @param headers The multi-value request headers, can be null
+     * @param config The container configuration
+     * @return The encoding the body has to be decoded with, or <code>null</code> if the body is read as it is
+     */
+    static Encoding getContentEncoding(Headers headers, ContainerConfig config) {
+        if (!config.isRequestDecompressionEnabled() || headers == null) {
+            return null;
+        }
+        List<String> values = headers.get(CONTENT_ENCODING_HEADER);
+        if (values == null || values.size() != 1 || values.get(0) == null) {
+            return null;
+        }
+        return Encoding.fromToken(values.get(0).trim().toLowerCase(Locale.ENGLISH));
+    }
+
+    /**
+     * Copies the request headers without the <code>Content-Encoding</code> and <code>Content-Length</code> headers,
+     * which no longer describe the decoded body. The given headers are not modified, they belong to the event.
+     * @param headers The multi-value request headers
+     * @return A copy of the headers
+     */
+    static Headers withoutContentEncoding(Headers headers) {
+        Headers decoded = new Headers();
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (!CONTENT_ENCODING_HEADER.equalsIgnoreCase(header.getKey())
+                    && !HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(header.getKey())) {
+                decoded.put(header.getKey(), new ArrayList<>(header.getValue()));
+            }
+        }
+        return decoded;
+    }
+
+    /**
+     * Wraps the encoded body in a stream that inflates it on read.
+     * @param body The encoded request body
+     * @param encoding The encoding returned by {@link #getContentEncoding(Headers, ContainerConfig)}
+     * @param maxInflatedSize The maximum number of bytes the application is allowed to read from the inflated body
+     * @return A stream of the decoded body
+     * @throws IOException If the body does not start with a valid header for the encoding
+     */
+    static InputStream decompress(InputStream body, Encoding encoding, long maxInflatedSize) throws IOException {
+        InputStream inflated;
+        if (encoding == Encoding.GZIP) {
+            inflated = new GZIPInputStream(body, INFLATE_BUFFER_SIZE);
+        } else {
+            InputStream in = body.markSupported() ? body : new BufferedInputStream(body);
+            // RFC 9110 defines deflate as the zlib format but some clients send a raw deflate stream
+            inflated = new InflaterInputStream(in, new Inflater(!hasZlibHeader(in)), INFLATE_BUFFER_SIZE);
+        }
+        return new InflatedSizeLimitInputStream(inflated, maxInflatedSize);
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Private
+    //-------------------------------------------------------------
+
+    private static boolean hasZlibHeader(InputStream in) throws IOException {
+        in.mark(2);
+        int cmf = in.read();
+        int flg = in.read();
+        in.reset();
+        if (cmf == -1 || flg == -1) {
+            return true;
+        }
+        // compression method 8 (deflate) and a header checksum that is a multiple of 31, see RFC 1950
+        return (cmf & 0x0F) == 8 && ((cmf << 8) | flg) % 31 == 0;
+    }
+
+    //-------------------------------------------------------------
+    // Inner Class -
+    //-------------------------------------------------------------
+
+    /**
+     * The content codings the decompressor can decode
+     */
+    enum Encoding {
+        GZIP,
+        DEFLATE;
+
+        static Encoding fromToken(String token) {
+            if ("gzip".equals(token) || "x-gzip".equals(token)) {
+                return GZIP;
+            }
+            if ("deflate".equals(token)) {
+                return DEFLATE;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Fails reads once more than the allowed number of bytes have been inflated, protecting the function from small
+     * bodies that expand to exhaust the available memory.
+     */
+    static final class InflatedSizeLimitInputStream extends FilterInputStream {
+        private final long maxSize;
+        private long count;
+
+        InflatedSizeLimitInputStream(InputStream in, long maxSize) {
+            super(in);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                checkSize(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                checkSize(read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            checkSize(skipped);
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void checkSize(long read) throws IOException {
+            count += read;
+            if (count > maxSize) {
+                throw new IOException("Decompressed request body exceeds the maximum allowed size of " + maxSize + " bytes");
+            }
+        }
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy.internal.servlet;
+
+import com.amazonaws.serverless.proxy.internal.MediaTypeClassifier;
+import com.amazonaws.serverless.proxy.model.ContainerConfig;
+import com.amazonaws.serverless.proxy.model.Headers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.ws.rs.core.HttpHeaders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses response bodies in the response writer. The compressor negotiates an encoding with the value of the
+ * <code>Accept-Encoding</code> request header, honoring <code>q</code> values, and only compresses bodies whose content
+ * type is compressible and whose size reaches the configured threshold. Bodies that would not fit in the AWS Lambda
+ * response payload are compressed regardless of the thresholds when {@link ContainerConfig#isCompressOversizedResponses()}
+ * is enabled.
+ */
+final class ResponseCompressor {
+
+    //-------------------------------------------------------------
+    // Constants
+    //-------------------------------------------------------------
+
+    static final String VARY_HEADER = "Vary";
+    static final String CONTENT_ENCODING_HEADER = "Content-Encoding";
+    static final String ACCEPT_ENCODING_HEADER = "Accept-Encoding";
+    static final int LAMBDA_MAX_RESPONSE_PAYLOAD_BYTES = 6 * 1024 * 1024;
+    // leaves room for the status code, headers, and JSON envelope of the proxy response
+    static final int RESPONSE_ENVELOPE_HEADROOM_BYTES = 64 * 1024;
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseCompressor.class);
+    private static final Constructor<? extends OutputStream> BROTLI_STREAM = loadBrotliStream();
+
+    //-------------------------------------------------------------
+    // Constructors
+    //-------------------------------------------------------------
+
+    private ResponseCompressor() {
+        // utility class
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Package
+    //-------------------------------------------------------------
+
+    /**
+     * Compresses the given body if the request, response, and configuration allow it. When the body is compressed the
+     * <code>Content-Encoding</code> and <code>Vary</code> headers are updated and <code>Content-Length</code> is removed.
+     * @param body The uncompressed response body
+     * @param classification The classification of the response content type
+     * @param response The servlet response the body belongs to
+     * @param config The container configuration
+     * @return The compressed body, or <code>null</code> if the body should be returned as it is
+     */
+    static byte[] compress(byte[] body, MediaTypeClassifier.Classification classification,
+                           AwsHttpServletResponse response, ContainerConfig config) {
+        if (body == null || body.length == 0 || !classification.isCompressible() || !isCompressibleResponse(response)) {
+            return null;
+        }
+
+        boolean oversized = config.isCompressOversizedResponses() && isOversized(body.length, classification.isBinary());
+        if (!oversized && (!config.isResponseCompressionEnabled()
+                || body.length < config.getResponseCompressionMinSize(response.getContentType()))) {
+            return null;
+        }
+
+        Headers headers = response.getAwsResponseHeaders();
+        addVary(headers);
+
+        Encoding encoding = negotiate(getAcceptEncoding(response));
+        if (encoding == null) {
+            if (oversized) {
+                log.warn("Response body of {} bytes exceeds the Lambda payload limit but the client does not accept a supported encoding",
+                        body.length);
+            }
+            return null;
+        }
+
+        byte[] compressed;
+        try {
+            compressed = encoding.encode(body);
+        } catch (IOException e) {
+            log.error("Could not compress response body with " + encoding.getToken(), e);
+            return null;
+        }
+        // compressed bodies are always base64-encoded, make sure we are still saving space after encoding
+        if (encodedLength(compressed.length, true) >= encodedLength(body.length, classification.isBinary())) {
+            return null;
+        }
+
+        headers.putSingle(CONTENT_ENCODING_HEADER, encoding.getToken());
+        headers.remove(HttpHeaders.CONTENT_LENGTH);
+        ConditionalGetEvaluator.suffixEtag(headers, encoding.getToken());
+        return compressed;
+    }
+
+    /**
+     * Picks the encoding to use for the given <code>Accept-Encoding</code> header value. Encodings with the highest
+     * <code>q</code> value win, ties are broken by preferring br over gzip over deflate. The <code>*</code> token applies
+     * to all supported encodings that are not explicitly listed.
+     * @param acceptEncoding The value of the request header
+     * @return The selected encoding, or <code>null</code> if no supported encoding is acceptable
+     */
+    static Encoding negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+            return null;
+        }
+        // -1 marks encodings that are not listed in the header
+        float[] qualities = new float[Encoding.values().length];
+        Arrays.fill(qualities, -1f);
+        float wildcard = 0f;
+
+        for (String token : acceptEncoding.split(",")) {
+            String coding = token;
+            float q = 1.0f;
+            int semidx = token.indexOf(';');
+            if (semidx >= 0) {
+                coding = token.substring(0, semidx);
+                q = parseQuality(token.substring(semidx + 1));
+            }
+            coding = coding.trim().toLowerCase(Locale.ENGLISH);
+            if ("*".equals(coding)) {
+                wildcard = q;
+                continue;
+            }
+            Encoding encoding = Encoding.fromToken(coding);
+            if (encoding != null) {
+                qualities[encoding.ordinal()] = Math.max(q, qualities[encoding.ordinal()]);
+            }
+        }
+
+        Encoding selected = null;
+        float selectedQuality = 0f;
+        for (Encoding encoding : Encoding.values()) {
+            if (!encoding.isAvailable()) {
+                continue;
+            }
+            float q = qualities[encoding.ordinal()] >= 0f ? qualities[encoding.ordinal()] : wildcard;
+            if (q > selectedQuality) {
+                selected = encoding;
+                selectedQuality = q;
+            }
+        }
+        return selected;
+    }
+
+    static boolean isOversized(int bodyLength, boolean base64) {
+        return encodedLength(bodyLength, base64) > LAMBDA_MAX_RESPONSE_PAYLOAD_BYTES - RESPONSE_ENVELOPE_HEADROOM_BYTES;
+    }
+
+    private static long encodedLength(int bodyLength, boolean base64) {
+        return base64 ? ((bodyLength + 2L) / 3L) * 4L : bodyLength;
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Private
+    //-------------------------------------------------------------
+
+    private static boolean isCompressibleResponse(AwsHttpServletResponse response) {
+        int status = response.getStatus();
+        if (status < HttpServletResponse.SC_OK || status == HttpServletResponse.SC_NO_CONTENT
+                || status == HttpServletResponse.SC_PARTIAL_CONTENT || status == HttpServletResponse.SC_NOT_MODIFIED) {
+            return false;
+        }
+        Headers headers = response.getAwsResponseHeaders();
+        if (headers.containsKey(CONTENT_ENCODING_HEADER)) {
+            return false;
+        }
+        String cacheControl = headers.getFirst(HttpHeaders.CACHE_CONTROL);
+        return cacheControl == null || !cacheControl.toLowerCase(Locale.ENGLISH).contains("no-transform");
+    }
+
+    private static String getAcceptEncoding(AwsHttpServletResponse response) {
+        if (response.getServletRequest() == null) {
+            return null;
+        }
+        return response.getServletRequest().getHeader(ACCEPT_ENCODING_HEADER);
+    }
+
+    static void addVary(Headers headers) {
+        List<String> values = headers.get(VARY_HEADER);
+        if (values == null) {
+            headers.add(VARY_HEADER, ACCEPT_ENCODING_HEADER);
+            return;
+        }
+        for (String value : values) {
+            for (String field : value.split(",")) {
+                String trimmed = field.trim();
+                if ("*".equals(trimmed) || ACCEPT_ENCODING_HEADER.equalsIgnoreCase(trimmed)) {
+                    return;
+                }
+            }
+        }
+        headers.add(VARY_HEADER, ACCEPT_ENCODING_HEADER);
+    }
+
+    private static float parseQuality(String parameters) {
+        for (String parameter : parameters.split(";")) {
+            String[] kv = parameter.split("=", 2);
+            if (kv.length == 2 && "q".equals(kv[0].trim().toLowerCase(Locale.ENGLISH))) {
+                try {
+                    return Float.parseFloat(kv[1].trim());
+                } catch (NumberFormatException e) {
+                    return 0f;
+                }
+            }
+        }
+        return 1.0f;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Constructor<? extends OutputStream> loadBrotliStream() {
+        try {
+            Class<?> loader = Class.forName("com.aayushatharva.brotli4j.Brotli4jLoader");
+            if (!Boolean.TRUE.equals(loader.getMethod("isAvailable").invoke(null))) {
+                return null;
+            }
+            Class<?> streamClass = Class.forName("com.aayushatharva.brotli4j.encoder.BrotliOutputStream");
+            return (Constructor<? extends OutputStream>) streamClass.getConstructor(OutputStream.class);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    //-------------------------------------------------------------
+    // Inner Class -
+    //-------------------------------------------------------------
+
+    /**
+     * The content codings supported by the compressor, in order of preference
+     */
+    enum Encoding {
+        BROTLI("br"),
+        GZIP("gzip"),
+        DEFLATE("deflate");
+
+        private final String token;
+
+        Encoding(String token) {
+            this.token = token;
+        }
+
+        String getToken() {
+            return token;
+        }
+
+        boolean isAvailable() {
+            return this != BROTLI || BROTLI_STREAM != null;
+        }
+
+        static Encoding fromToken(String token) {
+            for (Encoding e : values()) {
+                if (e.token.equals(token)) {
+                    return e;
+                }
+            }
+            // x-gzip is an alias for gzip as per RFC 9110 section 8.4.1.3
+            if ("x-gzip".equals(token)) {
+                return GZIP;
+            }
+            return null;
+        }
+
+        byte[] encode(byte[] body) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+            try (OutputStream compressor = wrap(out)) {
+                compressor.write(body);
+            }
+            return out.toByteArray();
+        }
+
+        private OutputStream wrap(OutputStream out) throws IOException {
+            switch (this) {
+                case BROTLI:
+                    try {
+                        return BROTLI_STREAM.newInstance(out);
+                    } catch (ReflectiveOperationException e) {
+                        throw new IOException("Could not create Brotli output stream", e);
+                    }
+                case GZIP:
+                    return new GZIPOutputStream(out);
+                default:
+                    return new DeflaterOutputStream(out);
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy.internal.servlet;
+
+import com.amazonaws.serverless.exceptions.ContainerInitializationException;
+import com.amazonaws.serverless.proxy.internal.VirtualThreads;
+
+import jakarta.servlet.ServletException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Initializes the servlets loaded on startup and the registered filters on a bounded pool of threads. Servlets that
+ * share the same <code>loadOnStartup</code> value are independent of each other and are initialized in parallel, the
+ * groups are initialized one after the other in ascending order so that a servlet can still rely on the servlets with
+ * a lower value. Filters are initialized once all the servlets are ready, since a filter may look up a context created
+ * by a servlet.
+ *
+ * The first failure is thrown as a <code>ContainerInitializationException</code>. The initializations that did not
+ * start yet are skipped, the ones that were already running are not interrupted, a servlet could be left half
+ * initialized, and their failures are added to the exception as suppressed exceptions.
+ */
+class ServletInitializationScheduler {
+
+    //-------------------------------------------------------------
+    // Constants
+    //-------------------------------------------------------------
+
+    static final String THREAD_NAME_PREFIX = "servlet-init-";
+
+    //-------------------------------------------------------------
+    // Variables - Private
+    //-------------------------------------------------------------
+
+    private final int parallelism;
+
+    //-------------------------------------------------------------
+    // Constructors
+    //-------------------------------------------------------------
+
+    ServletInitializationScheduler(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Package
+    //-------------------------------------------------------------
+
+    void initialize(Collection<AwsServletRegistration> registrations, Collection<FilterHolder> filters)
+            throws ContainerInitializationException {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, VirtualThreads.factory(THREAD_NAME_PREFIX));
+        try {
+            for (List<Task> group : groupServlets(registrations).values()) {
+                run(executor, group);
+            }
+            List<Task> filterTasks = new ArrayList<>(filters.size());
+            for (FilterHolder holder : filters) {
+                filterTasks.add(new Task("filter " + holder.getFilterName(), holder::init));
+            }
+            run(executor, filterTasks);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    static Map<Integer, List<Task>> groupServlets(Collection<AwsServletRegistration> registrations) {
+        Map<Integer, List<Task>> groups = new TreeMap<>();
+        for (AwsServletRegistration r : registrations) {
+            if (r.getLoadOnStartup() == -1 || r.getServlet() == null) { // skip Servlets that can be lazily loaded
+                continue;
+            }
+            groups.computeIfAbsent(r.getLoadOnStartup(), k -> new ArrayList<>())
+                    .add(new Task("servlet " + r.getName(), r::initializeServlet));
+        }
+        return groups;
+    }
+
+    static void run(ExecutorService executor, List<Task> tasks) throws ContainerInitializationException {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        ExecutorCompletionService<Void> completion = new ExecutorCompletionService<>(executor);
+        AtomicBoolean failed = new AtomicBoolean();
+        List<Future<Void>> futures = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            futures.add(completion.submit(() -> {
+                if (failed.get()) {
+                    return null;
+                }
+                try {
+                    return task.call();
+                } catch (InitializationFailure e) {
+                    failed.set(true);
+                    throw e;
+                }
+            }));
+        }
+
+        ContainerInitializationException failure = null;
+        for (int i = 0; i < tasks.size(); i++) {
+            Exception error;
+            try {
+                completion.take().get();
+                continue;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                for (Future<Void> f : futures) {
+                    f.cancel(true);
+                }
+                throw new ContainerInitializationException("Interrupted while initializing servlets and filters", e);
+            } catch (ExecutionException e) {
+                error = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            }
+            if (failure == null) {
+                // fail fast, pending tasks are skipped, the failures of the running ones are aggregated
+                failure = error instanceof InitializationFailure
+                        ? new ContainerInitializationException(error.getMessage(), (Exception) error.getCause())
+                        : new ContainerInitializationException("Could not initialize servlets and filters", error);
+            } else {
+                failure.addSuppressed(error);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    //-------------------------------------------------------------
+    // Inner Class -
+    //-------------------------------------------------------------
+
+    @FunctionalInterface
+    interface Initializer {
+        void init() throws ServletException;
+    }
+
+    static final class Task {
+        private final String name;
+        private final Initializer initializer;
+
+        Task(String name, Initializer initializer) {
+            this.name = name;
+            this.initializer = initializer;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        Void call() throws InitializationFailure {
+            try {
+                initializer.init();
+            } catch (ServletException | RuntimeException e) {
+                throw new InitializationFailure("Could not initialize " + name, e);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Carries the name of the servlet or filter that failed out of the executor
+     */
+    static final class InitializationFailure extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        InitializationFailure(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy.internal.servlet;
+
+import com.amazonaws.serverless.proxy.internal.VirtualThreads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hashed timer wheel used to expire async contexts. Scheduling and cancelling a timeout are constant time operations
+ * that do not take a lock, which matters because most async requests complete long before their timeout. A single
+ * worker thread advances the wheel one tick at a time and hands the expired tasks to their executor, it parks while no
+ * timeout is pending so that an idle function does not wake up every tick.
+ *
+ * Timeouts fire at the first tick after their deadline, the precision is the duration of a tick.
+ */
+final class TimerWheel {
+
+    //-------------------------------------------------------------
+    // Constants
+    //-------------------------------------------------------------
+
+    static final String THREAD_NAME_PREFIX = "async-timeout-";
+
+    //-------------------------------------------------------------
+    // Variables - Private - Static
+    //-------------------------------------------------------------
+
+    private static final Logger log = LoggerFactory.getLogger(TimerWheel.class);
+
+    //-------------------------------------------------------------
+    // Variables - Private
+    //-------------------------------------------------------------
+
+    private final long tickNanos;
+    private final int mask;
+    private final List<List<Timeout>> buckets;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final long startNanos = System.nanoTime();
+    private volatile Thread worker;
+    // only accessed by the worker thread
+    private long tick;
+
+    //-------------------------------------------------------------
+    // Constructors
+    //-------------------------------------------------------------
+
+    /**
+     * Creates a wheel, the worker thread is started by the first call to <code>schedule</code>
+     * @param tickMillis The duration of a tick in milliseconds
+     * @param wheelSize The number of buckets, rounded up to a power of two
+     */
+    TimerWheel(long tickMillis, int wheelSize) {
+        tickNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, tickMillis));
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        mask = size - 1;
+        buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Package
+    //-------------------------------------------------------------
+
+    /**
+     * Schedules a task to run once the delay elapsed
+     * @param task The task to run
+     * @param delayMillis The delay in milliseconds
+     * @param executor The executor that runs the task, the worker thread only advances the wheel
+     * @return A handle to cancel the timeout
+     */
+    Timeout schedule(Runnable task, long delayMillis, Executor executor) {
+        Timeout timeout = new Timeout(task, executor, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis));
+        active.incrementAndGet();
+        pending.add(timeout);
+        if (started.compareAndSet(false, true)) {
+            Thread thread = VirtualThreads.factory(THREAD_NAME_PREFIX).newThread(this::run);
+            worker = thread;
+            thread.start();
+        } else {
+            Thread thread = worker;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+        }
+        return timeout;
+    }
+
+    /**
+     * The number of timeouts that were neither cancelled nor expired yet
+     * @return The number of pending timeouts
+     */
+    int getActiveCount() {
+        return active.get();
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Private
+    //-------------------------------------------------------------
+
+    private void run() {
+        tick = currentTick(System.nanoTime());
+        while (!Thread.currentThread().isInterrupted()) {
+            if (active.get() == 0) {
+                // schedule unparks the worker, the tick is realigned with the clock after the wait
+                LockSupport.park(this);
+                tick = currentTick(System.nanoTime());
+                continue;
+            }
+            long deadline = startNanos + (tick + 1) * tickNanos;
+            long now = System.nanoTime();
+            if (now - deadline < 0) {
+                LockSupport.parkNanos(this, deadline - now);
+                continue;
+            }
+            transferPending();
+            expire(buckets.get((int) (tick & mask)));
+            tick++;
+        }
+    }
+
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.isDone()) {
+                continue;
+            }
+            long deadlineTick = currentTick(timeout.deadlineNanos + tickNanos - 1);
+            long ticks = Math.max(deadlineTick, tick) - tick;
+            timeout.rounds = ticks / buckets.size();
+            buckets.get((int) ((tick + ticks) & mask)).add(timeout);
+        }
+    }
+
+    private void expire(List<Timeout> bucket) {
+        int kept = 0;
+        for (int i = 0; i < bucket.size(); i++) {
+            Timeout timeout = bucket.get(i);
+            if (timeout.isDone()) {
+                continue;
+            }
+            if (timeout.rounds <= 0) {
+                timeout.expire();
+                continue;
+            }
+            timeout.rounds--;
+            bucket.set(kept++, timeout);
+        }
+        for (int i = bucket.size() - 1; i >= kept; i--) {
+            bucket.remove(i);
+        }
+    }
+
+    private long currentTick(long nanos) {
+        return (nanos - startNanos) / tickNanos;
+    }
+
+    //-------------------------------------------------------------
+    // Inner Class -
+    //-------------------------------------------------------------
+
+    /**
+     * A scheduled task, only one of <code>cancel</code> and the expiration takes effect
+     */
+    final class Timeout {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final Runnable task;
+        private final Executor executor;
+        private final long deadlineNanos;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        // only accessed by the worker thread
+        private long rounds;
+
+        private Timeout(Runnable task, Executor executor, long deadlineNanos) {
+            this.task = task;
+            this.executor = executor;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * Cancels the timeout
+         * @return <code>false</code> if the timeout already expired or was cancelled
+         */
+        boolean cancel() {
+            if (state.compareAndSet(PENDING, CANCELLED)) {
+                active.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        boolean isDone() {
+            return state.get() != PENDING;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(PENDING, EXPIRED)) {
+                return;
+            }
+            active.decrementAndGet();
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                log.error("Could not run expired timeout", e);
+            }
+        }
+    }
+}
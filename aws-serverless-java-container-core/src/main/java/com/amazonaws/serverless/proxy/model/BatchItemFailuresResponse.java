@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Partial batch response returned to an SQS event source mapping that has <code>ReportBatchItemFailures</code> enabled.
+ * Lambda deletes the messages of the batch that are not listed, the listed messages become visible again.
+ */
+public class BatchItemFailuresResponse {
+
+    //-------------------------------------------------------------
+    // Variables - Private
+    //-------------------------------------------------------------
+
+    private List<ItemFailure> batchItemFailures = new ArrayList<>();
+
+    //-------------------------------------------------------------
+    // Methods - Getter/Setter
+    //-------------------------------------------------------------
+
+    public List<ItemFailure> getBatchItemFailures() {
+        return batchItemFailures;
+    }
+
+    public void setBatchItemFailures(List<ItemFailure> batchItemFailures) {
+        this.batchItemFailures = batchItemFailures;
+    }
+
+    //-------------------------------------------------------------
+    // Inner Class -
+    //-------------------------------------------------------------
+
+    public static class ItemFailure {
+        private String itemIdentifier;
+
+        public ItemFailure() {
+
+        }
+
+        public ItemFailure(String itemIdentifier) {
+            this.itemIdentifier = itemIdentifier;
+        }
+
+        /**
+         * @return The message id of the failed record
+         */
+        public String getItemIdentifier() {
+            return itemIdentifier;
+        }
+
+        public void setItemIdentifier(String itemIdentifier) {
+            this.itemIdentifier = itemIdentifier;
+        }
+    }
+}
@@ -12,12 +12,16 @@
  */
 package com.amazonaws.serverless.proxy.model;
 
+import com.amazonaws.serverless.proxy.internal.MediaTypeClassifier;
 import com.amazonaws.serverless.proxy.internal.servlet.AwsProxyHttpServletRequest;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 /**
  * Configuration parameters for the framework
@@ -26,7 +30,15 @@ public class ContainerConfig {
     public static final String DEFAULT_URI_ENCODING = "UTF-8";
     public static final String DEFAULT_CONTENT_CHARSET = "ISO-8859-1";
     private static final List<String> DEFAULT_FILE_PATHS = new ArrayList<String>() {{ add("/tmp"); add("/var/task"); }};
+    private static final String[] DEFAULT_COMPRESSED_CONTENT_TYPES = {
+            "image/jpeg", "image/png", "image/gif", "image/webp", "image/avif", "audio/*", "video/*", "font/woff", "font/woff2",
+            "application/zip", "application/gzip", "application/x-gzip", "application/zstd", "application/x-bzip2",
+            "application/x-xz", "application/x-7z-compressed", "application/x-rar-compressed"
+    };
     private static final int DEFAULT_MAX_INIT_TIMEOUT_MS = 20_000;
+    private static final int DEFAULT_RESPONSE_COMPRESSION_MIN_SIZE = 1024;
+    private static final long DEFAULT_MAX_INFLATED_REQUEST_BODY_SIZE = 20L * 1024 * 1024;
+    private static final long DEFAULT_DEADLINE_SAFETY_MARGIN = 500;
     private static final String MAX_INIT_TIMEOUT_ENVIRONMENT_VARIABLE_NAME = "AWS_SERVERLESS_JAVA_CONTAINER_MAX_INIT_TIMEOUT";
     private static final int MAX_INIT_TIMEOUT_MS = Integer.parseInt(System.getenv().getOrDefault(
             MAX_INIT_TIMEOUT_ENVIRONMENT_VARIABLE_NAME, Integer.toString(DEFAULT_MAX_INIT_TIMEOUT_MS)));
@@ -40,9 +52,19 @@ public class ContainerConfig {
         configuration.setValidFilePaths(DEFAULT_FILE_PATHS);
         configuration.setQueryStringCaseSensitive(false);
         configuration.addBinaryContentTypes("application/octet-stream", "image/jpeg", "image/png", "image/gif");
+        configuration.addCompressedContentTypes(DEFAULT_COMPRESSED_CONTENT_TYPES);
         configuration.setDefaultContentCharset(DEFAULT_CONTENT_CHARSET);
         configuration.setInitializationTimeout(MAX_INIT_TIMEOUT_MS);
         configuration.setDisableExceptionMapper(false);
+        configuration.setResponseCompressionEnabled(false);
+        configuration.setResponseCompressionMinSize(DEFAULT_RESPONSE_COMPRESSION_MIN_SIZE);
+        configuration.setCompressOversizedResponses(true);
+        configuration.setRequestDecompressionEnabled(false);
+        configuration.setAutomaticEtagEnabled(false);
+        configuration.setMaxInflatedRequestBodySize(DEFAULT_MAX_INFLATED_REQUEST_BODY_SIZE);
+        configuration.setInitializationParallelism(1);
+        configuration.setLazyServletWarmupEnabled(false);
+        configuration.setDeadlineSafetyMargin(DEFAULT_DEADLINE_SAFETY_MARGIN);
 
         return configuration;
     }
@@ -61,13 +83,28 @@ public class ContainerConfig {
     private List<String> customDomainNames;
     private boolean queryStringCaseSensitive;
     private final HashSet<String> binaryContentTypes;
+    private final HashSet<String> compressedContentTypes;
+    private volatile MediaTypeClassifier mediaTypeClassifier;
     private int initializationTimeout;
     private boolean disableExceptionMapper;
+    private boolean responseCompressionEnabled;
+    private int responseCompressionMinSize;
+    private final Map<String, Integer> responseCompressionMinSizes;
+    private boolean compressOversizedResponses;
+    private boolean requestDecompressionEnabled;
+    private long maxInflatedRequestBodySize;
+    private boolean automaticEtagEnabled;
+    private int initializationParallelism;
+    private boolean lazyServletWarmupEnabled;
+    private Executor asyncContextExecutor;
+    private long deadlineSafetyMargin;
 
     public ContainerConfig() {
         validFilePaths = new ArrayList<>();
         customDomainNames = new ArrayList<>();
         binaryContentTypes = new HashSet<>();
+        compressedContentTypes = new HashSet<>();
+        responseCompressionMinSizes = new ConcurrentHashMap<>();
     }
 
 
@@ -251,22 +288,60 @@ public class ContainerConfig {
     }
 
     /**
-     * Configure specified content type(s) as binary
-     * @param contentTypes list of exact content types that will be considered as binary
+     * Configure specified content type(s) as binary. Besides exact content types, this method accepts wildcard sub-types
+     * such as <code>image/*</code> and structured syntax suffixes such as <code>application/*+protobuf</code> or
+     * <code>+protobuf</code>. See {@link MediaTypeClassifier} for the full syntax.
+     * @param contentTypes list of content type patterns that will be considered as binary
      */
-    public void addBinaryContentTypes(String... contentTypes) {
+    public synchronized void addBinaryContentTypes(String... contentTypes) {
         if(contentTypes != null) {
             binaryContentTypes.addAll(Arrays.asList(contentTypes));
+            mediaTypeClassifier = null;
         }
     }
 
     /**
-     * Determine if specified content type has been configured as binary
+     * Determine if specified content type has been configured as binary. Parameters in the content type, such as
+     * <code>charset</code>, are ignored.
      * @param contentType content type to query
-     * @return
+     * @return <code>true</code> if the content type matches one of the configured binary content types
      */
     public boolean isBinaryContentType(String contentType) {
-        return contentType != null && binaryContentTypes.contains(contentType.trim());
+        return contentType != null && getMediaTypeClassifier().isBinary(contentType);
+    }
+
+
+    /**
+     * Configure specified content type(s) as already compressed. Responses with these content types are never compressed
+     * by the container. By default, this includes common image, audio, video, font, and archive formats. Patterns
+     * use the same syntax as {@link #addBinaryContentTypes(String...)}.
+     * @param contentTypes list of content type patterns whose payload is already compressed
+     */
+    public synchronized void addCompressedContentTypes(String... contentTypes) {
+        if (contentTypes != null) {
+            compressedContentTypes.addAll(Arrays.asList(contentTypes));
+            mediaTypeClassifier = null;
+        }
+    }
+
+
+    /**
+     * Returns the media type classifier compiled from the configured binary and compressed content types. The classifier
+     * is compiled lazily the first time it is requested and recompiled whenever the configured content types change.
+     * @return The compiled classifier
+     */
+    public MediaTypeClassifier getMediaTypeClassifier() {
+        MediaTypeClassifier classifier = mediaTypeClassifier;
+        if (classifier == null) {
+            synchronized (this) {
+                classifier = mediaTypeClassifier;
+                if (classifier == null) {
+                    classifier = new MediaTypeClassifier(binaryContentTypes, compressedContentTypes);
+                    mediaTypeClassifier = classifier;
+                }
+            }
+        }
+        return classifier;
     }
 
 
@@ -331,4 +406,228 @@ public class ContainerConfig {
     public void setDisableExceptionMapper(boolean disable) {
         this.disableExceptionMapper = disable;
     }
+
+    /**
+     * Whether the container compresses responses when the client accepts a supported <code>Content-Encoding</code>.
+     * @return <code>true</code> if response compression is enabled, <code>false</code> otherwise.
+     */
+    public boolean isResponseCompressionEnabled() {
+        return responseCompressionEnabled;
+    }
+
+    /**
+     * Enables compression of response bodies. When enabled, the response writer negotiates an encoding with the
+     * <code>Accept-Encoding</code> request header (gzip and deflate, plus br when Brotli4j is on the classpath) and
+     * compresses compressible bodies larger than the configured minimum size. Compressed bodies are always returned
+     * base64-encoded. This is disabled by default.
+     * @param enabled <code>true</code> to compress responses, <code>false</code> otherwise
+     */
+    public void setResponseCompressionEnabled(boolean enabled) {
+        this.responseCompressionEnabled = enabled;
+    }
+
+    /**
+     * Returns the default minimum body size, in bytes, a response must reach before it is compressed.
+     * @return The minimum size in bytes. By default this is set to 1024
+     */
+    public int getResponseCompressionMinSize() {
+        return responseCompressionMinSize;
+    }
+
+    /**
+     * Sets the default minimum body size, in bytes, a response must reach before it is compressed. Smaller bodies
+     * rarely shrink enough to make up for the cost of compression and base64-encoding.
+     * @param minSize The minimum size in bytes
+     */
+    public void setResponseCompressionMinSize(int minSize) {
+        this.responseCompressionMinSize = minSize;
+    }
+
+    /**
+     * Overrides the minimum compression size for a specific content type. The content type can be an exact media type,
+     * such as <code>application/json</code>, or a wildcard sub-type such as <code>text/*</code>. Exact media types
+     * take precedence over wildcards.
+     * @param contentType The media type the threshold applies to
+     * @param minSize The minimum size in bytes. Use <code>Integer.MAX_VALUE</code> to never compress this content type
+     */
+    public void setResponseCompressionMinSize(String contentType, int minSize) {
+        String mediaType = MediaTypeClassifier.stripParameters(contentType);
+        if (!mediaType.isEmpty()) {
+            responseCompressionMinSizes.put(mediaType, minSize);
+        }
+    }
+
+    /**
+     * Returns the minimum compression size for the given content type. Parameters in the content type are ignored.
+     * @param contentType The raw content type of the response
+     * @return The threshold configured for the media type or its wildcard sub-type, or the default minimum size
+     */
+    public int getResponseCompressionMinSize(String contentType) {
+        if (responseCompressionMinSizes.isEmpty() || contentType == null) {
+            return responseCompressionMinSize;
+        }
+        String mediaType = MediaTypeClassifier.stripParameters(contentType);
+        Integer minSize = responseCompressionMinSizes.get(mediaType);
+        if (minSize == null) {
+            int slashidx = mediaType.indexOf('/');
+            if (slashidx > 0) {
+                minSize = responseCompressionMinSizes.get(mediaType.substring(0, slashidx) + "/*");
+            }
+        }
+        return minSize != null ? minSize : responseCompressionMinSize;
+    }
+
+    /**
+     * Whether responses that would exceed the AWS Lambda response payload limit are compressed even when response
+     * compression is disabled.
+     * @return <code>true</code> if oversized responses are compressed, <code>false</code> otherwise.
+     */
+    public boolean isCompressOversizedResponses() {
+        return compressOversizedResponses;
+    }
+
+    /**
+     * Tells the container to compress responses whose uncompressed, encoded body would not fit in the 6MB AWS Lambda
+     * response payload, as long as the client accepts a supported encoding. Without compression these responses fail
+     * to be returned. This is enabled by default and applies regardless of {@link #setResponseCompressionEnabled(boolean)}.
+     * @param compress <code>true</code> to compress oversized responses, <code>false</code> otherwise
+     */
+    public void setCompressOversizedResponses(boolean compress) {
+        this.compressOversizedResponses = compress;
+    }
+
+    /**
+     * Whether request bodies sent with a gzip or deflate <code>Content-Encoding</code> are decompressed before they
+     * reach the application.
+     * @return <code>true</code> if request decompression is enabled, <code>false</code> otherwise.
+     */
+    public boolean isRequestDecompressionEnabled() {
+        return requestDecompressionEnabled;
+    }
+
+    /**
+     * Enables transparent decompression of request bodies. When enabled, bodies encoded with gzip or deflate are
+     * inflated as the application reads the input stream, and the <code>Content-Encoding</code> and
+     * <code>Content-Length</code> headers are removed from the request the application sees. This is disabled by
+     * default so that applications that already decode request bodies themselves are not affected.
+     * @param enabled <code>true</code> to decompress request bodies, <code>false</code> otherwise
+     */
+    public void setRequestDecompressionEnabled(boolean enabled) {
+        this.requestDecompressionEnabled = enabled;
+    }
+
+    /**
+     * Returns the maximum size, in bytes, a decompressed request body can reach before reading it fails.
+     * @return The maximum inflated body size
+     */
+    public long getMaxInflatedRequestBodySize() {
+        return maxInflatedRequestBodySize;
+    }
+
+    /**
+     * Sets the maximum size, in bytes, a decompressed request body can reach. Reading from the request input stream
+     * throws an <code>IOException</code> once the limit is exceeded, which protects the function from small
+     * compressed payloads that inflate to exhaust its memory. Defaults to 20MB.
+     * @param maxSize The maximum inflated body size in bytes
+     */
+    public void setMaxInflatedRequestBodySize(long maxSize) {
+        this.maxInflatedRequestBodySize = maxSize;
+    }
+
+    /**
+     * Whether the container generates entity tags for <code>GET</code> responses and answers matching conditional
+     * requests with a <code>304 Not Modified</code>.
+     * @return <code>true</code> if automatic ETags are enabled, <code>false</code> otherwise.
+     */
+    public boolean isAutomaticEtagEnabled() {
+        return automaticEtagEnabled;
+    }
+
+    /**
+     * Enables automatic entity tags. When enabled, successful <code>GET</code> responses that do not set an
+     * <code>ETag</code> header and are not marked <code>no-store</code> receive a strong ETag computed from the body.
+     * Requests whose <code>If-None-Match</code> or <code>If-Modified-Since</code> header matches the response are
+     * answered with an empty <code>304 Not Modified</code>, saving the encoding and transfer of the body.
+     * @param enabled <code>true</code> to generate ETags and evaluate conditional requests, <code>false</code> otherwise
+     */
+    public void setAutomaticEtagEnabled(boolean enabled) {
+        this.automaticEtagEnabled = enabled;
+    }
+
+    /**
+     * Returns the maximum number of servlets and filters initialized concurrently at startup.
+     * @return The initialization parallelism, <code>1</code> if initialization is sequential
+     */
+    public int getInitializationParallelism() {
+        return initializationParallelism;
+    }
+
+    /**
+     * Sets the maximum number of servlets and filters initialized concurrently by the servlet container handlers at
+     * startup. With a value greater than <code>1</code>, servlets that share the same <code>loadOnStartup</code> value
+     * are initialized in parallel, groups with different values still run in ascending order, and all the registered
+     * filters are initialized once the servlets are ready instead of on the first request. The work runs on virtual
+     * threads when the JVM supports them. Defaults to <code>1</code>, which keeps the sequential initialization and the
+     * lazy filter initialization.
+     * @param parallelism The maximum number of concurrent initializations
+     */
+    public void setInitializationParallelism(int parallelism) {
+        this.initializationParallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Whether the servlets that are not loaded on startup are initialized in the background
+     * @return <code>true</code> if the lazy servlets are warmed up in the background
+     */
+    public boolean isLazyServletWarmupEnabled() {
+        return lazyServletWarmupEnabled;
+    }
+
+    /**
+     * Enables the background initialization of the servlets registered with a <code>loadOnStartup</code> value of
+     * <code>-1</code>, and of the registered filters. Without it these are initialized by the first request that hits
+     * them. When enabled, the servlet container handlers initialize them on a background thread at the end of the
+     * initialization if the <code>AsyncInitializationWrapper</code> still has time left. Without init time left they
+     * are initialized by the requests, as when the warm-up is disabled. Defaults to <code>false</code>.
+     * @param enabled <code>true</code> to warm up the lazy servlets in the background
+     */
+    public void setLazyServletWarmupEnabled(boolean enabled) {
+        this.lazyServletWarmupEnabled = enabled;
+    }
+
+    /**
+     * Returns the executor that runs the tasks passed to <code>AsyncContext.start(Runnable)</code>
+     * @return The configured executor, or <code>null</code> if the default executor is used
+     */
+    public Executor getAsyncContextExecutor() {
+        return asyncContextExecutor;
+    }
+
+    /**
+     * Sets the executor that runs the tasks passed to <code>AsyncContext.start(Runnable)</code>. When not set, the
+     * tasks run on a shared cached pool of virtual threads, or of platform daemon threads on JVMs that do not support
+     * them. The executor should not bound the number of threads too tightly, the tasks usually block on I/O.
+     * @param executor The executor for the async tasks, <code>null</code> to use the default one
+     */
+    public void setAsyncContextExecutor(Executor executor) {
+        this.asyncContextExecutor = executor;
+    }
+
+    /**
+     * Returns the time kept between the invocation deadline and the Lambda timeout
+     * @return The safety margin in milliseconds, a negative value if the deadline is disabled
+     */
+    public long getDeadlineSafetyMargin() {
+        return deadlineSafetyMargin;
+    }
+
+    /**
+     * Sets the time kept between the invocation deadline and the Lambda timeout. The handlers stop waiting for the
+     * response at the deadline and return a <code>504</code>, the margin is the time left to write that response before
+     * the runtime kills the invocation. Defaults to <code>500</code> milliseconds.
+     * @param safetyMargin The safety margin in milliseconds, a negative value disables the deadline
+     */
+    public void setDeadlineSafetyMargin(long safetyMargin) {
+        this.deadlineSafetyMargin = safetyMargin;
+    }
 }
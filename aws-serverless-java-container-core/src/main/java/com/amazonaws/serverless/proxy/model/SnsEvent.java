@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Event delivered by an Amazon SNS subscription, only the fields used to route the notifications are modeled
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class SnsEvent {
+
+    //-------------------------------------------------------------
+    // Variables - Private
+    //-------------------------------------------------------------
+
+    private List<SnsRecord> records = new ArrayList<>();
+
+    //-------------------------------------------------------------
+    // Methods - Getter/Setter
+    //-------------------------------------------------------------
+
+    @JsonProperty("Records")
+    public List<SnsRecord> getRecords() {
+        return records;
+    }
+
+    @JsonProperty("Records")
+    public void setRecords(List<SnsRecord> records) {
+        this.records = records;
+    }
+
+    //-------------------------------------------------------------
+    // Inner Class -
+    //-------------------------------------------------------------
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class SnsRecord {
+        private String eventSource;
+        private String eventSubscriptionArn;
+        private SnsMessage sns;
+
+        @JsonProperty("EventSource")
+        public String getEventSource() {
+            return eventSource;
+        }
+
+        @JsonProperty("EventSource")
+        public void setEventSource(String eventSource) {
+            this.eventSource = eventSource;
+        }
+
+        @JsonProperty("EventSubscriptionArn")
+        public String getEventSubscriptionArn() {
+            return eventSubscriptionArn;
+        }
+
+        @JsonProperty("EventSubscriptionArn")
+        public void setEventSubscriptionArn(String eventSubscriptionArn) {
+            this.eventSubscriptionArn = eventSubscriptionArn;
+        }
+
+        @JsonProperty("Sns")
+        public SnsMessage getSns() {
+            return sns;
+        }
+
+        @JsonProperty("Sns")
+        public void setSns(SnsMessage sns) {
+            this.sns = sns;
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class SnsMessage {
+        private String messageId;
+        private String topicArn;
+        private String subject;
+        private String message;
+        private String timestamp;
+        private Map<String, MessageAttribute> messageAttributes = new HashMap<>();
+
+        @JsonProperty("MessageId")
+        public String getMessageId() {
+            return messageId;
+        }
+
+        @JsonProperty("MessageId")
+        public void setMessageId(String messageId) {
+            this.messageId = messageId;
+        }
+
+        @JsonProperty("TopicArn")
+        public String getTopicArn() {
+            return topicArn;
+        }
+
+        @JsonProperty("TopicArn")
+        public void setTopicArn(String topicArn) {
+            this.topicArn = topicArn;
+        }
+
+        @JsonProperty("Subject")
+        public String getSubject() {
+            return subject;
+        }
+
+        @JsonProperty("Subject")
+        public void setSubject(String subject) {
+            this.subject = subject;
+        }
+
+        @JsonProperty("Message")
+        public String getMessage() {
+            return message;
+        }
+
+        @JsonProperty("Message")
+        public void setMessage(String message) {
+            this.message = message;
+        }
+
+        @JsonProperty("Timestamp")
+        public String getTimestamp() {
+            return timestamp;
+        }
+
+        @JsonProperty("Timestamp")
+        public void setTimestamp(String timestamp) {
+            this.timestamp = timestamp;
+        }
+
+        @JsonProperty("MessageAttributes")
+        public Map<String, MessageAttribute> getMessageAttributes() {
+            return messageAttributes;
+        }
+
+        @JsonProperty("MessageAttributes")
+        public void setMessageAttributes(Map<String, MessageAttribute> messageAttributes) {
+            this.messageAttributes = messageAttributes;
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class MessageAttribute {
+        private String type;
+        private String value;
+
+        public MessageAttribute() {
+
+        }
+
+        public MessageAttribute(String value) {
+            this.type = "String";
+            this.value = value;
+        }
+
+        @JsonProperty("Type")
+        public String getType() {
+            return type;
+        }
+
+        @JsonProperty("Type")
+        public void setType(String type) {
+            this.type = type;
+        }
+
+        @JsonProperty("Value")
+        public String getValue() {
+            return value;
+        }
+
+        @JsonProperty("Value")
+        public void setValue(String value) {
+            this.value = value;
+        }
+    }
+}
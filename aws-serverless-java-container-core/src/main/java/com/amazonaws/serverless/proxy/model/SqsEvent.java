@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Event delivered by an Amazon SQS event source mapping, only the fields used to route the messages are modeled
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class SqsEvent {
+
+    //-------------------------------------------------------------
+    // Variables - Private
+    //-------------------------------------------------------------
+
+    private List<SqsMessage> records = new ArrayList<>();
+
+    //-------------------------------------------------------------
+    // Methods - Getter/Setter
+    //-------------------------------------------------------------
+
+    @JsonProperty("Records")
+    public List<SqsMessage> getRecords() {
+        return records;
+    }
+
+    @JsonProperty("Records")
+    public void setRecords(List<SqsMessage> records) {
+        this.records = records;
+    }
+
+    //-------------------------------------------------------------
+    // Inner Class -
+    //-------------------------------------------------------------
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class SqsMessage {
+        private String messageId;
+        private String receiptHandle;
+        private String body;
+        private Map<String, String> attributes = new HashMap<>();
+        private Map<String, MessageAttribute> messageAttributes = new HashMap<>();
+        private String eventSource;
+        private String eventSourceArn;
+        private String awsRegion;
+
+        public String getMessageId() {
+            return messageId;
+        }
+
+        public void setMessageId(String messageId) {
+            this.messageId = messageId;
+        }
+
+        public String getReceiptHandle() {
+            return receiptHandle;
+        }
+
+        public void setReceiptHandle(String receiptHandle) {
+            this.receiptHandle = receiptHandle;
+        }
+
+        public String getBody() {
+            return body;
+        }
+
+        public void setBody(String body) {
+            this.body = body;
+        }
+
+        /**
+         * @return The system attributes of the message, for example <code>MessageGroupId</code> for FIFO queues
+         */
+        public Map<String, String> getAttributes() {
+            return attributes;
+        }
+
+        public void setAttributes(Map<String, String> attributes) {
+            this.attributes = attributes;
+        }
+
+        public Map<String, MessageAttribute> getMessageAttributes() {
+            return messageAttributes;
+        }
+
+        public void setMessageAttributes(Map<String, MessageAttribute> messageAttributes) {
+            this.messageAttributes = messageAttributes;
+        }
+
+        public String getEventSource() {
+            return eventSource;
+        }
+
+        public void setEventSource(String eventSource) {
+            this.eventSource = eventSource;
+        }
+
+        @JsonProperty("eventSourceARN")
+        public String getEventSourceArn() {
+            return eventSourceArn;
+        }
+
+        @JsonProperty("eventSourceARN")
+        public void setEventSourceArn(String eventSourceArn) {
+            this.eventSourceArn = eventSourceArn;
+        }
+
+        public String getAwsRegion() {
+            return awsRegion;
+        }
+
+        public void setAwsRegion(String awsRegion) {
+            this.awsRegion = awsRegion;
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class MessageAttribute {
+        private String stringValue;
+        private String binaryValue;
+        private String dataType;
+
+        public MessageAttribute() {
+
+        }
+
+        public MessageAttribute(String stringValue) {
+            this.stringValue = stringValue;
+            this.dataType = "String";
+        }
+
+        public String getStringValue() {
+            return stringValue;
+        }
+
+        public void setStringValue(String stringValue) {
+            this.stringValue = stringValue;
+        }
+
+        /**
+         * @return The base64 encoded value of <code>Binary</code> attributes
+         */
+        public String getBinaryValue() {
+            return binaryValue;
+        }
+
+        public void setBinaryValue(String binaryValue) {
+            this.binaryValue = binaryValue;
+        }
+
+        public String getDataType() {
+            return dataType;
+        }
+
+        public void setDataType(String dataType) {
+            this.dataType = dataType;
+        }
+    }
+}
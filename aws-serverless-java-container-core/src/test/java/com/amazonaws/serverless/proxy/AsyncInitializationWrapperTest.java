@@ -1,12 +1,15 @@
 package com.amazonaws.serverless.proxy;
 
+import org.crac.Resource;
 import org.junit.jupiter.api.Test;
 
 import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
 import java.time.Clock;
 import java.time.Instant;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class AsyncInitializationWrapperTest {
 
@@ -25,4 +28,17 @@ public class AsyncInitializationWrapperTest {
 
         assertEquals(initTime, init.getActualStartTimeMs());
     }
+
+    @Test
+    void afterRestore_movesStartTimeToRestoreTime() throws Exception {
+        long initTime = Instant.now().toEpochMilli() - 60_000;
+        AsyncInitializationWrapper init = new AsyncInitializationWrapper(initTime);
+
+        Field resourceField = AsyncInitializationWrapper.class.getDeclaredField("restoreResource");
+        resourceField.setAccessible(true);
+        ((Resource) resourceField.get(init)).afterRestore(null);
+
+        assertTrue(init.getActualStartTimeMs() > initTime);
+        assertTrue(init.getActualStartTimeMs() <= Instant.now().toEpochMilli());
+    }
 }
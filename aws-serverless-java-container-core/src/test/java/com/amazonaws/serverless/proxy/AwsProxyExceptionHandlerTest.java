@@ -1,6 +1,7 @@
 package com.amazonaws.serverless.proxy;
 
 
+import com.amazonaws.serverless.exceptions.DeadlineExceededException;
 import com.amazonaws.serverless.exceptions.InvalidRequestEventException;
 import com.amazonaws.serverless.exceptions.InvalidResponseObjectException;
 import com.amazonaws.serverless.proxy.model.AwsProxyResponse;
@@ -64,6 +65,15 @@ public class AwsProxyExceptionHandlerTest {
         assertEquals(MediaType.APPLICATION_JSON, resp.getMultiValueHeaders().getFirst(HttpHeaders.CONTENT_TYPE));
     }
 
+    @Test
+    void typedHandle_DeadlineExceededException_504State() throws JacksonException {
+        AwsProxyResponse resp = exceptionHandler.handle(new DeadlineExceededException("Deadline exceeded"));
+
+        assertNotNull(resp);
+        assertEquals(504, resp.getStatusCode());
+        assertEquals(objectMapper.writeValueAsString(new ErrorModel(AwsProxyExceptionHandler.GATEWAY_TIMEOUT_ERROR)), resp.getBody());
+    }
+
     @Test
     void typedHandle_InvalidResponseObjectException_502State() {
         AwsProxyResponse resp = exceptionHandler.handle(new InvalidResponseObjectException(INVALID_RESPONSE_MESSAGE, null));
@@ -0,0 +1,233 @@
+package com.amazonaws.serverless.proxy;
+
+import com.amazonaws.serverless.exceptions.ContainerInitializationException;
+import com.amazonaws.serverless.proxy.internal.LambdaContainerHandler;
+import com.amazonaws.serverless.proxy.internal.servlet.AwsHttpServletRequest;
+import com.amazonaws.serverless.proxy.internal.servlet.AwsHttpServletResponse;
+import com.amazonaws.serverless.proxy.internal.servlet.AwsLambdaServletContainerHandler;
+import com.amazonaws.serverless.proxy.internal.servlet.AwsProxyHttpServletRequestReader;
+import com.amazonaws.serverless.proxy.internal.servlet.AwsProxyHttpServletResponseWriter;
+import com.amazonaws.serverless.proxy.internal.testutils.AwsProxyRequestBuilder;
+import com.amazonaws.serverless.proxy.internal.testutils.MockLambdaContext;
+import com.amazonaws.serverless.proxy.model.AwsProxyRequest;
+import com.amazonaws.serverless.proxy.model.AwsProxyResponse;
+import com.amazonaws.services.lambda.runtime.Context;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.FilterConfig;
+import jakarta.servlet.GenericServlet;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRegistration;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchLambdaContainerHandlerTest {
+
+    @Test
+    void proxy_manyEvents_returnsResponsesInOrder() {
+        BatchLambdaContainerHandler<AwsProxyRequest, AwsProxyResponse> batchHandler =
+                new BatchLambdaContainerHandler<>(new PathHandler(null), AwsProxyRequest.class, AwsProxyResponse.class, 4);
+        List<AwsProxyRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            requests.add(new AwsProxyRequestBuilder("/item/" + i, "GET").build());
+        }
+
+        List<AwsProxyResponse> responses = batchHandler.proxy(requests, new MockLambdaContext());
+
+        assertEquals(20, responses.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals("/item/" + i, responses.get(i).getBody());
+        }
+    }
+
+    @Test
+    void proxy_parallelism_dispatchesConcurrently() {
+        PathHandler handler = new PathHandler(null);
+        BatchLambdaContainerHandler<AwsProxyRequest, AwsProxyResponse> batchHandler =
+                new BatchLambdaContainerHandler<>(handler, AwsProxyRequest.class, AwsProxyResponse.class, 2);
+        // the first event is dispatched alone, then both events must be handled at the same time to pass the barrier
+        batchHandler.proxy(Collections.singletonList(new AwsProxyRequestBuilder("/init", "GET").build()), new MockLambdaContext());
+        handler.barrier = new CyclicBarrier(2);
+        List<AwsProxyRequest> requests = new ArrayList<>();
+        requests.add(new AwsProxyRequestBuilder("/first", "GET").build());
+        requests.add(new AwsProxyRequestBuilder("/second", "GET").build());
+
+        List<AwsProxyResponse> responses = batchHandler.proxy(requests, new MockLambdaContext());
+
+        assertEquals(200, responses.get(0).getStatusCode());
+        assertEquals(200, responses.get(1).getStatusCode());
+    }
+
+    @Test
+    void proxyStream_jsonArray_writesJsonArray() throws IOException {
+        BatchLambdaContainerHandler<AwsProxyRequest, AwsProxyResponse> batchHandler =
+                new BatchLambdaContainerHandler<>(new PathHandler(null), AwsProxyRequest.class, AwsProxyResponse.class);
+        List<AwsProxyRequest> requests = new ArrayList<>();
+        requests.add(new AwsProxyRequestBuilder("/a", "GET").build());
+        requests.add(new AwsProxyRequestBuilder("/b", "GET").build());
+        byte[] events = LambdaContainerHandler.getObjectMapper().writeValueAsBytes(requests);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        batchHandler.proxyStream(new ByteArrayInputStream(events), output, new MockLambdaContext());
+
+        JsonNode responses = LambdaContainerHandler.getObjectMapper().readTree(output.toByteArray());
+        assertEquals(2, responses.size());
+        assertEquals("/a", responses.get(0).get("body").asString());
+        assertEquals("/b", responses.get(1).get("body").asString());
+    }
+
+    @Test
+    void proxyStream_invalidJson_throwsIOException() {
+        BatchLambdaContainerHandler<AwsProxyRequest, AwsProxyResponse> batchHandler =
+                new BatchLambdaContainerHandler<>(new PathHandler(null), AwsProxyRequest.class, AwsProxyResponse.class);
+
+        assertThrows(IOException.class, () -> batchHandler.proxyStream(
+                new ByteArrayInputStream("{\"not\": \"an array\"".getBytes()), new ByteArrayOutputStream(), new MockLambdaContext()));
+    }
+
+    @Test
+    void proxy_lazyServletHandler_initializesOnceBeforeDispatchingConcurrently() {
+        LazyServletHandler handler = new LazyServletHandler();
+        BatchLambdaContainerHandler<AwsProxyRequest, AwsProxyResponse> batchHandler =
+                new BatchLambdaContainerHandler<>(handler, AwsProxyRequest.class, AwsProxyResponse.class, 8);
+        List<AwsProxyRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            requests.add(new AwsProxyRequestBuilder("/item/" + i, "GET").build());
+        }
+
+        List<AwsProxyResponse> responses = batchHandler.proxy(requests, new MockLambdaContext());
+        responses.addAll(batchHandler.proxy(requests, new MockLambdaContext()));
+
+        assertEquals(1, handler.initializations.get());
+        assertEquals(64, responses.size());
+        for (int i = 0; i < responses.size(); i++) {
+            assertEquals(200, responses.get(i).getStatusCode());
+            assertEquals("/item/" + (i % 32), responses.get(i).getBody());
+            assertEquals("true", responses.get(i).getMultiValueHeaders().getFirst(HeaderFilter.HEADER));
+        }
+        assertEquals(1, handler.filter.initializations.get());
+    }
+
+    /**
+     * Writes the request path to the response body
+     */
+    private static class PathHandler extends LambdaContainerHandler<AwsProxyRequest, AwsProxyResponse, HttpServletRequest, AwsHttpServletResponse> {
+        private volatile CyclicBarrier barrier;
+
+        PathHandler(CyclicBarrier barrier) {
+            super(AwsProxyRequest.class, AwsProxyResponse.class, new AwsProxyHttpServletRequestReader(),
+                    new AwsProxyHttpServletResponseWriter(), new AwsProxySecurityContextWriter(), new AwsProxyExceptionHandler());
+            this.barrier = barrier;
+        }
+
+        @Override
+        protected AwsHttpServletResponse getContainerResponse(HttpServletRequest request, CountDownLatch latch) {
+            return new AwsHttpServletResponse(request, latch);
+        }
+
+        @Override
+        protected void handleRequest(HttpServletRequest containerRequest, AwsHttpServletResponse containerResponse, Context lambdaContext) throws Exception {
+            if (barrier != null) {
+                barrier.await(5, TimeUnit.SECONDS);
+            }
+            containerResponse.setStatus(200);
+            containerResponse.getWriter().print(containerRequest.getRequestURI());
+            containerResponse.flushBuffer();
+        }
+
+        @Override
+        public void initialize() {
+        }
+    }
+
+    /**
+     * Registers its filter and servlet on the first request, like the framework handlers, the initialization is slow
+     * enough for concurrent first requests to overlap
+     */
+    private static class LazyServletHandler extends AwsLambdaServletContainerHandler<AwsProxyRequest, AwsProxyResponse, HttpServletRequest, AwsHttpServletResponse> {
+        private final AtomicInteger initializations = new AtomicInteger();
+        private final HeaderFilter filter = new HeaderFilter();
+        private final PathServlet servlet = new PathServlet();
+        private boolean initialized;
+
+        LazyServletHandler() {
+            super(AwsProxyRequest.class, AwsProxyResponse.class, new AwsProxyHttpServletRequestReader(),
+                    new AwsProxyHttpServletResponseWriter(), new AwsProxySecurityContextWriter(), new AwsProxyExceptionHandler());
+        }
+
+        @Override
+        protected AwsHttpServletResponse getContainerResponse(HttpServletRequest request, CountDownLatch latch) {
+            return new AwsHttpServletResponse(request, latch);
+        }
+
+        @Override
+        protected void handleRequest(HttpServletRequest containerRequest, AwsHttpServletResponse containerResponse, Context lambdaContext) throws Exception {
+            if (!initialized) {
+                initialize();
+            }
+            ((AwsHttpServletRequest) containerRequest).setServletContext(getServletContext());
+            doFilter(containerRequest, containerResponse, servlet);
+        }
+
+        @Override
+        public void initialize() throws ContainerInitializationException {
+            initializations.incrementAndGet();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ContainerInitializationException("Interrupted", e);
+            }
+            getServletContext().addFilter("header", filter)
+                    .addMappingForUrlPatterns(EnumSet.of(DispatcherType.REQUEST), true, "/*");
+            ServletRegistration.Dynamic registration = getServletContext().addServlet("path", servlet);
+            registration.addMapping("/*");
+            registration.setLoadOnStartup(1);
+            super.initialize();
+            initialized = true;
+        }
+    }
+
+    private static class HeaderFilter implements Filter {
+        static final String HEADER = "X-Filtered";
+        private final AtomicInteger initializations = new AtomicInteger();
+
+        @Override
+        public void init(FilterConfig filterConfig) {
+            initializations.incrementAndGet();
+        }
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+            ((HttpServletResponse) response).setHeader(HEADER, "true");
+            chain.doFilter(request, response);
+        }
+    }
+
+    private static class PathServlet extends GenericServlet {
+        @Override
+        public void service(ServletRequest req, ServletResponse res) throws IOException {
+            ((HttpServletResponse) res).setStatus(200);
+            res.getWriter().print(((HttpServletRequest) req).getRequestURI());
+        }
+    }
+}
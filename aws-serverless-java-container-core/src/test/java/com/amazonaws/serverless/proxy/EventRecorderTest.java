@@ -0,0 +1,245 @@
+package com.amazonaws.serverless.proxy;
+
+import com.amazonaws.serverless.proxy.internal.LambdaContainerHandler;
+import com.amazonaws.serverless.proxy.internal.servlet.AwsHttpServletResponse;
+import com.amazonaws.serverless.proxy.internal.servlet.AwsProxyHttpServletRequestReader;
+import com.amazonaws.serverless.proxy.internal.servlet.AwsProxyHttpServletResponseWriter;
+import com.amazonaws.serverless.proxy.internal.testutils.AwsProxyRequestBuilder;
+import com.amazonaws.serverless.proxy.internal.testutils.MockLambdaContext;
+import com.amazonaws.serverless.proxy.model.AwsProxyRequest;
+import com.amazonaws.serverless.proxy.model.AwsProxyResponse;
+import com.amazonaws.serverless.proxy.model.HttpApiV2AuthorizerMap;
+import com.amazonaws.serverless.proxy.model.HttpApiV2JwtAuthorizer;
+import com.amazonaws.serverless.proxy.model.HttpApiV2ProxyRequest;
+import com.amazonaws.services.lambda.runtime.Context;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventRecorderTest {
+
+    @Test
+    void proxy_sampledEvent_recordsRedactedEventWithTiming() {
+        List<String> lines = new CopyOnWriteArrayList<>();
+        EventRecorder recorder = new EventRecorder(1, lines::add);
+        recorder.setRedactAllCookies(false);
+        recorder.addRedactedCookies("session");
+        recorder.addRedactedQueryParameters("token");
+        recorder.addRedactedBodyFields("password");
+        OkHandler handler = new OkHandler();
+        handler.setEventRecorder(recorder);
+        AwsProxyRequest request = new AwsProxyRequestBuilder("/login", "POST")
+                .header("Authorization", "Bearer secret")
+                .header("Cookie", "session=abc; theme=dark")
+                .queryString("token", "t0k3n")
+                .queryString("page", "2")
+                .json()
+                .body("{\"user\":\"jane\",\"credentials\":{\"password\":\"hunter2\"}}")
+                .build();
+
+        handler.proxy(request, new MockLambdaContext());
+
+        assertEquals(1, lines.size());
+        JsonNode event = LambdaContainerHandler.getObjectMapper().readTree(lines.get(0));
+        assertEquals(EventRecorder.REDACTED, event.get("multiValueHeaders").get("Authorization").get(0).asString());
+        assertEquals("session=REDACTED; theme=dark", event.get("multiValueHeaders").get("Cookie").get(0).asString());
+        assertEquals(EventRecorder.REDACTED, event.get("multiValueQueryStringParameters").get("token").get(0).asString());
+        assertEquals("2", event.get("multiValueQueryStringParameters").get("page").get(0).asString());
+        assertFalse(event.get("body").asString().contains("hunter2"));
+        assertTrue(event.get("body").asString().contains("jane"));
+        JsonNode recording = event.get(EventRecorder.RECORDING_PROPERTY);
+        assertEquals(200, recording.get("statusCode").asInt());
+        assertTrue(recording.get("responseBytes").asInt() > 0);
+        assertTrue(recording.has("durationMillis"));
+
+        AwsProxyRequest replayed = LambdaContainerHandler.getObjectMapper().readValue(lines.get(0), AwsProxyRequest.class);
+        assertEquals("/login", replayed.getPath());
+        assertEquals("POST", replayed.getHttpMethod());
+    }
+
+    @Test
+    void proxy_zeroSampleRate_recordsNothing() {
+        List<String> lines = new CopyOnWriteArrayList<>();
+        OkHandler handler = new OkHandler();
+        handler.setEventRecorder(new EventRecorder(0, lines::add));
+
+        AwsProxyResponse response = handler.proxy(new AwsProxyRequestBuilder("/", "GET").build(), new MockLambdaContext());
+
+        assertEquals(200, response.getStatusCode());
+        assertTrue(lines.isEmpty());
+    }
+
+    @Test
+    void start_httpApiV2Event_redactsCookiesAndRawQueryString() {
+        List<String> lines = new CopyOnWriteArrayList<>();
+        EventRecorder recorder = new EventRecorder(1, lines::add);
+        recorder.setRedactAllCookies(false);
+        recorder.addRedactedCookies("session");
+        recorder.addRedactedQueryParameters("token");
+        HttpApiV2ProxyRequest request = new AwsProxyRequestBuilder("/", "GET")
+                .header("Cookie", "session=abc;theme=dark")
+                .queryString("token", "t0k3n")
+                .queryString("page", "2")
+                .toHttpApiV2Request();
+
+        recorder.start(request).end(null);
+
+        JsonNode event = LambdaContainerHandler.getObjectMapper().readTree(lines.get(0));
+        assertEquals("session=REDACTED", event.get("cookies").get(0).asString());
+        assertEquals("theme=dark", event.get("cookies").get(1).asString());
+        assertTrue(event.get("rawQueryString").asString().contains("token=REDACTED"));
+        assertTrue(event.get("rawQueryString").asString().contains("page=2"));
+        assertFalse(event.get(EventRecorder.RECORDING_PROPERTY).has("statusCode"));
+    }
+
+    @Test
+    void start_defaults_redactsCookiesAndApiKeyHeaders() {
+        List<String> lines = new CopyOnWriteArrayList<>();
+        EventRecorder recorder = new EventRecorder(1, lines::add);
+        AwsProxyRequest request = new AwsProxyRequestBuilder("/", "GET")
+                .header("Cookie", "session=abc; theme=dark")
+                .header("Set-Cookie", "session=abc")
+                .header("X-Api-Key", "k3y")
+                .header("Accept", "text/plain")
+                .build();
+
+        recorder.start(request).end(null);
+
+        JsonNode headers = LambdaContainerHandler.getObjectMapper().readTree(lines.get(0)).get("multiValueHeaders");
+        assertEquals("session=REDACTED; theme=REDACTED", headers.get("Cookie").get(0).asString());
+        assertEquals(EventRecorder.REDACTED, headers.get("Set-Cookie").get(0).asString());
+        assertEquals(EventRecorder.REDACTED, headers.get("X-Api-Key").get(0).asString());
+        assertEquals("text/plain", headers.get("Accept").get(0).asString());
+    }
+
+    @Test
+    void start_apiGatewayIdentity_redactsCallerFields() {
+        List<String> lines = new CopyOnWriteArrayList<>();
+        EventRecorder recorder = new EventRecorder(1, lines::add);
+        AwsProxyRequest request = new AwsProxyRequestBuilder("/", "GET").build();
+        request.getRequestContext().getIdentity().setApiKey("api-key");
+        request.getRequestContext().getIdentity().setAccessKey("AKIDEXAMPLE");
+        request.getRequestContext().getIdentity().setCaller("caller");
+        request.getRequestContext().getIdentity().setUser("user");
+
+        recorder.start(request).end(null);
+
+        JsonNode identity = LambdaContainerHandler.getObjectMapper().readTree(lines.get(0)).get("requestContext").get("identity");
+        assertEquals(EventRecorder.REDACTED, identity.get("apiKey").asString());
+        assertEquals(EventRecorder.REDACTED, identity.get("accessKey").asString());
+        assertEquals(EventRecorder.REDACTED, identity.get("caller").asString());
+        assertEquals(EventRecorder.REDACTED, identity.get("user").asString());
+        assertEquals("127.0.0.1", identity.get("sourceIp").asString());
+    }
+
+    @Test
+    void start_authorizerClaims_redactsValuesAndKeepsStructure() {
+        List<String> lines = new CopyOnWriteArrayList<>();
+        EventRecorder recorder = new EventRecorder(1, lines::add);
+        AwsProxyRequest request = new AwsProxyRequestBuilder("/", "GET")
+                .authorizerPrincipal("jane")
+                .build();
+
+        recorder.start(request).end(null);
+
+        assertFalse(lines.get(0).contains("jane"));
+        AwsProxyRequest replayed = LambdaContainerHandler.getObjectMapper().readValue(lines.get(0), AwsProxyRequest.class);
+        assertEquals(EventRecorder.REDACTED, replayed.getRequestContext().getAuthorizer().getPrincipalId());
+        assertEquals(EventRecorder.REDACTED, replayed.getRequestContext().getAuthorizer().getClaims().getSubject());
+    }
+
+    @Test
+    void start_httpApiV2JwtAuthorizer_redactsClaimsAndScopes() {
+        List<String> lines = new CopyOnWriteArrayList<>();
+        EventRecorder recorder = new EventRecorder(1, lines::add);
+        HttpApiV2ProxyRequest request = new AwsProxyRequestBuilder("/", "GET").toHttpApiV2Request();
+        HttpApiV2JwtAuthorizer jwt = new HttpApiV2JwtAuthorizer();
+        jwt.setClaims(Collections.singletonMap("sub", "jane"));
+        jwt.setScopes(Collections.singletonList("admin"));
+        HttpApiV2AuthorizerMap authorizer = new HttpApiV2AuthorizerMap();
+        authorizer.putJwtAuthorizer(jwt);
+        request.getRequestContext().setAuthorizer(authorizer);
+
+        recorder.start(request).end(null);
+
+        JsonNode event = LambdaContainerHandler.getObjectMapper().readTree(lines.get(0));
+        JsonNode recordedJwt = event.get("requestContext").get("authorizer").get("jwt");
+        assertEquals(EventRecorder.REDACTED, recordedJwt.get("claims").get("sub").asString());
+        assertEquals(EventRecorder.REDACTED, recordedJwt.get("scopes").get(0).asString());
+    }
+
+    @Test
+    void start_base64Body_redacted() {
+        List<String> lines = new CopyOnWriteArrayList<>();
+        EventRecorder recorder = new EventRecorder(1, lines::add);
+        AwsProxyRequest request = new AwsProxyRequestBuilder("/", "POST").body("c2VjcmV0").build();
+        request.setIsBase64Encoded(true);
+
+        recorder.start(request).end(null);
+
+        JsonNode event = LambdaContainerHandler.getObjectMapper().readTree(lines.get(0));
+        assertEquals(EventRecorder.REDACTED, event.get("body").asString());
+        assertTrue(event.get("isBase64Encoded").asBoolean());
+    }
+
+    @Test
+    void prime_syntheticRequests_notRecorded() {
+        List<String> lines = new CopyOnWriteArrayList<>();
+        OkHandler handler = new OkHandler();
+        handler.setEventRecorder(new EventRecorder(1, lines::add));
+        handler.addPrimingRequests(new AwsProxyRequestBuilder("/", "GET").build());
+
+        assertEquals(1, handler.prime());
+        assertTrue(lines.isEmpty());
+    }
+
+    @Test
+    void fileSink_write_appendsLines() throws Exception {
+        Path file = Files.createTempFile("events", ".jsonl");
+        EventRecorder.FileSink sink = new EventRecorder.FileSink(file);
+
+        sink.write("{\"a\":1}");
+        sink.write("{\"a\":2}");
+
+        assertEquals(2, Files.readAllLines(file).size());
+        Files.delete(file);
+    }
+
+    @Test
+    void constructor_invalidSampleRate_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new EventRecorder(1.5, line -> { }));
+    }
+
+    private static class OkHandler extends LambdaContainerHandler<AwsProxyRequest, AwsProxyResponse, HttpServletRequest, AwsHttpServletResponse> {
+
+        OkHandler() {
+            super(AwsProxyRequest.class, AwsProxyResponse.class, new AwsProxyHttpServletRequestReader(),
+                    new AwsProxyHttpServletResponseWriter(), new AwsProxySecurityContextWriter(), new AwsProxyExceptionHandler());
+        }
+
+        @Override
+        protected AwsHttpServletResponse getContainerResponse(HttpServletRequest request, CountDownLatch latch) {
+            return new AwsHttpServletResponse(request, latch);
+        }
+
+        @Override
+        protected void handleRequest(HttpServletRequest containerRequest, AwsHttpServletResponse containerResponse, Context lambdaContext) throws Exception {
+            containerResponse.setStatus(200);
+            containerResponse.getWriter().print("ok");
+            containerResponse.flushBuffer();
+        }
+
+        @Override
+        public void initialize() {
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.amazonaws.serverless.proxy;
+
+import com.amazonaws.serverless.proxy.internal.testutils.MockLambdaContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InvocationDeadlineTest {
+
+    @AfterEach
+    void clearDeadline() {
+        InvocationDeadline.clear();
+    }
+
+    @Test
+    void fromContext_remainingTime_subtractsSafetyMargin() {
+        long before = System.currentTimeMillis();
+        InvocationDeadline deadline = InvocationDeadline.fromContext(context(3000), 500);
+
+        assertNotNull(deadline);
+        assertTrue(deadline.getDeadlineMillis() >= before + 2500);
+        assertTrue(deadline.getDeadlineMillis() <= System.currentTimeMillis() + 2500);
+        assertFalse(deadline.isExpired());
+    }
+
+    @Test
+    void fromContext_noRemainingTimeOrNegativeMargin_returnsNull() {
+        assertNull(InvocationDeadline.fromContext(null, 500));
+        assertNull(InvocationDeadline.fromContext(new MockLambdaContext(), 500));
+        assertNull(InvocationDeadline.fromContext(context(3000), -1));
+    }
+
+    @Test
+    void fromContext_marginLargerThanRemainingTime_isExpired() {
+        InvocationDeadline deadline = InvocationDeadline.fromContext(context(100), 500);
+
+        assertTrue(deadline.isExpired());
+        assertEquals(0, deadline.getRemainingMillis());
+    }
+
+    @Test
+    void start_setsCurrentDeadlineUntilCleared() {
+        InvocationDeadline deadline = InvocationDeadline.start(context(3000), 500);
+        assertSame(deadline, InvocationDeadline.current());
+
+        InvocationDeadline.clear();
+        assertNull(InvocationDeadline.current());
+
+        InvocationDeadline.start(new MockLambdaContext(), 500);
+        assertNull(InvocationDeadline.current());
+    }
+
+    private static MockLambdaContext context(int remainingMillis) {
+        return new MockLambdaContext() {
+            @Override
+            public int getRemainingTimeInMillis() {
+                return remainingMillis;
+            }
+        };
+    }
+}
@@ -0,0 +1,236 @@
+package com.amazonaws.serverless.proxy;
+
+import com.amazonaws.serverless.proxy.internal.LambdaContainerHandler;
+import com.amazonaws.serverless.proxy.internal.messaging.EventBridgeRequestReader;
+import com.amazonaws.serverless.proxy.internal.messaging.SnsMessageRequestReader;
+import com.amazonaws.serverless.proxy.internal.messaging.SqsMessageRequestReader;
+import com.amazonaws.serverless.proxy.internal.servlet.AwsHttpServletResponse;
+import com.amazonaws.serverless.proxy.internal.servlet.AwsProxyHttpServletRequestReader;
+import com.amazonaws.serverless.proxy.internal.servlet.AwsProxyHttpServletResponseWriter;
+import com.amazonaws.serverless.proxy.internal.testutils.MockLambdaContext;
+import com.amazonaws.serverless.proxy.model.AwsProxyRequest;
+import com.amazonaws.serverless.proxy.model.AwsProxyResponse;
+import com.amazonaws.serverless.proxy.model.BatchItemFailuresResponse;
+import com.amazonaws.serverless.proxy.model.EventBridgeEvent;
+import com.amazonaws.serverless.proxy.model.SnsEvent;
+import com.amazonaws.serverless.proxy.model.SqsEvent;
+import com.amazonaws.services.lambda.runtime.Context;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MessageBatchHandlerTest {
+
+    @Test
+    void proxy_failedStatus_reportsBatchItemFailures() {
+        RecordingHandler handler = new RecordingHandler();
+        MessageBatchHandler<SqsEvent> messageHandler = new MessageBatchHandler<>(handler, new SqsMessageRequestReader(), SqsEvent.class, 4);
+        SqsEvent event = event(message("1", "/orders", null), message("2", "/fail", null), message("3", "/orders", null));
+
+        BatchItemFailuresResponse response = messageHandler.proxy(event, new MockLambdaContext());
+
+        assertEquals(1, response.getBatchItemFailures().size());
+        assertEquals("2", response.getBatchItemFailures().get(0).getItemIdentifier());
+        assertEquals(3, handler.handled.size());
+    }
+
+    @Test
+    void proxy_messageGroup_handlesInOrderAndStopsAfterFailure() {
+        RecordingHandler handler = new RecordingHandler();
+        MessageBatchHandler<SqsEvent> messageHandler = new MessageBatchHandler<>(handler, new SqsMessageRequestReader(), SqsEvent.class, 4);
+        SqsEvent event = event(message("1", "/a/1", "a"), message("2", "/b/1", "b"), message("3", "/a/2", "a"),
+                message("4", "/fail", "b"), message("5", "/b/3", "b"), message("6", "/a/3", "a"));
+
+        BatchItemFailuresResponse response = messageHandler.proxy(event, new MockLambdaContext());
+
+        List<String> failures = response.getBatchItemFailures().stream()
+                .map(BatchItemFailuresResponse.ItemFailure::getItemIdentifier).collect(Collectors.toList());
+        assertEquals(Arrays.asList("4", "5"), failures);
+        List<String> groupA = handler.handled.stream().filter(p -> p.startsWith("/a/")).collect(Collectors.toList());
+        assertEquals(Arrays.asList("/a/1", "/a/2", "/a/3"), groupA);
+        assertFalse(handler.handled.contains("/b/3"));
+    }
+
+    @Test
+    void proxy_messageAttributes_routeRequest() {
+        RecordingHandler handler = new RecordingHandler();
+        MessageBatchHandler<SqsEvent> messageHandler = new MessageBatchHandler<>(handler, new SqsMessageRequestReader(), SqsEvent.class);
+        SqsEvent.SqsMessage message = message("1", "/orders?id=5", null);
+        message.getMessageAttributes().put(MessageRequestReader.DEFAULT_METHOD_ATTRIBUTE, new SqsEvent.MessageAttribute("put"));
+
+        BatchItemFailuresResponse response = messageHandler.proxy(event(message), new MockLambdaContext());
+
+        assertTrue(response.getBatchItemFailures().isEmpty());
+        assertEquals("PUT /orders id=5 body-1", handler.lastRequest);
+    }
+
+    @Test
+    void proxyStream_sqsEvent_writesBatchItemFailures() throws IOException {
+        MessageBatchHandler<SqsEvent> messageHandler = new MessageBatchHandler<>(new RecordingHandler(), new SqsMessageRequestReader(), SqsEvent.class);
+        byte[] event = LambdaContainerHandler.getObjectMapper().writeValueAsBytes(event(message("1", "/fail", null)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        messageHandler.proxyStream(new ByteArrayInputStream(event), output, new MockLambdaContext());
+
+        JsonNode response = LambdaContainerHandler.getObjectMapper().readTree(output.toByteArray());
+        assertEquals("1", response.get("batchItemFailures").get(0).get("itemIdentifier").asString());
+    }
+
+    @Test
+    void proxy_snsFailure_failsInvocationAfterHandlingAllRecords() {
+        RecordingHandler handler = new RecordingHandler();
+        MessageBatchHandler<SnsEvent> messageHandler = new MessageBatchHandler<>(handler, new SnsMessageRequestReader(), SnsEvent.class);
+        SnsEvent event = new SnsEvent();
+        event.setRecords(Arrays.asList(snsRecord("1", "/orders"), snsRecord("2", "/fail")));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> messageHandler.proxy(event, new MockLambdaContext()));
+
+        assertTrue(e.getMessage().startsWith("1 of 2 messages failed"));
+        assertEquals(2, handler.handled.size());
+    }
+
+    @Test
+    void proxy_snsSuccess_returnsNoFailures() {
+        MessageBatchHandler<SnsEvent> messageHandler = new MessageBatchHandler<>(new RecordingHandler(), new SnsMessageRequestReader(), SnsEvent.class);
+        SnsEvent event = new SnsEvent();
+        event.setRecords(Arrays.asList(snsRecord("1", "/orders"), snsRecord("2", "/orders")));
+
+        assertTrue(messageHandler.proxy(event, new MockLambdaContext()).getBatchItemFailures().isEmpty());
+    }
+
+    @Test
+    void proxyStream_eventBridgeFailure_failsInvocation() throws IOException {
+        MessageBatchHandler<EventBridgeEvent> messageHandler = new MessageBatchHandler<>(new RecordingHandler(),
+                new EventBridgeRequestReader(), EventBridgeEvent.class);
+        EventBridgeEvent event = new EventBridgeEvent();
+        event.setId("1");
+        event.setDetailType("Fail");
+        byte[] input = LambdaContainerHandler.getObjectMapper().writeValueAsBytes(event);
+
+        assertThrows(IllegalStateException.class, () -> messageHandler.proxyStream(new ByteArrayInputStream(input),
+                new ByteArrayOutputStream(), new MockLambdaContext()));
+    }
+
+    @Test
+    void proxy_lazyHandler_initializesOnceBeforeHandlingGroupsConcurrently() {
+        LazyHandler handler = new LazyHandler();
+        MessageBatchHandler<SqsEvent> messageHandler = new MessageBatchHandler<>(handler, new SqsMessageRequestReader(), SqsEvent.class, 8);
+        SqsEvent.SqsMessage[] messages = new SqsEvent.SqsMessage[16];
+        for (int i = 0; i < messages.length; i++) {
+            messages[i] = message(String.valueOf(i), "/orders/" + i, i % 2 == 0 ? null : "group-" + i);
+        }
+
+        BatchItemFailuresResponse response = messageHandler.proxy(event(messages), new MockLambdaContext());
+        BatchItemFailuresResponse next = messageHandler.proxy(event(messages), new MockLambdaContext());
+
+        assertEquals(1, handler.initializations.get());
+        assertTrue(response.getBatchItemFailures().isEmpty());
+        assertTrue(next.getBatchItemFailures().isEmpty());
+    }
+
+    private static SnsEvent.SnsRecord snsRecord(String id, String path) {
+        SnsEvent.SnsMessage message = new SnsEvent.SnsMessage();
+        message.setMessageId(id);
+        message.setMessage("body-" + id);
+        message.getMessageAttributes().put(MessageRequestReader.DEFAULT_PATH_ATTRIBUTE, new SnsEvent.MessageAttribute(path));
+        SnsEvent.SnsRecord record = new SnsEvent.SnsRecord();
+        record.setSns(message);
+        return record;
+    }
+
+    private static SqsEvent event(SqsEvent.SqsMessage... messages) {
+        SqsEvent event = new SqsEvent();
+        event.setRecords(Arrays.asList(messages));
+        return event;
+    }
+
+    private static SqsEvent.SqsMessage message(String id, String path, String groupId) {
+        SqsEvent.SqsMessage message = new SqsEvent.SqsMessage();
+        message.setMessageId(id);
+        message.setBody("body-" + id);
+        message.getMessageAttributes().put(MessageRequestReader.DEFAULT_PATH_ATTRIBUTE, new SqsEvent.MessageAttribute(path));
+        if (groupId != null) {
+            message.getAttributes().put("MessageGroupId", groupId);
+        }
+        return message;
+    }
+
+    /**
+     * Initializes itself on the first request, like the framework handlers, the initialization is slow enough for
+     * concurrent first requests to overlap and initialize it more than once
+     */
+    private static class LazyHandler extends LambdaContainerHandler<AwsProxyRequest, AwsProxyResponse, HttpServletRequest, AwsHttpServletResponse> {
+        private final AtomicInteger initializations = new AtomicInteger();
+        private volatile boolean initialized;
+
+        LazyHandler() {
+            super(AwsProxyRequest.class, AwsProxyResponse.class, new AwsProxyHttpServletRequestReader(),
+                    new AwsProxyHttpServletResponseWriter(), new AwsProxySecurityContextWriter(), new AwsProxyExceptionHandler());
+        }
+
+        @Override
+        protected AwsHttpServletResponse getContainerResponse(HttpServletRequest request, CountDownLatch latch) {
+            return new AwsHttpServletResponse(request, latch);
+        }
+
+        @Override
+        protected void handleRequest(HttpServletRequest containerRequest, AwsHttpServletResponse containerResponse, Context lambdaContext) throws Exception {
+            if (!initialized) {
+                initializations.incrementAndGet();
+                Thread.sleep(100);
+                initialized = true;
+            }
+            containerResponse.setStatus(200);
+            containerResponse.flushBuffer();
+        }
+
+        @Override
+        public void initialize() {
+        }
+    }
+
+    /**
+     * Records the handled paths, the requests to <code>/fail</code> return a 500 status
+     */
+    private static class RecordingHandler extends LambdaContainerHandler<AwsProxyRequest, AwsProxyResponse, HttpServletRequest, AwsHttpServletResponse> {
+        private final Queue<String> handled = new ConcurrentLinkedQueue<>();
+        private volatile String lastRequest;
+
+        RecordingHandler() {
+            super(AwsProxyRequest.class, AwsProxyResponse.class, new AwsProxyHttpServletRequestReader(),
+                    new AwsProxyHttpServletResponseWriter(), new AwsProxySecurityContextWriter(), new AwsProxyExceptionHandler());
+        }
+
+        @Override
+        protected AwsHttpServletResponse getContainerResponse(HttpServletRequest request, CountDownLatch latch) {
+            return new AwsHttpServletResponse(request, latch);
+        }
+
+        @Override
+        protected void handleRequest(HttpServletRequest containerRequest, AwsHttpServletResponse containerResponse, Context lambdaContext) throws Exception {
+            String path = containerRequest.getRequestURI();
+            handled.add(path);
+            lastRequest = containerRequest.getMethod() + " " + path + " " + containerRequest.getQueryString() + " "
+                    + containerRequest.getReader().readLine();
+            containerResponse.setStatus(path.equals("/fail") ? 500 : 200);
+            containerResponse.flushBuffer();
+        }
+
+        @Override
+        public void initialize() {
+        }
+    }
+}
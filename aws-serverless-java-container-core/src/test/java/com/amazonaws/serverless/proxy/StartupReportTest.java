@@ -0,0 +1,157 @@
+package com.amazonaws.serverless.proxy;
+
+import com.amazonaws.serverless.proxy.internal.LambdaContainerHandler;
+import com.amazonaws.serverless.proxy.internal.servlet.AwsHttpServletResponse;
+import com.amazonaws.serverless.proxy.internal.servlet.AwsProxyHttpServletRequestReader;
+import com.amazonaws.serverless.proxy.internal.servlet.AwsProxyHttpServletResponseWriter;
+import com.amazonaws.serverless.proxy.internal.testutils.AwsProxyRequestBuilder;
+import com.amazonaws.serverless.proxy.internal.testutils.MockLambdaContext;
+import com.amazonaws.serverless.proxy.model.AwsProxyRequest;
+import com.amazonaws.serverless.proxy.model.AwsProxyResponse;
+import com.amazonaws.services.lambda.runtime.Context;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StartupReportTest {
+
+    @BeforeEach
+    void enable() {
+        StartupReport.reset();
+        StartupReport.enable();
+    }
+
+    @AfterEach
+    void disable() {
+        StartupReport.disable();
+        StartupReport.reset();
+    }
+
+    @Test
+    void phase_end_recordsDurationClassesAndAllocations() {
+        StartupReport.Phase phase = StartupReport.start(StartupReport.SERVLET_INIT);
+        phase.end();
+        phase.end();
+
+        List<StartupReport.Phase> phases = StartupReport.getPhases();
+        assertEquals(1, phases.size());
+        assertEquals(StartupReport.SERVLET_INIT, phases.get(0).getName());
+        assertTrue(phases.get(0).getDurationMs() >= 0);
+        assertTrue(phases.get(0).getAllocatedBytes() >= -1L);
+    }
+
+    @Test
+    void handlerCreated_onlyFirstCallRecorded() {
+        StartupReport.handlerCreated();
+        StartupReport.handlerCreated();
+        List<StartupReport.Phase> phases = StartupReport.getPhases();
+        assertEquals(1, phases.size());
+        assertEquals(StartupReport.JVM_TO_HANDLER, phases.get(0).getName());
+        assertTrue(phases.get(0).getLoadedClasses() > 0);
+    }
+
+    @Test
+    void toJson_includesTopComponentsInOrder() {
+        for (int i = 0; i < StartupReport.TOP_COMPONENTS + 2; i++) {
+            StartupReport.recordComponent("bean" + i, i);
+        }
+        StartupReport.recordComponent("quoted\"bean", 1000);
+        String json = StartupReport.toJson();
+
+        assertTrue(json.startsWith("{\"startupReport\":{\"phases\":[]"));
+        assertTrue(json.contains("\"slowestComponents\":[{\"name\":\"quoted\\\"bean\",\"durationMs\":1000},{\"name\":\"bean11\""));
+        assertFalse(json.contains("\"bean2\""));
+    }
+
+    @Test
+    void report_disablesFurtherRecording() {
+        StartupReport.report();
+        assertFalse(StartupReport.isEnabled());
+        StartupReport.start(StartupReport.FIRST_REQUEST).end();
+        assertTrue(StartupReport.getPhases().isEmpty());
+    }
+
+    @Test
+    void start_disabled_returnsNoOpPhase() {
+        StartupReport.disable();
+        StartupReport.start(StartupReport.INITIALIZE).end();
+        assertTrue(StartupReport.getPhases().isEmpty());
+    }
+
+    @Test
+    void prime_syntheticRequests_notReportedAsFirstRequest() {
+        OkHandler handler = new OkHandler();
+        handler.addPrimingRequests(new AwsProxyRequestBuilder("/", "GET").build());
+
+        assertEquals(1, handler.prime());
+        assertTrue(StartupReport.isEnabled());
+        assertFalse(hasPhase(StartupReport.FIRST_REQUEST));
+
+        handler.proxy(new AwsProxyRequestBuilder("/", "GET").build(), new MockLambdaContext());
+        assertFalse(StartupReport.isEnabled());
+        assertTrue(hasPhase(StartupReport.FIRST_REQUEST));
+    }
+
+    @Test
+    void proxyAsync_firstRequest_reportsFirstRequestPhase() throws Exception {
+        OkHandler handler = new OkHandler();
+
+        AwsProxyResponse response = handler.proxyAsync(new AwsProxyRequestBuilder("/", "GET").build(),
+                new MockLambdaContext()).get(5, TimeUnit.SECONDS);
+
+        assertEquals(200, response.getStatusCode());
+        assertFalse(StartupReport.isEnabled());
+        assertTrue(hasPhase(StartupReport.FIRST_REQUEST));
+    }
+
+    @Test
+    void phase_endedOnOtherThread_allocationsNotMeasured() throws InterruptedException {
+        StartupReport.Phase phase = StartupReport.start("async");
+        Thread thread = new Thread(phase::end);
+        thread.start();
+        thread.join();
+
+        assertEquals(-1L, phase.getAllocatedBytes());
+        assertTrue(hasPhase("async"));
+    }
+
+    private static boolean hasPhase(String name) {
+        for (StartupReport.Phase phase : StartupReport.getPhases()) {
+            if (name.equals(phase.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class OkHandler extends LambdaContainerHandler<AwsProxyRequest, AwsProxyResponse, HttpServletRequest, AwsHttpServletResponse> {
+
+        OkHandler() {
+            super(AwsProxyRequest.class, AwsProxyResponse.class, new AwsProxyHttpServletRequestReader(),
+                    new AwsProxyHttpServletResponseWriter(), new AwsProxySecurityContextWriter(), new AwsProxyExceptionHandler());
+        }
+
+        @Override
+        protected AwsHttpServletResponse getContainerResponse(HttpServletRequest request, CountDownLatch latch) {
+            return new AwsHttpServletResponse(request, latch);
+        }
+
+        @Override
+        protected void handleRequest(HttpServletRequest containerRequest, AwsHttpServletResponse containerResponse, Context lambdaContext) throws Exception {
+            containerResponse.setStatus(200);
+            containerResponse.getWriter().print("ok");
+            containerResponse.flushBuffer();
+        }
+
+        @Override
+        public void initialize() {
+        }
+    }
+}
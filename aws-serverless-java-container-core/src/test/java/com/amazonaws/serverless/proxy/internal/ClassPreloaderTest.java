@@ -0,0 +1,69 @@
+package com.amazonaws.serverless.proxy.internal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClassPreloaderTest {
+
+    private static volatile boolean initialized;
+
+    @Test
+    void readClassList_skipsCommentsAndBlankLines() throws IOException {
+        String list = "# recorded\n\njava.lang.String\n  java.util.ArrayList  \n#java.util.HashMap\n";
+        List<String> names = ClassPreloader.readClassList(new ByteArrayInputStream(list.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(Arrays.asList("java.lang.String", "java.util.ArrayList"), names);
+    }
+
+    @Test
+    void preload_unknownClasses_areSkipped() throws Exception {
+        List<String> names = Arrays.asList("java.util.concurrent.ConcurrentSkipListSet", "com.example.DoesNotExist",
+                "java.util.zip.Adler32", "java.util.LinkedHashMap");
+        int loaded = ClassPreloader.preload(names, getClass().getClassLoader(), false, 3).get(5, TimeUnit.SECONDS);
+        assertEquals(3, loaded);
+    }
+
+    @Test
+    void preload_initialize_runsStaticInitializer() throws Exception {
+        assertFalse(initialized);
+        int loaded = ClassPreloader.preload(Collections.singletonList(Initialized.class.getName()),
+                getClass().getClassLoader(), true, 1).get(5, TimeUnit.SECONDS);
+        assertEquals(1, loaded);
+        assertTrue(initialized);
+    }
+
+    @Test
+    void newClassNames_excludesBaselineAndHiddenClasses() throws IOException {
+        Runnable lambda = () -> { };
+        Collection<String> names = ClassListRecorder.newClassNames(new HashSet<>(Collections.singletonList("java.lang.String")),
+                new Class<?>[] { String.class, Integer.class, int[].class, lambda.getClass(), ClassPreloader.class });
+        assertEquals(Arrays.asList(ClassPreloader.class.getName(), "java.lang.Integer"), new ArrayList<>(names));
+    }
+
+    @Test
+    void writeClassList_roundTripsThroughReader(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("classes.list");
+        ClassListRecorder.writeClassList(file, Arrays.asList("a.B", "c.D"));
+        assertEquals(Arrays.asList("a.B", "c.D"), ClassPreloader.readClassList(Files.newInputStream(file)));
+    }
+
+    static class Initialized {
+        static {
+            initialized = true;
+        }
+    }
+}
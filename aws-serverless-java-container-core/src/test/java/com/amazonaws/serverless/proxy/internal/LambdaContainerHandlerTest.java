@@ -5,6 +5,7 @@ import com.amazonaws.serverless.proxy.*;
 import com.amazonaws.serverless.proxy.internal.servlet.AwsHttpServletResponse;
 import com.amazonaws.serverless.proxy.internal.servlet.AwsProxyHttpServletRequestReader;
 import com.amazonaws.serverless.proxy.internal.servlet.AwsProxyHttpServletResponseWriter;
+import com.amazonaws.serverless.proxy.internal.servlet.AwsProxyResponseCache;
 import com.amazonaws.serverless.proxy.internal.testutils.AwsProxyRequestBuilder;
 import com.amazonaws.serverless.proxy.internal.testutils.MockLambdaContext;
 import com.amazonaws.serverless.proxy.model.AwsProxyRequest;
@@ -14,13 +15,18 @@ import org.apache.hc.client5.http.impl.classic.RequestAbortedException;
 import org.junit.jupiter.api.Test;
 
 import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 public class LambdaContainerHandlerTest {
     private boolean isRuntimeException = false;
     private boolean throwException = false;
+    private boolean deferResponse = false;
 
     ExceptionContainerHandlerTest handler = new ExceptionContainerHandlerTest(
             AwsProxyRequest.class, AwsProxyResponse.class,
@@ -69,10 +75,117 @@ public class LambdaContainerHandlerTest {
         assertEquals("OK", resp.getBody());
     }
 
+    @Test
+    void prime_replaysRequestsAndClearsCache() throws Exception {
+        throwException = false;
+        LambdaContainerHandler.getContainerConfig().setDisableExceptionMapper(false);
+        PrimingContainerHandler primingHandler = new PrimingContainerHandler();
+        AwsProxyResponseCache cache = new AwsProxyResponseCache(1024 * 1024, 10);
+        primingHandler.setResponseCache(cache);
+        primingHandler.addPrimingRequests(new AwsProxyRequestBuilder("/prime", "GET").build());
+        primingHandler.addPrimingRequest(new AwsProxyRequestBuilder("/prime/json", "GET").buildStream());
+
+        assertEquals(2, primingHandler.getPrimingRequests().size());
+        assertEquals(2, primingHandler.prime());
+        assertEquals(2, primingHandler.handled);
+        assertEquals(0, cache.getStatistics().getEntryCount());
+        assertNull(primingHandler.lambdaContext);
+    }
+
+    @Test
+    void prime_mappedException_notCountedAsPrimed() {
+        isRuntimeException = true;
+        throwException = true;
+        LambdaContainerHandler.getContainerConfig().setDisableExceptionMapper(false);
+        handler.addPrimingRequests(new AwsProxyRequestBuilder("/prime", "GET").build());
+
+        assertEquals(0, handler.prime());
+    }
+
+    @Test
+    void proxyAsync_synchronousResponse_completesBeforeReturning() {
+        throwException = false;
+        LambdaContainerHandler.getContainerConfig().setDisableExceptionMapper(false);
+        CompletableFuture<AwsProxyResponse> future = handler.proxyAsync(new AwsProxyRequestBuilder("/test", "GET").build(), new MockLambdaContext());
+        assertTrue(future.isDone());
+        assertEquals("OK", future.join().getBody());
+    }
+
+    @Test
+    void proxyAsync_deferredResponse_completesWhenCommitted() throws Exception {
+        throwException = false;
+        deferResponse = true;
+        LambdaContainerHandler.getContainerConfig().setDisableExceptionMapper(false);
+        CompletableFuture<AwsProxyResponse> future = handler.proxyAsync(new AwsProxyRequestBuilder("/test", "GET").build(), new MockLambdaContext());
+        assertFalse(future.isDone());
+
+        Thread commit = new Thread(() -> handler.commit("deferred"));
+        commit.start();
+        assertEquals("deferred", future.get(5, TimeUnit.SECONDS).getBody());
+    }
+
+    @Test
+    void proxyAsync_cancelled_ignoresLateResponse() throws Exception {
+        throwException = false;
+        deferResponse = true;
+        LambdaContainerHandler.getContainerConfig().setDisableExceptionMapper(false);
+        CompletableFuture<AwsProxyResponse> future = handler.proxyAsync(new AwsProxyRequestBuilder("/test", "GET").build(), new MockLambdaContext());
+        assertTrue(future.cancel(true));
+
+        handler.commit("late");
+        assertTrue(future.isCancelled());
+    }
+
+    @Test
+    void proxyAsync_exception_mappedOrCompletedExceptionally() {
+        isRuntimeException = true;
+        throwException = true;
+        LambdaContainerHandler.getContainerConfig().setDisableExceptionMapper(false);
+        CompletableFuture<AwsProxyResponse> mapped = handler.proxyAsync(new AwsProxyRequestBuilder("/test", "GET").build(), new MockLambdaContext());
+        assertEquals(502, mapped.join().getStatusCode());
+
+        LambdaContainerHandler.getContainerConfig().setDisableExceptionMapper(true);
+        CompletableFuture<AwsProxyResponse> failed = handler.proxyAsync(new AwsProxyRequestBuilder("/test", "GET").build(), new MockLambdaContext());
+        ExecutionException e = assertThrows(ExecutionException.class, failed::get);
+        assertEquals(ExceptionContainerHandlerTest.RUNTIME_MESSAGE, e.getCause().getMessage());
+        LambdaContainerHandler.getContainerConfig().setDisableExceptionMapper(false);
+    }
+
+    @Test
+    void proxy_deferredResponsePastDeadline_returnsGatewayTimeout() {
+        throwException = false;
+        deferResponse = true;
+        LambdaContainerHandler.getContainerConfig().setDisableExceptionMapper(false);
+        long start = System.currentTimeMillis();
+
+        AwsProxyResponse resp = handler.proxy(new AwsProxyRequestBuilder("/test", "GET").build(), new RemainingTimeContext(700));
+
+        assertEquals(504, resp.getStatusCode());
+        assertTrue(System.currentTimeMillis() - start < 5000);
+        assertNull(InvocationDeadline.current());
+    }
+
+    @Test
+    void proxy_remainingTime_exposesDeadline() {
+        throwException = false;
+        LambdaContainerHandler.getContainerConfig().setDisableExceptionMapper(false);
+
+        AwsProxyResponse resp = handler.proxy(new AwsProxyRequestBuilder("/test", "GET").build(), new RemainingTimeContext(10000));
+
+        assertEquals(200, resp.getStatusCode());
+        assertNotNull(handler.deadline);
+        assertSame(handler.deadline, handler.deadlineAttribute);
+        assertTrue(handler.deadline.getRemainingMillis() <= 10000 - LambdaContainerHandler.getContainerConfig().getDeadlineSafetyMargin());
+        assertNull(InvocationDeadline.current());
+    }
+
     public class ExceptionContainerHandlerTest extends LambdaContainerHandler<AwsProxyRequest, AwsProxyResponse, HttpServletRequest, AwsHttpServletResponse> {
 
         public static final String RUNTIME_MESSAGE = "test RuntimeException";
         public static final String NON_RUNTIME_MESSAGE = "test NonRuntimeException";
+        private AwsHttpServletResponse deferred;
+        private InvocationDeadline deadline;
+        private Object deadlineAttribute;
 
         protected ExceptionContainerHandlerTest(Class<AwsProxyRequest> requestClass, Class<AwsProxyResponse> responseClass, RequestReader<AwsProxyRequest, HttpServletRequest> requestReader, ResponseWriter<AwsHttpServletResponse, AwsProxyResponse> responseWriter, SecurityContextWriter<AwsProxyRequest> securityContextWriter, ExceptionHandler<AwsProxyResponse> exceptionHandler, InitializationWrapper init) {
             super(requestClass, responseClass, requestReader, responseWriter, securityContextWriter, exceptionHandler, init);
@@ -92,14 +205,60 @@ public class LambdaContainerHandlerTest {
                     throw new RequestAbortedException(NON_RUNTIME_MESSAGE);
                 }
             }
+            deadline = InvocationDeadline.current();
+            deadlineAttribute = containerRequest.getAttribute(RequestReader.DEADLINE_PROPERTY);
+            if (deferResponse) {
+                deferred = containerResponse;
+                return;
+            }
             containerResponse.setStatus(200);
             containerResponse.getWriter().print("OK");
             containerResponse.flushBuffer();
         }
 
+        void commit(String body) {
+            try {
+                deferred.setStatus(200);
+                deferred.getWriter().print(body);
+                deferred.flushBuffer();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
         @Override
         public void initialize() throws ContainerInitializationException {
 
         }
     }
+
+    private class PrimingContainerHandler extends ExceptionContainerHandlerTest {
+        private int handled;
+
+        PrimingContainerHandler() {
+            super(AwsProxyRequest.class, AwsProxyResponse.class,
+                    new AwsProxyHttpServletRequestReader(), new AwsProxyHttpServletResponseWriter(),
+                    new AwsProxySecurityContextWriter(), new AwsProxyExceptionHandler(), new InitializationWrapper());
+        }
+
+        @Override
+        protected void handleRequest(HttpServletRequest containerRequest, AwsHttpServletResponse containerResponse, Context lambdaContext) throws Exception {
+            handled++;
+            containerResponse.setHeader("Cache-Control", "max-age=60");
+            super.handleRequest(containerRequest, containerResponse, lambdaContext);
+        }
+    }
+
+    private static class RemainingTimeContext extends MockLambdaContext {
+        private final int remainingMillis;
+
+        RemainingTimeContext(int remainingMillis) {
+            this.remainingMillis = remainingMillis;
+        }
+
+        @Override
+        public int getRemainingTimeInMillis() {
+            return remainingMillis;
+        }
+    }
 }
@@ -0,0 +1,91 @@
+package com.amazonaws.serverless.proxy.internal;
+
+import com.amazonaws.serverless.proxy.model.ContainerConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MediaTypeClassifierTest {
+
+    @Test
+    void classify_nullOrEmpty_returnsText() {
+        MediaTypeClassifier classifier = new MediaTypeClassifier(Collections.singletonList("*/*"), null);
+        assertEquals(MediaTypeClassifier.Classification.TEXT, classifier.classify(null));
+        assertEquals(MediaTypeClassifier.Classification.TEXT, classifier.classify(""));
+        assertEquals(MediaTypeClassifier.Classification.TEXT, classifier.classify(" ; charset=UTF-8"));
+    }
+
+    @Test
+    void classify_exactType_ignoresParametersAndCase() {
+        MediaTypeClassifier classifier = new MediaTypeClassifier(Collections.singletonList("image/png"), null);
+        assertTrue(classifier.isBinary("image/png"));
+        assertTrue(classifier.isBinary("IMAGE/PNG"));
+        assertTrue(classifier.isBinary("image/png; charset=UTF-8"));
+        assertFalse(classifier.isBinary("image/pngx"));
+        assertFalse(classifier.isBinary("application/json"));
+    }
+
+    @Test
+    void classify_wildcardSubtype_matchesTopLevelType() {
+        MediaTypeClassifier classifier = new MediaTypeClassifier(Collections.singletonList("image/*"), null);
+        assertTrue(classifier.isBinary("image/webp"));
+        assertTrue(classifier.isBinary("image/x-icon"));
+        assertFalse(classifier.isBinary("text/plain"));
+    }
+
+    @Test
+    void classify_fullWildcard_matchesEverything() {
+        MediaTypeClassifier classifier = new MediaTypeClassifier(Collections.singletonList("*/*"), null);
+        assertTrue(classifier.isBinary("text/plain"));
+        assertTrue(classifier.isBinary("application/json"));
+    }
+
+    @Test
+    void classify_structuredSuffix_matchesSuffix() {
+        MediaTypeClassifier classifier = new MediaTypeClassifier(Arrays.asList("+protobuf", "application/*+cbor"), null);
+        assertTrue(classifier.isBinary("application/vnd.example+protobuf"));
+        assertTrue(classifier.isBinary("text/x-thing+protobuf"));
+        assertTrue(classifier.isBinary("application/vnd.example+cbor; v=2"));
+        assertFalse(classifier.isBinary("text/vnd.example+cbor"));
+        assertFalse(classifier.isBinary("application/protobuf"));
+        assertFalse(classifier.isBinary("application/vnd.example+json"));
+    }
+
+    @Test
+    void classify_compressedTypes_notCompressible() {
+        MediaTypeClassifier classifier = new MediaTypeClassifier(
+                Arrays.asList("image/png", "application/octet-stream"),
+                Arrays.asList("image/png", "video/*"));
+        assertEquals(MediaTypeClassifier.Classification.BINARY, classifier.classify("image/png"));
+        assertEquals(MediaTypeClassifier.Classification.COMPRESSIBLE_BINARY, classifier.classify("application/octet-stream"));
+        assertEquals(MediaTypeClassifier.Classification.UNCOMPRESSIBLE_TEXT, classifier.classify("video/mp4"));
+        assertEquals(MediaTypeClassifier.Classification.TEXT, classifier.classify("application/json; charset=UTF-8"));
+    }
+
+    @Test
+    void classify_sameRawValue_returnsSameResult() {
+        MediaTypeClassifier classifier = new MediaTypeClassifier(Collections.singletonList("image/*"), null);
+        for (int i = 0; i < MediaTypeClassifier.MAX_CACHE_SIZE + 10; i++) {
+            assertFalse(classifier.isBinary("multipart/mixed; boundary=" + i));
+        }
+        assertTrue(classifier.isBinary("image/gif"));
+        assertTrue(classifier.isBinary("image/gif"));
+    }
+
+    @Test
+    void containerConfig_addBinaryContentTypes_recompilesClassifier() {
+        ContainerConfig config = ContainerConfig.defaultConfig();
+        assertTrue(config.isBinaryContentType("image/png"));
+        assertFalse(config.isBinaryContentType("application/x-protobuf"));
+        assertFalse(config.getMediaTypeClassifier().isCompressible("image/jpeg"));
+        assertTrue(config.getMediaTypeClassifier().isCompressible("image/svg+xml"));
+
+        config.addBinaryContentTypes("application/x-protobuf");
+        assertTrue(config.isBinaryContentType("application/x-protobuf"));
+        assertTrue(config.isBinaryContentType("application/x-protobuf; proto=Example"));
+        assertFalse(config.isBinaryContentType(null));
+    }
+}
@@ -0,0 +1,85 @@
+package com.amazonaws.serverless.proxy.internal;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TrainingRunnerTest {
+
+    @BeforeEach
+    void reset() {
+        RecordingHandler.events.clear();
+    }
+
+    @Test
+    void run_directory_replaysEventsInNameOrder(@TempDir Path dir) throws IOException {
+        Files.write(dir.resolve("b.json"), "second".getBytes(StandardCharsets.UTF_8));
+        Files.write(dir.resolve("a.json"), "first".getBytes(StandardCharsets.UTF_8));
+        Files.write(dir.resolve("notes.txt"), "ignored".getBytes(StandardCharsets.UTF_8));
+
+        int status = TrainingRunner.run(new String[] {
+                TrainingRunner.ITERATIONS_OPTION, "2", RecordingHandler.class.getName(), dir.toString() });
+
+        assertEquals(TrainingRunner.STATUS_OK, status);
+        List<String> expected = new ArrayList<>();
+        Collections.addAll(expected, "first", "second", "first", "second");
+        assertEquals(expected, RecordingHandler.events);
+    }
+
+    @Test
+    void run_allEventsFail_returnsFailed(@TempDir Path dir) throws IOException {
+        Files.write(dir.resolve("a.json"), "fail".getBytes(StandardCharsets.UTF_8));
+        assertEquals(TrainingRunner.STATUS_FAILED, TrainingRunner.run(new String[] { RecordingHandler.class.getName(), dir.toString() }));
+    }
+
+    @Test
+    void run_invalidArguments_returnsUsage(@TempDir Path dir) {
+        assertEquals(TrainingRunner.STATUS_USAGE, TrainingRunner.run(new String[] { RecordingHandler.class.getName() }));
+        assertEquals(TrainingRunner.STATUS_USAGE, TrainingRunner.run(new String[] {
+                TrainingRunner.ITERATIONS_OPTION, "x", RecordingHandler.class.getName(), dir.toString() }));
+        // empty directory
+        assertEquals(TrainingRunner.STATUS_USAGE, TrainingRunner.run(new String[] { RecordingHandler.class.getName(), dir.toString() }));
+    }
+
+    @Test
+    void run_unknownHandler_returnsFailed(@TempDir Path dir) throws IOException {
+        Files.write(dir.resolve("a.json"), "first".getBytes(StandardCharsets.UTF_8));
+        assertEquals(TrainingRunner.STATUS_FAILED, TrainingRunner.run(new String[] { "com.example.DoesNotExist", dir.toString() }));
+        assertEquals(TrainingRunner.STATUS_FAILED, TrainingRunner.run(new String[] { String.class.getName(), dir.toString() }));
+    }
+
+    public static class RecordingHandler implements RequestStreamHandler {
+        static final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void handleRequest(InputStream input, OutputStream output, Context context) throws IOException {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            byte[] chunk = new byte[256];
+            int read;
+            while ((read = input.read(chunk)) != -1) {
+                buffer.write(chunk, 0, read);
+            }
+            String event = new String(buffer.toByteArray(), StandardCharsets.UTF_8);
+            if ("fail".equals(event)) {
+                throw new IOException("failed");
+            }
+            events.add(event);
+            output.write(event.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
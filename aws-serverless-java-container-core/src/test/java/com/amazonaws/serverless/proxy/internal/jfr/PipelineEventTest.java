@@ -0,0 +1,171 @@
+package com.amazonaws.serverless.proxy.internal.jfr;
+
+import com.amazonaws.serverless.exceptions.ContainerInitializationException;
+import com.amazonaws.serverless.proxy.AwsProxyExceptionHandler;
+import com.amazonaws.serverless.proxy.AwsProxySecurityContextWriter;
+import com.amazonaws.serverless.proxy.internal.LambdaContainerHandler;
+import com.amazonaws.serverless.proxy.internal.servlet.AwsHttpServletResponse;
+import com.amazonaws.serverless.proxy.internal.servlet.AwsLambdaServletContainerHandler;
+import com.amazonaws.serverless.proxy.internal.servlet.AwsProxyHttpServletRequestReader;
+import com.amazonaws.serverless.proxy.internal.servlet.AwsProxyHttpServletResponseWriter;
+import com.amazonaws.serverless.proxy.internal.testutils.AwsProxyRequestBuilder;
+import com.amazonaws.serverless.proxy.internal.testutils.MockLambdaContext;
+import com.amazonaws.serverless.proxy.model.AwsProxyRequest;
+import com.amazonaws.serverless.proxy.model.AwsProxyResponse;
+import com.amazonaws.services.lambda.runtime.Context;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.servlet.GenericServlet;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PipelineEventTest {
+
+    private static final String[] EVENT_NAMES = {
+            "com.amazonaws.serverless.RequestRead", "com.amazonaws.serverless.SecurityContext",
+            "com.amazonaws.serverless.FilterChain", "com.amazonaws.serverless.ServletDispatch",
+            "com.amazonaws.serverless.Flush", "com.amazonaws.serverless.ResponseWrite",
+            "com.amazonaws.serverless.Serialization"
+    };
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void proxyStream_recordingEnabled_emitsEventForEachPhase() throws Exception {
+        TestHandler handler = newHandler();
+        byte[] event = LambdaContainerHandler.getObjectMapper().writeValueAsBytes(
+                new AwsProxyRequestBuilder("/pets", "POST").header("Content-Length", "14")
+                        .body("{\"name\":\"rex\"}").build());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        Map<String, RecordedEvent> events = new HashMap<>();
+        Map<String, RecordedEvent> serialization = new HashMap<>();
+        try (Recording recording = new Recording()) {
+            for (String name : EVENT_NAMES) {
+                recording.enable(name).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+            handler.proxyStream(new ByteArrayInputStream(event), output, new MockLambdaContext());
+            recording.stop();
+            Path file = tempDir.resolve("pipeline.jfr");
+            recording.dump(file);
+            List<RecordedEvent> recorded = RecordingFile.readAllEvents(file);
+            for (RecordedEvent e : recorded) {
+                if (e.getEventType().getName().equals("com.amazonaws.serverless.Serialization")) {
+                    serialization.put(e.getString("direction"), e);
+                } else {
+                    events.put(e.getEventType().getName(), e);
+                }
+            }
+        }
+
+        for (String name : EVENT_NAMES) {
+            if (!name.endsWith("Serialization")) {
+                assertTrue(events.containsKey(name), name);
+                assertEquals("POST /pets", events.get(name).getString("route"), name);
+            }
+        }
+        assertEquals(14, events.get("com.amazonaws.serverless.RequestRead").getLong("bytes"));
+        assertEquals(TestServlet.class.getName(), events.get("com.amazonaws.serverless.ServletDispatch").getString("target"));
+        assertEquals(201, events.get("com.amazonaws.serverless.ResponseWrite").getInt("status"));
+        assertEquals(2, events.get("com.amazonaws.serverless.ResponseWrite").getLong("bytes"));
+        assertEquals(event.length, serialization.get(SerializationEvent.REQUEST).getLong("bytes"));
+        assertEquals(output.size(), serialization.get(SerializationEvent.RESPONSE).getLong("bytes"));
+        assertEquals(201, serialization.get(SerializationEvent.RESPONSE).getInt("status"));
+    }
+
+    @Test
+    void complete_frameworkDispatch_recordedOutsideProxyPipeline() throws Exception {
+        RecordedEvent recorded;
+        try (Recording recording = new Recording()) {
+            recording.enable("com.amazonaws.serverless.FrameworkDispatch").withThreshold(Duration.ZERO);
+            recording.start();
+            FrameworkDispatchEvent event = new FrameworkDispatchEvent();
+            event.begin();
+            event.complete("jersey", null, null);
+            recording.stop();
+            Path file = tempDir.resolve("framework.jfr");
+            recording.dump(file);
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertEquals(1, events.size());
+            recorded = events.get(0);
+        }
+
+        assertEquals("jersey", recorded.getString("framework"));
+        assertFalse(recorded.getEventType().getCategoryNames().contains("Proxy Pipeline"));
+    }
+
+    @Test
+    void count_eventDisabled_returnsSameStream() {
+        SerializationEvent event = new SerializationEvent(SerializationEvent.RESPONSE);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ByteArrayInputStream input = new ByteArrayInputStream(new byte[0]);
+
+        assertSame(output, event.count(output));
+        assertSame(input, event.count(input));
+    }
+
+    @Test
+    void proxy_recordingDisabled_handlesRequest() throws ContainerInitializationException {
+        AwsProxyResponse response = newHandler().proxy(new AwsProxyRequestBuilder("/pets", "GET").build(),
+                new MockLambdaContext());
+
+        assertEquals(201, response.getStatusCode());
+        assertEquals("ok", response.getBody());
+    }
+
+    private static TestHandler newHandler() throws ContainerInitializationException {
+        TestHandler handler = new TestHandler();
+        handler.getServletContext().addServlet("test", handler.servlet).addMapping("/*");
+        handler.initialize();
+        return handler;
+    }
+
+    private static class TestHandler extends AwsLambdaServletContainerHandler<AwsProxyRequest, AwsProxyResponse, HttpServletRequest, AwsHttpServletResponse> {
+        private final TestServlet servlet = new TestServlet();
+
+        TestHandler() {
+            super(AwsProxyRequest.class, AwsProxyResponse.class, new AwsProxyHttpServletRequestReader(),
+                    new AwsProxyHttpServletResponseWriter(), new AwsProxySecurityContextWriter(),
+                    new AwsProxyExceptionHandler());
+        }
+
+        @Override
+        protected AwsHttpServletResponse getContainerResponse(HttpServletRequest request, CountDownLatch latch) {
+            return new AwsHttpServletResponse(request, latch);
+        }
+
+        @Override
+        protected void handleRequest(HttpServletRequest containerRequest, AwsHttpServletResponse containerResponse, Context lambdaContext) throws Exception {
+            doFilter(containerRequest, containerResponse, servlet);
+        }
+    }
+
+    private static class TestServlet extends GenericServlet {
+        @Override
+        public void service(ServletRequest req, ServletResponse res) throws IOException {
+            ((HttpServletResponse) res).setStatus(201);
+            res.getOutputStream().write("ok".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
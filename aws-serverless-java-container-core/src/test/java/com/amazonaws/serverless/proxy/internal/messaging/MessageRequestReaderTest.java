@@ -0,0 +1,114 @@
+package com.amazonaws.serverless.proxy.internal.messaging;
+
+import com.amazonaws.serverless.proxy.MessageRequest;
+import com.amazonaws.serverless.proxy.internal.LambdaContainerHandler;
+import com.amazonaws.serverless.proxy.model.EventBridgeEvent;
+import com.amazonaws.serverless.proxy.model.SnsEvent;
+import com.amazonaws.serverless.proxy.model.SqsEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MessageRequestReaderTest {
+
+    private static final String SQS_EVENT = "{\"Records\": [{"
+            + "\"messageId\": \"059f36b4-87a3-44ab-83d2-661975830a7d\","
+            + "\"receiptHandle\": \"AQEBwJnKyrHigUMZj6rYigCgxlaS3SLy0a\","
+            + "\"body\": \"{\\\"id\\\": 5}\","
+            + "\"attributes\": {\"ApproximateReceiveCount\": \"1\", \"MessageGroupId\": \"orders\"},"
+            + "\"messageAttributes\": {"
+            + "  \"HttpPath\": {\"stringValue\": \"/orders\", \"stringListValues\": [], \"binaryListValues\": [], \"dataType\": \"String\"},"
+            + "  \"Tenant\": {\"stringValue\": \"acme\", \"stringListValues\": [], \"binaryListValues\": [], \"dataType\": \"String\"},"
+            + "  \"Blob\": {\"binaryValue\": \"AQI=\", \"stringListValues\": [], \"binaryListValues\": [], \"dataType\": \"Binary\"}"
+            + "},"
+            + "\"md5OfBody\": \"e4e68fb7bd0e697a0ae8f1bb342846b3\","
+            + "\"eventSource\": \"aws:sqs\","
+            + "\"eventSourceARN\": \"arn:aws:sqs:us-east-2:123456789012:my-queue.fifo\","
+            + "\"awsRegion\": \"us-east-2\""
+            + "}]}";
+
+    private static final String SNS_EVENT = "{\"Records\": [{"
+            + "\"EventVersion\": \"1.0\","
+            + "\"EventSubscriptionArn\": \"arn:aws:sns:us-east-1:123456789012:sns-lambda:21be56ed\","
+            + "\"EventSource\": \"aws:sns\","
+            + "\"Sns\": {"
+            + "  \"Type\": \"Notification\","
+            + "  \"MessageId\": \"95df01b4-ee98-5cb9-9903-4c221d41eb5e\","
+            + "  \"TopicArn\": \"arn:aws:sns:us-east-1:123456789012:sns-lambda\","
+            + "  \"Subject\": \"example subject\","
+            + "  \"Message\": \"example message\","
+            + "  \"Timestamp\": \"2019-01-02T12:45:07.000Z\","
+            + "  \"MessageAttributes\": {\"HttpMethod\": {\"Type\": \"String\", \"Value\": \"PUT\"}}"
+            + "}}]}";
+
+    private static final String EVENTBRIDGE_EVENT = "{"
+            + "\"version\": \"0\","
+            + "\"id\": \"6a7e8feb-b491-4cf7-a9f1-bf3703467718\","
+            + "\"detail-type\": \"Order Placed\","
+            + "\"source\": \"com.example.orders\","
+            + "\"account\": \"111122223333\","
+            + "\"time\": \"2017-12-22T18:43:48Z\","
+            + "\"region\": \"us-west-1\","
+            + "\"resources\": [],"
+            + "\"detail\": {\"orderId\": \"1234\"}"
+            + "}";
+
+    @Test
+    void readRequests_sqsEvent_mapsAttributesAndGroup() {
+        SqsEvent event = LambdaContainerHandler.getObjectMapper().readValue(SQS_EVENT, SqsEvent.class);
+
+        List<MessageRequest> requests = new SqsMessageRequestReader().readRequests(event);
+
+        assertEquals(1, requests.size());
+        MessageRequest request = requests.get(0);
+        assertEquals("059f36b4-87a3-44ab-83d2-661975830a7d", request.getMessageId());
+        assertEquals("orders", request.getGroupId());
+        assertEquals("POST", request.getRequest().getHttpMethod());
+        assertEquals("/orders", request.getRequest().getPath());
+        assertEquals("{\"id\": 5}", request.getRequest().getBody());
+        assertEquals("acme", request.getRequest().getMultiValueHeaders().getFirst("Tenant"));
+        assertNull(request.getRequest().getMultiValueHeaders().getFirst("Blob"));
+        assertEquals("application/json", request.getRequest().getMultiValueHeaders().getFirst("Content-Type"));
+        assertEquals(request.getMessageId(), request.getRequest().getRequestContext().getRequestId());
+    }
+
+    @Test
+    void readRequests_sqsEventNotOrdered_hasNoGroup() {
+        SqsEvent event = LambdaContainerHandler.getObjectMapper().readValue(SQS_EVENT, SqsEvent.class);
+        SqsMessageRequestReader reader = new SqsMessageRequestReader();
+        reader.setOrderedByMessageGroup(false);
+
+        assertNull(reader.readRequests(event).get(0).getGroupId());
+    }
+
+    @Test
+    void readRequests_snsEvent_mapsMessage() {
+        SnsEvent event = LambdaContainerHandler.getObjectMapper().readValue(SNS_EVENT, SnsEvent.class);
+        SnsMessageRequestReader reader = new SnsMessageRequestReader();
+        reader.setDefaultPath("/notifications");
+
+        List<MessageRequest> requests = reader.readRequests(event);
+
+        assertEquals(1, requests.size());
+        assertEquals("95df01b4-ee98-5cb9-9903-4c221d41eb5e", requests.get(0).getMessageId());
+        assertEquals("PUT", requests.get(0).getRequest().getHttpMethod());
+        assertEquals("/notifications", requests.get(0).getRequest().getPath());
+        assertEquals("example message", requests.get(0).getRequest().getBody());
+    }
+
+    @Test
+    void readRequests_eventBridgeEvent_routesByDetailType() {
+        EventBridgeEvent event = LambdaContainerHandler.getObjectMapper().readValue(EVENTBRIDGE_EVENT, EventBridgeEvent.class);
+        EventBridgeRequestReader reader = new EventBridgeRequestReader();
+        reader.setDefaultPath("/events");
+
+        List<MessageRequest> requests = reader.readRequests(event);
+
+        assertEquals(1, requests.size());
+        assertEquals("POST", requests.get(0).getRequest().getHttpMethod());
+        assertEquals("/events/order-placed", requests.get(0).getRequest().getPath());
+        assertEquals("{\"orderId\":\"1234\"}", requests.get(0).getRequest().getBody());
+    }
+}
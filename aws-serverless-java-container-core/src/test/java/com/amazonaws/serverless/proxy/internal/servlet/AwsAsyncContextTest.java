@@ -10,20 +10,36 @@ import com.amazonaws.serverless.proxy.internal.testutils.MockLambdaContext;
 import com.amazonaws.serverless.proxy.model.AwsProxyRequest;
 import com.amazonaws.serverless.proxy.model.AwsProxyResponse;
 import com.amazonaws.services.lambda.runtime.Context;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
 import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.GenericServlet;
 import jakarta.servlet.Servlet;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRegistration;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class AwsAsyncContextTest {
     private MockLambdaContext lambdaCtx = new MockLambdaContext();
@@ -46,6 +62,127 @@ public class AwsAsyncContextTest {
         assertEquals("/srv1/hello", req.getRequestURI());
     }
 
+    @AfterEach
+    void resetConfig() {
+        LambdaContainerHandler.getContainerConfig().setAsyncContextExecutor(null);
+    }
+
+    @Test
+    void start_dispatchFromTask_releasesProxyWait() {
+        AsyncServletHandler asyncHandler = new AsyncServletHandler(new AsyncServlet(false));
+
+        AwsProxyResponse response = asyncHandler.proxy(new AwsProxyRequestBuilder("/hello", "GET").build(), lambdaCtx);
+
+        assertEquals(200, response.getStatusCode());
+        assertTrue(response.getBody().startsWith(AwsAsyncContext.THREAD_NAME_PREFIX));
+    }
+
+    @Test
+    void start_failingTask_completesWithServerError() {
+        AsyncServletHandler asyncHandler = new AsyncServletHandler(new AsyncServlet(true));
+
+        AwsProxyResponse response = asyncHandler.proxy(new AwsProxyRequestBuilder("/hello", "GET").build(), lambdaCtx);
+
+        assertEquals(500, response.getStatusCode());
+    }
+
+    @Test
+    void timeout_noListenerAction_completesWithServiceUnavailable() {
+        AsyncServletHandler asyncHandler = new AsyncServletHandler(new TimeoutServlet(false));
+
+        AwsProxyResponse response = asyncHandler.proxy(new AwsProxyRequestBuilder("/hello", "GET").build(), lambdaCtx);
+
+        assertEquals(503, response.getStatusCode());
+    }
+
+    @Test
+    void timeout_listenerDispatches_returnsDispatchedResponse() {
+        AsyncServletHandler asyncHandler = new AsyncServletHandler(new TimeoutServlet(true));
+
+        AwsProxyResponse response = asyncHandler.proxy(new AwsProxyRequestBuilder("/hello", "GET").build(), lambdaCtx);
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals("timeout", response.getBody());
+    }
+
+    @Test
+    void complete_beforeTimeout_doesNotNotifyListeners() throws Exception {
+        AsyncContext asyncCtx = startAsync();
+        CountDownLatch timedOut = new CountDownLatch(1);
+        asyncCtx.addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                timedOut.countDown();
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+        asyncCtx.setTimeout(50);
+
+        asyncCtx.complete();
+
+        assertFalse(timedOut.await(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void start_configuredExecutor_propagatesContextClassLoader() throws Exception {
+        List<Runnable> tasks = new ArrayList<>();
+        LambdaContainerHandler.getContainerConfig().setAsyncContextExecutor(tasks::add);
+        AsyncContext asyncCtx = startAsync();
+        ClassLoader appClassLoader = new URLClassLoader(new URL[0]);
+        AtomicReference<ClassLoader> taskClassLoader = new AtomicReference<>();
+
+        Thread thread = new Thread(() -> asyncCtx.start(() -> taskClassLoader.set(Thread.currentThread().getContextClassLoader())));
+        thread.setContextClassLoader(appClassLoader);
+        thread.start();
+        thread.join();
+        assertEquals(1, tasks.size());
+        tasks.get(0).run();
+
+        assertSame(appClassLoader, taskClassLoader.get());
+        assertNotSame(appClassLoader, Thread.currentThread().getContextClassLoader());
+    }
+
+    @Test
+    void dispatch_afterDeferral_runsDispatchOnCallingThread() throws Exception {
+        AwsAsyncContext asyncCtx = (AwsAsyncContext) startAsync();
+        AtomicReference<Thread> dispatchThread = new AtomicReference<>();
+
+        assertTrue(asyncCtx.deferDispatch(() -> dispatchThread.set(Thread.currentThread())));
+        Thread thread = new Thread(asyncCtx::dispatch);
+        thread.start();
+        thread.join();
+
+        assertSame(thread, dispatchThread.get());
+        assertFalse(asyncCtx.deferDispatch(() -> { }));
+    }
+
+    @Test
+    void dispatch_beforeDeferral_leavesReDispatchToHandler() throws InvalidRequestEventException {
+        AwsAsyncContext asyncCtx = (AwsAsyncContext) startAsync();
+
+        asyncCtx.dispatch();
+
+        assertFalse(asyncCtx.deferDispatch(() -> { }));
+    }
+
+    private AsyncContext startAsync() throws InvalidRequestEventException {
+        AwsProxyHttpServletRequest req = (AwsProxyHttpServletRequest)reader.readRequest(new AwsProxyRequestBuilder("/srv1/hello", "GET").build(), null, lambdaCtx, LambdaContainerHandler.getContainerConfig());
+        req.setResponse(handler.getContainerResponse(req, new CountDownLatch(1)));
+        req.setServletContext(ctx);
+        req.setContainerHandler(handler);
+        return req.startAsync();
+    }
 
     private AwsServletContext getCtx() {
         AwsServletContext ctx = new AwsServletContext(handler);
@@ -112,4 +249,106 @@ public class AwsAsyncContextTest {
             return selectedServlet;
         }
     }
+
+    private static class AsyncServletHandler extends AwsLambdaServletContainerHandler<AwsProxyRequest, AwsProxyResponse, HttpServletRequest, AwsHttpServletResponse> {
+        private final Servlet servlet;
+
+        AsyncServletHandler(Servlet servlet) {
+            super(AwsProxyRequest.class, AwsProxyResponse.class, new AwsProxyHttpServletRequestReader(), new AwsProxyHttpServletResponseWriter(), new AwsProxySecurityContextWriter(), new AwsProxyExceptionHandler());
+            this.servlet = servlet;
+            setServletContext(new AwsServletContext(this));
+            getServletContext().addServlet("async", servlet).addMapping("/");
+        }
+
+        @Override
+        protected AwsHttpServletResponse getContainerResponse(HttpServletRequest request, CountDownLatch latch) {
+            return new AwsHttpServletResponse(request, latch);
+        }
+
+        @Override
+        protected AwsHttpServletResponse getContainerResponse(HttpServletRequest request) {
+            return new AwsHttpServletResponse(request);
+        }
+
+        @Override
+        protected void handleRequest(HttpServletRequest containerRequest, AwsHttpServletResponse containerResponse, Context lambdaContext) throws Exception {
+            ((AwsHttpServletRequest) containerRequest).setServletContext(getServletContext());
+            ((AwsHttpServletRequest) containerRequest).setResponse(containerResponse);
+            doFilter(containerRequest, containerResponse, servlet);
+        }
+
+        @Override
+        public void initialize() {
+        }
+    }
+
+    /**
+     * Starts an async task that stores its thread name and dispatches, the dispatch writes the name to the response
+     */
+    private static class AsyncServlet extends GenericServlet {
+        private static final String RESULT_ATTRIBUTE = "result";
+        private final boolean fail;
+
+        AsyncServlet(boolean fail) {
+            this.fail = fail;
+        }
+
+        @Override
+        public void service(ServletRequest req, ServletResponse res) throws IOException {
+            if (req.getAttribute(RESULT_ATTRIBUTE) != null) {
+                res.getWriter().write((String) req.getAttribute(RESULT_ATTRIBUTE));
+                return;
+            }
+            AsyncContext asyncCtx = req.startAsync();
+            asyncCtx.start(() -> {
+                if (fail) {
+                    throw new IllegalStateException("Task failed");
+                }
+                req.setAttribute(RESULT_ATTRIBUTE, Thread.currentThread().getName());
+                asyncCtx.dispatch();
+            });
+        }
+    }
+
+    /**
+     * Starts an async context that times out, the listener optionally dispatches to write a response
+     */
+    private static class TimeoutServlet extends GenericServlet {
+        private final boolean dispatchOnTimeout;
+
+        TimeoutServlet(boolean dispatchOnTimeout) {
+            this.dispatchOnTimeout = dispatchOnTimeout;
+        }
+
+        @Override
+        public void service(ServletRequest req, ServletResponse res) throws IOException {
+            if (req.getAttribute(AsyncServlet.RESULT_ATTRIBUTE) != null) {
+                res.getWriter().write((String) req.getAttribute(AsyncServlet.RESULT_ATTRIBUTE));
+                return;
+            }
+            AsyncContext asyncCtx = req.startAsync();
+            asyncCtx.setTimeout(50);
+            if (dispatchOnTimeout) {
+                asyncCtx.addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                        req.setAttribute(AsyncServlet.RESULT_ATTRIBUTE, "timeout");
+                        event.getAsyncContext().dispatch();
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            }
+        }
+    }
 }
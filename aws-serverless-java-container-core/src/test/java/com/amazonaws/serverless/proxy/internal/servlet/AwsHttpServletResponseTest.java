@@ -20,6 +20,7 @@ import java.util.Calendar;
 import java.util.Locale;
 import java.util.TimeZone;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -367,6 +368,32 @@ public class AwsHttpServletResponseTest {
         assertEquals("ü",resp.getAwsResponseBodyString());
     }
 
+    @Test
+    void awaitCommit_committedSynchronously_returnsWithoutLatch() throws IOException, InterruptedException {
+        AwsHttpServletResponse resp = new AwsHttpServletResponse(null);
+        resp.flushBuffer();
+        resp.awaitCommit();
+        assertTrue(resp.awaitCommit(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void awaitCommit_committedByAnotherThread_waitsForCommit() throws InterruptedException {
+        AwsHttpServletResponse resp = new AwsHttpServletResponse(null);
+        assertFalse(resp.awaitCommit(10, TimeUnit.MILLISECONDS));
+
+        Thread writer = new Thread(() -> {
+            try {
+                resp.getWriter().print("async");
+                resp.flushBuffer();
+            } catch (IOException e) {
+                fail(e);
+            }
+        });
+        writer.start();
+        assertTrue(resp.awaitCommit(5, TimeUnit.SECONDS));
+        assertEquals("async", resp.getAwsResponseBodyString());
+    }
+
     private int getMaxAge(String header) {
         Matcher ageMatcher = MAX_AGE_PATTERN.matcher(header);
         assertTrue(ageMatcher.find());
@@ -0,0 +1,151 @@
+package com.amazonaws.serverless.proxy.internal.servlet;
+
+import com.amazonaws.serverless.exceptions.ContainerInitializationException;
+import com.amazonaws.serverless.proxy.AsyncInitializationWrapper;
+import com.amazonaws.serverless.proxy.AwsProxyExceptionHandler;
+import com.amazonaws.serverless.proxy.AwsProxySecurityContextWriter;
+import com.amazonaws.serverless.proxy.internal.LambdaContainerHandler;
+import com.amazonaws.serverless.proxy.internal.testutils.AwsProxyRequestBuilder;
+import com.amazonaws.serverless.proxy.internal.testutils.MockLambdaContext;
+import com.amazonaws.serverless.proxy.model.AwsProxyRequest;
+import com.amazonaws.serverless.proxy.model.AwsProxyResponse;
+import com.amazonaws.services.lambda.runtime.Context;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.FilterConfig;
+import jakarta.servlet.GenericServlet;
+import jakarta.servlet.ServletConfig;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AwsLambdaServletContainerHandlerTest {
+
+    @AfterEach
+    void resetConfig() {
+        LambdaContainerHandler.getContainerConfig().setLazyServletWarmupEnabled(false);
+    }
+
+    @Test
+    void warmUpLazyServlets_initializesLazyServletsAndFiltersOnce() throws Exception {
+        TestHandler handler = new TestHandler();
+        CountingServlet lazy = new CountingServlet();
+        CountingServlet onStartup = new CountingServlet();
+        CountingFilter filter = new CountingFilter();
+        handler.getServletContext().addServlet("lazy", lazy);
+        handler.getServletContext().addServlet("onStartup", onStartup).setLoadOnStartup(1);
+        handler.getServletContext().addFilter("filter", filter);
+
+        handler.initialize();
+        assertEquals(0, lazy.inits.get());
+        assertEquals(1, onStartup.inits.get());
+
+        assertEquals(2, handler.warmUpLazyServlets().get(5, TimeUnit.SECONDS));
+        assertSame(handler.warmUpLazyServlets(), handler.warmUpLazyServlets());
+        assertEquals(1, lazy.inits.get());
+        assertEquals(1, onStartup.inits.get());
+        assertEquals(1, filter.inits.get());
+    }
+
+    @Test
+    void initialize_warmupEnabledWithInitTimeLeft_warmsUpLazyServlets() throws Exception {
+        LambdaContainerHandler.getContainerConfig().setLazyServletWarmupEnabled(true);
+        TestHandler handler = new TestHandler();
+        handler.setInitializationWrapper(new AsyncInitializationWrapper(System.currentTimeMillis()));
+        CountingServlet lazy = new CountingServlet();
+        handler.getServletContext().addServlet("lazy", lazy);
+
+        handler.initialize();
+
+        assertTrue(lazy.initialized.await(5, TimeUnit.SECONDS));
+        assertEquals(1, lazy.inits.get());
+    }
+
+    @Test
+    void proxy_warmupEnabledWithoutInitTimeLeft_leavesLazyServlets() throws Exception {
+        LambdaContainerHandler.getContainerConfig().setLazyServletWarmupEnabled(true);
+        TestHandler handler = new TestHandler();
+        handler.setInitializationWrapper(new AsyncInitializationWrapper(0));
+        CountingServlet lazy = new CountingServlet();
+        handler.getServletContext().addServlet("lazy", lazy);
+        handler.initialize();
+
+        AwsProxyResponse response = handler.proxy(new AwsProxyRequestBuilder("/hello", "GET").build(), new MockLambdaContext());
+
+        // a warm-up started by the invocation would keep running while the environment is frozen
+        assertEquals(200, response.getStatusCode());
+        assertFalse(lazy.initialized.await(200, TimeUnit.MILLISECONDS));
+        assertEquals(0, lazy.inits.get());
+    }
+
+    @Test
+    void proxy_warmupDisabled_leavesLazyServlets() throws ContainerInitializationException {
+        TestHandler handler = new TestHandler();
+        CountingServlet lazy = new CountingServlet();
+        handler.getServletContext().addServlet("lazy", lazy);
+        handler.initialize();
+
+        handler.proxy(new AwsProxyRequestBuilder("/hello", "GET").build(), new MockLambdaContext());
+
+        assertEquals(0, lazy.inits.get());
+    }
+
+    private static class TestHandler extends AwsLambdaServletContainerHandler<AwsProxyRequest, AwsProxyResponse, HttpServletRequest, AwsHttpServletResponse> {
+
+        TestHandler() {
+            super(AwsProxyRequest.class, AwsProxyResponse.class, new AwsProxyHttpServletRequestReader(),
+                    new AwsProxyHttpServletResponseWriter(), new AwsProxySecurityContextWriter(),
+                    new AwsProxyExceptionHandler());
+        }
+
+        @Override
+        protected AwsHttpServletResponse getContainerResponse(HttpServletRequest request, CountDownLatch latch) {
+            return new AwsHttpServletResponse(request, latch);
+        }
+
+        @Override
+        protected void handleRequest(HttpServletRequest containerRequest, AwsHttpServletResponse containerResponse, Context lambdaContext) throws Exception {
+            containerResponse.setStatus(200);
+            containerResponse.flushBuffer();
+        }
+    }
+
+    private static class CountingServlet extends GenericServlet {
+        private final AtomicInteger inits = new AtomicInteger();
+        private final CountDownLatch initialized = new CountDownLatch(1);
+
+        @Override
+        public void init(ServletConfig config) throws ServletException {
+            super.init(config);
+            inits.incrementAndGet();
+            initialized.countDown();
+        }
+
+        @Override
+        public void service(ServletRequest req, ServletResponse res) {
+        }
+    }
+
+    private static class CountingFilter implements Filter {
+        private final AtomicInteger inits = new AtomicInteger();
+
+        @Override
+        public void init(FilterConfig filterConfig) {
+            inits.incrementAndGet();
+        }
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) {
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.amazonaws.serverless.proxy.internal.servlet;
+
+import com.amazonaws.serverless.exceptions.ContainerInitializationException;
+import com.amazonaws.serverless.proxy.AwsProxyExceptionHandler;
+import com.amazonaws.serverless.proxy.AwsProxySecurityContextWriter;
+import com.amazonaws.serverless.proxy.InitializationWrapper;
+import com.amazonaws.serverless.proxy.ResponseCache;
+import com.amazonaws.serverless.proxy.internal.LambdaContainerHandler;
+import com.amazonaws.serverless.proxy.internal.testutils.AwsProxyRequestBuilder;
+import com.amazonaws.serverless.proxy.internal.testutils.MockLambdaContext;
+import com.amazonaws.serverless.proxy.model.AwsProxyRequest;
+import com.amazonaws.serverless.proxy.model.AwsProxyResponse;
+import com.amazonaws.serverless.proxy.model.Headers;
+import com.amazonaws.services.lambda.runtime.Context;
+import org.junit.jupiter.api.Test;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.ws.rs.core.HttpHeaders;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AwsProxyResponseCacheTest {
+
+    @Test
+    void getCacheKey_normalizesQueryAndIncludesVaryHeaders() {
+        AwsProxyResponseCache cache = new AwsProxyResponseCache(1024 * 1024, 10, "Accept-Language");
+        String key1 = cache.getCacheKey(request(new AwsProxyRequestBuilder("/items", "GET")
+                .queryString("b", "2").queryString("a", "1").header("Accept-Language", "en")));
+        String key2 = cache.getCacheKey(request(new AwsProxyRequestBuilder("/items", "GET")
+                .queryString("a", "1").queryString("b", "2").header("Accept-Language", "en")));
+        String key3 = cache.getCacheKey(request(new AwsProxyRequestBuilder("/items", "GET")
+                .queryString("a", "1").queryString("b", "2").header("Accept-Language", "fr")));
+
+        assertNotNull(key1);
+        assertEquals(key1, key2);
+        assertNotEquals(key1, key3);
+    }
+
+    @Test
+    void getCacheKey_nonIdempotentOrNoCache_returnsNull() {
+        AwsProxyResponseCache cache = new AwsProxyResponseCache(1024 * 1024, 10);
+        assertNull(cache.getCacheKey(request(new AwsProxyRequestBuilder("/items", "POST"))));
+        assertNull(cache.getCacheKey(request(new AwsProxyRequestBuilder("/items", "GET")
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache"))));
+    }
+
+    @Test
+    void store_cacheControl_determinesFreshness() {
+        AwsProxyResponseCache cache = new AwsProxyResponseCache(1024 * 1024, 10, "Accept-Language");
+        assertTrue(cache.store("maxage", response("public, max-age=60")));
+        assertTrue(cache.store("smaxage", response("max-age=0, s-maxage=60")));
+        assertFalse(cache.store("nocc", response(null)));
+        assertFalse(cache.store("private", response("private, max-age=60")));
+        assertFalse(cache.store("nostore", response("no-store")));
+
+        AwsProxyResponse varyOnCookie = response("max-age=60");
+        varyOnCookie.getMultiValueHeaders().add(HttpHeaders.VARY, "Cookie");
+        assertFalse(cache.store("vary", varyOnCookie));
+        AwsProxyResponse varyOnLanguage = response("max-age=60");
+        varyOnLanguage.getMultiValueHeaders().add(HttpHeaders.VARY, "accept-language");
+        assertTrue(cache.store("vary", varyOnLanguage));
+
+        AwsProxyResponse error = response("max-age=60");
+        error.setStatusCode(500);
+        assertFalse(cache.store("error", error));
+    }
+
+    @Test
+    void lookup_hit_returnsCopyWithAge() {
+        TestClockCache cache = new TestClockCache(1024 * 1024, 10);
+        AwsProxyResponse stored = response("max-age=60");
+        cache.store("key", stored);
+        cache.now += 5_000;
+
+        ResponseCache.Lookup<AwsProxyResponse> lookup = cache.lookup("key");
+        assertNotNull(lookup);
+        assertNotSame(stored, lookup.getResponse());
+        assertEquals("body", lookup.getResponse().getBody());
+        assertEquals("5", lookup.getResponse().getMultiValueHeaders().getFirst(AwsProxyResponseCache.AGE_HEADER));
+        assertNull(stored.getMultiValueHeaders().getFirst(AwsProxyResponseCache.AGE_HEADER));
+        assertEquals(1, cache.getStatistics().getHits());
+    }
+
+    @Test
+    void lookup_expired_staleWhileRevalidateOnlyOnce() {
+        TestClockCache cache = new TestClockCache(1024 * 1024, 10);
+        cache.store("key", response("max-age=10, stale-while-revalidate=30"));
+
+        cache.now += 15_000;
+        ResponseCache.Lookup<AwsProxyResponse> first = cache.lookup("key");
+        ResponseCache.Lookup<AwsProxyResponse> second = cache.lookup("key");
+        assertTrue(first.isRevalidationRequired());
+        assertFalse(second.isRevalidationRequired());
+        assertEquals(2, cache.getStatistics().getStaleHits());
+
+        cache.now += 30_000;
+        assertNull(cache.lookup("key"));
+        assertEquals(0, cache.getStatistics().getEntryCount());
+    }
+
+    @Test
+    void store_overBudget_evictsLeastRecentlyUsed() {
+        AwsProxyResponseCache cache = new AwsProxyResponseCache(1024 * 1024, 2);
+        cache.store("a", response("max-age=60"));
+        cache.store("b", response("max-age=60"));
+        assertNotNull(cache.lookup("a"));
+        cache.store("c", response("max-age=60"));
+
+        assertNotNull(cache.lookup("a"));
+        assertNull(cache.lookup("b"));
+        assertNotNull(cache.lookup("c"));
+        assertEquals(1, cache.getStatistics().getEvictions());
+
+        long oneEntry = cache.estimateSize(response("max-age=60"));
+        AwsProxyResponseCache small = new AwsProxyResponseCache(oneEntry, 10);
+        small.store("a", response("max-age=60"));
+        small.store("b", response("max-age=60"));
+        assertEquals(1, small.getStatistics().getEntryCount());
+        assertEquals(oneEntry, small.getStatistics().getBytes());
+    }
+
+    @Test
+    void proxy_cacheHit_skipsDispatch() {
+        CountingHandler handler = new CountingHandler("public, max-age=60");
+        handler.setResponseCache(new AwsProxyResponseCache(1024 * 1024, 10));
+
+        AwsProxyResponse first = handler.proxy(new AwsProxyRequestBuilder("/cached", "GET").build(), new MockLambdaContext());
+        AwsProxyResponse second = handler.proxy(new AwsProxyRequestBuilder("/cached", "GET").build(), new MockLambdaContext());
+        handler.proxy(new AwsProxyRequestBuilder("/cached", "POST").build(), new MockLambdaContext());
+
+        assertEquals(2, handler.dispatches.get());
+        assertEquals(first.getBody(), second.getBody());
+        assertEquals("0", second.getMultiValueHeaders().getFirst(AwsProxyResponseCache.AGE_HEADER));
+        assertEquals(1, handler.getResponseCache().getStatistics().getHits());
+    }
+
+    @Test
+    void proxy_staleResponse_revalidatesWithinInvocation() {
+        CountingHandler handler = new CountingHandler("max-age=1, stale-while-revalidate=60");
+        TestClockCache cache = new TestClockCache(1024 * 1024, 10);
+        handler.setResponseCache(cache);
+
+        handler.proxy(new AwsProxyRequestBuilder("/stale", "GET").build(), new MockLambdaContext());
+        cache.now += 2_000;
+        AwsProxyResponse revalidated = handler.proxy(new AwsProxyRequestBuilder("/stale", "GET").build(), new MockLambdaContext());
+        assertEquals("dispatch-2", revalidated.getBody());
+        assertEquals(2, handler.dispatches.get());
+
+        AwsProxyResponse fresh = handler.proxy(new AwsProxyRequestBuilder("/stale", "GET").build(), new MockLambdaContext());
+        assertEquals("dispatch-2", fresh.getBody());
+        assertEquals(2, handler.dispatches.get());
+        assertEquals(1, cache.getStatistics().getRevalidations());
+    }
+
+    @Test
+    void revalidate_loaderFails_servesStaleAndRetries() {
+        TestClockCache cache = new TestClockCache(1024 * 1024, 10);
+        cache.store("key", response("max-age=10, stale-while-revalidate=30"));
+        cache.now += 15_000;
+
+        assertTrue(cache.lookup("key").isRevalidationRequired());
+        assertNull(cache.revalidate("key", () -> {
+            throw new IllegalStateException("dispatch failed");
+        }));
+        assertTrue(cache.lookup("key").isRevalidationRequired());
+    }
+
+    @Test
+    void getCacheKey_authorizationAndHost_partitionKeys() {
+        AwsProxyResponseCache cache = new AwsProxyResponseCache(1024 * 1024, 10);
+        String anonymous = cache.getCacheKey(request(new AwsProxyRequestBuilder("/me", "GET").header(HttpHeaders.HOST, "a.example.com")));
+        String otherHost = cache.getCacheKey(request(new AwsProxyRequestBuilder("/me", "GET").header(HttpHeaders.HOST, "b.example.com")));
+        String userA = cache.getCacheKey(request(new AwsProxyRequestBuilder("/me", "GET").header(HttpHeaders.HOST, "a.example.com")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer token-a")));
+        String userB = cache.getCacheKey(request(new AwsProxyRequestBuilder("/me", "GET").header(HttpHeaders.HOST, "a.example.com")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer token-b")));
+
+        assertNotEquals(anonymous, otherHost);
+        assertNotEquals(userA, userB);
+        assertNotEquals(anonymous, userA);
+        assertFalse(anonymous.startsWith(AwsProxyResponseCache.AUTHENTICATED_KEY_PREFIX));
+        assertTrue(userA.startsWith(AwsProxyResponseCache.AUTHENTICATED_KEY_PREFIX));
+    }
+
+    @Test
+    void proxy_differentAuthorization_doesNotShareResponse() {
+        CountingHandler handler = new CountingHandler("max-age=60");
+        handler.setResponseCache(new AwsProxyResponseCache(1024 * 1024, 10));
+
+        AwsProxyResponse userA = handler.proxy(new AwsProxyRequestBuilder("/me", "GET")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer token-a").build(), new MockLambdaContext());
+        AwsProxyResponse userB = handler.proxy(new AwsProxyRequestBuilder("/me", "GET")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer token-b").build(), new MockLambdaContext());
+        AwsProxyResponse userAAgain = handler.proxy(new AwsProxyRequestBuilder("/me", "GET")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer token-a").build(), new MockLambdaContext());
+
+        assertEquals("dispatch-1", userA.getBody());
+        assertEquals("dispatch-2", userB.getBody());
+        // max-age alone does not allow a shared cache to store an authenticated response
+        assertEquals("dispatch-3", userAAgain.getBody());
+        assertEquals(0, handler.getResponseCache().getStatistics().getStores());
+    }
+
+    @Test
+    void proxy_authenticatedPublicResponse_cachedPerCaller() {
+        CountingHandler handler = new CountingHandler("public, max-age=60");
+        handler.setResponseCache(new AwsProxyResponseCache(1024 * 1024, 10));
+
+        handler.proxy(new AwsProxyRequestBuilder("/me", "GET").authorizerPrincipal("user-a").build(), new MockLambdaContext());
+        AwsProxyResponse userB = handler.proxy(new AwsProxyRequestBuilder("/me", "GET").authorizerPrincipal("user-b").build(),
+                new MockLambdaContext());
+        AwsProxyResponse userAAgain = handler.proxy(new AwsProxyRequestBuilder("/me", "GET").authorizerPrincipal("user-a").build(),
+                new MockLambdaContext());
+
+        assertEquals("dispatch-2", userB.getBody());
+        assertEquals("dispatch-1", userAAgain.getBody());
+        assertEquals(2, handler.dispatches.get());
+    }
+
+    private static HttpServletRequest request(AwsProxyRequestBuilder builder) {
+        return new AwsProxyHttpServletRequest(builder.build(), new MockLambdaContext(), null);
+    }
+
+    private static AwsProxyResponse response(String cacheControl) {
+        Headers headers = new Headers();
+        if (cacheControl != null) {
+            headers.add(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        return new AwsProxyResponse(200, headers, "body");
+    }
+
+    private static class TestClockCache extends AwsProxyResponseCache {
+        private volatile long now = 1_000_000L;
+
+        TestClockCache(long maxBytes, int maxEntries) {
+            super(maxBytes, maxEntries);
+        }
+
+        @Override
+        protected long currentTimeMillis() {
+            return now;
+        }
+    }
+
+    private static class CountingHandler extends LambdaContainerHandler<AwsProxyRequest, AwsProxyResponse, HttpServletRequest, AwsHttpServletResponse> {
+        private final String cacheControl;
+        private final AtomicInteger dispatches = new AtomicInteger();
+
+        CountingHandler(String cacheControl) {
+            super(AwsProxyRequest.class, AwsProxyResponse.class, new AwsProxyHttpServletRequestReader(),
+                    new AwsProxyHttpServletResponseWriter(), new AwsProxySecurityContextWriter(),
+                    new AwsProxyExceptionHandler(), new InitializationWrapper());
+            this.cacheControl = cacheControl;
+        }
+
+        @Override
+        protected AwsHttpServletResponse getContainerResponse(HttpServletRequest request, CountDownLatch latch) {
+            return new AwsHttpServletResponse(request, latch);
+        }
+
+        @Override
+        protected void handleRequest(HttpServletRequest containerRequest, AwsHttpServletResponse containerResponse, Context lambdaContext) throws Exception {
+            int count = dispatches.incrementAndGet();
+            containerResponse.setStatus(200);
+            containerResponse.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+            containerResponse.getWriter().print("dispatch-" + count);
+            containerResponse.flushBuffer();
+        }
+
+        @Override
+        public void initialize() throws ContainerInitializationException {
+
+        }
+    }
+}
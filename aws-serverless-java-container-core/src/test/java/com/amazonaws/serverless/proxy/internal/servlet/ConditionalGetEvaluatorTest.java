@@ -0,0 +1,138 @@
+package com.amazonaws.serverless.proxy.internal.servlet;
+
+import com.amazonaws.serverless.exceptions.InvalidResponseObjectException;
+import com.amazonaws.serverless.proxy.internal.LambdaContainerHandler;
+import com.amazonaws.serverless.proxy.internal.testutils.AwsProxyRequestBuilder;
+import com.amazonaws.serverless.proxy.internal.testutils.MockLambdaContext;
+import com.amazonaws.serverless.proxy.model.AwsProxyResponse;
+import com.amazonaws.serverless.proxy.model.ContainerConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConditionalGetEvaluatorTest {
+    private static final String BODY = "{\"greeting\":\"hello world\"}";
+    private static final String BODY_ETAG = ConditionalGetEvaluator.generateEtag(BODY.getBytes(StandardCharsets.UTF_8));
+
+    @BeforeEach
+    void enableEtags() {
+        LambdaContainerHandler.getContainerConfig().setAutomaticEtagEnabled(true);
+    }
+
+    @AfterEach
+    void resetConfig() {
+        ContainerConfig config = LambdaContainerHandler.getContainerConfig();
+        config.setAutomaticEtagEnabled(false);
+        config.setResponseCompressionEnabled(false);
+    }
+
+    @Test
+    void generateEtag_sameBody_sameStrongTag() {
+        byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+        assertEquals(ConditionalGetEvaluator.generateEtag(body), ConditionalGetEvaluator.generateEtag(body.clone()));
+        assertNotEquals(ConditionalGetEvaluator.generateEtag(body), ConditionalGetEvaluator.generateEtag("{}".getBytes(StandardCharsets.UTF_8)));
+        assertTrue(BODY_ETAG.startsWith("\"") && BODY_ETAG.endsWith("\""));
+    }
+
+    @Test
+    void writeResponse_noPrecondition_addsEtag() throws Exception {
+        AwsProxyResponse resp = write(newResponse("GET", null, null), BODY);
+        assertEquals(200, resp.getStatusCode());
+        assertEquals(BODY, resp.getBody());
+        assertEquals(BODY_ETAG, resp.getMultiValueHeaders().getFirst(ConditionalGetEvaluator.ETAG_HEADER));
+    }
+
+    @Test
+    void writeResponse_matchingIfNoneMatch_returnsEmpty304() throws Exception {
+        AwsProxyResponse resp = write(newResponse("GET", ConditionalGetEvaluator.IF_NONE_MATCH_HEADER, "\"other\", W/" + BODY_ETAG), BODY);
+        assertEquals(304, resp.getStatusCode());
+        assertNull(resp.getBody());
+        assertEquals(BODY_ETAG, resp.getMultiValueHeaders().getFirst(ConditionalGetEvaluator.ETAG_HEADER));
+        assertNull(resp.getMultiValueHeaders().getFirst(HttpHeaders.CONTENT_TYPE));
+        assertNull(resp.getMultiValueHeaders().getFirst(HttpHeaders.CONTENT_LENGTH));
+    }
+
+    @Test
+    void writeResponse_staleIfNoneMatch_returnsBody() throws Exception {
+        AwsProxyResponse resp = write(newResponse("GET", ConditionalGetEvaluator.IF_NONE_MATCH_HEADER, "\"stale\""), BODY);
+        assertEquals(200, resp.getStatusCode());
+        assertEquals(BODY, resp.getBody());
+    }
+
+    @Test
+    void writeResponse_compressedEtagSentBack_returns304() throws Exception {
+        String gzipEtag = BODY_ETAG.substring(0, BODY_ETAG.length() - 1) + "-gzip\"";
+        AwsProxyResponse resp = write(newResponse("GET", ConditionalGetEvaluator.IF_NONE_MATCH_HEADER, gzipEtag), BODY);
+        assertEquals(304, resp.getStatusCode());
+    }
+
+    @Test
+    void writeResponse_compressedBody_suffixesEtag() throws Exception {
+        LambdaContainerHandler.getContainerConfig().setResponseCompressionEnabled(true);
+        AwsHttpServletResponse response = newResponse("GET", ResponseCompressor.ACCEPT_ENCODING_HEADER, "gzip");
+        String largeBody = "[" + new String(new char[2048]).replace("\0", "\"abc\",") + "\"\"]";
+
+        AwsProxyResponse resp = write(response, largeBody);
+        String expected = ConditionalGetEvaluator.generateEtag(largeBody.getBytes(StandardCharsets.UTF_8));
+        assertEquals("gzip", resp.getMultiValueHeaders().getFirst(ResponseCompressor.CONTENT_ENCODING_HEADER));
+        assertEquals(expected.substring(0, expected.length() - 1) + "-gzip\"",
+                resp.getMultiValueHeaders().getFirst(ConditionalGetEvaluator.ETAG_HEADER));
+    }
+
+    @Test
+    void writeResponse_ifModifiedSince_comparesLastModified() throws Exception {
+        AwsHttpServletResponse response = newResponse("GET", ConditionalGetEvaluator.IF_MODIFIED_SINCE_HEADER, "Wed, 21 Oct 2015 07:28:00 GMT");
+        response.setHeader(ConditionalGetEvaluator.LAST_MODIFIED_HEADER, "Tue, 20 Oct 2015 07:28:00 GMT");
+        assertEquals(304, write(response, BODY).getStatusCode());
+
+        response = newResponse("GET", ConditionalGetEvaluator.IF_MODIFIED_SINCE_HEADER, "Wed, 21 Oct 2015 07:28:00 GMT");
+        response.setHeader(ConditionalGetEvaluator.LAST_MODIFIED_HEADER, "Thu, 22 Oct 2015 07:28:00 GMT");
+        assertEquals(200, write(response, BODY).getStatusCode());
+    }
+
+    @Test
+    void writeResponse_notCacheable_noEtag() throws Exception {
+        AwsHttpServletResponse response = newResponse("GET", ConditionalGetEvaluator.IF_NONE_MATCH_HEADER, "*");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        AwsProxyResponse resp = write(response, BODY);
+        assertEquals(200, resp.getStatusCode());
+        assertNull(resp.getMultiValueHeaders().getFirst(ConditionalGetEvaluator.ETAG_HEADER));
+
+        resp = write(newResponse("POST", ConditionalGetEvaluator.IF_NONE_MATCH_HEADER, "*"), BODY);
+        assertEquals(200, resp.getStatusCode());
+        assertNull(resp.getMultiValueHeaders().getFirst(ConditionalGetEvaluator.ETAG_HEADER));
+    }
+
+    @Test
+    void writeResponse_disabled_noEtag() throws Exception {
+        LambdaContainerHandler.getContainerConfig().setAutomaticEtagEnabled(false);
+        AwsProxyResponse resp = write(newResponse("GET", ConditionalGetEvaluator.IF_NONE_MATCH_HEADER, BODY_ETAG), BODY);
+        assertEquals(200, resp.getStatusCode());
+        assertNull(resp.getMultiValueHeaders().getFirst(ConditionalGetEvaluator.ETAG_HEADER));
+    }
+
+    private static AwsProxyResponse write(AwsHttpServletResponse response, String body) throws IOException, InvalidResponseObjectException {
+        response.setContentType(MediaType.APPLICATION_JSON);
+        response.setHeader(HttpHeaders.CONTENT_LENGTH, Integer.toString(body.length()));
+        response.getWriter().write(body);
+        response.flushBuffer();
+        return new AwsProxyHttpServletResponseWriter().writeResponse(response, new MockLambdaContext());
+    }
+
+    private static AwsHttpServletResponse newResponse(String method, String header, String value) {
+        AwsProxyRequestBuilder builder = new AwsProxyRequestBuilder("/etag", method);
+        if (header != null) {
+            builder.header(header, value);
+        }
+        AwsProxyHttpServletRequest request = new AwsProxyHttpServletRequest(builder.build(), new MockLambdaContext(), null);
+        return new AwsHttpServletResponse(request, new CountDownLatch(1));
+    }
+}
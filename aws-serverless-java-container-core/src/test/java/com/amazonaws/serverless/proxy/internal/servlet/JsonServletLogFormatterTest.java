@@ -0,0 +1,120 @@
+package com.amazonaws.serverless.proxy.internal.servlet;
+
+import com.amazonaws.serverless.proxy.internal.LambdaContainerHandler;
+import com.amazonaws.serverless.proxy.model.AwsProxyRequestContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.EnumSet;
+
+import static com.amazonaws.serverless.proxy.RequestReader.API_GATEWAY_CONTEXT_PROPERTY;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class JsonServletLogFormatterTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.ofEpochMilli(665888523000L), ZoneId.of("UTC"));
+
+    private HttpServletRequest request;
+    private AwsProxyRequestContext context;
+
+    @BeforeEach
+    void setup() {
+        request = mock(HttpServletRequest.class);
+        context = new AwsProxyRequestContext();
+        context.setRequestId("req-1");
+        context.setRequestTimeEpoch(1563023494000L);
+        when(request.getAttribute(eq(API_GATEWAY_CONTEXT_PROPERTY))).thenReturn(context);
+        when(request.getMethod()).thenReturn("GET");
+        when(request.getRequestURI()).thenReturn("/pets");
+        when(request.getProtocol()).thenReturn("HTTP/1.1");
+        when(request.getRemoteAddr()).thenReturn("127.0.0.1");
+    }
+
+    @Test
+    void format_allFields_producesJsonObject() throws IOException {
+        AwsHttpServletResponse response = new AwsHttpServletResponse(request);
+        response.setStatus(201);
+        response.getOutputStream().write("hello".getBytes(StandardCharsets.UTF_8));
+        JsonServletLogFormatter<HttpServletRequest, HttpServletResponse> formatter =
+                new JsonServletLogFormatter<>(EnumSet.allOf(JsonServletLogFormatter.Field.class), 1.0, CLOCK);
+
+        String line = formatter.format(request, response, null);
+
+        JsonNode json = LambdaContainerHandler.getObjectMapper().readTree(line);
+        assertEquals(1563023494000L, json.get("time").asLong());
+        assertEquals("req-1", json.get("requestId").asString());
+        assertEquals("127.0.0.1", json.get("remoteAddr").asString());
+        assertEquals("GET", json.get("method").asString());
+        assertEquals("/pets", json.get("path").asString());
+        assertEquals("HTTP/1.1", json.get("protocol").asString());
+        assertEquals(201, json.get("status").asInt());
+        assertEquals(5, json.get("bytes").asInt());
+        assertFalse(json.has("user"));
+        assertFalse(json.has("userAgent"));
+    }
+
+    @Test
+    void format_selectedFields_omitsOtherFields() {
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        when(response.getStatus()).thenReturn(200);
+        JsonServletLogFormatter<HttpServletRequest, HttpServletResponse> formatter = new JsonServletLogFormatter<>(
+                EnumSet.of(JsonServletLogFormatter.Field.STATUS, JsonServletLogFormatter.Field.METHOD), 1.0, CLOCK);
+
+        assertEquals("{\"method\":\"GET\",\"status\":200}", formatter.format(request, response, null));
+    }
+
+    @Test
+    void format_lineBreaksInValues_escapesInline() {
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        when(response.getStatus()).thenReturn(200);
+        when(request.getHeader("user-agent")).thenReturn("agent\r\n{\"status\":500}\\");
+        JsonServletLogFormatter<HttpServletRequest, HttpServletResponse> formatter = new JsonServletLogFormatter<>(
+                EnumSet.of(JsonServletLogFormatter.Field.USER_AGENT), 1.0, CLOCK);
+
+        String line = formatter.format(request, response, null);
+
+        assertEquals("{\"userAgent\":\"agent\\r\\n{\\\"status\\\":500}\\\\\"}", line);
+        assertTrue(formatter.escapesLineBreaks());
+    }
+
+    @Test
+    void format_contextWithoutTime_usesClock() {
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        context.setRequestTimeEpoch(0);
+        JsonServletLogFormatter<HttpServletRequest, HttpServletResponse> formatter = new JsonServletLogFormatter<>(
+                EnumSet.of(JsonServletLogFormatter.Field.TIME), 1.0, CLOCK);
+
+        assertEquals("{\"time\":665888523000}", formatter.format(request, response, null));
+    }
+
+    @Test
+    void format_successNotSampled_logsOnlyErrors() {
+        HttpServletResponse success = mock(HttpServletResponse.class);
+        when(success.getStatus()).thenReturn(200);
+        HttpServletResponse error = mock(HttpServletResponse.class);
+        when(error.getStatus()).thenReturn(503);
+        JsonServletLogFormatter<HttpServletRequest, HttpServletResponse> formatter = new JsonServletLogFormatter<>(
+                EnumSet.of(JsonServletLogFormatter.Field.STATUS), 0.0, CLOCK);
+
+        assertNull(formatter.format(request, success, null));
+        assertEquals("{\"status\":503}", formatter.format(request, error, null));
+    }
+
+    @Test
+    void constructor_invalidSampleRate_throws() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new JsonServletLogFormatter<>(EnumSet.allOf(JsonServletLogFormatter.Field.class), 1.5));
+    }
+}
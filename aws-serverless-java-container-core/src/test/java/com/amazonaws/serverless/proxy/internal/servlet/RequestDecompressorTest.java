@@ -0,0 +1,154 @@
+package com.amazonaws.serverless.proxy.internal.servlet;
+
+import com.amazonaws.serverless.proxy.internal.testutils.AwsProxyRequestBuilder;
+import com.amazonaws.serverless.proxy.internal.testutils.MockLambdaContext;
+import com.amazonaws.serverless.proxy.model.AwsProxyRequest;
+import com.amazonaws.serverless.proxy.model.ContainerConfig;
+import com.amazonaws.serverless.proxy.model.HttpApiV2ProxyRequest;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestDecompressorTest {
+    private static final String JSON_BODY = "{\"name\":\"decompressed\",\"values\":[1,2,3,4,5,6,7,8,9,10]}";
+
+    @Test
+    void getInputStream_gzipBody_returnsInflatedBody() throws IOException {
+        HttpServletRequest request = v1Request("gzip", gzip(JSON_BODY), decompressionConfig());
+
+        assertNull(request.getHeader(RequestDecompressor.CONTENT_ENCODING_HEADER));
+        assertEquals(-1, request.getContentLength());
+        assertEquals(JSON_BODY, IOUtils.toString(request.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void getInputStream_zlibAndRawDeflate_returnsInflatedBody() throws IOException {
+        HttpServletRequest zlib = v1Request("deflate", deflate(JSON_BODY, false), decompressionConfig());
+        assertEquals(JSON_BODY, IOUtils.toString(zlib.getInputStream(), StandardCharsets.UTF_8));
+
+        HttpServletRequest raw = v1Request("Deflate", deflate(JSON_BODY, true), decompressionConfig());
+        assertEquals(JSON_BODY, IOUtils.toString(raw.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void getReader_gzipBody_returnsInflatedBody() throws IOException {
+        HttpServletRequest request = v1Request("x-gzip", gzip(JSON_BODY), decompressionConfig());
+        assertEquals(JSON_BODY, IOUtils.toString(request.getReader()));
+    }
+
+    @Test
+    void getInputStream_httpApiV2_returnsInflatedBody() throws IOException {
+        ContainerConfig config = decompressionConfig();
+        AwsHttpApiV2ProxyHttpServletRequest request = new AwsHttpApiV2ProxyHttpServletRequest(
+                builder("gzip", gzip(JSON_BODY)).toHttpApiV2Request(), new MockLambdaContext(), null, config);
+
+        assertNull(request.getHeader(RequestDecompressor.CONTENT_ENCODING_HEADER));
+        assertEquals(-1, request.getContentLengthLong());
+        assertEquals(JSON_BODY, IOUtils.toString(request.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void constructor_gzipBody_leavesEventHeadersUntouched() throws IOException {
+        byte[] compressed = gzip(JSON_BODY);
+        AwsProxyRequest event = builder("gzip", compressed).build();
+
+        HttpServletRequest request = new AwsProxyHttpServletRequest(event, new MockLambdaContext(), null,
+                decompressionConfig());
+
+        assertNull(request.getHeader(RequestDecompressor.CONTENT_ENCODING_HEADER));
+        assertEquals("gzip", event.getMultiValueHeaders().getFirst(RequestDecompressor.CONTENT_ENCODING_HEADER));
+        assertEquals(Integer.toString(compressed.length), event.getMultiValueHeaders().getFirst(HttpHeaders.CONTENT_LENGTH));
+    }
+
+    @Test
+    void constructor_httpApiV2GzipBody_leavesEventHeadersUntouched() throws IOException {
+        HttpApiV2ProxyRequest event = builder("gzip", gzip(JSON_BODY)).toHttpApiV2Request();
+
+        HttpServletRequest request = new AwsHttpApiV2ProxyHttpServletRequest(event, new MockLambdaContext(), null,
+                decompressionConfig());
+
+        assertNull(request.getHeader(RequestDecompressor.CONTENT_ENCODING_HEADER));
+        assertEquals("gzip", event.getHeaders().get(RequestDecompressor.CONTENT_ENCODING_HEADER));
+    }
+
+    @Test
+    void getInputStream_decompressionDisabled_returnsEncodedBody() throws IOException {
+        byte[] compressed = gzip(JSON_BODY);
+        HttpServletRequest request = v1Request("gzip", compressed, ContainerConfig.defaultConfig());
+
+        assertEquals("gzip", request.getHeader(RequestDecompressor.CONTENT_ENCODING_HEADER));
+        assertArrayEquals(compressed, IOUtils.toByteArray(request.getInputStream()));
+    }
+
+    @Test
+    void getInputStream_stackedEncodings_returnsEncodedBody() throws IOException {
+        byte[] compressed = gzip(JSON_BODY);
+        HttpServletRequest request = v1Request("gzip, br", compressed, decompressionConfig());
+
+        assertNotNull(request.getHeader(RequestDecompressor.CONTENT_ENCODING_HEADER));
+        assertArrayEquals(compressed, IOUtils.toByteArray(request.getInputStream()));
+    }
+
+    @Test
+    void getInputStream_inflatedBodyTooLarge_throwsIOException() throws IOException {
+        ContainerConfig config = decompressionConfig();
+        config.setMaxInflatedRequestBodySize(64 * 1024);
+        byte[] bomb = gzip(new String(new char[1024 * 1024]).replace('\0', 'a'));
+        assertTrue(bomb.length < 64 * 1024);
+
+        HttpServletRequest request = v1Request("gzip", bomb, config);
+        IOException e = assertThrows(IOException.class, () -> IOUtils.toByteArray(request.getInputStream()));
+        assertTrue(e.getMessage().contains("maximum allowed size"));
+    }
+
+    private static ContainerConfig decompressionConfig() {
+        ContainerConfig config = ContainerConfig.defaultConfig();
+        config.setRequestDecompressionEnabled(true);
+        return config;
+    }
+
+    private static HttpServletRequest v1Request(String encoding, byte[] body, ContainerConfig config) {
+        return new AwsProxyHttpServletRequest(builder(encoding, body).build(), new MockLambdaContext(), null, config);
+    }
+
+    private static AwsProxyRequestBuilder builder(String encoding, byte[] body) {
+        try {
+            return new AwsProxyRequestBuilder("/decompress", "POST")
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON + "; charset=UTF-8")
+                    .header(RequestDecompressor.CONTENT_ENCODING_HEADER, encoding)
+                    .header(HttpHeaders.CONTENT_LENGTH, Integer.toString(body.length))
+                    .binaryBody(new ByteArrayInputStream(body));
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static byte[] gzip(String body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(String body, boolean raw) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream deflate = new DeflaterOutputStream(out, new Deflater(Deflater.DEFAULT_COMPRESSION, raw))) {
+            deflate.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,165 @@
+package com.amazonaws.serverless.proxy.internal.servlet;
+
+import com.amazonaws.serverless.exceptions.InvalidResponseObjectException;
+import com.amazonaws.serverless.proxy.internal.LambdaContainerHandler;
+import com.amazonaws.serverless.proxy.internal.testutils.AwsProxyRequestBuilder;
+import com.amazonaws.serverless.proxy.internal.testutils.MockLambdaContext;
+import com.amazonaws.serverless.proxy.model.AwsProxyResponse;
+import com.amazonaws.serverless.proxy.model.ContainerConfig;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.CountDownLatch;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResponseCompressorTest {
+    private static final String LARGE_JSON = "{\"items\":[" + repeat("{\"name\":\"value\",\"count\":12345},", 200) + "{}]}";
+
+    @AfterEach
+    void resetConfig() {
+        ContainerConfig config = LambdaContainerHandler.getContainerConfig();
+        config.setResponseCompressionEnabled(false);
+        config.setResponseCompressionMinSize(1024);
+        config.setResponseCompressionMinSize(MediaType.APPLICATION_JSON, 1024);
+        config.setCompressOversizedResponses(true);
+    }
+
+    @Test
+    void negotiate_qualityValues_selectsHighestSupported() {
+        assertEquals(ResponseCompressor.Encoding.GZIP, ResponseCompressor.negotiate("gzip, deflate"));
+        assertEquals(ResponseCompressor.Encoding.DEFLATE, ResponseCompressor.negotiate("gzip;q=0.5, deflate;q=0.8"));
+        assertEquals(ResponseCompressor.Encoding.GZIP, ResponseCompressor.negotiate("x-gzip"));
+        assertEquals(ResponseCompressor.Encoding.GZIP, ResponseCompressor.negotiate("*"));
+        assertEquals(ResponseCompressor.Encoding.DEFLATE, ResponseCompressor.negotiate("gzip;q=0, *;q=0.1"));
+        assertNull(ResponseCompressor.negotiate("gzip;q=0, deflate;q=0"));
+        assertNull(ResponseCompressor.negotiate("identity"));
+        assertNull(ResponseCompressor.negotiate(""));
+        assertNull(ResponseCompressor.negotiate(null));
+    }
+
+    @Test
+    void isOversized_accountsForBase64() {
+        assertFalse(ResponseCompressor.isOversized(5 * 1024 * 1024, false));
+        assertTrue(ResponseCompressor.isOversized(5 * 1024 * 1024, true));
+    }
+
+    @Test
+    void writeResponse_compressionDisabled_returnsPlainBody() throws Exception {
+        AwsProxyResponse resp = writeJson("gzip", LARGE_JSON);
+        assertFalse(resp.isBase64Encoded());
+        assertEquals(LARGE_JSON, resp.getBody());
+        assertNull(resp.getMultiValueHeaders().getFirst(ResponseCompressor.CONTENT_ENCODING_HEADER));
+    }
+
+    @Test
+    void writeResponse_gzipAccepted_compressesBody() throws Exception {
+        LambdaContainerHandler.getContainerConfig().setResponseCompressionEnabled(true);
+        AwsProxyResponse resp = writeJson("deflate;q=0.5, gzip", LARGE_JSON);
+
+        assertTrue(resp.isBase64Encoded());
+        assertEquals("gzip", resp.getMultiValueHeaders().getFirst(ResponseCompressor.CONTENT_ENCODING_HEADER));
+        assertEquals(ResponseCompressor.ACCEPT_ENCODING_HEADER, resp.getMultiValueHeaders().getFirst(ResponseCompressor.VARY_HEADER));
+        byte[] compressed = Base64.getDecoder().decode(resp.getBody());
+        assertTrue(compressed.length < LARGE_JSON.length());
+        assertEquals(LARGE_JSON, IOUtils.toString(new GZIPInputStream(new ByteArrayInputStream(compressed)), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void writeResponse_deflateAccepted_compressesBody() throws Exception {
+        LambdaContainerHandler.getContainerConfig().setResponseCompressionEnabled(true);
+        AwsProxyResponse resp = writeJson("deflate", LARGE_JSON);
+
+        assertEquals("deflate", resp.getMultiValueHeaders().getFirst(ResponseCompressor.CONTENT_ENCODING_HEADER));
+        byte[] compressed = Base64.getDecoder().decode(resp.getBody());
+        assertEquals(LARGE_JSON, IOUtils.toString(new InflaterInputStream(new ByteArrayInputStream(compressed)), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void writeResponse_belowMinSize_returnsPlainBodyWithVary() throws Exception {
+        ContainerConfig config = LambdaContainerHandler.getContainerConfig();
+        config.setResponseCompressionEnabled(true);
+        config.setResponseCompressionMinSize(MediaType.APPLICATION_JSON, LARGE_JSON.length() + 1);
+
+        AwsProxyResponse resp = writeJson("gzip", LARGE_JSON);
+        assertFalse(resp.isBase64Encoded());
+        assertNull(resp.getMultiValueHeaders().getFirst(ResponseCompressor.VARY_HEADER));
+
+        resp = writeJson("gzip", "{}");
+        assertFalse(resp.isBase64Encoded());
+        assertEquals("{}", resp.getBody());
+    }
+
+    @Test
+    void writeResponse_alreadyCompressedContentType_returnsOriginalBody() throws Exception {
+        LambdaContainerHandler.getContainerConfig().setResponseCompressionEnabled(true);
+        AwsHttpServletResponse response = newResponse("gzip");
+        response.setContentType("image/png");
+        response.getOutputStream().write(LARGE_JSON.getBytes(StandardCharsets.UTF_8));
+        response.flushBuffer();
+
+        AwsProxyResponse resp = new AwsProxyHttpServletResponseWriter().writeResponse(response, new MockLambdaContext());
+        assertTrue(resp.isBase64Encoded());
+        assertNull(resp.getMultiValueHeaders().getFirst(ResponseCompressor.CONTENT_ENCODING_HEADER));
+        assertEquals(LARGE_JSON, new String(Base64.getDecoder().decode(resp.getBody()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void writeResponse_existingContentEncoding_notCompressedTwice() throws Exception {
+        LambdaContainerHandler.getContainerConfig().setResponseCompressionEnabled(true);
+        AwsHttpServletResponse response = newResponse("gzip");
+        response.setContentType(MediaType.APPLICATION_JSON);
+        response.setHeader(ResponseCompressor.CONTENT_ENCODING_HEADER, "identity");
+        response.getWriter().write(LARGE_JSON);
+        response.flushBuffer();
+
+        AwsProxyResponse resp = new AwsProxyHttpServletResponseWriter().writeResponse(response, new MockLambdaContext());
+        assertFalse(resp.isBase64Encoded());
+        assertEquals("identity", resp.getMultiValueHeaders().getFirst(ResponseCompressor.CONTENT_ENCODING_HEADER));
+    }
+
+    @Test
+    void writeResponse_oversizedBody_compressedWhenDisabled() throws Exception {
+        String hugeJson = "[" + repeat("\"0123456789abcdef\",", 400_000) + "\"\"]";
+        AwsProxyResponse resp = writeJson("gzip", hugeJson);
+        assertTrue(resp.isBase64Encoded());
+        assertEquals("gzip", resp.getMultiValueHeaders().getFirst(ResponseCompressor.CONTENT_ENCODING_HEADER));
+
+        LambdaContainerHandler.getContainerConfig().setCompressOversizedResponses(false);
+        resp = writeJson("gzip", hugeJson);
+        assertFalse(resp.isBase64Encoded());
+    }
+
+    private AwsProxyResponse writeJson(String acceptEncoding, String body) throws IOException, InvalidResponseObjectException {
+        AwsHttpServletResponse response = newResponse(acceptEncoding);
+        response.setContentType(MediaType.APPLICATION_JSON);
+        response.setHeader(HttpHeaders.CONTENT_LENGTH, Integer.toString(body.length()));
+        response.getWriter().write(body);
+        response.flushBuffer();
+        return new AwsProxyHttpServletResponseWriter().writeResponse(response, new MockLambdaContext());
+    }
+
+    private AwsHttpServletResponse newResponse(String acceptEncoding) {
+        AwsProxyHttpServletRequest request = new AwsProxyHttpServletRequest(
+                new AwsProxyRequestBuilder("/compress", "GET").header(ResponseCompressor.ACCEPT_ENCODING_HEADER, acceptEncoding).build(),
+                new MockLambdaContext(), null);
+        return new AwsHttpServletResponse(request, new CountDownLatch(1));
+    }
+
+    private static String repeat(String s, int times) {
+        StringBuilder sb = new StringBuilder(s.length() * times);
+        for (int i = 0; i < times; i++) {
+            sb.append(s);
+        }
+        return sb.toString();
+    }
+}
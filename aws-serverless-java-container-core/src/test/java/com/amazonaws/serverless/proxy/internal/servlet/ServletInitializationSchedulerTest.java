@@ -0,0 +1,179 @@
+package com.amazonaws.serverless.proxy.internal.servlet;
+
+import com.amazonaws.serverless.exceptions.ContainerInitializationException;
+import org.junit.jupiter.api.Test;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.FilterConfig;
+import jakarta.servlet.GenericServlet;
+import jakarta.servlet.ServletConfig;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ServletInitializationSchedulerTest {
+
+    private final AwsServletContext servletContext = new AwsServletContext(null);
+    private final List<String> initialized = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    void initialize_sameLoadOnStartup_initializesInParallel() throws ContainerInitializationException {
+        // both servlets must be running at the same time to pass the barrier
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        List<AwsServletRegistration> registrations = Arrays.asList(
+                registration("first", 1, new BarrierServlet(barrier, false)),
+                registration("second", 1, new BarrierServlet(barrier, false)));
+
+        new ServletInitializationScheduler(2).initialize(registrations, Collections.emptyList());
+
+        assertEquals(2, initialized.size());
+    }
+
+    @Test
+    void initialize_differentLoadOnStartup_keepsGroupOrder() throws ContainerInitializationException {
+        List<AwsServletRegistration> registrations = Arrays.asList(
+                registration("last", 3, new RecordingServlet()),
+                registration("lazy", -1, new RecordingServlet()),
+                registration("first", 1, new RecordingServlet()),
+                registration("second", 2, new RecordingServlet()));
+        FilterHolder filter = new FilterHolder("filter", new RecordingFilter(), servletContext);
+
+        new ServletInitializationScheduler(4).initialize(registrations, Collections.singletonList(filter));
+
+        assertEquals(Arrays.asList("first", "second", "last", "filter"), initialized);
+        assertTrue(filter.isFilterInitialized());
+    }
+
+    @Test
+    void initialize_failingServlets_throwsAggregatedErrors() {
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        RecordingServlet next = new RecordingServlet();
+        List<AwsServletRegistration> registrations = Arrays.asList(
+                registration("first", 1, new BarrierServlet(barrier, true)),
+                registration("second", 1, new BarrierServlet(barrier, true)),
+                registration("next", 2, next));
+
+        ContainerInitializationException e = assertThrows(ContainerInitializationException.class,
+                () -> new ServletInitializationScheduler(2).initialize(registrations, Collections.emptyList()));
+
+        assertTrue(e.getMessage().startsWith("Could not initialize servlet "));
+        assertTrue(e.getCause() instanceof ServletException);
+        assertEquals(1, e.getSuppressed().length);
+        assertFalse(initialized.contains("next"));
+    }
+
+    @Test
+    void run_failure_skipsPendingAndAggregatesRunning() throws InterruptedException {
+        CountDownLatch slowRunning = new CountDownLatch(1);
+        CountDownLatch fastCompleted = new CountDownLatch(1);
+        // two threads pick up fast and slow, pending is queued until fast has completed and set the failure flag
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>()) {
+            @Override
+            protected void afterExecute(Runnable r, Throwable t) {
+                fastCompleted.countDown();
+            }
+        };
+        List<ServletInitializationScheduler.Task> tasks = Arrays.asList(
+                new ServletInitializationScheduler.Task("fast", () -> {
+                    await(slowRunning);
+                    throw new ServletException("Failed fast");
+                }),
+                new ServletInitializationScheduler.Task("slow", () -> {
+                    slowRunning.countDown();
+                    await(fastCompleted);
+                    throw new ServletException("Failed slow");
+                }),
+                new ServletInitializationScheduler.Task("pending", () -> initialized.add("pending")));
+
+        ContainerInitializationException e;
+        try {
+            e = assertThrows(ContainerInitializationException.class,
+                    () -> ServletInitializationScheduler.run(executor, tasks));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals("Could not initialize fast", e.getMessage());
+        assertEquals("Failed fast", e.getCause().getMessage());
+        assertEquals(1, e.getSuppressed().length);
+        assertEquals("Failed slow", e.getSuppressed()[0].getCause().getMessage());
+        assertFalse(initialized.contains("pending"));
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    private static void await(CountDownLatch latch) throws ServletException {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new ServletException("Timed out waiting for the other initialization");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServletException("Interrupted while waiting for the other initialization", e);
+        }
+    }
+
+    private AwsServletRegistration registration(String name, int loadOnStartup, GenericServlet servlet) {
+        AwsServletRegistration registration = new AwsServletRegistration(name, servlet, servletContext);
+        registration.setLoadOnStartup(loadOnStartup);
+        return registration;
+    }
+
+    private class RecordingServlet extends GenericServlet {
+        @Override
+        public void init(ServletConfig config) throws ServletException {
+            super.init(config);
+            initialized.add(config.getServletName());
+        }
+
+        @Override
+        public void service(ServletRequest req, ServletResponse res) {
+        }
+    }
+
+    private class BarrierServlet extends RecordingServlet {
+        private final CyclicBarrier barrier;
+        private final boolean fail;
+
+        BarrierServlet(CyclicBarrier barrier, boolean fail) {
+            this.barrier = barrier;
+            this.fail = fail;
+        }
+
+        @Override
+        public void init(ServletConfig config) throws ServletException {
+            try {
+                barrier.await(5, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new ServletException("Servlets were not initialized in parallel", e);
+            }
+            if (fail) {
+                throw new ServletException("Failed " + config.getServletName());
+            }
+            super.init(config);
+        }
+    }
+
+    private class RecordingFilter implements Filter {
+        @Override
+        public void init(FilterConfig filterConfig) {
+            initialized.add(filterConfig.getFilterName());
+        }
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) {
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.amazonaws.serverless.proxy.internal.servlet;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimerWheelTest {
+
+    @Test
+    void schedule_delayElapsed_runsTaskOnExecutor() throws InterruptedException {
+        TimerWheel wheel = new TimerWheel(5, 8);
+        CountDownLatch expired = new CountDownLatch(1);
+        AtomicLong elapsed = new AtomicLong();
+        long start = System.nanoTime();
+
+        wheel.schedule(() -> {
+            elapsed.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            expired.countDown();
+        }, 50, Runnable::run);
+
+        assertTrue(expired.await(5, TimeUnit.SECONDS));
+        assertTrue(elapsed.get() >= 50);
+        assertEquals(0, wheel.getActiveCount());
+    }
+
+    @Test
+    void schedule_delayLongerThanRotation_doesNotExpireEarly() throws InterruptedException {
+        // 4 buckets of 5ms, the timeout takes several rotations
+        TimerWheel wheel = new TimerWheel(5, 4);
+        CountDownLatch expired = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        wheel.schedule(expired::countDown, 120, Runnable::run);
+
+        assertTrue(expired.await(5, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 120);
+    }
+
+    @Test
+    void cancel_beforeExpiration_skipsTask() throws InterruptedException {
+        TimerWheel wheel = new TimerWheel(5, 8);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        CountDownLatch expired = new CountDownLatch(1);
+
+        TimerWheel.Timeout timeout = wheel.schedule(cancelled::countDown, 30, Runnable::run);
+        wheel.schedule(expired::countDown, 60, Runnable::run);
+
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.cancel());
+        assertTrue(expired.await(5, TimeUnit.SECONDS));
+        assertEquals(1, cancelled.getCount());
+        assertEquals(0, wheel.getActiveCount());
+    }
+
+    @Test
+    void schedule_afterIdle_wakesUpWorker() throws InterruptedException {
+        TimerWheel wheel = new TimerWheel(5, 8);
+        CountDownLatch first = new CountDownLatch(1);
+        wheel.schedule(first::countDown, 10, Runnable::run);
+        assertTrue(first.await(5, TimeUnit.SECONDS));
+        Thread.sleep(50);
+
+        CountDownLatch second = new CountDownLatch(1);
+        wheel.schedule(second::countDown, 10, Runnable::run);
+
+        assertTrue(second.await(5, TimeUnit.SECONDS));
+    }
+}
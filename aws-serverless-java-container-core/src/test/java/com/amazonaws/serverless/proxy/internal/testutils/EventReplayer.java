@@ -0,0 +1,469 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy.internal.testutils;
+
+import com.amazonaws.serverless.proxy.internal.LambdaContainerHandler;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays recorded events through a handler and reports the latency percentiles, the allocation per request and the
+ * error responses of each route. The events are JSON lines of API Gateway REST API, HTTP API or ALB proxy events, they
+ * are passed to the handler as streams so that the measure includes the JSON serialization, like in Lambda. From a test:
+ * <pre>
+ * EventReplayer.Report report = new EventReplayer(handler::proxyStream)
+ *         .concurrency(8)
+ *         .warmup(1000)
+ *         .replay(EventReplayer.readEvents(Paths.get("events.jsonl")));
+ * System.out.println(report);
+ * </pre>
+ * or from the command line, with a <code>RequestStreamHandler</code> class that has a public no-arg constructor:
+ * <pre>
+ * java -cp ... com.amazonaws.serverless.proxy.internal.testutils.EventReplayer events.jsonl com.example.StreamLambdaHandler 8 500 1000
+ * </pre>
+ * With a target rate the events are started on a fixed schedule and the latency is measured from their scheduled start,
+ * so that a slow response also counts for the events queued behind it. Without a rate the events are replayed as fast
+ * as the concurrency allows. Only the <code>handleRequest</code> call is measured, the input and output streams of the
+ * replayer and the parsing of the response are not. The allocation is measured on the replaying threads, it does not
+ * include the work that the handler hands off to other threads.
+ */
+public class EventReplayer {
+
+    //-------------------------------------------------------------
+    // Constants
+    //-------------------------------------------------------------
+
+    private static final String DEFAULT_ROUTE_KEY = "$default";
+    private static final int STATUS_EXCEPTION = 0;
+
+    //-------------------------------------------------------------
+    // Variables - Private
+    //-------------------------------------------------------------
+
+    private final RequestStreamHandler handler;
+    private int concurrency = 1;
+    private int warmupEvents;
+    private double rate;
+    private int repeat = 1;
+
+    //-------------------------------------------------------------
+    // Constructors
+    //-------------------------------------------------------------
+
+    /**
+     * Creates a replayer, use <code>containerHandler::proxyStream</code> to replay the events through a container handler
+     * @param handler The handler that receives the events
+     */
+    public EventReplayer(RequestStreamHandler handler) {
+        this.handler = handler;
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Public - Static
+    //-------------------------------------------------------------
+
+    /**
+     * Reads a file of recorded events, one JSON event per line
+     * @param file The file
+     * @return The events, blank lines are skipped
+     * @throws IOException If the file cannot be read
+     */
+    public static List<String> readEvents(Path file) throws IOException {
+        List<String> events = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (!line.trim().isEmpty()) {
+                events.add(line);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Replays a file of events from the command line and prints the report. The arguments are the events file, the
+     * <code>RequestStreamHandler</code> class, and optionally the concurrency, the target rate in events per second
+     * (<code>0</code> for the maximum throughput) and the number of warm-up events.
+     * @param args The command line arguments
+     * @throws Exception If the handler cannot be created or the events cannot be read
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: EventReplayer <events.jsonl> <RequestStreamHandler class> [concurrency] [rate] [warmup]");
+            System.exit(1);
+        }
+        RequestStreamHandler handler = (RequestStreamHandler) Class.forName(args[1]).getConstructor().newInstance();
+        EventReplayer replayer = new EventReplayer(handler)
+                .concurrency(args.length > 2 ? Integer.parseInt(args[2]) : 1)
+                .rate(args.length > 3 ? Double.parseDouble(args[3]) : 0)
+                .warmup(args.length > 4 ? Integer.parseInt(args[4]) : 0);
+        System.out.println(replayer.replay(readEvents(Paths.get(args[0]))));
+        System.exit(0);
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Public
+    //-------------------------------------------------------------
+
+    /**
+     * @param concurrency The number of events replayed at the same time
+     * @return This replayer
+     */
+    public EventReplayer concurrency(int concurrency) {
+        this.concurrency = Math.max(1, concurrency);
+        return this;
+    }
+
+    /**
+     * @param warmupEvents The number of events replayed before the measure starts, they are not part of the report
+     * @return This replayer
+     */
+    public EventReplayer warmup(int warmupEvents) {
+        this.warmupEvents = Math.max(0, warmupEvents);
+        return this;
+    }
+
+    /**
+     * @param rate The target rate in events per second, <code>0</code> to replay the events as fast as possible
+     * @return This replayer
+     */
+    public EventReplayer rate(double rate) {
+        this.rate = Math.max(0, rate);
+        return this;
+    }
+
+    /**
+     * @param repeat The number of times the events are replayed in the measure
+     * @return This replayer
+     */
+    public EventReplayer repeat(int repeat) {
+        this.repeat = Math.max(1, repeat);
+        return this;
+    }
+
+    /**
+     * Replays the warm-up events and then measures the replay of the events
+     * @param events The JSON events
+     * @return The report of the measured events
+     * @throws InterruptedException If the thread is interrupted while waiting for the replay
+     */
+    public Report replay(List<String> events) throws InterruptedException {
+        if (events.isEmpty()) {
+            throw new IllegalArgumentException("No events to replay");
+        }
+        List<byte[]> payloads = new ArrayList<>(events.size());
+        List<String> routes = new ArrayList<>(events.size());
+        for (String event : events) {
+            payloads.add(event.getBytes(StandardCharsets.UTF_8));
+            routes.add(route(event));
+        }
+
+        if (warmupEvents > 0) {
+            run(payloads, warmupEvents);
+        }
+        Run run = run(payloads, payloads.size() * repeat);
+
+        Map<String, RouteReport> routeReports = new TreeMap<>();
+        for (int i = 0; i < run.statuses.length; i++) {
+            String route = routes.get(i % routes.size());
+            RouteReport routeReport = routeReports.get(route);
+            if (routeReport == null) {
+                routeReport = new RouteReport();
+                routeReports.put(route, routeReport);
+            }
+            routeReport.add(run.statuses[i]);
+        }
+        long allocated = 0;
+        for (long bytes : run.allocatedBytes) {
+            allocated = allocated < 0 || bytes < 0 ? -1 : allocated + bytes;
+        }
+        Arrays.sort(run.latencies);
+        return new Report(run.latencies, run.durationNanos, allocated < 0 ? -1 : allocated / run.latencies.length,
+                routeReports);
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Private
+    //-------------------------------------------------------------
+
+    private Run run(List<byte[]> payloads, int count) throws InterruptedException {
+        Run run = new Run(count);
+        AtomicInteger next = new AtomicInteger();
+        // platform threads, the allocation counters do not support virtual threads
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        long start = System.nanoTime();
+        for (int t = 0; t < concurrency; t++) {
+            executor.execute(() -> {
+                int i;
+                while ((i = next.getAndIncrement()) < count) {
+                    long scheduledNanos = 0;
+                    if (rate > 0) {
+                        scheduledNanos = start + (long) (i * (TimeUnit.SECONDS.toNanos(1) / rate));
+                        long wait;
+                        while ((wait = scheduledNanos - System.nanoTime()) > 0) {
+                            LockSupport.parkNanos(wait);
+                        }
+                    }
+                    // the streams and context are created and the output parsed outside of the measured window
+                    InputStream input = new ByteArrayInputStream(payloads.get(i % payloads.size()));
+                    ByteArrayOutputStream output = new ByteArrayOutputStream();
+                    Context context = new MockLambdaContext();
+
+                    long allocatedBefore = allocatedBytes();
+                    // with a rate, the latency includes the time the event waited behind the previous ones
+                    long startNanos = rate > 0 ? scheduledNanos : System.nanoTime();
+                    boolean handled = invoke(input, output, context);
+                    long endNanos = System.nanoTime();
+                    long allocatedAfter = allocatedBytes();
+
+                    run.latencies[i] = endNanos - startNanos;
+                    run.allocatedBytes[i] = allocatedBefore < 0 ? -1 : allocatedAfter - allocatedBefore;
+                    run.statuses[i] = handled ? status(output) : STATUS_EXCEPTION;
+                }
+            });
+        }
+        executor.shutdown();
+        while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+            // keep waiting, the replay has no time limit
+        }
+        run.durationNanos = System.nanoTime() - start;
+        return run;
+    }
+
+    private boolean invoke(InputStream input, ByteArrayOutputStream output, Context context) {
+        try {
+            handler.handleRequest(input, output, context);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static int status(ByteArrayOutputStream output) {
+        try {
+            JsonNode status = LambdaContainerHandler.getObjectMapper().readTree(output.toByteArray()).get("statusCode");
+            return status != null ? status.asInt() : STATUS_EXCEPTION;
+        } catch (JacksonException e) {
+            return STATUS_EXCEPTION;
+        }
+    }
+
+    private static long allocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    /**
+     * The route of an event, the route key of HTTP API events or the method and resource of REST API and ALB events
+     */
+    static String route(String event) {
+        JsonNode node;
+        try {
+            node = LambdaContainerHandler.getObjectMapper().readTree(event);
+        } catch (JacksonException e) {
+            throw new IllegalArgumentException("Event is not valid JSON: " + event, e);
+        }
+        String routeKey = text(node.path("routeKey"));
+        if (routeKey != null && !DEFAULT_ROUTE_KEY.equals(routeKey)) {
+            return routeKey;
+        }
+        JsonNode http = node.path("requestContext").path("http");
+        if (http.isObject()) {
+            return text(http.path("method")) + " " + text(node.path("rawPath"));
+        }
+        String resource = text(node.path("resource"));
+        return text(node.path("httpMethod")) + " " + (resource != null ? resource : text(node.path("path")));
+    }
+
+    /**
+     * The text of a field, <code>null</code> if the field is missing or null
+     */
+    private static String text(JsonNode node) {
+        return node.isMissingNode() || node.isNull() ? null : node.asString();
+    }
+
+    //-------------------------------------------------------------
+    // Inner Class -
+    //-------------------------------------------------------------
+
+    private static final class Run {
+        private final long[] latencies;
+        private final long[] allocatedBytes;
+        private final int[] statuses;
+        private long durationNanos;
+
+        private Run(int count) {
+            latencies = new long[count];
+            allocatedBytes = new long[count];
+            statuses = new int[count];
+        }
+    }
+
+    /**
+     * The result of a replay
+     */
+    public static final class Report {
+        private final long[] latencies;
+        private final long durationNanos;
+        private final long allocatedBytesPerRequest;
+        private final Map<String, RouteReport> routes;
+
+        private Report(long[] latencies, long durationNanos, long allocatedBytesPerRequest, Map<String, RouteReport> routes) {
+            this.latencies = latencies;
+            this.durationNanos = durationNanos;
+            this.allocatedBytesPerRequest = allocatedBytesPerRequest;
+            this.routes = Collections.unmodifiableMap(routes);
+        }
+
+        /**
+         * @return The number of measured events
+         */
+        public int getCount() {
+            return latencies.length;
+        }
+
+        /**
+         * @return The number of events per second over the measure
+         */
+        public double getThroughput() {
+            return latencies.length / (durationNanos / (double) TimeUnit.SECONDS.toNanos(1));
+        }
+
+        /**
+         * Returns a latency percentile, using the nearest rank
+         * @param percentile The percentile, for example <code>99.9</code>
+         * @return The latency in nanoseconds
+         */
+        public long getLatencyNanos(double percentile) {
+            int rank = (int) Math.ceil(percentile / 100 * latencies.length);
+            return latencies[Math.min(latencies.length - 1, Math.max(0, rank - 1))];
+        }
+
+        /**
+         * @return The average number of bytes allocated by the replaying thread per event, <code>-1</code> if the JVM
+         *         does not support allocation counters
+         */
+        public long getAllocatedBytesPerRequest() {
+            return allocatedBytesPerRequest;
+        }
+
+        /**
+         * @return The number of events that returned a <code>4xx</code> or <code>5xx</code> status, or failed to
+         *         produce a response
+         */
+        public int getErrorCount() {
+            int errors = 0;
+            for (RouteReport route : routes.values()) {
+                errors += route.getErrorCount();
+            }
+            return errors;
+        }
+
+        /**
+         * @return The reports of each route, sorted by route
+         */
+        public Map<String, RouteReport> getRoutes() {
+            return routes;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder report = new StringBuilder();
+            report.append(String.format("events: %d, throughput: %.1f/s, errors: %d, allocated: %s%n", getCount(),
+                    getThroughput(), getErrorCount(), allocatedBytesPerRequest < 0 ? "n/a" : allocatedBytesPerRequest + " B/event"));
+            report.append(String.format("latency p50: %.3fms, p90: %.3fms, p99: %.3fms, p99.9: %.3fms, max: %.3fms%n",
+                    millis(getLatencyNanos(50)), millis(getLatencyNanos(90)), millis(getLatencyNanos(99)),
+                    millis(getLatencyNanos(99.9)), millis(latencies[latencies.length - 1])));
+            for (Map.Entry<String, RouteReport> route : routes.entrySet()) {
+                report.append(String.format("  %s: %s%n", route.getKey(), route.getValue()));
+            }
+            return report.toString();
+        }
+
+        private static double millis(long nanos) {
+            return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+
+    /**
+     * The responses of a route
+     */
+    public static final class RouteReport {
+        private final Map<Integer, Integer> statuses = new TreeMap<>();
+        private int count;
+
+        private void add(int status) {
+            count++;
+            statuses.merge(status, 1, Integer::sum);
+        }
+
+        /**
+         * @return The number of events of the route
+         */
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * @return The number of events that returned a <code>4xx</code> or <code>5xx</code> status, or failed to
+         *         produce a response
+         */
+        public int getErrorCount() {
+            int errors = 0;
+            for (Map.Entry<Integer, Integer> status : statuses.entrySet()) {
+                if (status.getKey() >= 400 || status.getKey() == STATUS_EXCEPTION) {
+                    errors += status.getValue();
+                }
+            }
+            return errors;
+        }
+
+        /**
+         * @return The number of events per response status, <code>0</code> counts the events that failed to produce
+         *         a response
+         */
+        public Map<Integer, Integer> getStatuses() {
+            return Collections.unmodifiableMap(statuses);
+        }
+
+        @Override
+        public String toString() {
+            return count + " events, " + getErrorCount() + " errors, statuses " + statuses;
+        }
+    }
+}
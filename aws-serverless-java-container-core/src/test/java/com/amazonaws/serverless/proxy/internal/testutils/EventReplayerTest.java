@@ -0,0 +1,125 @@
+package com.amazonaws.serverless.proxy.internal.testutils;
+
+import com.amazonaws.serverless.proxy.AwsProxyExceptionHandler;
+import com.amazonaws.serverless.proxy.AwsProxySecurityContextWriter;
+import com.amazonaws.serverless.proxy.internal.LambdaContainerHandler;
+import com.amazonaws.serverless.proxy.internal.servlet.AwsHttpServletResponse;
+import com.amazonaws.serverless.proxy.internal.servlet.AwsProxyHttpServletRequestReader;
+import com.amazonaws.serverless.proxy.internal.servlet.AwsProxyHttpServletResponseWriter;
+import com.amazonaws.serverless.proxy.model.AwsProxyRequest;
+import com.amazonaws.serverless.proxy.model.AwsProxyResponse;
+import com.amazonaws.services.lambda.runtime.Context;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventReplayerTest {
+
+    @Test
+    void replay_mixedRoutes_reportsErrorsPerRoute() throws Exception {
+        List<String> events = new ArrayList<>();
+        events.add(event(new AwsProxyRequestBuilder("/ok", "GET").build()));
+        events.add(event(new AwsProxyRequestBuilder("/fail", "POST").build()));
+        events.add(event(new AwsProxyRequestBuilder("/ok", "GET").build()));
+
+        EventReplayer.Report report = new EventReplayer(new StatusHandler()::proxyStream)
+                .concurrency(2)
+                .warmup(5)
+                .repeat(2)
+                .replay(events);
+
+        assertEquals(6, report.getCount());
+        assertEquals(2, report.getErrorCount());
+        assertEquals(4, report.getRoutes().get("GET /ok").getCount());
+        assertEquals(4, (int) report.getRoutes().get("GET /ok").getStatuses().get(200));
+        assertEquals(2, (int) report.getRoutes().get("POST /fail").getStatuses().get(500));
+        assertTrue(report.getLatencyNanos(50) <= report.getLatencyNanos(99.9));
+        assertTrue(report.toString().contains("p99.9"));
+    }
+
+    @Test
+    void replay_targetRate_spreadsEvents() throws Exception {
+        List<String> events = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            events.add(event(new AwsProxyRequestBuilder("/ok", "GET").build()));
+        }
+        long start = System.nanoTime();
+
+        EventReplayer.Report report = new EventReplayer(new StatusHandler()::proxyStream)
+                .concurrency(4)
+                .rate(100)
+                .replay(events);
+
+        // the last event is scheduled 90ms after the first one
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 90);
+        assertEquals(10, report.getCount());
+        assertEquals(0, report.getErrorCount());
+    }
+
+    @Test
+    void replay_handlerThrows_countsException() throws Exception {
+        List<String> events = new ArrayList<>();
+        events.add(event(new AwsProxyRequestBuilder("/ok", "GET").build()));
+
+        EventReplayer.Report report = new EventReplayer((input, output, context) -> {
+            throw new IOException("broken");
+        }).replay(events);
+
+        assertEquals(1, report.getErrorCount());
+        assertEquals(1, (int) report.getRoutes().get("GET /ok").getStatuses().get(0));
+    }
+
+    @Test
+    void route_eventTypes_usesRouteKeyOrResource() throws IOException {
+        AwsProxyRequest request = new AwsProxyRequestBuilder("/orders/5", "GET").build();
+        request.setResource("/orders/{id}");
+
+        assertEquals("GET /orders/{id}", EventReplayer.route(event(request)));
+        assertEquals("GET /orders/5", EventReplayer.route(read(new AwsProxyRequestBuilder("/orders/5", "GET").toHttpApiV2RequestStream())));
+        assertEquals("GET /orders/5", EventReplayer.route(read(new AwsProxyRequestBuilder("/orders/5", "GET").alb().buildStream())));
+    }
+
+    private static String event(AwsProxyRequest request) {
+        return LambdaContainerHandler.getObjectMapper().writeValueAsString(request);
+    }
+
+    private static String read(InputStream input) throws IOException {
+        return IOUtils.toString(input, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns a 500 status for the requests to <code>/fail</code> and a 200 status otherwise
+     */
+    private static class StatusHandler extends LambdaContainerHandler<AwsProxyRequest, AwsProxyResponse, HttpServletRequest, AwsHttpServletResponse> {
+
+        StatusHandler() {
+            super(AwsProxyRequest.class, AwsProxyResponse.class, new AwsProxyHttpServletRequestReader(),
+                    new AwsProxyHttpServletResponseWriter(), new AwsProxySecurityContextWriter(), new AwsProxyExceptionHandler());
+        }
+
+        @Override
+        protected AwsHttpServletResponse getContainerResponse(HttpServletRequest request, CountDownLatch latch) {
+            return new AwsHttpServletResponse(request, latch);
+        }
+
+        @Override
+        protected void handleRequest(HttpServletRequest containerRequest, AwsHttpServletResponse containerResponse, Context lambdaContext) throws Exception {
+            containerResponse.setStatus(containerRequest.getRequestURI().equals("/fail") ? 500 : 200);
+            containerResponse.flushBuffer();
+        }
+
+        @Override
+        public void initialize() {
+        }
+    }
+}
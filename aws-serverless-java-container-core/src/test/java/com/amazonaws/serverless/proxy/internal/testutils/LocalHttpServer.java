@@ -0,0 +1,251 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy.internal.testutils;
+
+import com.amazonaws.serverless.proxy.internal.LambdaContainerHandler;
+import com.amazonaws.serverless.proxy.internal.VirtualThreads;
+import com.amazonaws.serverless.proxy.model.AwsProxyRequest;
+import com.amazonaws.serverless.proxy.model.AwsProxyResponse;
+import com.amazonaws.serverless.proxy.model.HttpApiV2ProxyRequest;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Embedded HTTP/1.1 server that turns real HTTP requests into proxy events and passes them to a container handler in
+ * the same process. This makes it possible to load test and profile a handler with tools such as wrk or JMeter without
+ * SAM. The server keeps connections alive between requests. For example:
+ * <pre>
+ * try (LocalHttpServer server = LocalHttpServer.forProxyHandler(handler, 8080, 32).start()) {
+ *     // send requests to http://localhost:8080/
+ * }
+ * </pre>
+ * The request bodies are passed base64 encoded, like API Gateway does for binary media types, so that the handler
+ * receives the exact bytes that were sent.
+ */
+public class LocalHttpServer implements Closeable {
+
+    //-------------------------------------------------------------
+    // Constants
+    //-------------------------------------------------------------
+
+    static final String THREAD_NAME_PREFIX = "local-http-";
+    private static final int BACKLOG = 1024;
+
+    //-------------------------------------------------------------
+    // Variables - Private
+    //-------------------------------------------------------------
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Function<AwsProxyRequest, AwsProxyResponse> dispatcher;
+
+    private Logger log = LoggerFactory.getLogger(LocalHttpServer.class);
+
+    //-------------------------------------------------------------
+    // Constructors
+    //-------------------------------------------------------------
+
+    /**
+     * Creates a server bound to the loopback interface
+     * @param dispatcher Passes the event built from a request to the handler and returns the response
+     * @param port The port to listen on, <code>0</code> to pick a free port
+     * @param concurrency The number of requests handled at the same time, <code>1</code> handles the requests one at a
+     *                    time on the thread that accepts the connections
+     * @throws IOException If the server cannot bind the port
+     */
+    public LocalHttpServer(Function<AwsProxyRequest, AwsProxyResponse> dispatcher, int port, int concurrency)
+            throws IOException {
+        this.dispatcher = dispatcher;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), BACKLOG);
+        server.createContext("/", this::handle);
+        if (concurrency > 1) {
+            executor = Executors.newFixedThreadPool(concurrency, VirtualThreads.factory(THREAD_NAME_PREFIX));
+            server.setExecutor(executor);
+        } else {
+            executor = null;
+        }
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Public - Static
+    //-------------------------------------------------------------
+
+    /**
+     * Creates a server that sends API Gateway REST API proxy events to the handler
+     * @param handler The container handler
+     * @param port The port to listen on, <code>0</code> to pick a free port
+     * @param concurrency The number of requests handled at the same time
+     * @return The server, not started yet
+     * @throws IOException If the server cannot bind the port
+     */
+    public static LocalHttpServer forProxyHandler(LambdaContainerHandler<AwsProxyRequest, AwsProxyResponse, ?, ?> handler,
+                                                  int port, int concurrency) throws IOException {
+        return new LocalHttpServer(request -> handler.proxy(request, new MockLambdaContext()), port, concurrency);
+    }
+
+    /**
+     * Creates a server that sends HTTP API v2 proxy events to the handler
+     * @param handler The container handler
+     * @param port The port to listen on, <code>0</code> to pick a free port
+     * @param concurrency The number of requests handled at the same time
+     * @return The server, not started yet
+     * @throws IOException If the server cannot bind the port
+     */
+    public static LocalHttpServer forHttpApiV2Handler(LambdaContainerHandler<HttpApiV2ProxyRequest, AwsProxyResponse, ?, ?> handler,
+                                                      int port, int concurrency) throws IOException {
+        return new LocalHttpServer(request -> handler.proxy(new AwsProxyRequestBuilder(request).toHttpApiV2Request(),
+                new MockLambdaContext()), port, concurrency);
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Public
+    //-------------------------------------------------------------
+
+    /**
+     * Starts accepting connections
+     * @return This server
+     */
+    public LocalHttpServer start() {
+        server.start();
+        log.info("Listening on http://localhost:" + getPort() + "/");
+        return this;
+    }
+
+    /**
+     * @return The port the server listens on
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops the server, the requests in progress are given one second to complete
+     */
+    @Override
+    public void close() {
+        server.stop(1);
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Private
+    //-------------------------------------------------------------
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            AwsProxyResponse response;
+            try {
+                response = dispatcher.apply(readRequest(exchange));
+            } catch (RuntimeException e) {
+                log.error("Could not handle request", e);
+                response = new AwsProxyResponse(500);
+            }
+            writeResponse(exchange, response);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static AwsProxyRequest readRequest(HttpExchange exchange) throws IOException {
+        AwsProxyRequestBuilder builder = new AwsProxyRequestBuilder(exchange.getRequestURI().getPath(),
+                exchange.getRequestMethod());
+        for (Map.Entry<String, List<String>> header : exchange.getRequestHeaders().entrySet()) {
+            for (String value : header.getValue()) {
+                builder.header(header.getKey(), value);
+            }
+        }
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query != null) {
+            for (String parameter : query.split("&")) {
+                if (parameter.isEmpty()) {
+                    continue;
+                }
+                int separator = parameter.indexOf('=');
+                if (separator < 0) {
+                    builder.queryString(decode(parameter), "");
+                } else {
+                    builder.queryString(decode(parameter.substring(0, separator)), decode(parameter.substring(separator + 1)));
+                }
+            }
+        }
+        byte[] body = IOUtils.toByteArray(exchange.getRequestBody());
+        if (body.length > 0) {
+            builder.binaryBody(new ByteArrayInputStream(body));
+        } else {
+            builder.nullBody();
+        }
+        AwsProxyRequest request = builder.build();
+        request.getRequestContext().getIdentity().setSourceIp(exchange.getRemoteAddress().getAddress().getHostAddress());
+        return request;
+    }
+
+    private static void writeResponse(HttpExchange exchange, AwsProxyResponse response) throws IOException {
+        if (response.getMultiValueHeaders() != null) {
+            for (Map.Entry<String, List<String>> header : response.getMultiValueHeaders().entrySet()) {
+                for (String value : header.getValue()) {
+                    exchange.getResponseHeaders().add(header.getKey(), value);
+                }
+            }
+        }
+        if (response.getHeaders() != null) {
+            for (Map.Entry<String, String> header : response.getHeaders().entrySet()) {
+                exchange.getResponseHeaders().set(header.getKey(), header.getValue());
+            }
+        }
+        // the server sets the length from sendResponseHeaders
+        exchange.getResponseHeaders().remove("Content-Length");
+
+        byte[] body = new byte[0];
+        if (response.getBody() != null) {
+            body = response.isBase64Encoded()
+                    ? Base64.getMimeDecoder().decode(response.getBody())
+                    : response.getBody().getBytes(StandardCharsets.UTF_8);
+        }
+        boolean noBody = body.length == 0 || "HEAD".equalsIgnoreCase(exchange.getRequestMethod());
+        exchange.sendResponseHeaders(response.getStatusCode(), noBody ? -1 : body.length);
+        if (!noBody) {
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        }
+    }
+
+    private static String decode(String value) {
+        try {
+            return URLDecoder.decode(value, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
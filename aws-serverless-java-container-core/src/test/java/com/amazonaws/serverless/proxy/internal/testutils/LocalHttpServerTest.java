@@ -0,0 +1,136 @@
+package com.amazonaws.serverless.proxy.internal.testutils;
+
+import com.amazonaws.serverless.proxy.AwsHttpApiV2SecurityContextWriter;
+import com.amazonaws.serverless.proxy.AwsProxyExceptionHandler;
+import com.amazonaws.serverless.proxy.AwsProxySecurityContextWriter;
+import com.amazonaws.serverless.proxy.RequestReader;
+import com.amazonaws.serverless.proxy.SecurityContextWriter;
+import com.amazonaws.serverless.proxy.internal.LambdaContainerHandler;
+import com.amazonaws.serverless.proxy.internal.servlet.AwsHttpApiV2HttpServletRequestReader;
+import com.amazonaws.serverless.proxy.internal.servlet.AwsHttpServletResponse;
+import com.amazonaws.serverless.proxy.internal.servlet.AwsProxyHttpServletRequestReader;
+import com.amazonaws.serverless.proxy.internal.servlet.AwsProxyHttpServletResponseWriter;
+import com.amazonaws.serverless.proxy.model.AwsProxyRequest;
+import com.amazonaws.serverless.proxy.model.AwsProxyResponse;
+import com.amazonaws.serverless.proxy.model.HttpApiV2ProxyRequest;
+import com.amazonaws.services.lambda.runtime.Context;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LocalHttpServerTest {
+
+    @Test
+    void proxyHandler_postRequest_translatesRequestAndResponse() throws IOException {
+        try (LocalHttpServer server = LocalHttpServer.forProxyHandler(proxyHandler(null), 0, 1).start()) {
+            HttpURLConnection connection = open(server, "/orders?id=a%20b", "POST");
+            connection.setRequestProperty("X-Custom", "custom");
+            connection.setDoOutput(true);
+            try (OutputStream output = connection.getOutputStream()) {
+                output.write("payload".getBytes(StandardCharsets.UTF_8));
+            }
+
+            assertEquals(201, connection.getResponseCode());
+            assertEquals("echo", connection.getHeaderField("X-Handler"));
+            assertEquals("POST /orders a b custom payload", read(connection));
+        }
+    }
+
+    @Test
+    void httpApiV2Handler_getRequest_translatesRequestAndResponse() throws IOException {
+        EchoHandler<HttpApiV2ProxyRequest> handler = new EchoHandler<>(HttpApiV2ProxyRequest.class,
+                new AwsHttpApiV2HttpServletRequestReader(), new AwsHttpApiV2SecurityContextWriter(), null);
+        try (LocalHttpServer server = LocalHttpServer.forHttpApiV2Handler(handler, 0, 1).start()) {
+            HttpURLConnection connection = open(server, "/orders?id=5", "GET");
+            connection.setRequestProperty("X-Custom", "v2");
+
+            assertEquals(201, connection.getResponseCode());
+            assertEquals("GET /orders 5 v2 ", read(connection));
+        }
+    }
+
+    @Test
+    void concurrency_parallelRequests_dispatchedConcurrently() throws Exception {
+        // both requests must be in the handler at the same time to pass the barrier
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        ExecutorService clients = Executors.newFixedThreadPool(2);
+        try (LocalHttpServer server = LocalHttpServer.forProxyHandler(proxyHandler(barrier), 0, 2).start()) {
+            Future<Integer> first = clients.submit(() -> open(server, "/first", "GET").getResponseCode());
+            Future<Integer> second = clients.submit(() -> open(server, "/second", "GET").getResponseCode());
+
+            assertEquals(201, (int) first.get(10, TimeUnit.SECONDS));
+            assertEquals(201, (int) second.get(10, TimeUnit.SECONDS));
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private static EchoHandler<AwsProxyRequest> proxyHandler(CyclicBarrier barrier) {
+        return new EchoHandler<>(AwsProxyRequest.class, new AwsProxyHttpServletRequestReader(),
+                new AwsProxySecurityContextWriter(), barrier);
+    }
+
+    private static HttpURLConnection open(LocalHttpServer server, String path, String method) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + server.getPort() + path).openConnection();
+        connection.setRequestMethod(method);
+        connection.setReadTimeout(10000);
+        return connection;
+    }
+
+    private static String read(HttpURLConnection connection) throws IOException {
+        try (InputStream input = connection.getInputStream()) {
+            return IOUtils.toString(input, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Writes the method, path, query string, custom header and body of the request to the response
+     */
+    private static class EchoHandler<RequestType> extends LambdaContainerHandler<RequestType, AwsProxyResponse, HttpServletRequest, AwsHttpServletResponse> {
+        private final CyclicBarrier barrier;
+
+        EchoHandler(Class<RequestType> requestClass, RequestReader<RequestType, HttpServletRequest> requestReader,
+                    SecurityContextWriter<RequestType> securityContextWriter, CyclicBarrier barrier) {
+            super(requestClass, AwsProxyResponse.class, requestReader, new AwsProxyHttpServletResponseWriter(),
+                    securityContextWriter, new AwsProxyExceptionHandler());
+            this.barrier = barrier;
+        }
+
+        @Override
+        protected AwsHttpServletResponse getContainerResponse(HttpServletRequest request, CountDownLatch latch) {
+            return new AwsHttpServletResponse(request, latch);
+        }
+
+        @Override
+        protected void handleRequest(HttpServletRequest containerRequest, AwsHttpServletResponse containerResponse, Context lambdaContext) throws Exception {
+            if (barrier != null) {
+                barrier.await(5, TimeUnit.SECONDS);
+            }
+            String body = IOUtils.toString(containerRequest.getInputStream(), StandardCharsets.UTF_8);
+            containerResponse.setStatus(201);
+            containerResponse.setHeader("X-Handler", "echo");
+            containerResponse.getWriter().print(containerRequest.getMethod() + " " + containerRequest.getRequestURI() + " "
+                    + containerRequest.getParameter("id") + " " + containerRequest.getHeader("X-Custom") + " " + body);
+            containerResponse.flushBuffer();
+        }
+
+        @Override
+        public void initialize() {
+        }
+    }
+}
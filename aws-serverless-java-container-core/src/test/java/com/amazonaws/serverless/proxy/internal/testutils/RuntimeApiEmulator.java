@@ -0,0 +1,302 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy.internal.testutils;
+
+import com.amazonaws.serverless.proxy.internal.VirtualThreads;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.io.IOUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process emulator of the Lambda Runtime API, used to exercise custom runtime event loops without network or AWS
+ * access. Events are queued with {@link #submit(String)} and delivered to the pollers of
+ * <code>GET /2018-06-01/runtime/invocation/next</code>, the responses and errors posted by the runtime complete the
+ * returned futures. Any number of pollers can wait for events at the same time. For example:
+ * <pre>
+ * try (RuntimeApiEmulator runtimeApi = new RuntimeApiEmulator().start()) {
+ *     System.setProperty("AWS_LAMBDA_RUNTIME_API", runtimeApi.getRuntimeApi());
+ *     // start the event loop
+ *     RuntimeApiEmulator.Invocation invocation = runtimeApi.submit(eventJson).get(10, TimeUnit.SECONDS);
+ * }
+ * </pre>
+ * Each invocation records when it was queued, delivered and completed, so that benchmarks can measure the round trip
+ * overhead of the event loop separately from the time the events wait in the queue.
+ */
+public class RuntimeApiEmulator implements Closeable {
+
+    //-------------------------------------------------------------
+    // Constants
+    //-------------------------------------------------------------
+
+    public static final String VERSION_DATE = "2018-06-01";
+    public static final String REQUEST_ID_HEADER = "Lambda-Runtime-Aws-Request-Id";
+    public static final String DEADLINE_HEADER = "Lambda-Runtime-Deadline-Ms";
+    public static final String FUNCTION_ARN_HEADER = "Lambda-Runtime-Invoked-Function-Arn";
+    public static final String TRACE_ID_HEADER = "Lambda-Runtime-Trace-Id";
+    static final String THREAD_NAME_PREFIX = "runtime-api-";
+    private static final String INVOCATION_PATH = "/" + VERSION_DATE + "/runtime/invocation/";
+    private static final String FUNCTION_ARN = "arn:aws:lambda:us-east-1:123456789012:function:emulated";
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    //-------------------------------------------------------------
+    // Variables - Private
+    //-------------------------------------------------------------
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final BlockingQueue<Invocation> pending = new LinkedBlockingQueue<>();
+    private final Map<String, Invocation> inFlight = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+    private volatile boolean running;
+
+    //-------------------------------------------------------------
+    // Constructors
+    //-------------------------------------------------------------
+
+    /**
+     * Creates an emulator on a free port, with a 15 minutes invocation timeout
+     * @throws IOException If the server cannot bind a port
+     */
+    public RuntimeApiEmulator() throws IOException {
+        this(TimeUnit.MINUTES.toMillis(15));
+    }
+
+    /**
+     * Creates an emulator on a free port
+     * @param timeoutMillis The timeout of the invocations, used to compute the deadline sent to the runtime
+     * @throws IOException If the server cannot bind a port
+     */
+    public RuntimeApiEmulator(long timeoutMillis) throws IOException {
+        this.timeoutMillis = timeoutMillis;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        // pollers block while waiting for events, each connection needs its own thread
+        executor = Executors.newCachedThreadPool(VirtualThreads.factory(THREAD_NAME_PREFIX));
+        server.setExecutor(executor);
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Public
+    //-------------------------------------------------------------
+
+    /**
+     * Starts accepting connections
+     * @return This emulator
+     */
+    public RuntimeApiEmulator start() {
+        running = true;
+        server.start();
+        return this;
+    }
+
+    /**
+     * @return The host and port of the emulator, the value of the <code>AWS_LAMBDA_RUNTIME_API</code> variable
+     */
+    public String getRuntimeApi() {
+        return "127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Queues an event
+     * @param event The JSON event
+     * @return A future completed when the runtime posts the response or the error of the invocation
+     */
+    public CompletableFuture<Invocation> submit(String event) {
+        Invocation invocation = new Invocation(UUID.randomUUID().toString(), event);
+        pending.add(invocation);
+        return invocation.result;
+    }
+
+    /**
+     * @return The number of events that were not delivered to a poller yet
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Stops the emulator, the pollers waiting for an event are disconnected
+     */
+    @Override
+    public void close() {
+        running = false;
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    //-------------------------------------------------------------
+    // Methods - Private
+    //-------------------------------------------------------------
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            if (!path.startsWith(INVOCATION_PATH)) {
+                send(exchange, 404, "{\"errorMessage\":\"Unknown path\"}");
+                return;
+            }
+            String action = path.substring(INVOCATION_PATH.length());
+            if ("next".equals(action) && "GET".equals(exchange.getRequestMethod())) {
+                next(exchange);
+                return;
+            }
+            int separator = action.indexOf('/');
+            if (separator < 0 || !"POST".equals(exchange.getRequestMethod())) {
+                send(exchange, 404, "{\"errorMessage\":\"Unknown path\"}");
+                return;
+            }
+            Invocation invocation = inFlight.remove(action.substring(0, separator));
+            if (invocation == null) {
+                send(exchange, 400, "{\"errorMessage\":\"Invalid request id\"}");
+                return;
+            }
+            String body = IOUtils.toString(exchange.getRequestBody(), StandardCharsets.UTF_8);
+            switch (action.substring(separator + 1)) {
+                case "response":
+                    invocation.complete(body, false);
+                    break;
+                case "error":
+                    invocation.complete(body, true);
+                    break;
+                default:
+                    inFlight.put(invocation.requestId, invocation);
+                    send(exchange, 404, "{\"errorMessage\":\"Unknown path\"}");
+                    return;
+            }
+            send(exchange, 202, "{\"status\":\"OK\"}");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void next(HttpExchange exchange) throws IOException {
+        Invocation invocation = null;
+        try {
+            while (running && invocation == null) {
+                invocation = pending.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (invocation == null) {
+            return;
+        }
+        invocation.deliveredNanos = System.nanoTime();
+        inFlight.put(invocation.requestId, invocation);
+        exchange.getResponseHeaders().set(REQUEST_ID_HEADER, invocation.requestId);
+        exchange.getResponseHeaders().set(DEADLINE_HEADER, Long.toString(System.currentTimeMillis() + timeoutMillis));
+        exchange.getResponseHeaders().set(FUNCTION_ARN_HEADER, FUNCTION_ARN);
+        exchange.getResponseHeaders().set(TRACE_ID_HEADER, "Root=1-" + Long.toHexString(System.currentTimeMillis() / 1000)
+                + "-" + invocation.requestId.replace("-", "").substring(0, 24) + ";Sampled=0");
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        send(exchange, 200, invocation.event);
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    //-------------------------------------------------------------
+    // Inner Class -
+    //-------------------------------------------------------------
+
+    /**
+     * An event and the response or error the runtime posted for it
+     */
+    public static final class Invocation {
+        private final String requestId;
+        private final String event;
+        private final long queuedNanos = System.nanoTime();
+        private final CompletableFuture<Invocation> result = new CompletableFuture<>();
+        private volatile long deliveredNanos;
+        private volatile long completedNanos;
+        private volatile String response;
+        private volatile boolean error;
+
+        private Invocation(String requestId, String event) {
+            this.requestId = requestId;
+            this.event = event;
+        }
+
+        private void complete(String body, boolean isError) {
+            completedNanos = System.nanoTime();
+            response = body;
+            error = isError;
+            result.complete(this);
+        }
+
+        public String getRequestId() {
+            return requestId;
+        }
+
+        public String getEvent() {
+            return event;
+        }
+
+        /**
+         * @return The body posted by the runtime, the response or the error document
+         */
+        public String getResponse() {
+            return response;
+        }
+
+        /**
+         * @return <code>true</code> if the runtime posted to the <code>/error</code> endpoint
+         */
+        public boolean isError() {
+            return error;
+        }
+
+        /**
+         * @return The time from the submission of the event to its response
+         */
+        public long getRoundTripNanos() {
+            return completedNanos - queuedNanos;
+        }
+
+        /**
+         * @return The time from the delivery of the event to the runtime to its response, the time spent by the event
+         *         loop and the handler
+         */
+        public long getInvocationNanos() {
+            return completedNanos - deliveredNanos;
+        }
+
+        /**
+         * @return The time the event waited for a poller
+         */
+        public long getQueueNanos() {
+            return deliveredNanos - queuedNanos;
+        }
+    }
+}
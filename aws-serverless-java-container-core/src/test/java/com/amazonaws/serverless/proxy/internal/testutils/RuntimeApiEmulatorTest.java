@@ -0,0 +1,103 @@
+package com.amazonaws.serverless.proxy.internal.testutils;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RuntimeApiEmulatorTest {
+
+    @Test
+    void submit_concurrentPollers_recordsResponses() throws Exception {
+        ExecutorService pollers = Executors.newFixedThreadPool(4);
+        try (RuntimeApiEmulator runtimeApi = new RuntimeApiEmulator().start()) {
+            for (int i = 0; i < 4; i++) {
+                pollers.execute(() -> eventLoop(runtimeApi));
+            }
+            List<CompletableFuture<RuntimeApiEmulator.Invocation>> results = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                results.add(runtimeApi.submit("{\"id\":" + i + "}"));
+            }
+
+            for (int i = 0; i < 50; i++) {
+                RuntimeApiEmulator.Invocation invocation = results.get(i).get(10, TimeUnit.SECONDS);
+                assertFalse(invocation.isError());
+                assertEquals("{\"echo\":{\"id\":" + i + "}}", invocation.getResponse());
+                assertTrue(invocation.getRoundTripNanos() >= invocation.getInvocationNanos());
+                assertTrue(invocation.getInvocationNanos() > 0);
+            }
+            assertEquals(0, runtimeApi.getPendingCount());
+        } finally {
+            pollers.shutdownNow();
+        }
+    }
+
+    @Test
+    void submit_runtimePostsError_recordsError() throws Exception {
+        try (RuntimeApiEmulator runtimeApi = new RuntimeApiEmulator().start()) {
+            CompletableFuture<RuntimeApiEmulator.Invocation> result = runtimeApi.submit("{}");
+
+            HttpURLConnection next = open(runtimeApi, "next", "GET");
+            String requestId = next.getHeaderField(RuntimeApiEmulator.REQUEST_ID_HEADER);
+            assertNotNull(next.getHeaderField(RuntimeApiEmulator.DEADLINE_HEADER));
+            assertEquals(202, post(runtimeApi, requestId + "/error", "{\"errorType\":\"IllegalStateException\"}"));
+
+            RuntimeApiEmulator.Invocation invocation = result.get(10, TimeUnit.SECONDS);
+            assertTrue(invocation.isError());
+            assertEquals(requestId, invocation.getRequestId());
+            assertTrue(invocation.getResponse().contains("IllegalStateException"));
+        }
+    }
+
+    @Test
+    void post_unknownRequestId_returns400() throws Exception {
+        try (RuntimeApiEmulator runtimeApi = new RuntimeApiEmulator().start()) {
+            assertEquals(400, post(runtimeApi, "unknown/response", "{}"));
+        }
+    }
+
+    private static void eventLoop(RuntimeApiEmulator runtimeApi) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                HttpURLConnection next = open(runtimeApi, "next", "GET");
+                String requestId = next.getHeaderField(RuntimeApiEmulator.REQUEST_ID_HEADER);
+                String event;
+                try (InputStream input = next.getInputStream()) {
+                    event = IOUtils.toString(input, StandardCharsets.UTF_8);
+                }
+                post(runtimeApi, requestId + "/response", "{\"echo\":" + event + "}");
+            }
+        } catch (IOException e) {
+            // the emulator was closed
+        }
+    }
+
+    private static HttpURLConnection open(RuntimeApiEmulator runtimeApi, String action, String method) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://" + runtimeApi.getRuntimeApi() + "/"
+                + RuntimeApiEmulator.VERSION_DATE + "/runtime/invocation/" + action).openConnection();
+        connection.setRequestMethod(method);
+        return connection;
+    }
+
+    private static int post(RuntimeApiEmulator runtimeApi, String action, String body) throws IOException {
+        HttpURLConnection connection = open(runtimeApi, action, "POST");
+        connection.setDoOutput(true);
+        try (OutputStream output = connection.getOutputStream()) {
+            output.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return connection.getResponseCode();
+    }
+}
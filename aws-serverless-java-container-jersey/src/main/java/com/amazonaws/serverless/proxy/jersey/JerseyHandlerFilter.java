@@ -12,7 +12,11 @@
  */
 package com.amazonaws.serverless.proxy.jersey;
 
+import com.amazonaws.serverless.exceptions.DeadlineExceededException;
+import com.amazonaws.serverless.proxy.InvocationDeadline;
 import com.amazonaws.serverless.proxy.internal.LambdaContainerHandler;
+import com.amazonaws.serverless.proxy.internal.jfr.FrameworkDispatchEvent;
+import com.amazonaws.serverless.proxy.internal.jfr.FrameworkRequestReadEvent;
 import com.amazonaws.serverless.proxy.internal.testutils.Timer;
 import com.amazonaws.serverless.proxy.jersey.suppliers.AwsProxyServletRequestSupplier;
 
@@ -44,7 +48,7 @@ import java.net.URI;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.Locale;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static com.amazonaws.serverless.proxy.RequestReader.API_GATEWAY_CONTEXT_PROPERTY;
 import static com.amazonaws.serverless.proxy.RequestReader.API_GATEWAY_STAGE_VARS_PROPERTY;
@@ -60,6 +64,7 @@ import static com.amazonaws.serverless.proxy.RequestReader.LAMBDA_CONTEXT_PROPER
 public class JerseyHandlerFilter implements Filter, Container {
     public static final String JERSEY_SERVLET_REQUEST_PROPERTY = "com.amazonaws.serverless.jersey.servletRequest";
     public static final String JERSEY_SERVLET_RESPONSE_PROPERTY = "com.amazonaws.serverless.jersey.servletResponse";
+    static final String JERSEY_FRAMEWORK = "jersey";
 
     private ApplicationHandler jersey;
     private Application app;
@@ -90,21 +95,36 @@ public class JerseyHandlerFilter implements Filter, Container {
     public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain)
             throws IOException, ServletException {
         Timer.start("JERSEY_FILTER_DOFILTER");
-        // we use a latch to make the processing inside Jersey synchronous
-        CountDownLatch jerseyLatch = new CountDownLatch(1);
-
+        // nested in the events of the container, the framework events are recorded in their own category
+        FrameworkRequestReadEvent readEvent = new FrameworkRequestReadEvent();
+        readEvent.begin();
         ContainerRequest req = servletRequestToContainerRequest(servletRequest);
-        req.setWriter(new JerseyServletResponseWriter(servletResponse, jerseyLatch));
+        readEvent.complete(servletRequest, null);
+        JerseyServletResponseWriter writer = new JerseyServletResponseWriter(servletResponse);
+        req.setWriter(writer);
 
         req.setProperty(JERSEY_SERVLET_RESPONSE_PROPERTY, servletResponse);
 
+        FrameworkDispatchEvent dispatchEvent = new FrameworkDispatchEvent();
+        dispatchEvent.begin();
         jersey.handle(req);
         try {
-            jerseyLatch.await();
+            // make the processing inside Jersey synchronous, a latch is only created if the response is not committed yet
+            InvocationDeadline deadline = InvocationDeadline.current();
+            if (deadline == null) {
+                writer.awaitCommit();
+            } else if (!writer.awaitCommit(deadline.getRemainingMillis(), TimeUnit.MILLISECONDS)) {
+                // the container would otherwise flush the uncommitted response as an empty 200
+                log.warn("Jersey did not commit the response before the invocation deadline");
+                Timer.stop("JERSEY_FILTER_DOFILTER");
+                throw new ServletException(new DeadlineExceededException(
+                        "The response was not produced before the invocation deadline"));
+            }
         } catch (InterruptedException e) {
             log.error("Interrupted while processing request", e);
             throw new InternalServerErrorException(e);
         }
+        dispatchEvent.complete(JERSEY_FRAMEWORK, servletRequest, servletResponse);
         Timer.stop("JERSEY_FILTER_DOFILTER");
         filterChain.doFilter(servletRequest, servletResponse);
     }
@@ -13,6 +13,7 @@
 package com.amazonaws.serverless.proxy.jersey;
 
 
+import com.amazonaws.serverless.exceptions.DeadlineExceededException;
 import com.amazonaws.serverless.proxy.*;
 import com.amazonaws.serverless.proxy.internal.servlet.*;
 import com.amazonaws.serverless.proxy.internal.testutils.Timer;
@@ -34,6 +35,7 @@ import jakarta.servlet.DispatcherType;
 import jakarta.servlet.FilterRegistration;
 import jakarta.servlet.Servlet;
 import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.ws.rs.core.Application;
@@ -173,7 +175,10 @@ public class JerseyLambdaContainerHandler<RequestType, ResponseType> extends Aws
             });
         }
 
+        // the Jersey application handler, and its providers, are built with the filter
+        StartupReport.Phase contextPhase = StartupReport.start(StartupReport.FRAMEWORK_CONTEXT);
         this.jerseyFilter = new JerseyHandlerFilter(jaxRsApplication);
+        contextPhase.end();
         Timer.stop("JERSEY_CONTAINER_CONSTRUCTOR");
     }
 
@@ -194,7 +199,16 @@ public class JerseyLambdaContainerHandler<RequestType, ResponseType> extends Aws
             ((AwsHttpServletRequest)httpServletRequest).setServletContext(getServletContext());
         }
 
-        doFilter(httpServletRequest, httpServletResponse, null);
+        try {
+            doFilter(httpServletRequest, httpServletResponse, null);
+        } catch (ServletException e) {
+            // unwrapped so that the exception handler maps it to a 504
+            Throwable cause = e.getCause();
+            if (cause instanceof DeadlineExceededException) {
+                throw (DeadlineExceededException) cause;
+            }
+            throw e;
+        }
         Timer.stop("JERSEY_HANDLE_REQUEST");
     }
 
@@ -203,6 +217,11 @@ public class JerseyLambdaContainerHandler<RequestType, ResponseType> extends Aws
         return new AwsHttpServletResponse(request, latch);
     }
 
+    @Override
+    protected AwsHttpServletResponse getContainerResponse(HttpServletRequest request) {
+        return new AwsHttpServletResponse(request);
+    }
+
     @Override
     public void initialize() {
         Timer.start("JERSEY_COLD_START_INIT");
@@ -48,7 +48,8 @@ class JerseyServletResponseWriter
 
     private HttpServletResponse servletResponse;
     private Logger log = LoggerFactory.getLogger(JerseyServletResponseWriter.class);
-    private CountDownLatch jerseyLatch;
+    private volatile CountDownLatch jerseyLatch;
+    private volatile boolean committed;
 
     //-------------------------------------------------------------
     // Constructors
@@ -64,6 +65,15 @@ class JerseyServletResponseWriter
         jerseyLatch = latch;
     }
 
+    /**
+     * Creates a new response writer without a latch. The latch is only created by {@link #awaitCommit()} if Jersey
+     * has not committed the response by the time it is called.
+     * @param resp The current ServletResponse from the container
+     */
+    public JerseyServletResponseWriter(ServletResponse resp) {
+        this(resp, null);
+    }
+
 
     //-------------------------------------------------------------
     // Implementation - ContainerResponseWriter
@@ -98,9 +108,15 @@ class JerseyServletResponseWriter
     }
 
 
+    /**
+     * Accepts the suspension of asynchronous resources, for example resources with a <code>@Suspended</code>
+     * <code>AsyncResponse</code>. The filter waits for the commit, bounded by the invocation deadline, the suspend
+     * timeout of Jersey is not enforced.
+     * @return Always <code>true</code>
+     */
     public boolean suspend(long l, TimeUnit timeUnit, TimeoutHandler timeoutHandler) {
         log.debug("Suspend");
-        return false;
+        return true;
     }
 
 
@@ -112,7 +128,11 @@ class JerseyServletResponseWriter
     public void commit() {
         try {
             log.debug("commit");
-            jerseyLatch.countDown();
+            committed = true;
+            CountDownLatch latch = jerseyLatch;
+            if (latch != null) {
+                latch.countDown();
+            }
             servletResponse.flushBuffer();
         } catch (IOException e) {
             log.error("Could not commit response", e);
@@ -130,4 +150,66 @@ class JerseyServletResponseWriter
     public boolean enableResponseBuffering() {
         return false;
     }
+
+
+    //-------------------------------------------------------------
+    // Methods - Public
+    //-------------------------------------------------------------
+
+    /**
+     * Waits for Jersey to commit the response. Returns immediately when the response was committed synchronously by
+     * the <code>handle</code> call.
+     * @throws InterruptedException If the thread is interrupted while waiting
+     */
+    public void awaitCommit() throws InterruptedException {
+        if (committed) {
+            return;
+        }
+        CountDownLatch latch = commitLatch();
+        if (latch != null) {
+            latch.await();
+        }
+    }
+
+    /**
+     * Waits for Jersey to commit the response for at most the given time
+     * @param timeout The maximum time to wait
+     * @param unit The unit of the timeout
+     * @return <code>true</code> if the response was committed, <code>false</code> if the timeout elapsed
+     * @throws InterruptedException If the thread is interrupted while waiting
+     */
+    public boolean awaitCommit(long timeout, TimeUnit unit) throws InterruptedException {
+        if (committed) {
+            return true;
+        }
+        CountDownLatch latch = commitLatch();
+        return latch == null || latch.await(timeout, unit);
+    }
+
+
+    //-------------------------------------------------------------
+    // Methods - Private
+    //-------------------------------------------------------------
+
+    /**
+     * Returns the latch counted down by the commit, creating it if needed
+     * @return The latch, or <code>null</code> if the response was committed in the meantime
+     */
+    private CountDownLatch commitLatch() {
+        CountDownLatch latch = jerseyLatch;
+        if (latch == null) {
+            synchronized (this) {
+                latch = jerseyLatch;
+                if (latch == null) {
+                    latch = new CountDownLatch(1);
+                    jerseyLatch = latch;
+                }
+            }
+            // commit sets the flag before reading the latch, it either sees the new latch or was seen here
+            if (committed) {
+                return null;
+            }
+        }
+        return latch;
+    }
 }
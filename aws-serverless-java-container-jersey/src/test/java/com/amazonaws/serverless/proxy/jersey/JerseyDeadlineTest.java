@@ -0,0 +1,99 @@
+package com.amazonaws.serverless.proxy.jersey;
+
+import com.amazonaws.serverless.proxy.internal.testutils.AwsProxyRequestBuilder;
+import com.amazonaws.serverless.proxy.internal.testutils.MockLambdaContext;
+import com.amazonaws.serverless.proxy.model.AwsProxyRequest;
+import com.amazonaws.serverless.proxy.model.AwsProxyResponse;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
+import jakarta.ws.rs.core.Response;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that a response Jersey does not commit before the invocation deadline is returned as a 504
+ */
+public class JerseyDeadlineTest {
+
+    private static volatile CountDownLatch release;
+
+    private static final JerseyLambdaContainerHandler<AwsProxyRequest, AwsProxyResponse> handler =
+            JerseyLambdaContainerHandler.getAwsProxyHandler(new ResourceConfig().register(SlowResource.class));
+
+    @BeforeEach
+    void blockResource() {
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void releaseResource() {
+        release.countDown();
+    }
+
+    @Test
+    void proxy_resourceBlocksPastDeadline_returnsGatewayTimeout() {
+        long start = System.currentTimeMillis();
+        AwsProxyResponse response = handler.proxy(new AwsProxyRequestBuilder("/slow", "GET").build(),
+                new RemainingTimeContext(1000));
+
+        assertEquals(504, response.getStatusCode());
+        assertTrue(System.currentTimeMillis() - start < 5000);
+    }
+
+    @Test
+    void proxy_resourceCompletesBeforeDeadline_returnsResponse() {
+        AwsProxyResponse response = handler.proxy(new AwsProxyRequestBuilder("/fast", "GET").build(),
+                new RemainingTimeContext(1000));
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals("fast", response.getBody());
+    }
+
+    @Path("/")
+    public static class SlowResource {
+        @GET
+        @Path("/slow")
+        public void slow(@Suspended AsyncResponse asyncResponse) {
+            CountDownLatch latch = release;
+            Thread worker = new Thread(() -> {
+                try {
+                    latch.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                asyncResponse.resume(Response.ok("slow").build());
+            });
+            worker.setDaemon(true);
+            worker.start();
+        }
+
+        @GET
+        @Path("/fast")
+        public String fast() {
+            return "fast";
+        }
+    }
+
+    private static class RemainingTimeContext extends MockLambdaContext {
+        private final int remainingMillis;
+
+        RemainingTimeContext(int remainingMillis) {
+            this.remainingMillis = remainingMillis;
+        }
+
+        @Override
+        public int getRemainingTimeInMillis() {
+            return remainingMillis;
+        }
+    }
+}
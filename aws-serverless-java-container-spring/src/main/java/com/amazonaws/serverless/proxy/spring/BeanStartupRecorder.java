@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package com.amazonaws.serverless.proxy.spring;
+
+import com.amazonaws.serverless.proxy.StartupReport;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * <code>ApplicationStartup</code> that reports the instantiation time of each bean to the {@link StartupReport}. Spring
+ * Boot applications can use the <code>BufferingApplicationStartup</code>, this implementation only depends on Spring
+ * core and only records the <code>spring.beans.instantiate</code> steps. The reported times include the instantiation
+ * of the dependencies of each bean.
+ */
+class BeanStartupRecorder implements ApplicationStartup {
+
+    //-------------------------------------------------------------
+    // Constants
+    //-------------------------------------------------------------
+
+    static final String BEAN_INSTANTIATE_STEP = "spring.beans.instantiate";
+    static final String BEAN_NAME_TAG = "beanName";
+
+    //-------------------------------------------------------------
+    // Variables - Private
+    //-------------------------------------------------------------
+
+    private final AtomicLong ids = new AtomicLong();
+
+    //-------------------------------------------------------------
+    // Implementation - ApplicationStartup
+    //-------------------------------------------------------------
+
+    @Override
+    public StartupStep start(String name) {
+        if (!BEAN_INSTANTIATE_STEP.equals(name)) {
+            return ApplicationStartup.DEFAULT.start(name);
+        }
+        return new BeanStep(ids.incrementAndGet());
+    }
+
+    //-------------------------------------------------------------
+    // Inner Class -
+    //-------------------------------------------------------------
+
+    private static final class BeanStep implements StartupStep {
+        private final long id;
+        private final long startTime = System.nanoTime();
+        private String beanName;
+
+        BeanStep(long id) {
+            this.id = id;
+        }
+
+        @Override
+        public String getName() {
+            return BEAN_INSTANTIATE_STEP;
+        }
+
+        @Override
+        public long getId() {
+            return id;
+        }
+
+        @Override
+        public Long getParentId() {
+            return null;
+        }
+
+        @Override
+        public StartupStep tag(String key, String value) {
+            if (BEAN_NAME_TAG.equals(key)) {
+                beanName = value;
+            }
+            return this;
+        }
+
+        @Override
+        public StartupStep tag(String key, Supplier<String> value) {
+            return tag(key, value.get());
+        }
+
+        @Override
+        public Tags getTags() {
+            return Collections::emptyIterator;
+        }
+
+        @Override
+        public void end() {
+            if (beanName != null) {
+                StartupReport.recordComponent(beanName, (System.nanoTime() - startTime) / 1_000_000L);
+            }
+        }
+    }
+}
@@ -128,6 +128,11 @@ public class SpringLambdaContainerHandler<RequestType, ResponseType> extends Aws
         return new AwsHttpServletResponse(request, latch);
     }
 
+    @Override
+    protected AwsHttpServletResponse getContainerResponse(HttpServletRequest request) {
+        return new AwsHttpServletResponse(request);
+    }
+
 
     /**
      * Activates the given Spring profiles in the application. This method will cause the context to be
@@ -172,6 +177,10 @@ public class SpringLambdaContainerHandler<RequestType, ResponseType> extends Aws
             appContext.getEnvironment().setActiveProfiles(profiles);
         }
         appContext.setServletContext(getServletContext());
+        if (StartupReport.isEnabled()) {
+            // the context is refreshed when the DispatcherServlet is initialized
+            appContext.setApplicationStartup(new BeanStartupRecorder());
+        }
         registerServlets();
         // call initialize on AwsLambdaServletContainerHandler to initialize servlets that are set to load on startup
         super.initialize();
@@ -7,9 +7,14 @@ import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import com.amazonaws.serverless.proxy.internal.HttpUtils;
+import com.amazonaws.serverless.proxy.internal.LambdaContainerHandler;
+import com.amazonaws.serverless.proxy.internal.jfr.RequestReadEvent;
+import com.amazonaws.serverless.proxy.internal.jfr.ResponseWriteEvent;
+import com.amazonaws.serverless.proxy.internal.jfr.SecurityContextEvent;
+import com.amazonaws.serverless.proxy.internal.jfr.SerializationEvent;
+import com.amazonaws.serverless.proxy.internal.jfr.ServletDispatchEvent;
 import com.amazonaws.serverless.proxy.internal.servlet.AwsHttpServletRequest;
 import com.amazonaws.serverless.proxy.internal.servlet.AwsProxyHttpServletRequest;
 import com.amazonaws.serverless.proxy.model.RequestSource;
@@ -24,8 +29,11 @@ import org.springframework.util.FileCopyUtils;
 import org.springframework.util.MultiValueMapAdapter;
 import org.springframework.util.StringUtils;
 
+import com.amazonaws.serverless.exceptions.DeadlineExceededException;
 import com.amazonaws.serverless.proxy.AwsHttpApiV2SecurityContextWriter;
+import com.amazonaws.serverless.proxy.AwsProxyExceptionHandler;
 import com.amazonaws.serverless.proxy.AwsProxySecurityContextWriter;
+import com.amazonaws.serverless.proxy.InvocationDeadline;
 import com.amazonaws.serverless.proxy.RequestReader;
 import com.amazonaws.serverless.proxy.SecurityContextWriter;
 import com.amazonaws.serverless.proxy.internal.servlet.AwsHttpServletResponse;
@@ -38,6 +46,7 @@ import tools.jackson.databind.ObjectMapper;
 
 import jakarta.servlet.ServletContext;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.ws.rs.core.SecurityContext;
 
 import static com.amazonaws.serverless.proxy.internal.servlet.AwsHttpServletRequest.decodeValueIfEncoded;
 import static com.amazonaws.serverless.proxy.internal.servlet.AwsHttpServletRequest.getQueryParamValuesAsList;
@@ -53,21 +62,40 @@ class AwsSpringHttpProcessingUtils {
 	
 	public static AwsProxyResponse processRequest(HttpServletRequest request, ServerlessMVC mvc, 
 												  AwsProxyHttpServletResponseWriter responseWriter) {
-		CountDownLatch latch = new CountDownLatch(1);
-        AwsHttpServletResponse response = new AwsHttpServletResponse(request, latch);
+        AwsHttpServletResponse response = new AwsHttpServletResponse(request);
+		// bound the wait by the remaining time of the invocation, so that a 504 is returned before Lambda times out
+		InvocationDeadline deadline = InvocationDeadline.start((Context) request.getAttribute(RequestReader.LAMBDA_CONTEXT_PROPERTY),
+				LambdaContainerHandler.getContainerConfig().getDeadlineSafetyMargin());
+		if (deadline != null) {
+			request.setAttribute(RequestReader.DEADLINE_PROPERTY, deadline);
+		}
 		try {
+			ServletDispatchEvent dispatchEvent = new ServletDispatchEvent();
+			dispatchEvent.begin();
 			mvc.service(request, response);
-			boolean requestTimedOut = !latch.await(LAMBDA_MAX_REQUEST_DURATION_MINUTES, TimeUnit.MINUTES); // timeout is potentially lower as user configures it
-			if (requestTimedOut) {
-				logger.warn("request timed out after " + LAMBDA_MAX_REQUEST_DURATION_MINUTES + " minutes");
+			// returns immediately when the response was committed synchronously
+			long timeoutMillis = deadline != null ? deadline.getRemainingMillis()
+					: TimeUnit.MINUTES.toMillis(LAMBDA_MAX_REQUEST_DURATION_MINUTES);
+			if (!response.awaitCommit(timeoutMillis, TimeUnit.MILLISECONDS)) {
+				logger.warn("request timed out after " + timeoutMillis + "ms");
+				return new AwsProxyExceptionHandler().handle(
+						new DeadlineExceededException("The response was not produced before the invocation deadline"));
 			}
+			dispatchEvent.complete(mvc.getClass().getName(), request, response);
+
+			ResponseWriteEvent writeEvent = new ResponseWriteEvent();
+			writeEvent.begin();
 			AwsProxyResponse awsResponse = responseWriter.writeResponse(response, null);
+			writeEvent.complete(request, response);
 			return awsResponse;
 		} 
 		catch (Exception e) {
 			e.printStackTrace();
 			throw new IllegalStateException(e);
 		}
+		finally {
+			InvocationDeadline.clear();
+		}
 	}
 	
 	public static String extractVersion() {
@@ -92,7 +120,10 @@ class AwsSpringHttpProcessingUtils {
 	public static HttpServletRequest generateHttpServletRequest(InputStream jsonRequest, Context lambdaContext,
 			ServletContext servletContext, ObjectMapper mapper) {
 		try {
-			String text = new String(FileCopyUtils.copyToByteArray(jsonRequest), StandardCharsets.UTF_8);
+			SerializationEvent readEvent = new SerializationEvent(SerializationEvent.REQUEST);
+			readEvent.begin();
+			String text = new String(FileCopyUtils.copyToByteArray(readEvent.count(jsonRequest)), StandardCharsets.UTF_8);
+			readEvent.complete(null, null);
 			if (logger.isDebugEnabled()) {
 				logger.debug("Creating HttpServletRequest from: " + text);
 			}
@@ -105,6 +136,8 @@ class AwsSpringHttpProcessingUtils {
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	public static HttpServletRequest generateHttpServletRequest(String jsonRequest, Context lambdaContext,
 			ServletContext servletContext, ObjectMapper mapper) {
+		RequestReadEvent readEvent = new RequestReadEvent();
+		readEvent.begin();
 		Map<String, Object> _request = readValue(jsonRequest, Map.class, mapper);
 		SecurityContextWriter securityWriter = "2.0".equals(_request.get("version"))
 				? new AwsHttpApiV2SecurityContextWriter()
@@ -112,6 +145,7 @@ class AwsSpringHttpProcessingUtils {
 		HttpServletRequest httpServletRequest = "2.0".equals(_request.get("version"))
 				? AwsSpringHttpProcessingUtils.generateRequest2(jsonRequest, lambdaContext, securityWriter, mapper, servletContext)
 				: AwsSpringHttpProcessingUtils.generateRequest1(jsonRequest, lambdaContext, securityWriter, mapper, servletContext);
+		readEvent.complete(httpServletRequest, null);
 		return httpServletRequest;
 	}
 
@@ -145,7 +179,7 @@ class AwsSpringHttpProcessingUtils {
 		httpRequest.setAttribute(RequestReader.API_GATEWAY_EVENT_PROPERTY, v1Request);
 		httpRequest.setAttribute(RequestReader.LAMBDA_CONTEXT_PROPERTY, lambdaContext);
 		httpRequest.setAttribute(RequestReader.JAX_SECURITY_CONTEXT_PROPERTY,
-				securityWriter.writeSecurityContext(v1Request, lambdaContext));
+				writeSecurityContext(securityWriter, v1Request, lambdaContext));
 		return httpRequest;
 	}
 
@@ -176,7 +210,7 @@ class AwsSpringHttpProcessingUtils {
 		httpRequest.setAttribute(RequestReader.HTTP_API_EVENT_PROPERTY, v2Request);
 		httpRequest.setAttribute(RequestReader.LAMBDA_CONTEXT_PROPERTY, lambdaContext);
 		httpRequest.setAttribute(RequestReader.JAX_SECURITY_CONTEXT_PROPERTY,
-				securityWriter.writeSecurityContext(v2Request, lambdaContext));
+				writeSecurityContext(securityWriter, v2Request, lambdaContext));
 		return httpRequest;
 	}
 	
@@ -218,6 +252,16 @@ class AwsSpringHttpProcessingUtils {
 		}
 	}
 	
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static SecurityContext writeSecurityContext(SecurityContextWriter securityWriter, Object request,
+			Context lambdaContext) {
+		SecurityContextEvent event = new SecurityContextEvent();
+		event.begin();
+		SecurityContext securityContext = securityWriter.writeSecurityContext(request, lambdaContext);
+		event.complete(request, null);
+		return securityContext;
+	}
+
 	private static <T> T readValue(String json, Class<T> clazz, ObjectMapper mapper) {
 		try {
 			return mapper.readValue(json, clazz);
@@ -65,13 +65,18 @@ public final class AwsSpringWebCustomRuntimeEventLoop implements SmartLifecycle
 
 	private volatile boolean running;
 
-	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+	private volatile ExecutorService executor;
 
 	public AwsSpringWebCustomRuntimeEventLoop(ServletWebServerApplicationContext applicationContext) {
 		this.applicationContext = applicationContext;
 	}
 
-	public void run() {
+	public synchronized void run() {
+		// Spring stops and restarts lifecycle beans around a CRaC checkpoint, the executor and the connections
+		// opened by the previous loop do not survive the restore and are created again
+		if (this.executor == null || this.executor.isShutdown()) {
+			this.executor = Executors.newSingleThreadExecutor();
+		}
 		this.running = true;
 		this.executor.execute(() -> {
 			eventLoop(this.applicationContext);
@@ -84,9 +89,11 @@ public final class AwsSpringWebCustomRuntimeEventLoop implements SmartLifecycle
 	}
 
 	@Override
-	public void stop() {
-		this.executor.shutdownNow();
+	public synchronized void stop() {
 		this.running = false;
+		if (this.executor != null) {
+			this.executor.shutdownNow();
+		}
 	}
 
 	@Override
@@ -115,7 +122,8 @@ public final class AwsSpringWebCustomRuntimeEventLoop implements SmartLifecycle
 		AwsProxyHttpServletResponseWriter responseWriter = new AwsProxyHttpServletResponseWriter();
 
 		logger.info("Entering event loop");
-		while (this.isRunning()) {
+		// a loop left over from before a restart is interrupted by the executor shutdown
+		while (this.isRunning() && !Thread.currentThread().isInterrupted()) {
 			logger.debug("Attempting to get new event");
 			ResponseEntity<String> incomingEvent = rest.exchange(requestEntity, String.class);
 
@@ -18,8 +18,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
 import org.springframework.boot.web.server.servlet.context.AnnotationConfigServletWebServerApplicationContext;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.StartupStep;
 
 import com.amazonaws.serverless.exceptions.ContainerInitializationException;
 import com.amazonaws.serverless.proxy.ExceptionHandler;
@@ -27,6 +30,7 @@ import com.amazonaws.serverless.proxy.InitializationWrapper;
 import com.amazonaws.serverless.proxy.RequestReader;
 import com.amazonaws.serverless.proxy.ResponseWriter;
 import com.amazonaws.serverless.proxy.SecurityContextWriter;
+import com.amazonaws.serverless.proxy.StartupReport;
 import com.amazonaws.serverless.proxy.internal.servlet.AwsHttpServletRequest;
 import com.amazonaws.serverless.proxy.internal.servlet.AwsHttpServletResponse;
 import com.amazonaws.serverless.proxy.internal.servlet.AwsLambdaServletContainerHandler;
@@ -55,6 +59,9 @@ import jakarta.servlet.http.HttpServletRequest;
  */
 public class SpringBootLambdaContainerHandler<RequestType, ResponseType> extends AwsLambdaServletContainerHandler<RequestType, ResponseType, HttpServletRequest, AwsHttpServletResponse> {
     private static final String DISPATCHER_SERVLET_REGISTRATION_NAME = "dispatcherServlet";
+    private static final String BEAN_INSTANTIATE_STEP = "spring.beans.instantiate";
+    private static final String BEAN_NAME_TAG = "beanName";
+    private static final int STARTUP_STEPS_CAPACITY = 10_000;
 
     private final Class<?> springBootInitializer;
     private static final Logger log = LoggerFactory.getLogger(SpringBootLambdaContainerHandler.class);
@@ -164,6 +171,11 @@ public class SpringBootLambdaContainerHandler<RequestType, ResponseType> extends
         return new AwsHttpServletResponse(request, latch);
     }
 
+    @Override
+    protected AwsHttpServletResponse getContainerResponse(HttpServletRequest request) {
+        return new AwsHttpServletResponse(request);
+    }
+
     @Override
     protected void handleRequest(HttpServletRequest containerRequest, AwsHttpServletResponse containerResponse, Context lambdaContext) throws Exception {
         // this method of the AwsLambdaServletContainerHandler sets the servlet context
@@ -195,7 +207,18 @@ public class SpringBootLambdaContainerHandler<RequestType, ResponseType> extends
         if (springProfiles != null) {
             builder.profiles(springProfiles);
         }
+        BufferingApplicationStartup startup = null;
+        if (StartupReport.isEnabled()) {
+            startup = new BufferingApplicationStartup(STARTUP_STEPS_CAPACITY);
+            startup.addFilter(s -> BEAN_INSTANTIATE_STEP.equals(s.getName()));
+            builder.applicationStartup(startup);
+        }
+        StartupReport.Phase contextPhase = StartupReport.start(StartupReport.FRAMEWORK_CONTEXT);
         applicationContext = builder.run();
+        contextPhase.end();
+        if (startup != null) {
+            reportBeanTimings(startup);
+        }
         if (springWebApplicationType == WebApplicationType.SERVLET) {
             ((AnnotationConfigServletWebServerApplicationContext)applicationContext).setServletContext(getServletContext());
             AwsServletRegistration reg = (AwsServletRegistration)getServletContext().getServletRegistration(DISPATCHER_SERVLET_REGISTRATION_NAME);
@@ -208,6 +231,16 @@ public class SpringBootLambdaContainerHandler<RequestType, ResponseType> extends
         Timer.stop("SPRINGBOOT2_COLD_START");
     }
 
+    private static void reportBeanTimings(BufferingApplicationStartup startup) {
+        for (StartupTimeline.TimelineEvent event : startup.drainBufferedTimeline().getEvents()) {
+            for (StartupStep.Tag tag : event.getStartupStep().getTags()) {
+                if (BEAN_NAME_TAG.equals(tag.getKey())) {
+                    StartupReport.recordComponent(tag.getValue(), event.getDuration().toMillis());
+                }
+            }
+        }
+    }
+
     private Class<?>[] getEmbeddedContainerClasses() {
         Class<?>[] classes = new Class[2];
         if (springWebApplicationType == WebApplicationType.REACTIVE) {
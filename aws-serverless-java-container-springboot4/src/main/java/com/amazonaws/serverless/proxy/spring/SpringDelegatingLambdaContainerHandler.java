@@ -8,6 +8,7 @@ import com.amazonaws.serverless.exceptions.ContainerInitializationException;
 import com.amazonaws.serverless.proxy.AsyncInitializationWrapper;
 import com.amazonaws.serverless.proxy.InitializationTypeHelper;
 import com.amazonaws.serverless.proxy.internal.InitializableLambdaContainerHandler;
+import com.amazonaws.serverless.proxy.internal.jfr.SerializationEvent;
 import com.amazonaws.serverless.proxy.model.AwsProxyResponse;
 import org.springframework.cloud.function.serverless.web.FunctionClassUtils;
 import org.springframework.cloud.function.serverless.web.ServerlessMVC;
@@ -79,7 +80,10 @@ public class SpringDelegatingLambdaContainerHandler implements RequestStreamHand
         HttpServletRequest httpServletRequest = AwsSpringHttpProcessingUtils
         		.generateHttpServletRequest(input, lambdaContext, mvc.getServletContext(), this.mapper);
         AwsProxyResponse awsProxyResponse = AwsSpringHttpProcessingUtils.processRequest(httpServletRequest, mvc, responseWriter);
-        this.mapper.writeValue(output, awsProxyResponse);
+        SerializationEvent writeEvent = new SerializationEvent(SerializationEvent.RESPONSE);
+        writeEvent.begin();
+        this.mapper.writeValue(writeEvent.count(output), awsProxyResponse);
+        writeEvent.complete(httpServletRequest, awsProxyResponse);
     }
 
     private static final class SpringDelegatingInitHandler implements InitializableLambdaContainerHandler {
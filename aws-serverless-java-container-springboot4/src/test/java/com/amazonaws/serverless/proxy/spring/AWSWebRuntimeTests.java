@@ -1,19 +1,34 @@
 package com.amazonaws.serverless.proxy.spring;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.context.ConfigurableApplicationContext;
 
+import com.amazonaws.serverless.proxy.internal.LambdaContainerHandler;
+import com.amazonaws.serverless.proxy.internal.testutils.AwsProxyRequestBuilder;
+import com.amazonaws.serverless.proxy.internal.testutils.RuntimeApiEmulator;
+import com.amazonaws.serverless.proxy.model.AwsProxyResponse;
+import com.amazonaws.serverless.proxy.spring.servletapp.MessageController;
+import com.amazonaws.serverless.proxy.spring.servletapp.ServletApplication;
+
 public class AWSWebRuntimeTests {
 	
 	@AfterEach
 	public void after() {
 		System.clearProperty("_HANDLER");
+		System.clearProperty("AWS_LAMBDA_RUNTIME_API");
 	}
 
 	@Test
@@ -31,6 +46,30 @@ public class AWSWebRuntimeTests {
     	}
     	assertFalse(loop.isRunning());
     }
+
+	@Test
+	public void testEventLoopAgainstRuntimeApi() throws Exception {
+		try (RuntimeApiEmulator runtimeApi = new RuntimeApiEmulator().start()) {
+			System.setProperty("_HANDLER", "foo");
+			System.setProperty("AWS_LAMBDA_RUNTIME_API", runtimeApi.getRuntimeApi());
+			try (ConfigurableApplicationContext context = SpringApplication.run(ServletApplication.class)) {
+				String event = IOUtils.toString(new AwsProxyRequestBuilder("/hello", "GET").buildStream(), "UTF-8");
+				List<CompletableFuture<RuntimeApiEmulator.Invocation>> results = new ArrayList<>();
+				for (int i = 0; i < 20; i++) {
+					results.add(runtimeApi.submit(event));
+				}
+
+				for (CompletableFuture<RuntimeApiEmulator.Invocation> result : results) {
+					RuntimeApiEmulator.Invocation invocation = result.get(30, TimeUnit.SECONDS);
+					assertFalse(invocation.isError());
+					AwsProxyResponse response = LambdaContainerHandler.getObjectMapper()
+							.readValue(invocation.getResponse(), AwsProxyResponse.class);
+					assertEquals(200, response.getStatusCode());
+					assertEquals(MessageController.HELLO_MESSAGE, response.getBody());
+				}
+			}
+		}
+	}
 	
 	@EnableAutoConfiguration
     private static class EmptyApplication {